@@ -18,7 +18,6 @@
 
 package sk.baka.aedict;
 
-import java.util.Arrays;
 import java.util.List;
 
 import sk.baka.aedict.dict.DictTypeEnum;
@@ -165,12 +164,13 @@ public class MainActivityTest extends AbstractAedictTest<MainActivity> {
 		tester.assertItem(R.id.matcher, MatcherEnum.Exact.ordinal());
 		tester.click(R.id.jpSearch);
 		tester.assertRequestedActivity(ResultActivity.class);
+		// the inflected verb is resolved by the ResultActivity
+		assertEquals("aenai", getStartedActivityIntent().getStringExtra(ResultActivity.INTENTKEY_INFLECTED));
 		final List<SearchQuery> lq = (List<SearchQuery>) getStartedActivityIntent().getSerializableExtra(ResultActivity.INTENTKEY_SEARCH_QUERY);
 		assertEquals(1, lq.size());
 		final SearchQuery q = lq.get(0);
-		Arrays.sort(q.query);
-		assertEquals("あう", q.query[0]);
-		assertEquals("あえる", q.query[1]);
+		assertEquals(RomanizationEnum.Hepburn.toKatakana("aenai"), q.query[0]);
+		assertEquals(RomanizationEnum.Hepburn.toHiragana("aenai"), q.query[1]);
 		assertEquals(2, q.query.length);
 		assertTrue(q.isJapanese);
 		assertEquals(DictTypeEnum.Edict, q.dictType);
@@ -19,15 +19,9 @@
  */
 package edu.arizona.cs.javadict;
 
-import java.io.BufferedReader;
-import java.io.Closeable;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
-import java.util.StringTokenizer;
 
 // Handwritten Kanji Recognizer
 // use as a panel. The ActionListener will receive an action whose
@@ -42,10 +36,6 @@ public class DrawPanel {
 
 	private static final int NUMKAN = 15;
 
-	private <T> T last(List<? extends T> list) {
-		return list.get(list.size() - 1);
-	}
-
 	public DrawPanel(final ClassLoader cl) {
 		classLoader = cl;
 	}
@@ -70,20 +60,117 @@ public class DrawPanel {
 		curyvec = ystrokes.isEmpty()?null:ystrokes.get(ystrokes.size()-1);
 	}
 
-	private BufferedReader getResource(final int strokes) throws IOException {
-		final InputStream result = classLoader.getResourceAsStream("edu/arizona/cs/javadict/unistrok." + strokes);
-		if (result == null) {
-			return null;
+	/**
+	 * The drawn strokes the {@link #sums} were computed for, converted to
+	 * arrays. May be shorter than {@link #xstrokes} if not all strokes were
+	 * scored yet.
+	 */
+	private final List<List<Integer>> scoredStrokes = new ArrayList<List<Integer>>();
+	private final List<int[]> scoredX = new ArrayList<int[]>();
+	private final List<int[]> scoredY = new ArrayList<int[]>();
+	/**
+	 * sums[m][s][k] is the sum of squared scores of the drawn strokes 0..s
+	 * matched against the k-th kanji with m strokes. Only first
+	 * {@link #scoredLevels}[m] levels are valid; the arrays are reused.
+	 */
+	private final double[][][] sums = new double[StrokeDatabase.MAX_STROKES + 1][][];
+	private final int[] scoredLevels = new int[StrokeDatabase.MAX_STROKES + 1];
+
+	private static int[] toArray(final List<Integer> stroke) {
+		final int[] result = new int[stroke.size()];
+		for (int i = 0; i < result.length; i++) {
+			result[i] = stroke.get(i);
+		}
+		return result;
+	}
+
+	/**
+	 * A copy of the drawn strokes. The copy may be analyzed by another thread
+	 * while the user keeps drawing.
+	 */
+	public static final class Strokes {
+		/**
+		 * The drawn strokes, only used to detect which strokes were modified.
+		 */
+		private final List<List<Integer>> drawn;
+		private final List<int[]> x = new ArrayList<int[]>();
+		private final List<int[]> y = new ArrayList<int[]>();
+
+		private Strokes(final List<List<Integer>> xstrokes, final List<List<Integer>> ystrokes) {
+			drawn = new ArrayList<List<Integer>>(xstrokes);
+			for (int i = 0; i < xstrokes.size(); i++) {
+				x.add(toArray(xstrokes.get(i)));
+				y.add(toArray(ystrokes.get(i)));
+			}
+		}
+	}
+
+	/**
+	 * Copies the drawn strokes. Must be invoked by the thread which draws the
+	 * strokes.
+	 * 
+	 * @return the copy of the strokes, never null.
+	 */
+	public Strokes getStrokes() {
+		return new Strokes(xstrokes, ystrokes);
+	}
+
+	/**
+	 * Drops partial scores of strokes which were undone or modified since
+	 * they were scored, then adds newly drawn strokes.
+	 */
+	private void updateScoredStrokes(final Strokes strokes) {
+		int valid = 0;
+		while (valid < scoredStrokes.size() && valid < strokes.drawn.size() && scoredStrokes.get(valid) == strokes.drawn.get(valid)
+				&& scoredX.get(valid).length == strokes.x.get(valid).length) {
+			valid++;
+		}
+		if (valid < scoredStrokes.size()) {
+			scoredStrokes.subList(valid, scoredStrokes.size()).clear();
+			scoredX.subList(valid, scoredX.size()).clear();
+			scoredY.subList(valid, scoredY.size()).clear();
+			for (int m = 0; m < scoredLevels.length; m++) {
+				scoredLevels[m] = Math.min(scoredLevels[m], valid);
+			}
+		}
+		for (int i = scoredStrokes.size(); i < strokes.drawn.size(); i++) {
+			scoredStrokes.add(strokes.drawn.get(i));
+			scoredX.add(strokes.x.get(i));
+			scoredY.add(strokes.y.get(i));
 		}
-		return new BufferedReader(new InputStreamReader(result, "UTF-8"));
 	}
 
-	private void closeQuietly(final Closeable c) {
-		try {
-			c.close();
-		} catch (Exception ex) {
-			System.out.println("WARN: FAILED TO CLOSE " + ex);
+	/**
+	 * Makes sure that partial scores of given kanjis are computed for given
+	 * number of drawn strokes. Only strokes not yet scored are computed.
+	 * 
+	 * @param db
+	 *            the kanjis
+	 * @param levels
+	 *            the number of drawn strokes to score.
+	 * @return the sums of the squared stroke scores, indexed by the kanji.
+	 */
+	private double[] score(final StrokeDatabase.Entries db, final int levels) {
+		final int m = db.strokes;
+		if (sums[m] == null) {
+			sums[m] = new double[m][];
+		}
+		for (int s = scoredLevels[m]; s < levels; s++) {
+			if (sums[m][s] == null) {
+				sums[m][s] = new double[db.kanjis.length];
+			}
+			final double[] sum = sums[m][s];
+			final double[] prev = s == 0 ? null : sums[m][s - 1];
+			final int[] xv = scoredX.get(s);
+			final int[] yv = scoredY.get(s);
+			for (int k = 0; k < sum.length; k++) {
+				final int strokeIndex = k * m + s;
+				final int thisscore = scoreStroke(xv, yv, 0, xv.length, db.directions, db.strokeStart[strokeIndex], db.strokeStart[strokeIndex + 1], 0);
+				sum[k] = (prev == null ? 0 : prev[k]) + thisscore * thisscore;
+			}
 		}
+		scoredLevels[m] = Math.max(scoredLevels[m], levels);
+		return sums[m][levels - 1];
 	}
 
 	/**
@@ -93,247 +180,125 @@ public class DrawPanel {
 	 * @return the best matches, ordered from best to worst match.
 	 */
 	public String analyzeKanji() throws IOException {
-		int sc;
-		List<Integer> minScores = new ArrayList<Integer>(); // sorted such that
-		// the best is last
-		List<String> minChars = new ArrayList<String>();
-		String curk;
-		final BufferedReader in = getResource(xstrokes.size());
-		if (in == null) {
-			// no kanjis with given stroke count, just return an empty string
+		return analyzeKanji(0);
+	}
+
+	/**
+	 * Performs analysis of the currently drawn kanji. Returns {@value #NUMKAN}
+	 * best matches. Only the strokes drawn (or modified) since the last call
+	 * are scored, therefore it is cheap to call this method after each
+	 * stroke.
+	 * 
+	 * @param strokeTolerance
+	 *            kanjis with up to this many strokes more or less than drawn
+	 *            are matched as well. Such kanjis are matched on the common
+	 *            strokes only and are penalized, thus kanjis with the exact
+	 *            stroke count are preferred.
+	 * @return the best matches, ordered from best to worst match.
+	 */
+	public String analyzeKanji(final int strokeTolerance) throws IOException {
+		return analyzeKanji(getStrokes(), strokeTolerance);
+	}
+
+	/**
+	 * Performs analysis of given strokes, see {@link #analyzeKanji(int)}. Thread
+	 * safe, may be invoked by a background thread.
+	 * 
+	 * @param strokes
+	 *            the strokes, see {@link #getStrokes()}.
+	 * @param strokeTolerance
+	 *            kanjis with up to this many strokes more or less than drawn
+	 *            are matched as well.
+	 * @return the best matches, ordered from best to worst match.
+	 */
+	public synchronized String analyzeKanji(final Strokes strokes, final int strokeTolerance) throws IOException {
+		final int n = strokes.drawn.size();
+		if (n == 0) {
 			return "";
 		}
-		try {
-			String line;
-			while (true) {
-				line = in.readLine();
-				String goline = "";
-				if (line == null) {
-					int sz;
-					sz = minChars.size();
-					char[] kanj = new char[sz];
-					int i;
-					for (i = 0; i < sz; i++) { // reverse array
-						String s;
-						s = minChars.get(sz - i - 1);
-						if (s.charAt(0) == '0')
-							kanj[i] = '?';
-						else {
-							int index;
-							index = s.indexOf(' ');
-							if (index != -1)
-								s = s.substring(0, index);
-							try {
-								int hexcode;
-								hexcode = Integer.parseInt(s, 16);
-								kanj[i] = (char) hexcode;
-							} catch (Exception ez11) {
-								kanj[i] = '?';
-							}
-						}
-					}
-					return new String(kanj);
+		final StrokeDatabase database = StrokeDatabase.getInstance(classLoader);
+		updateScoredStrokes(strokes);
+		// sorted such that the best is last
+		final int[] minScores = new int[NUMKAN + 1];
+		final char[] minChars = new char[NUMKAN + 1];
+		int size = 0;
+		for (int d = 0; d <= 2 * strokeTolerance; d++) {
+			// the exact stroke count first, then n-1, n+1, n-2, ...
+			final int m = n + ((d & 1) == 0 ? d / 2 : -(d + 1) / 2);
+			final StrokeDatabase.Entries db = database.get(m);
+			if (db == null) {
+				continue;
+			}
+			final int common = Math.min(n, m);
+			final double[] sum = score(db, common);
+			for (int k = 0; k < db.kanjis.length; k++) {
+				int ns;
+				if (m == n) {
+					ns = (int) Math.round(Math.sqrt(sum[k]));
 				} else {
-					if (line.length() == 0)
-						continue;
-					if (line.charAt(0) == '#')
-						continue;
-					int index;
-					index = line.indexOf('|');
-					if (index == -1)
-						continue;
-					curk = line.substring(0, index);
-					line = line.substring(index + 1);
-					String tokline;
-					String argline;
-					int tokindex = line.indexOf('|');
-					if (tokindex != -1) {
-						tokline = line.substring(0, tokindex);
-						argline = line.substring(tokindex + 1);
-					} else {
-						argline = null;
-						tokline = line;
-					}
-					StringTokenizer st = new StringTokenizer(tokline);
-					if (st.countTokens() != xstrokes.size())
+					ns = (int) Math.round(Math.sqrt(sum[k] * Math.max(n, m) / common)) + STROKE_COUNT_PENALTY * Math.abs(n - m);
+				}
+				// if more tokens exist, apply filters
+				for (int f = db.filterStart[k]; f < db.filterStart[k + 1]; f += StrokeDatabase.Entries.FILTER_SIZE) {
+					final int stroke1 = db.filters[f + 1];
+					final int stroke2 = db.filters[f + 3];
+					if (stroke1 >= common || stroke2 >= common) {
 						continue;
-
-					WhileLoop: while (st.hasMoreTokens()) {
-						String tok = st.nextToken();
-						int i;
-						for (i = 0; i < tok.length(); i++) {
-							switch (tok.charAt(i)) {
-							case '2':
-							case '1':
-							case '3':
-							case '4':
-							case '6':
-							case '7':
-							case '8':
-							case '9':
-								goline = goline + tok.charAt(i);
-								break;
-							case 'b':
-								goline = goline + "62";
-								break;
-							case 'c':
-								goline = goline + "26";
-								break;
-							case 'x':
-								goline = goline + "21";
-								break;
-							case 'y':
-								goline = goline + "23";
-								break;
-							case '|':
-								break WhileLoop;
-							default:
-								throw new IOException("unknown symbol in kanji database: " + line);
-								// continue;
-							}
-						}
-						goline = goline + " ";
-					}
-					int ns;
-					if (minScores.size() < NUMKAN)
-						ns = getScore(goline, 999999);
-					else {
-						int cutoff1, cutoff2;
-						cutoff1 = minScores.get(0);
-						cutoff2 = minScores.get(minScores.size() - 1) * 2;
-						ns = getScore(goline, Math.min(cutoff1, cutoff2));
-					}
-					// if more tokens exist, apply filters
-					if (argline != null) {
-						st = new StringTokenizer(argline);
-						while (st.hasMoreTokens()) {
-							try {
-								String tok = st.nextToken();
-								int minindex;
-								minindex = tok.indexOf("-");
-								if (minindex == -1) {
-									throw new IOException("bad filter");
-									// continue;
-								}
-								String arg1, arg2;
-								arg1 = tok.substring(0, minindex);
-								arg2 = tok.substring(minindex + 1, tok.length());
-								int arg1stroke, arg2stroke;
-								arg1stroke = Integer.parseInt(arg1.substring(1));
-								boolean must = (arg2.charAt(arg2.length() - 1) == '!');
-								if (must)
-									arg2stroke = Integer.parseInt(arg2.substring(1, arg2.length() - 1));
-								else
-									arg2stroke = Integer.parseInt(arg2.substring(1));
-
-								List<Integer> stroke1x, stroke1y, stroke2x, stroke2y;
-								stroke1x = xstrokes.get(arg1stroke - 1);
-								stroke1y = ystrokes.get(arg1stroke - 1);
-								stroke2x = xstrokes.get(arg2stroke - 1);
-								stroke2y = ystrokes.get(arg2stroke - 1);
-
-								int val1, val2;
-								switch (arg1.charAt(0)) {
-								case 'x':
-									val1 = stroke1x.get(0);
-									break;
-								case 'y':
-									val1 = stroke1y.get(0);
-									break;
-								case 'i':
-									val1 = stroke1x.get(stroke1x.size() - 1);
-									break;
-								case 'j':
-									val1 = stroke1y.get(stroke1y.size() - 1);
-									break;
-								case 'a':
-									val1 = ((stroke1x.get(0)) + (stroke1x.get(stroke1x.size() - 1))) / 2;
-									break;
-								case 'b':
-									val1 = ((stroke1y.get(0)) + (stroke1y.get(stroke1y.size() - 1))) / 2;
-									break;
-								case 'l':
-									int dx,
-									dy;
-									dx = (last(stroke1x)) - (stroke1x.get(0));
-									dy = (last(stroke1y)) - (stroke1y.get(0));
-									val1 = (int) (Math.sqrt((double) (dx * dx + dy * dy)));
-									break;
-								default:
-									throw new IOException("bad filter");
-									// continue;
-								}
-								// now the same thing for arg2 & val2
-								switch (arg2.charAt(0)) {
-								case 'x':
-									val2 = (stroke2x.get(0));
-									break;
-								case 'y':
-									val2 = (stroke2y.get(0));
-									break;
-								case 'i':
-									val2 = (last(stroke2x));
-									break;
-								case 'j':
-									val2 = (last(stroke2y));
-									break;
-								case 'a':
-									val2 = ((stroke2x.get(0)) + (last(stroke2x))) / 2;
-									break;
-								case 'b':
-									val2 = ((stroke2y.get(0)) + (last(stroke2y))) / 2;
-									break;
-								case 'l':
-									int dx,
-									dy;
-									dx = (last(stroke2x)) - (stroke2x.get(0));
-									dy = (last(stroke2y)) - (stroke2y.get(0));
-									val2 = (int) (Math.sqrt((double) (dx * dx + dy * dy)));
-									break;
-								default:
-									throw new IOException("bad filter");
-									// continue;
-								}
-								// so now val1 and val2 have the right values
-								ns = ns - (val1 - val2);
-								if (must && (val1 < val2))
-									ns += 9999999;
-							} catch (Exception ez2) {
-								throw new RuntimeException("bad filter", ez2);
-								// continue;
-							} // try-catch
-						} // while
 					}
-					// now ns == the score
-					int size;
-					size = minScores.size();
-					if ((size < NUMKAN) || (ns < minScores.get(0))) {
-						if (size == 0) {
-							minScores.add(ns);
-							minChars.add(curk);
-						} else {
-							if (ns <= (last(minScores))) {
-								minScores.add(new Integer(ns));
-								minChars.add(curk);
-							} else {
-								int i = 0;
-								while ((minScores.get(i)) > ns)
-									i++;
-								minScores.add(i, ns);
-								minChars.add(i, curk);
-							}
-						}
+					final int val1 = getFilterValue(db.filters[f], scoredX.get(stroke1), scoredY.get(stroke1));
+					final int val2 = getFilterValue(db.filters[f + 2], scoredX.get(stroke2), scoredY.get(stroke2));
+					ns = ns - (val1 - val2);
+					if (db.filters[f + 4] != 0 && (val1 < val2))
+						ns += 9999999;
+				}
+				// now ns == the score
+				if ((size < NUMKAN) || (ns < minScores[0])) {
+					int i = size;
+					if (size > 0 && ns > minScores[size - 1]) {
+						i = 0;
+						while (minScores[i] > ns)
+							i++;
+						System.arraycopy(minScores, i, minScores, i + 1, size - i);
+						System.arraycopy(minChars, i, minChars, i + 1, size - i);
 					}
-					size = minScores.size();
+					minScores[i] = ns;
+					minChars[i] = db.kanjis[k];
+					size++;
 					if (size > NUMKAN) {
-						minScores.remove(0);
-						minChars.remove(0);
+						System.arraycopy(minScores, 1, minScores, 0, NUMKAN);
+						System.arraycopy(minChars, 1, minChars, 0, NUMKAN);
+						size--;
 					}
 				}
 			}
+		}
+		final char[] kanj = new char[size];
+		for (int i = 0; i < size; i++) { // reverse array
+			kanj[i] = minChars[size - i - 1];
+		}
+		return new String(kanj);
+	}
 
-		} finally {
-			closeQuietly(in);
+	private static int getFilterValue(final byte type, final int[] x, final int[] y) {
+		switch (type) {
+		case StrokeDatabase.VAL_FIRST_X:
+			return x[0];
+		case StrokeDatabase.VAL_FIRST_Y:
+			return y[0];
+		case StrokeDatabase.VAL_LAST_X:
+			return x[x.length - 1];
+		case StrokeDatabase.VAL_LAST_Y:
+			return y[y.length - 1];
+		case StrokeDatabase.VAL_MIDDLE_X:
+			return (x[0] + x[x.length - 1]) / 2;
+		case StrokeDatabase.VAL_MIDDLE_Y:
+			return (y[0] + y[y.length - 1]) / 2;
+		case StrokeDatabase.VAL_LENGTH:
+			final int dx = x[x.length - 1] - x[0];
+			final int dy = y[y.length - 1] - y[0];
+			return (int) (Math.sqrt((double) (dx * dx + dy * dy)));
+		default:
+			throw new IllegalArgumentException("bad filter");
 		}
 	}
 
@@ -341,28 +306,43 @@ public class DrawPanel {
 	static final int angScale = 1000;
 	static final int sCost = (int) Math.round(Math.PI / 60.0 * angScale);
 	static final int hugeCost = ((int) Math.round(Math.PI * angScale) + sCost) * 100;
+	/**
+	 * The penalty added to a candidate with a different number of strokes
+	 * than drawn, see {@link #analyzeKanji(int)}.
+	 */
+	static final int STROKE_COUNT_PENALTY = sCost * 10;
 
-	// endi is exclusive, begi inclusive
-	int scoreStroke(List<Integer> xv, List<Integer> yv, int begi, int endi, String dir, int depth) {
+	/**
+	 * The angle of each direction code ('1'-'9', as on the numeric keypad).
+	 */
+	private static final double[] ANGLES = new double[10];
+	static {
+		ANGLES[6] = 0;
+		ANGLES[9] = Math.PI / 4;
+		ANGLES[8] = Math.PI / 2;
+		ANGLES[7] = Math.PI * 3 / 4;
+		ANGLES[4] = Math.PI;
+		ANGLES[3] = -Math.PI / 4;
+		ANGLES[2] = -Math.PI / 2;
+		ANGLES[1] = -Math.PI * 3 / 4;
+	}
 
-		/*
-		 * if (endi-1<=begi) { System.out.println("Ouch1"); return(hugeCost); }
-		 */
-		if (dir.length() == 1) {
-			int i;
+	// endi is exclusive, begi inclusive. The direction codes are
+	// dirs[dirBeg..dirEnd).
+	int scoreStroke(int[] xv, int[] yv, int begi, int endi, byte[] dirs, int dirBeg, int dirEnd, int depth) {
+		final int dirLength = dirEnd - dirBeg;
+		if (dirLength == 1) {
 			int difx, dify;
-			difx = (xv.get(endi - 1)) - (xv.get(begi));
-			dify = (yv.get(endi - 1)) - (yv.get(begi));
+			difx = xv[endi - 1] - xv[begi];
+			dify = yv[endi - 1] - yv[begi];
 			if ((difx == 0) && (dify == 0)) {
-				// System.out.println("Ouch2");
-				// return((int)Math.round(Math.PI*angScale)+sCost);
 				return (hugeCost);
 			}
 			if ((difx * difx + dify * dify > (20 * 20)) && (endi - begi > 5) && (depth < 4)) {
 				int mi = (endi + begi) / 2;
 				int cost1, cost2;
-				cost1 = scoreStroke(xv, yv, begi, mi, dir, depth + 1);
-				cost2 = scoreStroke(xv, yv, mi, endi, dir, depth + 1);
+				cost1 = scoreStroke(xv, yv, begi, mi, dirs, dirBeg, dirEnd, depth + 1);
+				cost2 = scoreStroke(xv, yv, mi, endi, dirs, dirBeg, dirEnd, depth + 1);
 				// return the average cost of the substrokes, but penalize if
 				// they're
 				// different.
@@ -371,36 +351,11 @@ public class DrawPanel {
 
 			double ang;
 			ang = Math.atan2(-dify, difx);
-			double myang;
-			switch (dir.charAt(0)) {
-			case '6':
-				myang = 0;
-				break;
-			case '9':
-				myang = Math.PI / 4;
-				break;
-			case '8':
-				myang = Math.PI / 2;
-				break;
-			case '7':
-				myang = Math.PI * 3 / 4;
-				break;
-			case '4':
-				myang = Math.PI;
-				break;
-			case '3':
-				myang = -Math.PI / 4;
-				break;
-			case '2':
-				myang = -Math.PI / 2;
-				break;
-			case '1':
-				myang = -Math.PI * 3 / 4;
-				break;
-			default:
-				throw new RuntimeException("Illegal char: " + dir.charAt(0));
-				// myang = 0;
+			final int dir = dirs[dirBeg] - '0';
+			if (dir < 1 || dir > 9 || dir == 5) {
+				throw new RuntimeException("Illegal char: " + (char) dirs[dirBeg]);
 			}
+			double myang = ANGLES[dir];
 			double difang = myang - ang;
 			while (difang < 0)
 				difang += 2 * Math.PI;
@@ -412,77 +367,24 @@ public class DrawPanel {
 			int retcost = (int) Math.round(difang * angScale) + sCost;
 			return (retcost);
 		} else if (begi == endi) {
-			/*
-			 * int i; int cost=0; for (i=0;i<dir.length();i++) {
-			 * cost+=scoreStroke(xv,yv,begi,endi,dir.charAt(i)+""); } int
-			 * retcost = cost/dir.length(); return(retcost);
-			 */
-			return (hugeCost * dir.length());
+			return (hugeCost * dirLength);
 		} else { // recurse
-			int l1, l2;
-			l1 = dir.length() / 2;
-			l2 = dir.length() - l1;
-			String s1, s2;
-			s1 = dir.substring(0, l1);
-			s2 = dir.substring(l1, dir.length());
+			final int s1l = dirLength / 2;
+			final int s2l = dirLength - s1l;
+			final int mid = dirBeg + s1l;
 			int i;
-			int mincost = hugeCost * dir.length() * 2;
-			// 9999991;
-			int s1l = s1.length();
-			int s2l = s2.length();
+			int mincost = hugeCost * dirLength * 2;
 			int step = (endi - begi) / 10;
 			if (step < 1)
 				step = 1;
 
 			for (i = begi + 1 + s1l; i < endi - 1 - s2l; i += step) {
 				int ncost;
-				ncost = scoreStroke(xv, yv, begi, i + 1, s1, depth) + scoreStroke(xv, yv, i - 1, endi, s2, depth);
+				ncost = scoreStroke(xv, yv, begi, i + 1, dirs, dirBeg, mid, depth) + scoreStroke(xv, yv, i - 1, endi, dirs, mid, dirEnd, depth);
 				if (ncost < mincost)
 					mincost = ncost;
 			}
-			// if (mincost==hugeCost*dir.length()*2)
-			// System.out.println("Ouch3");
 			return (mincost);
 		}
 	}
-
-	private int getScore(String s, int cutoff) { // , Hashtable h, int cutoff) {
-		double score = 0;
-		int strokes = 0;
-		int maxscore = 0;
-		cutoff = cutoff * xstrokes.size(); // need it before the averaging
-		StringTokenizer st = new StringTokenizer(s);
-		Iterator<List<Integer>> xe = xstrokes.iterator();
-		Iterator<List<Integer>> ye = ystrokes.iterator();
-		while (st.hasMoreTokens())
-			if (!xe.hasNext())
-				return (99997);
-			else {
-				/*
-				 * if ((score>cutoff)&&(strokes>0)) { return(score/strokes); }
-				 */
-				List<Integer> vxe = xe.next();
-				List<Integer> vye = ye.next();
-				int thisscore;
-				thisscore = scoreStroke(vxe, vye, 0, vxe.size(), st.nextToken(), 0);
-
-				score = score + thisscore * thisscore;
-				maxscore = Math.max(maxscore, thisscore);
-				strokes++;
-			}
-		if (xe.hasNext())
-			return (99998);
-		else {
-			if (strokes == 0)
-				return (99997);
-			else
-				return ((int) Math.round(Math.sqrt(score)));
-			// return(score/strokes+maxscore);
-
-			/*
-			 * count the worst stroke every time (sort of a pseudo-fuzzy type
-			 * alg.)
-			 */
-		}
-	}
 }
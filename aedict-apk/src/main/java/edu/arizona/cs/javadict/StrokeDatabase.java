@@ -0,0 +1,451 @@
+/**
+ *     Aedict - an EDICT browser for Android
+Copyright (C) 2009 Martin Vysny
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package edu.arizona.cs.javadict;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringTokenizer;
+
+/**
+ * The kanji stroke database used by the {@link DrawPanel} recognizer, compiled
+ * from the <code>unistrok.N</code> files into flat arrays. The stroke
+ * direction codes are pre-expanded (e.g. <code>b</code> is stored as
+ * <code>62</code>) and the filters are pre-parsed, thus the recognizer does not
+ * need to parse nor allocate anything when scoring a candidate kanji.
+ * <p/>
+ * The build compiles the text files into a binary {@link #BINARY_RESOURCE}
+ * resource (see {@link #main(String[])}); the text files are compiled when the
+ * database is loaded only if the binary resource is missing. The database is
+ * loaded once and kept in memory.
+ *
+ * @author Martin Vysny
+ */
+public final class StrokeDatabase {
+	/**
+	 * The compiled database, a classpath resource.
+	 */
+	public static final String BINARY_RESOURCE = "edu/arizona/cs/javadict/unistrok.bin";
+	private static final String TEXT_RESOURCE = "edu/arizona/cs/javadict/unistrok.";
+	/**
+	 * The maximum number of strokes present in the database.
+	 */
+	public static final int MAX_STROKES = 30;
+	private static final int MAGIC = 0x554e4953;
+	private static final int VERSION = 1;
+	/**
+	 * Filter value types, see {@link Entries#filters}.
+	 */
+	static final byte VAL_FIRST_X = 0, VAL_FIRST_Y = 1, VAL_LAST_X = 2, VAL_LAST_Y = 3, VAL_MIDDLE_X = 4, VAL_MIDDLE_Y = 5, VAL_LENGTH = 6;
+	private static final String VAL_TYPES = "xyijabl";
+
+	/**
+	 * All kanjis with given number of strokes.
+	 *
+	 * @author Martin Vysny
+	 */
+	static final class Entries {
+		/**
+		 * The number of strokes of each kanji.
+		 */
+		final int strokes;
+		/**
+		 * The kanjis; a question mark denotes an unknown kanji.
+		 */
+		final char[] kanjis;
+		/**
+		 * The expanded stroke directions, '1'-'9' as on the numeric keypad.
+		 * Directions of the s-th stroke of the k-th kanji start at index
+		 * strokeStart[k*strokes+s] and end at strokeStart[k*strokes+s+1],
+		 * exclusive.
+		 */
+		final byte[] directions;
+		final int[] strokeStart;
+		/**
+		 * The filters. Filters of the k-th kanji start at index filterStart[k]
+		 * and end at filterStart[k+1], exclusive; each filter occupies
+		 * {@link #FILTER_SIZE} bytes: value type and stroke index of the
+		 * first argument, value type and stroke index of the second
+		 * argument, 1 if the first value must not be less than the second
+		 * one.
+		 */
+		final byte[] filters;
+		final int[] filterStart;
+		static final int FILTER_SIZE = 5;
+
+		Entries(int strokes, char[] kanjis, byte[] directions, int[] strokeStart, byte[] filters, int[] filterStart) {
+			this.strokes = strokes;
+			this.kanjis = kanjis;
+			this.directions = directions;
+			this.strokeStart = strokeStart;
+			this.filters = filters;
+			this.filterStart = filterStart;
+		}
+	}
+
+	/**
+	 * Indexed by the stroke count, may contain nulls.
+	 */
+	private final Entries[] entries;
+
+	private StrokeDatabase(final Entries[] entries) {
+		this.entries = entries;
+	}
+
+	/**
+	 * Returns all kanjis with given number of strokes.
+	 *
+	 * @param strokes
+	 *            the stroke count
+	 * @return the kanjis, null if there is no such kanji.
+	 */
+	Entries get(final int strokes) {
+		return strokes >= 0 && strokes < entries.length ? entries[strokes] : null;
+	}
+
+	private static StrokeDatabase instance = null;
+
+	/**
+	 * Returns the database, loading it on first call.
+	 *
+	 * @param cl
+	 *            loads the resources.
+	 * @return the database, never null.
+	 * @throws IOException
+	 *             on I/O error.
+	 */
+	public static synchronized StrokeDatabase getInstance(final ClassLoader cl) throws IOException {
+		if (instance == null) {
+			final InputStream in = cl.getResourceAsStream(BINARY_RESOURCE);
+			if (in != null) {
+				try {
+					instance = read(in);
+				} finally {
+					in.close();
+				}
+			} else {
+				instance = compile(cl);
+			}
+		}
+		return instance;
+	}
+
+	private static StrokeDatabase compile(final ClassLoader cl) throws IOException {
+		final Entries[] result = new Entries[MAX_STROKES + 1];
+		for (int strokes = 1; strokes <= MAX_STROKES; strokes++) {
+			final InputStream in = cl.getResourceAsStream(TEXT_RESOURCE + strokes);
+			if (in != null) {
+				try {
+					result[strokes] = compile(in, strokes);
+				} finally {
+					in.close();
+				}
+			}
+		}
+		return new StrokeDatabase(result);
+	}
+
+	/**
+	 * Parses a single unistrok.N file.
+	 *
+	 * @param unistrok
+	 *            the file contents
+	 * @param strokes
+	 *            the N
+	 * @return compiled entries.
+	 * @throws IOException
+	 *             on I/O error or if the file is malformed.
+	 */
+	static Entries compile(final InputStream unistrok, final int strokes) throws IOException {
+		final BufferedReader in = new BufferedReader(new InputStreamReader(unistrok, "UTF-8"));
+		final StringBuilder kanjis = new StringBuilder();
+		final ByteList directions = new ByteList();
+		final IntList strokeStart = new IntList();
+		final ByteList filters = new ByteList();
+		final IntList filterStart = new IntList();
+		strokeStart.add(0);
+		filterStart.add(0);
+		for (String line = in.readLine(); line != null; line = in.readLine()) {
+			if (line.length() == 0 || line.charAt(0) == '#') {
+				continue;
+			}
+			int index = line.indexOf('|');
+			if (index == -1) {
+				continue;
+			}
+			final String curk = line.substring(0, index);
+			line = line.substring(index + 1);
+			index = line.indexOf('|');
+			final String tokline = index == -1 ? line : line.substring(0, index);
+			final String argline = index == -1 ? null : line.substring(index + 1);
+			StringTokenizer st = new StringTokenizer(tokline);
+			if (st.countTokens() != strokes) {
+				continue;
+			}
+			kanjis.append(parseKanji(curk));
+			while (st.hasMoreTokens()) {
+				final String tok = st.nextToken();
+				for (int i = 0; i < tok.length(); i++) {
+					final char c = tok.charAt(i);
+					switch (c) {
+					case '1':
+					case '2':
+					case '3':
+					case '4':
+					case '6':
+					case '7':
+					case '8':
+					case '9':
+						directions.add((byte) c);
+						break;
+					case 'b':
+						directions.add((byte) '6').add((byte) '2');
+						break;
+					case 'c':
+						directions.add((byte) '2').add((byte) '6');
+						break;
+					case 'x':
+						directions.add((byte) '2').add((byte) '1');
+						break;
+					case 'y':
+						directions.add((byte) '2').add((byte) '3');
+						break;
+					default:
+						throw new IOException("unknown symbol in kanji database: " + line);
+					}
+				}
+				strokeStart.add(directions.size);
+			}
+			if (argline != null) {
+				st = new StringTokenizer(argline);
+				while (st.hasMoreTokens()) {
+					final String tok = st.nextToken();
+					final int minindex = tok.indexOf('-');
+					if (minindex == -1) {
+						throw new IOException("bad filter: " + line);
+					}
+					final String arg1 = tok.substring(0, minindex);
+					String arg2 = tok.substring(minindex + 1);
+					final boolean must = arg2.charAt(arg2.length() - 1) == '!';
+					if (must) {
+						arg2 = arg2.substring(0, arg2.length() - 1);
+					}
+					parseFilterArg(arg1, strokes, filters, line);
+					parseFilterArg(arg2, strokes, filters, line);
+					filters.add((byte) (must ? 1 : 0));
+				}
+			}
+			filterStart.add(filters.size);
+		}
+		return new Entries(strokes, kanjis.toString().toCharArray(), directions.toArray(), strokeStart.toArray(), filters.toArray(), filterStart.toArray());
+	}
+
+	private static char parseKanji(String curk) {
+		if (curk.charAt(0) == '0') {
+			return '?';
+		}
+		final int index = curk.indexOf(' ');
+		if (index != -1) {
+			curk = curk.substring(0, index);
+		}
+		try {
+			return (char) Integer.parseInt(curk, 16);
+		} catch (NumberFormatException ex) {
+			return '?';
+		}
+	}
+
+	private static void parseFilterArg(final String arg, final int strokes, final ByteList filters, final String line) throws IOException {
+		final int type = arg.length() == 0 ? -1 : VAL_TYPES.indexOf(arg.charAt(0));
+		if (type < 0) {
+			throw new IOException("bad filter: " + line);
+		}
+		final int stroke;
+		try {
+			stroke = Integer.parseInt(arg.substring(1));
+		} catch (NumberFormatException ex) {
+			throw new IOException("bad filter: " + line);
+		}
+		if (stroke < 1 || stroke > strokes) {
+			throw new IOException("bad filter: " + line);
+		}
+		filters.add((byte) type).add((byte) (stroke - 1));
+	}
+
+	static StrokeDatabase read(final InputStream stream) throws IOException {
+		final DataInputStream in = new DataInputStream(new BufferedInputStream(stream));
+		if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+			throw new IOException("Invalid stroke database");
+		}
+		final Entries[] result = new Entries[in.readInt()];
+		for (int count = in.readInt(); count > 0; count--) {
+			final int strokes = in.readInt();
+			final char[] kanjis = new char[in.readInt()];
+			for (int i = 0; i < kanjis.length; i++) {
+				kanjis[i] = in.readChar();
+			}
+			final int[] strokeStart = readInts(in);
+			final byte[] directions = new byte[in.readInt()];
+			in.readFully(directions);
+			final int[] filterStart = readInts(in);
+			final byte[] filters = new byte[in.readInt()];
+			in.readFully(filters);
+			result[strokes] = new Entries(strokes, kanjis, directions, strokeStart, filters, filterStart);
+		}
+		return new StrokeDatabase(result);
+	}
+
+	private static int[] readInts(final DataInputStream in) throws IOException {
+		final int[] result = new int[in.readInt()];
+		for (int i = 0; i < result.length; i++) {
+			result[i] = in.readInt();
+		}
+		return result;
+	}
+
+	private static void writeInts(final DataOutputStream out, final int[] ints) throws IOException {
+		out.writeInt(ints.length);
+		for (final int i : ints) {
+			out.writeInt(i);
+		}
+	}
+
+	/**
+	 * Writes the database in the binary format.
+	 *
+	 * @param stream
+	 *            the stream to write to, not closed.
+	 * @throws IOException
+	 *             on I/O error.
+	 */
+	void write(final OutputStream stream) throws IOException {
+		final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream));
+		out.writeInt(MAGIC);
+		out.writeInt(VERSION);
+		out.writeInt(entries.length);
+		int count = 0;
+		for (final Entries e : entries) {
+			if (e != null) {
+				count++;
+			}
+		}
+		out.writeInt(count);
+		for (final Entries e : entries) {
+			if (e == null) {
+				continue;
+			}
+			out.writeInt(e.strokes);
+			out.writeInt(e.kanjis.length);
+			out.writeChars(new String(e.kanjis));
+			writeInts(out, e.strokeStart);
+			out.writeInt(e.directions.length);
+			out.write(e.directions);
+			writeInts(out, e.filterStart);
+			out.writeInt(e.filters.length);
+			out.write(e.filters);
+		}
+		out.flush();
+	}
+
+	/**
+	 * Compiles the unistrok.N files into the binary database. Invoked by the
+	 * build.
+	 *
+	 * @param args
+	 *            a single argument: the class output directory, containing
+	 *            the <code>edu/arizona/cs/javadict/unistrok.N</code> files.
+	 *            The {@link #BINARY_RESOURCE} is written there.
+	 * @throws IOException
+	 *             on I/O error.
+	 */
+	public static void main(String[] args) throws IOException {
+		if (args.length != 1) {
+			System.out.println("Usage: StrokeDatabase classes-directory");
+			System.exit(1);
+		}
+		final File dir = new File(args[0]);
+		final Entries[] result = new Entries[MAX_STROKES + 1];
+		for (int strokes = 1; strokes <= MAX_STROKES; strokes++) {
+			final File file = new File(dir, TEXT_RESOURCE + strokes);
+			if (file.exists()) {
+				final InputStream in = new FileInputStream(file);
+				try {
+					result[strokes] = compile(in, strokes);
+				} finally {
+					in.close();
+				}
+			}
+		}
+		final File target = new File(dir, BINARY_RESOURCE);
+		final OutputStream out = new FileOutputStream(target);
+		try {
+			new StrokeDatabase(result).write(out);
+		} finally {
+			out.close();
+		}
+		System.out.println("Written " + target.getAbsolutePath());
+	}
+
+	private static final class ByteList {
+		private byte[] data = new byte[1024];
+		int size = 0;
+
+		ByteList add(final byte b) {
+			if (size == data.length) {
+				final byte[] newData = new byte[size * 2];
+				System.arraycopy(data, 0, newData, 0, size);
+				data = newData;
+			}
+			data[size++] = b;
+			return this;
+		}
+
+		byte[] toArray() {
+			final byte[] result = new byte[size];
+			System.arraycopy(data, 0, result, 0, size);
+			return result;
+		}
+	}
+
+	private static final class IntList {
+		private final List<Integer> data = new ArrayList<Integer>();
+
+		void add(final int i) {
+			data.add(i);
+		}
+
+		int[] toArray() {
+			final int[] result = new int[data.size()];
+			for (int i = 0; i < result.length; i++) {
+				result[i] = data.get(i);
+			}
+			return result;
+		}
+	}
+}
@@ -31,6 +31,7 @@ import sk.baka.aedict.dict.DictTypeEnum;
 import sk.baka.aedict.dict.Dictionary;
 import sk.baka.aedict.dict.DictionaryVersions;
 import sk.baka.aedict.dict.DownloaderService.UpdateDictionaries;
+import sk.baka.aedict.dict.SearcherPool;
 import sk.baka.aedict.kanji.RomanizationEnum;
 import sk.baka.aedict.util.DialogActivity;
 import sk.baka.aedict.util.Iso6393Codes;
@@ -182,6 +183,7 @@ public class ConfigActivity extends PreferenceActivity {
 			public void onClick(DialogInterface dialog, int which) {
 				dialog.dismiss();
 				try {
+					SearcherPool.invalidateAll();
 					MiscUtils.deleteDir(new File(DictTypeEnum.BASE_DIR));
 				} catch (IOException e) {
 					throw new RuntimeException(e);
@@ -18,6 +18,12 @@
 
 package sk.baka.aedict;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 import sk.baka.aedict.dict.DictTypeEnum;
 import sk.baka.aedict.dict.Dictionary;
 import sk.baka.aedict.dict.DownloaderService;
@@ -27,6 +33,7 @@ import android.content.Intent;
 import android.os.Bundle;
 import android.os.Handler;
 import android.view.View;
+import android.widget.LinearLayout;
 import android.widget.ProgressBar;
 import android.widget.TextView;
 
@@ -59,7 +66,7 @@ public class DownloadActivity extends Activity {
 		findViewById(R.id.cancel).setOnClickListener(new View.OnClickListener() {
 
 			public void onClick(View v) {
-				AedictApp.getDownloader().cancelCurrentDownload();
+				AedictApp.getDownloader().cancelAll();
 			}
 		});
 	}
@@ -88,17 +95,70 @@ public class DownloadActivity extends Activity {
 
 	private void update() {
 		final DownloaderService service = AedictApp.getDownloader();
-		final State state = service.getState();
+		final List<State> states = service.getStates();
 		final TextView statusMessage = ((TextView) findViewById(R.id.statusMessage));
-		if (state == null) {
-			statusMessage.setText(R.string.noActiveDownload);
-		} else {
-			statusMessage.setText(state.msg);
+		// maps the target directory to the row message, the progress of all running downloads is summed up
+		final Map<String, String> items = new LinkedHashMap<String, String>();
+		int downloaded = 0;
+		int total = 0;
+		for (final State state : states) {
+			if (state.isError) {
+				items.put(state.downloadPath, state.msg);
+			} else {
+				items.put(state.downloadPath, state.msg + " (" + state.getCompleteness() + "%)");
+				downloaded += state.downloaded;
+				total += state.total;
+			}
+		}
+		for (final Map.Entry<String, String> e : service.getDownloadQueue().entrySet()) {
+			if (!items.containsKey(e.getKey())) {
+				items.put(e.getKey(), AedictApp.format(R.string.queuedForDownload, e.getValue()));
+			}
 		}
+		statusMessage.setText(R.string.noActiveDownload);
+		statusMessage.setVisibility(items.isEmpty() ? View.VISIBLE : View.GONE);
+		updateRows(items);
 		final ProgressBar progress = (ProgressBar) findViewById(R.id.progress);
-		progress.setProgress(state == null || state.isError ? 0 : state.getCompleteness());
-		((TextView) findViewById(R.id.queue)).setText(AedictApp.format(R.string.queuedForDownload, service.getDownloadQueue().toString()));
-		((TextView) findViewById(R.id.progressText)).setText(state == null || state.isError ? "-" : state.downloaded + "kb / " + state.total + "kb");
+		progress.setProgress(total == 0 ? 0 : (int) (downloaded * 100L / total));
+		((TextView) findViewById(R.id.progressText)).setText(total == 0 ? "-" : downloaded + "kb / " + total + "kb");
+	}
+
+	/**
+	 * Maps the target directory to the row shown in the {@link R.id#downloads} list.
+	 */
+	private final Map<String, View> rows = new LinkedHashMap<String, View>();
+
+	/**
+	 * Shows one row with a cancel button per download. The rows are reused
+	 * between updates, thus the cancel button is not replaced while being
+	 * clicked.
+	 * @param items maps the target directory to the message to show.
+	 */
+	private void updateRows(final Map<String, String> items) {
+		final LinearLayout downloads = (LinearLayout) findViewById(R.id.downloads);
+		if (!new ArrayList<String>(rows.keySet()).equals(new ArrayList<String>(items.keySet()))) {
+			downloads.removeAllViews();
+			final Map<String, View> oldRows = new HashMap<String, View>(rows);
+			rows.clear();
+			for (final String targetDir : items.keySet()) {
+				View row = oldRows.get(targetDir);
+				if (row == null) {
+					row = getLayoutInflater().inflate(R.layout.download_item, downloads, false);
+					row.findViewById(R.id.cancelItem).setOnClickListener(new View.OnClickListener() {
+
+						public void onClick(View v) {
+							AedictApp.getDownloader().cancel(targetDir);
+							update();
+						}
+					});
+				}
+				downloads.addView(row);
+				rows.put(targetDir, row);
+			}
+		}
+		for (final Map.Entry<String, String> e : items.entrySet()) {
+			((TextView) rows.get(e.getKey()).findViewById(R.id.downloadMessage)).setText(e.getValue());
+		}
 	}
 
 	public static void launch(Activity a) {
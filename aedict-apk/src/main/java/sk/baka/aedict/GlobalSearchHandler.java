@@ -22,9 +22,8 @@ import java.util.List;
 
 import sk.baka.aedict.dict.DictEntry;
 import sk.baka.aedict.dict.EdictEntry;
+import sk.baka.aedict.dict.MatcherEnum;
 import sk.baka.aedict.dict.SearchQuery;
-import sk.baka.aedict.kanji.Deinflections;
-import sk.baka.aedict.kanji.VerbDeinflection;
 import android.app.Activity;
 import android.app.SearchManager;
 import android.content.Intent;
@@ -50,11 +49,10 @@ public class GlobalSearchHandler extends Activity {
 		}
 		final String query = intent.getStringExtra(SearchManager.QUERY);
 		if (query != null) {
-			final Deinflections deinflection = VerbDeinflection.searchJpDeinflected(query, AedictApp.getConfig().getRomanization());
 			final List<SearchQuery> queries = new ArrayList<SearchQuery>();
-			queries.add(deinflection.query);
+			queries.add(SearchQuery.searchJpRomaji(query, AedictApp.getConfig().getRomanization(), MatcherEnum.Exact));
 			queries.add(SearchQuery.searchEnEdict(query, true));
-			ResultActivity.launch(this, queries, deinflection.deinflections);
+			ResultActivity.launchInflected(this, query, queries);
 		}
 		finish();
 	}
@@ -21,16 +21,19 @@ package sk.baka.aedict;
 import java.io.IOException;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import sk.baka.aedict.dict.DictEntry;
 import sk.baka.aedict.dict.DictTypeEnum;
 import sk.baka.aedict.dict.Dictionary;
 import sk.baka.aedict.dict.EdictEntry;
+import sk.baka.aedict.dict.HeadwordTrie;
 import sk.baka.aedict.dict.KanjidicEntry;
 import sk.baka.aedict.dict.LuceneSearch;
-import sk.baka.aedict.dict.MatcherEnum;
-import sk.baka.aedict.dict.SearchQuery;
 import sk.baka.aedict.kanji.KanjiUtils;
 import sk.baka.aedict.kanji.Radicals;
 import sk.baka.aedict.util.DictEntryListActions;
@@ -294,6 +297,11 @@ public class KanjiAnalyzeActivity extends ListActivity {
 			final LuceneSearch lsEdict = new LuceneSearch(DictTypeEnum.Edict, AedictApp.getConfig().getDictionaryLoc(), AedictApp.getConfig().isSorted());
 			try {
 				final String[] words = getWords(sentence);
+				final HeadwordTrie trie = HeadwordTrie.forDictionary(AedictApp.getConfig().getDictionaryLoc());
+				if (trie != null) {
+					return analyzeByWords(words, trie, lsEdict);
+				}
+				// older dictionaries do not contain the trie
 				final int progressMax = getNumberOfCharacters(words);
 				int currentProgress = 0;
 				for (int i = 0; i < words.length; i++) {
@@ -301,8 +309,10 @@ public class KanjiAnalyzeActivity extends ListActivity {
 						return null;
 					}
 					String w = words[i].trim();
+					// look up all possible words at once
+					final Map<String, List<DictEntry>> found = lsEdict.lookupExact(getCandidates(w), 1);
 					while (w.length() > 0) {
-						final MatchedWord match = findLongestWord(w, lsEdict);
+						final MatchedWord match = findLongestWord(w, found);
 						result.add(match.entry);
 						w = w.substring(match.wordLength);
 						currentProgress += match.wordLength;
@@ -315,6 +325,61 @@ public class KanjiAnalyzeActivity extends ListActivity {
 			}
 		}
 
+		/**
+		 * Splits given words into longest dictionary words, using the EDICT
+		 * headword trie. There is no limit on the word length.
+		 * 
+		 * @param words
+		 *            the words to analyze.
+		 * @param trie
+		 *            the EDICT headword trie.
+		 * @param lsEdict
+		 *            the EDICT search.
+		 * @return the entries, null if the task was cancelled.
+		 */
+		private List<DictEntry> analyzeByWords(final String[] words, final HeadwordTrie trie, final LuceneSearch lsEdict) throws IOException {
+			final int progressMax = getNumberOfCharacters(words);
+			int currentProgress = 0;
+			// a segment of null denotes a single character not present in the dictionary
+			final List<String> segments = new ArrayList<String>();
+			final List<String> unknown = new ArrayList<String>();
+			final Set<String> matched = new HashSet<String>();
+			for (int i = 0; i < words.length; i++) {
+				if (isCancelled()) {
+					return null;
+				}
+				final String w = words[i].trim();
+				for (int start = 0; start < w.length();) {
+					final int length = trie.longestPrefix(w, start);
+					if (length == 0) {
+						segments.add(null);
+						unknown.add(w.substring(start, start + 1));
+						start++;
+					} else {
+						final String segment = w.substring(start, start + length);
+						segments.add(segment);
+						matched.add(segment);
+						start += length;
+					}
+				}
+				currentProgress += w.length();
+				publish(new Progress(null, currentProgress, progressMax));
+			}
+			// look up all words at once
+			final Map<String, List<DictEntry>> found = lsEdict.lookupExact(matched, 1);
+			final List<DictEntry> result = new ArrayList<DictEntry>(segments.size());
+			int unknownIndex = 0;
+			for (final String segment : segments) {
+				if (segment == null) {
+					result.add(new DictEntry(unknown.get(unknownIndex++), "", ""));
+					continue;
+				}
+				final List<DictEntry> entries = found.get(segment);
+				result.add(entries != null ? entries.get(0) : new DictEntry(segment, "", ""));
+			}
+			return result;
+		}
+
 		private final String[] getWords(final String sentence) {
 			// split the sentence by a non-word characters, like space, hyphen,
 			// -, etc.
@@ -329,6 +394,30 @@ public class KanjiAnalyzeActivity extends ListActivity {
 			return result;
 		}
 
+		private int getMaxWordLength(final char firstChar) {
+			return KanjiUtils.isKanji(firstChar) ? MAX_KANJI_WORD_LENGTH : MAX_KANA_WORD_LENGTH;
+		}
+
+		/**
+		 * Returns all substrings of given word which may be found by
+		 * {@link #findLongestWord(String, Map)}.
+		 * 
+		 * @param word
+		 *            the word to analyze.
+		 * @return the substrings, never null.
+		 */
+		private Set<String> getCandidates(final String word) {
+			final Set<String> result = new HashSet<String>();
+			for (int start = 0; start < word.length(); start++) {
+				// optimization to avoid quadratic search complexity
+				final int end = Math.min(word.length(), start + getMaxWordLength(word.charAt(start)));
+				for (int i = start + 1; i <= end; i++) {
+					result.add(word.substring(start, i));
+				}
+			}
+			return result;
+		}
+
 		/**
 		 * Tries to find longest word which is present in the EDICT dictionary.
 		 * The search starts with given word, then cuts the last character off,
@@ -336,26 +425,22 @@ public class KanjiAnalyzeActivity extends ListActivity {
 		 * 
 		 * @param word
 		 *            the word to analyze. Must not contain romaji.
+		 * @param found
+		 *            the {@link #getCandidates(String) candidates} found in
+		 *            the EDICT dictionary.
 		 * @return longest word found or an entry consisting of the first
 		 *         character if we were unable to find nothing
-		 * @throws IOException
-		 *             on i/o error
 		 */
-		private MatchedWord findLongestWord(final String word, final LuceneSearch edict) throws IOException {
+		private MatchedWord findLongestWord(final String word, final Map<String, List<DictEntry>> found) {
 			String w = word;
-			final int maxLength = KanjiUtils.isKanji(word.charAt(0)) ? MAX_KANJI_WORD_LENGTH : MAX_KANA_WORD_LENGTH;
+			final int maxLength = getMaxWordLength(word.charAt(0));
 			if (w.length() > maxLength) {
-				// optimization to avoid quadratic search complexity
 				w = w.substring(0, maxLength);
 			}
 			while (w.length() > 0) {
-				final List<DictEntry> result = edict.search(SearchQuery.searchJpEdict(w, MatcherEnum.Exact), 1);
-				DictEntry.removeInvalid(result);
-				if (!result.isEmpty()) {
-					for (final DictEntry e : result) {
-						return new MatchedWord(e, w.length());
-					}
-					// no luck, continue with the search
+				final List<DictEntry> result = found.get(w);
+				if (result != null) {
+					return new MatchedWord(result.get(0), w.length());
 				}
 				w = w.substring(0, w.length() - 1);
 			}
@@ -372,6 +457,19 @@ public class KanjiAnalyzeActivity extends ListActivity {
 				}
 				try {
 					final String w = MiscUtils.removeWhitespaces(word);
+					// look up all kanjis at once, in the KANJIDIC first
+					final Set<String> kanjis = new HashSet<String>();
+					for (int i = 0; i < w.length(); i++) {
+						if (KanjiUtils.isKanji(w.charAt(i))) {
+							kanjis.add(String.valueOf(w.charAt(i)));
+						}
+					}
+					final Map<String, List<DictEntry>> found = new HashMap<String, List<DictEntry>>();
+					if (lsKanjidic != null) {
+						found.putAll(lsKanjidic.lookupExact(kanjis, 1));
+						kanjis.removeAll(found.keySet());
+					}
+					found.putAll(lsEdict.lookupExact(kanjis, 1));
 					for (int i = 0; i < w.length(); i++) {
 						publish(new Progress(null, i, w.length()));
 						if (isCancelled()) {
@@ -382,30 +480,9 @@ public class KanjiAnalyzeActivity extends ListActivity {
 						if (!isKanji) {
 							result.add(new DictEntry(String.valueOf(c), String.valueOf(c), ""));
 						} else {
-							// it is a kanji. search for it in the
-							// dictionary.
-							final SearchQuery q = SearchQuery.searchJpEdict(String.valueOf(c), MatcherEnum.Exact);
-							List<DictEntry> matches = null;
-							DictEntry ee = null;
-							if (lsKanjidic != null) {
-								matches = lsKanjidic.search(q, 1);
-								DictEntry.removeInvalid(matches);
-							}
-							if (matches != null && !matches.isEmpty()) {
-								ee = matches.get(0);
-							}
-							if (ee == null) {
-								matches = lsEdict.search(q, 1);
-								DictEntry.removeInvalid(matches);
-								if (!matches.isEmpty()) {
-									ee = matches.get(0);
-								}
-							}
-							if (ee == null) {
-								// no luck. Just add the kanji
-								ee = new DictEntry(String.valueOf(c), "", "");
-							}
-							result.add(ee);
+							final List<DictEntry> matches = found.get(String.valueOf(c));
+							// if there is no luck, just add the kanji
+							result.add(matches != null ? matches.get(0) : new DictEntry(String.valueOf(c), "", ""));
 						}
 					}
 					return result;
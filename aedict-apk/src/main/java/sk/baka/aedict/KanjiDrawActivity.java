@@ -25,6 +25,7 @@ import java.util.Iterator;
 import java.util.List;
 
 import sk.baka.aedict.util.Constants;
+import sk.baka.aedict.util.DialogActivity;
 import sk.baka.autils.AndroidUtils;
 import sk.baka.autils.DialogUtils;
 import android.app.Activity;
@@ -33,7 +34,9 @@ import android.content.DialogInterface;
 import android.graphics.Canvas;
 import android.graphics.Paint;
 import android.graphics.Rect;
+import android.os.AsyncTask;
 import android.os.Bundle;
+import android.util.Log;
 import android.view.MotionEvent;
 import android.view.View;
 import android.view.View.OnTouchListener;
@@ -85,7 +88,7 @@ public class KanjiDrawActivity extends AbstractActivity {
 		super.onCreate(savedInstanceState);
 		state = new State();
 		setContentView(R.layout.kanjidraw);
-		final PainterView view = new PainterView(this, R.id.textStrokes);
+		final PainterView view = new PainterView(this, R.id.textStrokes, R.id.textCandidates);
 		((ViewGroup) findViewById(R.id.kanjidrawRoot)).addView(view);
 		findViewById(R.id.btnKanjiClear).setOnClickListener(AndroidUtils.safe(this, new View.OnClickListener() {
 
@@ -135,16 +138,37 @@ public class KanjiDrawActivity extends AbstractActivity {
 	 * @author Martin Vysny
 	 */
 	public static class PainterView extends View implements OnTouchListener {
+		/**
+		 * Kanjis with one stroke more or less than drawn are recognized as well.
+		 */
+		private static final int STROKE_TOLERANCE = 1;
 		private final DrawPanel recognizer;
 		private final Paint bg = new Paint();
 		private final Paint fg1 = new Paint();
 		private final Paint fg2 = new Paint();
 		private final int textViewStrokes;
+		private final int textViewCandidates;
 
 		public PainterView(Activity context, final int textViewStrokes) {
+			this(context, textViewStrokes, -1);
+		}
+
+		/**
+		 * Creates the view.
+		 * 
+		 * @param context
+		 *            the owning activity
+		 * @param textViewStrokes
+		 *            shows the stroke count
+		 * @param textViewCandidates
+		 *            shows the best matches as the user draws, -1 if the
+		 *            matches are not shown.
+		 */
+		public PainterView(Activity context, final int textViewStrokes, final int textViewCandidates) {
 			super(context);
 			recognizer = new DrawPanel(context.getClassLoader());
 			this.textViewStrokes = textViewStrokes;
+			this.textViewCandidates = textViewCandidates;
 			setFocusable(true);
 			setFocusableInTouchMode(true);
 			this.setOnTouchListener(this);
@@ -159,18 +183,20 @@ public class KanjiDrawActivity extends AbstractActivity {
 		}
 
 		public String analyzeKanji() throws IOException {
-			return recognizer.analyzeKanji();
+			return recognizer.analyzeKanji(STROKE_TOLERANCE);
 		}
 
 		public void undoLastStroke() {
 			recognizer.undoLastStroke();
 			updateStrokes();
+			updateCandidates();
 			invalidate();
 		}
 
 		public void clear() {
 			recognizer.clear();
 			updateStrokes();
+			updateCandidates();
 			invalidate();
 		}
 
@@ -211,6 +237,9 @@ public class KanjiDrawActivity extends AbstractActivity {
 			} else if (event.getAction() == MotionEvent.ACTION_MOVE) {
 				recognizer.curxvec.add(x);
 				recognizer.curyvec.add(y);
+			} else if (event.getAction() == MotionEvent.ACTION_UP) {
+				// recognized in background, only the newly drawn stroke is scored
+				updateCandidates();
 			}
 			invalidate();
 			return true;
@@ -220,6 +249,62 @@ public class KanjiDrawActivity extends AbstractActivity {
 			((TextView) ((Activity) getContext()).findViewById(textViewStrokes)).setText(AedictApp.format(R.string.strokes, recognizer.xstrokes.size()));
 		}
 
+		/**
+		 * Shows the best matches for the strokes drawn so far.
+		 */
+		private void updateCandidates() {
+			if (textViewCandidates == -1 || recognitionFailed) {
+				return;
+			}
+			if (candidatesTask != null) {
+				// the result is obsolete
+				candidatesTask.cancel(false);
+			}
+			candidatesTask = new CandidatesTask();
+			candidatesTask.execute(recognizer.getStrokes());
+		}
+
+		/**
+		 * Recognizes the strokes in background, null if no recognition is
+		 * running.
+		 */
+		private CandidatesTask candidatesTask = null;
+		/**
+		 * True if the recognition failed, e.g. the stroke database failed to
+		 * load. The candidates are not shown anymore.
+		 */
+		private boolean recognitionFailed = false;
+
+		/**
+		 * Recognizes the strokes and shows the best matches.
+		 */
+		private class CandidatesTask extends AsyncTask<DrawPanel.Strokes, Void, String> {
+			private IOException failure = null;
+
+			@Override
+			protected String doInBackground(DrawPanel.Strokes... params) {
+				try {
+					return recognizer.analyzeKanji(params[0], STROKE_TOLERANCE);
+				} catch (IOException ex) {
+					failure = ex;
+					return null;
+				}
+			}
+
+			@Override
+			protected void onPostExecute(String result) {
+				candidatesTask = null;
+				final Activity activity = (Activity) getContext();
+				if (failure != null) {
+					Log.e(KanjiDrawActivity.class.getSimpleName(), "Failed to recognize the kanji", failure);
+					recognitionFailed = true;
+					new DialogActivity.Builder(activity).showErrorDialog(AedictApp.format(R.string.searchFailed, failure.toString()));
+					return;
+				}
+				((TextView) activity.findViewById(textViewCandidates)).setText(result);
+			}
+		}
+
 		private void drawVec(Canvas g, Iterator<Integer> xe2, Iterator<Integer> ye2, final Paint p) {
 			int lastx, lasty;
 			lastx = -1;
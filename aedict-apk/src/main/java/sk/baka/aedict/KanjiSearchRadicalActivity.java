@@ -21,7 +21,7 @@ package sk.baka.aedict;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.Iterator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -30,7 +30,6 @@ import sk.baka.aedict.dict.DictTypeEnum;
 import sk.baka.aedict.dict.Dictionary;
 import sk.baka.aedict.dict.KanjidicEntry;
 import sk.baka.aedict.dict.LuceneSearch;
-import sk.baka.aedict.dict.SearchQuery;
 import sk.baka.aedict.kanji.Radicals;
 import sk.baka.autils.AbstractTask;
 import sk.baka.autils.AndroidUtils;
@@ -242,41 +241,40 @@ public class KanjiSearchRadicalActivity extends AbstractActivity {
 	}
 
 	private class KanjiMatchTask extends AbstractTask<Object, List<DictEntry>> {
-		private final int REPORT_EACH_XTH_CHAR = 5;
 
 		@Override
 		public List<DictEntry> impl(Object... params) throws Exception {
 			publish(new Progress(AedictApp.getStr(R.string.searching), 0, 100));
-			int charsReportCountdown = 0;
-			int totalCharsProcessed = 0;
-			final Set<Character> matches = Radicals.getKanjisWithRadicals(((String) params[0]).toCharArray());
-			final List<DictEntry> entries = new ArrayList<DictEntry>();
-			// filter the matches based on stroke count
+			final char[] radicals = ((String) params[0]).toCharArray();
+			final Integer strokes = (Integer) params[1];
+			final int plusMinus = params[2] == null ? 0 : (Integer) params[2];
 			final LuceneSearch ls = new LuceneSearch(DictTypeEnum.Kanjidic, null, AedictApp.getConfig().isSorted());
 			try {
-				for (final Iterator<Character> kanjis = matches.iterator(); kanjis.hasNext();) {
-					final char kanji = kanjis.next();
-					final SearchQuery sq = SearchQuery.kanjiSearch(kanji, (Integer) params[1], (Integer) params[2]);
-					final List<DictEntry> result = ls.search(sq, 1);
-					DictEntry.removeInvalid(result);
-					if (!result.isEmpty()) {
-						// the kanji matched
-						final DictEntry entry = result.get(0);
-						entries.add(entry);
+				// the radicals and the stroke counts are matched in-memory,
+				// the KANJIDIC is only asked for the matched entries
+				final Set<String> matches = new HashSet<String>();
+				if (strokes == null) {
+					for (final Character kanji : Radicals.getKanjisWithRadicals(radicals)) {
+						matches.add(kanji.toString());
 					}
-					totalCharsProcessed++;
-					if (++charsReportCountdown >= REPORT_EACH_XTH_CHAR) {
-						charsReportCountdown = 0;
-						publish(new Progress(null, totalCharsProcessed, matches.size()));
-					}
-					if (isCancelled()) {
-						return null;
+				} else {
+					final String kanjis = Radicals.getKanjisWithRadicals(radicals, strokes - plusMinus, strokes + plusMinus, ls.getKanjisByStrokes());
+					for (final char kanji : kanjis.toCharArray()) {
+						matches.add(String.valueOf(kanji));
 					}
 				}
+				if (isCancelled()) {
+					return null;
+				}
+				publish(new Progress(null, 50, 100));
+				final List<DictEntry> entries = new ArrayList<DictEntry>(matches.size());
+				for (final List<DictEntry> found : ls.lookupExact(matches, 1).values()) {
+					entries.add(found.get(0));
+				}
+				return entries;
 			} finally {
 				MiscUtils.closeQuietly(ls);
 			}
-			return entries;
 		}
 
 		@Override
@@ -20,6 +20,7 @@ package sk.baka.aedict;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import sk.baka.aedict.dict.DictEntry;
@@ -29,10 +30,8 @@ import sk.baka.aedict.dict.Edict;
 import sk.baka.aedict.dict.EdictEntry;
 import sk.baka.aedict.dict.MatcherEnum;
 import sk.baka.aedict.dict.SearchQuery;
-import sk.baka.aedict.kanji.Deinflections;
 import sk.baka.aedict.kanji.Deinflections.Deinflection;
 import sk.baka.aedict.kanji.RomanizationEnum;
-import sk.baka.aedict.kanji.VerbDeinflection;
 import sk.baka.aedict.util.Check;
 import sk.baka.aedict.util.DictEntryListActions;
 import sk.baka.aedict.util.ShowRomaji;
@@ -257,9 +256,9 @@ public class MainActivity extends ListActivity {
 				final RomanizationEnum r = AedictApp.getConfig().getRomanization();
 				if (!isAdvanced) {
 					// search for jp/en
-					final Deinflections d = VerbDeinflection.searchJpDeinflected(text, r);
+					final SearchQuery jp = SearchQuery.searchJpRomaji(text, r, MatcherEnum.Exact);
 					final SearchQuery en = SearchQuery.searchEnEdict(text, true);
-					ResultActivity.launch(MainActivity.this, Arrays.asList(en, d.query), d.deinflections);
+					ResultActivity.launchInflected(MainActivity.this, text, Arrays.asList(en, jp));
 				} else if (deinflect.isChecked() || translate.isChecked()) {
 					search(true);
 				} else if (tanaka.isChecked()) {
@@ -289,8 +288,9 @@ public class MainActivity extends ListActivity {
 		final boolean isDeinflect = ((CheckBox) findViewById(R.id.jpDeinflectVerbs)).isChecked();
 		final RomanizationEnum r = AedictApp.getConfig().getRomanization();
 		if (isAdvanced && isDeinflect && isJapanese) {
-			final Deinflections q = VerbDeinflection.searchJpDeinflected(text, r);
-			performSearch(q.query, q.deinflections);
+			if (AedictApp.getDownloader().checkDictionary(this, new Dictionary(DictTypeEnum.Edict, null), null, false)) {
+				ResultActivity.launchInflected(this, text, Collections.singletonList(SearchQuery.searchJpRomaji(text, r, MatcherEnum.Exact)));
+			}
 			return;
 		}
 		final boolean isTanaka = ((CheckBox) findViewById(R.id.searchExamples)).isChecked();
@@ -18,6 +18,7 @@
 
 package sk.baka.aedict;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -29,12 +30,18 @@ import sk.baka.aedict.dict.DictTypeEnum;
 import sk.baka.aedict.dict.Edict;
 import sk.baka.aedict.dict.EdictEntry;
 import sk.baka.aedict.dict.LuceneSearch;
+import sk.baka.aedict.dict.LuceneSearch.InflectedEntry;
 import sk.baka.aedict.dict.MatcherEnum;
+import sk.baka.aedict.dict.SearchCursor;
 import sk.baka.aedict.dict.SearchQuery;
 import sk.baka.aedict.dict.TanakaDictEntry;
+import sk.baka.aedict.kanji.FormResources;
 import sk.baka.aedict.kanji.KanjiUtils;
 import sk.baka.aedict.kanji.RomanizationEnum;
+import sk.baka.aedict.kanji.Deinflections;
 import sk.baka.aedict.kanji.Deinflections.Deinflection;
+import sk.baka.aedict.kanji.VerbDeinflection;
+import sk.baka.aedict.kanji.VerbInflection.Form;
 import sk.baka.aedict.util.Constants;
 import sk.baka.aedict.util.DictEntryListActions;
 import sk.baka.aedict.util.ShowRomaji;
@@ -46,12 +53,15 @@ import sk.baka.autils.MiscUtils;
 import android.app.ListActivity;
 import android.content.Context;
 import android.content.Intent;
+import android.os.AsyncTask;
 import android.os.Bundle;
+import android.util.Log;
 import android.view.ContextMenu;
 import android.view.Menu;
 import android.view.MenuItem;
 import android.view.View;
 import android.view.ViewGroup;
+import android.widget.AbsListView;
 import android.widget.ArrayAdapter;
 import android.widget.ListView;
 import android.widget.TextView;
@@ -75,7 +85,30 @@ public class ResultActivity extends ListActivity {
 
 	static final String INTENTKEY_SEARCH_QUERY = "QUERY";
 	static final String INTENTKEY_DEINFLECTIONS = "DEINFLECTIONS";
+	/**
+	 * A Japanese word which may be an inflected verb, see
+	 * {@link #launchInflected(Context, String, List)}.
+	 */
+	static final String INTENTKEY_INFLECTED = "inflected";
 	static final String INTENTKEY_RESULT_LIST = "resultList";
+	/**
+	 * A list of {@link SearchCursor}s pointing to results not yet shown.
+	 */
+	static final String INTENTKEY_CURSORS = "cursors";
+	/**
+	 * Number of entries loaded at once. The next page is loaded when the user
+	 * scrolls to the end of the list.
+	 */
+	private static final int PAGE_SIZE = 30;
+	/**
+	 * Cursors pointing to the results not yet loaded, in the order of the
+	 * queries. Empty if all results are shown.
+	 */
+	private List<SearchCursor> cursors = new ArrayList<SearchCursor>();
+	/**
+	 * Loads the next page, null if no loading is in progress.
+	 */
+	private NextPageTask nextPageTask = null;
 
 	/**
 	 * Use this method sparingly, it has many caveats.
@@ -96,6 +129,23 @@ public class ResultActivity extends ListActivity {
 		launch(activity, queries, deinflections);
 	}
 
+	/**
+	 * Searches for a Japanese word, which may be an inflected verb. The verbs
+	 * inflected to the word are looked up with a single term lookup (see
+	 * {@link LuceneSearch#lookupInflected(String, int)}) and shown first,
+	 * together with the matched inflection forms. If the index does not
+	 * contain the inflected forms then the word is deinflected instead.
+	 * @param activity activity reference.
+	 * @param word the word as entered by the user, in kana, kanji or romaji.
+	 * @param queries the queries to run. Exactly one of them must be the exact Japanese EDICT query for the word (see {@link SearchQuery#searchJpRomaji(String, RomanizationEnum, MatcherEnum)}): it is replaced by the deinflection query if the index does not contain the inflected forms.
+	 */
+	public static void launchInflected(final Context activity, final String word, final List<SearchQuery> queries) {
+		final Intent intent = new Intent(activity, ResultActivity.class);
+		intent.putExtra(INTENTKEY_SEARCH_QUERY, (Serializable) queries);
+		intent.putExtra(INTENTKEY_INFLECTED, word);
+		activity.startActivity(intent);
+	}
+
 	/**
 	 * The queries.
 	 */
@@ -186,8 +236,24 @@ public class ResultActivity extends ListActivity {
 			// nothing to search for
 			model = Collections.singletonList(DictEntry.newErrorMsg(getString(R.string.nothing_to_search_for)));
 		} else if (getIntent().getSerializableExtra(INTENTKEY_RESULT_LIST) != null) {
-			model = (List<DictEntry>) getIntent().getSerializableExtra(INTENTKEY_RESULT_LIST);
+			model = new ArrayList<DictEntry>((List<DictEntry>) getIntent().getSerializableExtra(INTENTKEY_RESULT_LIST));
+			final List<SearchCursor> c = (List<SearchCursor>) getIntent().getSerializableExtra(INTENTKEY_CURSORS);
+			if (c != null) {
+				cursors = new ArrayList<SearchCursor>(c);
+			}
 			updateModel(false);
+			getListView().setOnScrollListener(new AbsListView.OnScrollListener() {
+
+				public void onScrollStateChanged(AbsListView view, int scrollState) {
+					// do nothing
+				}
+
+				public void onScroll(AbsListView view, int firstVisibleItem, int visibleItemCount, int totalItemCount) {
+					if (firstVisibleItem + visibleItemCount >= totalItemCount - PAGE_SIZE / 3) {
+						loadNextPage();
+					}
+				}
+			});
 		} else {
 			model = Collections.emptyList();
 			updateModel(true);
@@ -232,6 +298,74 @@ public class ResultActivity extends ListActivity {
 		});
 	}
 
+	/**
+	 * Starts loading of the next page of results, if there are more results
+	 * and the loading is not already in progress.
+	 */
+	private void loadNextPage() {
+		if (cursors.isEmpty() || nextPageTask != null || model.isEmpty() || !model.get(0).isValid()) {
+			return;
+		}
+		nextPageTask = new NextPageTask();
+		nextPageTask.execute(new ArrayList<SearchCursor>(cursors));
+	}
+
+	/**
+	 * Retrieves results from given cursors.
+	 * @param cursors the cursors, the first cursor is replaced by a cursor pointing to the next page or removed if there are no more results.
+	 * @param result the result entries are added here, until there are at least {@link #PAGE_SIZE} entries or all results are retrieved.
+	 * @throws IOException on I/O error.
+	 */
+	private static void fetchPage(final List<SearchCursor> cursors, final List<DictEntry> result) throws IOException {
+		if (cursors.isEmpty()) {
+			return;
+		}
+		final DictTypeEnum dictType = cursors.get(0).query.dictType;
+		final LuceneSearch lucene = new LuceneSearch(dictType, dictType == DictTypeEnum.Edict ? AedictApp.getConfig().getDictionaryLoc() : null, AedictApp.getConfig().isSorted());
+		try {
+			while (result.size() < PAGE_SIZE && !cursors.isEmpty()) {
+				final LuceneSearch.Page page = lucene.search(cursors.get(0), PAGE_SIZE - result.size());
+				result.addAll(page.entries);
+				if (page.next == null) {
+					cursors.remove(0);
+				} else {
+					cursors.set(0, page.next);
+				}
+			}
+		} finally {
+			MiscUtils.closeQuietly(lucene);
+		}
+	}
+
+	/**
+	 * Loads the next page of results in background and appends it to the list.
+	 */
+	private class NextPageTask extends AsyncTask<List<SearchCursor>, Void, List<DictEntry>> {
+		private List<SearchCursor> remaining;
+
+		@Override
+		protected List<DictEntry> doInBackground(List<SearchCursor>... params) {
+			remaining = params[0];
+			final List<DictEntry> result = new ArrayList<DictEntry>();
+			try {
+				fetchPage(remaining, result);
+			} catch (Exception ex) {
+				Log.e(ResultActivity.class.getSimpleName(), "Failed to load next page", ex);
+				remaining.clear();
+				result.add(DictEntry.newErrorMsg(AedictApp.format(R.string.searchFailed, ex.toString())));
+			}
+			return result;
+		}
+
+		@Override
+		protected void onPostExecute(List<DictEntry> result) {
+			cursors = remaining;
+			nextPageTask = null;
+			model.addAll(result);
+			((ArrayAdapter<?>) getListAdapter()).notifyDataSetChanged();
+		}
+	}
+
 	/**
 	 * Forces the activity to close and return given string as a result to
 	 * Simeji.
@@ -297,6 +431,12 @@ public class ResultActivity extends ListActivity {
 	}
 
 	private class SearchTask extends AbstractTask<SearchQuery, List<DictEntry>> {
+		private final ArrayList<SearchCursor> remaining = new ArrayList<SearchCursor>();
+		/**
+		 * The inflection forms or deinflection rules of an inflected word,
+		 * null if none.
+		 */
+		private ArrayList<Deinflection> deinflections = null;
 
 		@Override
 		protected void cleanupAfterError(final Exception ex) {
@@ -312,14 +452,15 @@ public class ResultActivity extends ListActivity {
 		@Override
 		public List<DictEntry> impl(SearchQuery... params) throws Exception {
 			final List<DictEntry> result = new ArrayList<DictEntry>();
-			final LuceneSearch lucene = new LuceneSearch(params[0].dictType, params[0].dictType == DictTypeEnum.Edict ? AedictApp.getConfig().getDictionaryLoc() : null, AedictApp.getConfig().isSorted());
-			try {
-				for (final SearchQuery query : params) {
-					result.addAll(lucene.search(query));
-				}
-			} finally {
-				MiscUtils.closeQuietly(lucene);
+			final String inflected = getIntent().getStringExtra(INTENTKEY_INFLECTED);
+			if (inflected != null) {
+				searchInflected(inflected, params, result);
 			}
+			for (final SearchQuery query : params) {
+				remaining.add(new SearchCursor(query));
+			}
+			// show the first page only, following pages are loaded when the user scrolls down
+			fetchPage(remaining, result);
 			return result;
 		}
 
@@ -327,9 +468,53 @@ public class ResultActivity extends ListActivity {
 		protected void onSucceeded(List<DictEntry> result) {
 			final Intent i = (Intent) ResultActivity.this.getIntent().clone();
 			i.putExtra(INTENTKEY_RESULT_LIST, (Serializable) result);
+			i.putExtra(INTENTKEY_CURSORS, remaining);
+			if (deinflections != null) {
+				i.putExtra(INTENTKEY_DEINFLECTIONS, deinflections);
+			}
 			startActivity(i);
 			ResultActivity.this.finish();
 		}
+
+		/**
+		 * Looks up the verbs inflected to given word. If the index does not
+		 * contain the inflected forms then the Japanese query is replaced by
+		 * the deinflection query.
+		 * @param word the word as entered by the user.
+		 * @param queries the queries, the Japanese EDICT query may be replaced.
+		 * @param result the verbs are added here.
+		 * @throws IOException on I/O error.
+		 */
+		private void searchInflected(final String word, final SearchQuery[] queries, final List<DictEntry> result) throws IOException {
+			final RomanizationEnum romanization = AedictApp.getConfig().getRomanization();
+			final String kana = romanization.toHiragana(KanjiUtils.halfwidthToKatakana(word)).trim();
+			final List<InflectedEntry> entries;
+			final LuceneSearch lucene = new LuceneSearch(DictTypeEnum.Edict, AedictApp.getConfig().getDictionaryLoc(), AedictApp.getConfig().isSorted());
+			try {
+				entries = lucene.lookupInflected(kana, PAGE_SIZE);
+			} finally {
+				MiscUtils.closeQuietly(lucene);
+			}
+			deinflections = new ArrayList<Deinflection>();
+			if (entries == null) {
+				// an older index, without the inflected forms
+				final Deinflections d = VerbDeinflection.searchJpDeinflected(word, romanization);
+				for (int i = 0; i < queries.length; i++) {
+					if (queries[i].isJapanese && queries[i].dictType == DictTypeEnum.Edict) {
+						queries[i] = d.query;
+					}
+				}
+				deinflections.addAll(d.deinflections);
+				return;
+			}
+			final String inflected = RomanizationEnum.NihonShiki.toRomaji(kana);
+			for (final InflectedEntry e : entries) {
+				result.add(e.entry);
+				for (final Form form : e.forms) {
+					deinflections.add(new Deinflection(inflected, form, RomanizationEnum.NihonShiki.toRomaji(e.entry.getJapanese())));
+				}
+			}
+		}
 	}
 	
 	@SuppressWarnings("unchecked")
@@ -352,7 +537,7 @@ public class ResultActivity extends ListActivity {
 				b.append(b.newForeground(0xFFFFFFFF), lb.toString());
 				if(d.inflectedForm!=null){
 					b.append(" (");
-					b.append(getString( d.inflectedForm.explanationResId));
+					b.append(getString(FormResources.of(d.inflectedForm).explanationResId));
 					b.append(')');
 				}
 			}
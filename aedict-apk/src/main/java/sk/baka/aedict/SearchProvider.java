@@ -17,14 +17,20 @@
  */
 package sk.baka.aedict;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 import sk.baka.aedict.dict.DictEntry;
 import sk.baka.aedict.dict.DictTypeEnum;
 import sk.baka.aedict.dict.LuceneSearch;
+import sk.baka.aedict.dict.LuceneSearch.InflectedEntry;
+import sk.baka.aedict.dict.SearchCursor;
 import sk.baka.aedict.dict.SearchQuery;
+import sk.baka.aedict.kanji.KanjiUtils;
 import sk.baka.aedict.kanji.RomanizationEnum;
 import sk.baka.aedict.kanji.VerbDeinflection;
 import sk.baka.autils.MiscUtils;
@@ -50,6 +56,10 @@ public class SearchProvider extends ContentProvider {
 
 	private static final String[] COLUMN_NAMES = new String[] { "_id", SearchManager.SUGGEST_COLUMN_TEXT_1, SearchManager.SUGGEST_COLUMN_TEXT_2, SearchManager.SUGGEST_COLUMN_INTENT_EXTRA_DATA };
 	private static final int SEARCH_SUGGEST = 0;
+	/**
+	 * Maximum number of suggestions retrieved for Japanese and English query each.
+	 */
+	private static final int MAX_SUGGESTIONS = 20;
 
 	private static UriMatcher uriMatcher;
 	static {
@@ -67,8 +77,9 @@ public class SearchProvider extends ContentProvider {
 		try {
 			final LuceneSearch lucene = new LuceneSearch(DictTypeEnum.Edict, AedictApp.getConfig().getDictionaryLoc(), AedictApp.getConfig().isSorted());
 			try {
-				entries.addAll(lucene.search(VerbDeinflection.searchJpDeinflected(query, AedictApp.getConfig().getRomanization()).query));
-				entries.addAll(lucene.search(SearchQuery.searchEnEdict(query, true)));
+				// the suggestions list shows only a couple of entries, retrieve just the first page
+				entries.addAll(searchJp(lucene, query));
+				entries.addAll(lucene.search(new SearchCursor(SearchQuery.searchEnEdict(query, true)), MAX_SUGGESTIONS).entries);
 			} finally {
 				MiscUtils.closeQuietly(lucene);
 			}
@@ -82,6 +93,37 @@ public class SearchProvider extends ContentProvider {
 		return entries;
 	}
 	
+	/**
+	 * Searches for a Japanese word, which may be an inflected verb. Newer
+	 * indices contain the inflected verbs: the word is then looked up exactly
+	 * and as an inflected verb, without deinflecting it.
+	 * 
+	 * @param lucene
+	 *            the EDICT search.
+	 * @param query
+	 *            the word, in kana, kanji or romaji.
+	 * @return the entries.
+	 * @throws IOException
+	 *             on I/O error.
+	 */
+	private static List<DictEntry> searchJp(final LuceneSearch lucene, final String query) throws IOException {
+		final RomanizationEnum romanization = AedictApp.getConfig().getRomanization();
+		final String word = romanization.toHiragana(KanjiUtils.halfwidthToKatakana(query)).trim();
+		final List<InflectedEntry> inflected = lucene.lookupInflected(word, MAX_SUGGESTIONS);
+		if (inflected == null) {
+			return lucene.search(new SearchCursor(VerbDeinflection.searchJpDeinflected(query, romanization).query), MAX_SUGGESTIONS).entries;
+		}
+		final Set<DictEntry> result = new LinkedHashSet<DictEntry>();
+		for (final InflectedEntry e : inflected) {
+			result.add(e.entry);
+		}
+		final List<DictEntry> exact = lucene.lookupExact(Collections.singleton(word), MAX_SUGGESTIONS).get(word);
+		if (exact != null) {
+			result.addAll(exact);
+		}
+		return new ArrayList<DictEntry>(result);
+	}
+
 	@Override
 	public Cursor query(Uri uri, String[] projection, String selection, String[] selectionArgs, String sortOrder) {
 		final RomanizationEnum romanize = AedictApp.getConfig().isUseRomaji() ? AedictApp.getConfig().getRomanization() : null;
@@ -19,16 +19,14 @@ package sk.baka.aedict;
 
 import java.io.Serializable;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import sk.baka.aedict.dict.DictEntry;
 import sk.baka.aedict.dict.DictTypeEnum;
 import sk.baka.aedict.dict.Dictionary;
 import sk.baka.aedict.dict.EdictEntry;
 import sk.baka.aedict.dict.LuceneSearch;
-import sk.baka.aedict.dict.MatcherEnum;
-import sk.baka.aedict.dict.SearchQuery;
 import sk.baka.aedict.dict.TanakaDictEntry;
 import sk.baka.aedict.util.DictEntryListActions;
 import sk.baka.aedict.util.ShowRomaji;
@@ -194,25 +192,25 @@ public class TanakaAnalyzeActivity extends ListActivity {
 			final LuceneSearch lsEdict = new LuceneSearch(DictTypeEnum.Edict, AedictApp.getConfig().getDictionaryLoc(), true);
 			try {
 				final TanakaDictEntry e = params[0];
+				// look up all words at once
+				final Map<String, List<DictEntry>> found = lsEdict.lookupExact(e.wordList, 10);
 				for (int i = 0; i < e.wordList.size(); i++) {
 					publish(new Progress(null, i, e.wordList.size()));
 					if (isCancelled()) {
 						return null;
 					}
 					final String kanji = e.wordList.get(i);
-					final SearchQuery q = SearchQuery.searchJpEdict(kanji, MatcherEnum.Exact);
-					final List<DictEntry> matches = lsEdict.search(q, 10);
-					for (Iterator<DictEntry> it = matches.iterator(); it.hasNext();) {
-						final DictEntry ee = it.next();
-						if (!ee.getJapanese().equals(kanji)) {
-							it.remove();
+					DictEntry ee = null;
+					final List<DictEntry> matches = found.get(kanji);
+					if (matches != null) {
+						for (final DictEntry match : matches) {
+							if (match.getJapanese().equals(kanji)) {
+								ee = match;
+								break;
+							}
 						}
 					}
-					DictEntry.removeInvalid(matches);
-					final DictEntry ee;
-					if (!matches.isEmpty()) {
-						ee = matches.get(0);
-					} else {
+					if (ee == null) {
 						// no luck. Just add the kanji
 						ee = new DictEntry(kanji, "", "");
 					}
@@ -24,6 +24,7 @@ import java.util.List;
 import java.util.Map;
 
 import sk.baka.aedict.dict.EdictEntry;
+import sk.baka.aedict.kanji.FormResources;
 import sk.baka.aedict.kanji.RomanizationEnum;
 import sk.baka.aedict.kanji.VerbInflection;
 import sk.baka.aedict.kanji.VerbInflection.Form;
@@ -118,10 +119,10 @@ public class VerbInflectionActivity extends ExpandableListActivity {
 			// okay, add it to the list
 			Map<String, String> data = new HashMap<String, String>(2);
 			data.put(KEY_JP, convertInflectionProduct(form.inflect(RomanizationEnum.NihonShiki.toRomaji(entry.reading), isIchidan)));
-			data.put(KEY_EN, getString(form.explanationResId));
+			data.put(KEY_EN, getString(FormResources.of(form).explanationResId));
 			groupData.add(data);
 			// add example sentences as a sublist
-			final String[][] examples = form.getExamples(this, romanization);
+			final String[][] examples = FormResources.of(form).getExamples(this, romanization);
 			final List<Map<String, String>> childDataItem = new ArrayList<Map<String, String>>();
 			for (final String[] pair : examples) {
 				data = new HashMap<String, String>(2);
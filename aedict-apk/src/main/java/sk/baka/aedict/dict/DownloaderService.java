@@ -20,7 +20,10 @@ package sk.baka.aedict.dict;
 
 import java.io.BufferedInputStream;
 import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -28,16 +31,14 @@ import java.io.InterruptedIOException;
 import java.io.OutputStream;
 import java.io.Serializable;
 import java.net.URL;
-import java.net.URLConnection;
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
-import java.util.zip.GZIPInputStream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
@@ -46,6 +47,10 @@ import sk.baka.aedict.DownloadActivity;
 import sk.baka.aedict.R;
 import sk.baka.aedict.util.DialogActivity;
 import sk.baka.aedict.util.IOExceptionWithCause;
+import sk.baka.aedict.util.IndexPatch;
+import sk.baka.aedict.util.PriorityExecutor;
+import sk.baka.aedict.util.ResumableDownload;
+import sk.baka.aedict.util.SodFile;
 import sk.baka.aedict.util.SodLoader;
 import sk.baka.autils.MiscUtils;
 import android.app.Activity;
@@ -54,17 +59,37 @@ import android.os.StatFs;
 import android.util.Log;
 
 /**
- * Downloads an EDICT/KANJIDIC dictionary.
+ * Downloads an EDICT/KANJIDIC dictionary. Up to
+ * {@link #MAX_CONCURRENT_DOWNLOADS} downloads run at once; the queued
+ * downloads are started in the order of their priority.
  * 
  * @author Martin Vysny
  */
 public class DownloaderService implements Closeable {
-	private final ExecutorService downloader = Executors.newSingleThreadExecutor();
+	/**
+	 * The maximum number of concurrently running downloads.
+	 */
+	public static final int MAX_CONCURRENT_DOWNLOADS = 2;
+	/**
+	 * The priority of optional downloads, e.g. the SOD images.
+	 */
+	public static final int PRIORITY_LOW = 0;
+	/**
+	 * The priority of downloads requested in bulk.
+	 */
+	public static final int PRIORITY_NORMAL = 1;
+	/**
+	 * The priority of a dictionary the user is waiting for.
+	 */
+	public static final int PRIORITY_HIGH = 2;
+	/**
+	 * Downloads are keyed by their target directory.
+	 */
+	private final PriorityExecutor downloader = new PriorityExecutor(MAX_CONCURRENT_DOWNLOADS);
 
 	public void close() throws IOException {
-		downloader.shutdownNow();
 		try {
-			downloader.awaitTermination(5, TimeUnit.SECONDS);
+			downloader.shutdown(5, TimeUnit.SECONDS);
 		} catch (InterruptedException e) {
 			throw new IOExceptionWithCause("Interrupted while waiting for thread termination", e);
 		}
@@ -103,13 +128,12 @@ public class DownloaderService implements Closeable {
 	}
 
 	/**
-	 * Returns current download state or null if no download is currently
-	 * active.
+	 * Returns states of all running downloads and of downloads which failed.
 	 * 
-	 * @return a state of a download or null.
+	 * @return a list of states, empty if no download is currently active.
 	 */
-	public State getState() {
-		return state;
+	public List<State> getStates() {
+		return new ArrayList<State>(states.values());
 	}
 
 	/**
@@ -149,12 +173,8 @@ public class DownloaderService implements Closeable {
 		}
 		public void onPositiveClick(DialogActivity activity) {
 			for(final Dictionary dict: dictionariesToUpdate) {
-				try {
-					dict.delete();
-				} catch (IOException e) {
-					throw new RuntimeException(e);
-				}
-				AedictApp.getDownloader().download(new DictDownloader(dict, dict.getDownloadSite(), dict.getDictionaryLocation().getAbsolutePath(), dict.getName(), dict.dte.luceneFileSize()));
+				// the installed dictionary is patched if possible, see DictDownloader
+				AedictApp.getDownloader().download(new DictDownloader(dict, dict.getDownloadSite(), dict.getDictionaryLocation().getAbsolutePath(), dict.getName(), dict.dte.luceneFileSize(), true), PRIORITY_NORMAL);
 			}
 			activity.startActivity(new Intent(activity, DownloadActivity.class));
 		}
@@ -218,34 +238,51 @@ public class DownloaderService implements Closeable {
 		return checkDictionaryFile(a, new SodDownloader(), false);
 	}
 
+	/**
+	 * Queues a download the user is waiting for.
+	 * @param download the download
+	 */
 	void download(final AbstractDownloader download) {
+		download(download, PRIORITY_HIGH);
+	}
+
+	/**
+	 * Queues a download. If the same download is already queued with a lower
+	 * priority then it is moved up in the queue. If the same download was
+	 * cancelled but is still terminating then the download starts right after
+	 * it terminates.
+	 * @param download the download
+	 * @param priority the priority, one of the <code>PRIORITY_*</code> constants.
+	 */
+	void download(final AbstractDownloader download, final int priority) {
 		if (!new File(download.targetDir).isAbsolute()) {
 			throw new IllegalArgumentException("Not absolute: " + download.targetDir);
 		}
-		queueDictNames.put(download.dictName, new Object());
-		currentDownload = downloader.submit(download);
+		if (downloader.submit(download.targetDir, priority, download)) {
+			// forget the previous error
+			states.remove(download.targetDir);
+		}
 	}
 
-	private volatile Future<?> currentDownload = null;
-
 	/**
 	 * Downloads a dictionary, no questions asked. If the dictionary is already
 	 * downloaded it will not be overwritten.
 	 * @param dict which dictionary to download.
 	 */
 	public void downloadDict(final Dictionary dict) {
-		download(new DictDownloader(dict, dict.getDownloadSite(), dict.dte.getDefaultDictionaryPath(), dict.getName(), dict.dte.luceneFileSize()));
+		download(new DictDownloader(dict, dict.getDownloadSite(), dict.dte.getDefaultDictionaryPath(), dict.getName(), dict.dte.luceneFileSize()), PRIORITY_NORMAL);
 	}
 	/**
 	 * Downloads the <a href="http://www.kanjicafe.com/using_soder.htm#download">SOD</a> Kanji Draw Order images.
 	 */
 	public void downloadSod() {
-		download(new SodDownloader());
+		download(new SodDownloader(), PRIORITY_LOW);
 	}
 
-	private volatile boolean isDownloading = false;
-	private volatile State state = null;
-	private final ConcurrentMap<String, Object> queueDictNames = new ConcurrentHashMap<String, Object>();
+	/**
+	 * Maps the target directory to the state of the download.
+	 */
+	private final ConcurrentMap<String, State> states = new ConcurrentHashMap<String, State>();
 
 	/**
 	 * If true then there is a download active.
@@ -253,11 +290,20 @@ public class DownloaderService implements Closeable {
 	 * @return true if the service is downloading a dictionary, false otherwise.
 	 */
 	public boolean isDownloading() {
-		return isDownloading;
+		return downloader.isRunning();
 	}
 
-	public Set<String> getDownloadQueue() {
-		return new HashSet<String>(queueDictNames.keySet());
+	/**
+	 * Returns the queued dictionaries.
+	 * @return maps the target directory (which may be passed to {@link #cancel(String)}) to the dictionary name, in the order in which the dictionaries will be downloaded.
+	 */
+	public Map<String, String> getDownloadQueue() {
+		final Map<String, String> result = new LinkedHashMap<String, String>();
+		for (final Runnable download : downloader.getQueued()) {
+			final AbstractDownloader d = (AbstractDownloader) download;
+			result.put(d.targetDir, d.dictName);
+		}
+		return result;
 	}
 
 	abstract static class AbstractDownloader implements Runnable, Serializable {
@@ -278,61 +324,123 @@ public class DownloaderService implements Closeable {
 			return AedictApp.getDownloader();
 		}
 		
+		/**
+		 * If true then an already downloaded file is updated. If false then
+		 * nothing is done when the file is already downloaded.
+		 * @return false by default.
+		 */
+		protected boolean isUpdate() {
+			return false;
+		}
+
 		public void run() {
-			s().queueDictNames.remove(dictName);
-			s().state = null;
-			if (s().isComplete(targetDir)) {
+			s().states.remove(targetDir);
+			if (!isUpdate() && s().isComplete(targetDir)) {
 				return;
 			}
 			try {
-				s().isDownloading = true;
 				try {
 					download();
 				} finally {
-					s().state = null;
-					s().isDownloading = false;
+					s().states.remove(targetDir);
 				}
 			} catch (Throwable t) {
+				if (t instanceof InterruptedIOException || Thread.currentThread().isInterrupted()) {
+					// cancelled by the user, not an error. The partial file is kept, the next download resumes it
+					Log.i(DownloaderService.class.getSimpleName(), "Download of " + targetDir + " was cancelled");
+					return;
+				}
 				Log.e(DownloaderService.class.getSimpleName(), "Error downloading a dictionary", t);
-				s().state = new State(t.getClass().getName() + ": " + t.getMessage(), null, 0, 1, true);
-				deleteDirQuietly(new File(targetDir));
+				setState(new State(t.getClass().getName() + ": " + t.getMessage(), targetDir, 0, 1, true));
+				// the partial file is kept, the next download resumes it
 			}
 		}
 
-		private void deleteDirQuietly(final File dir) {
+		/**
+		 * Publishes the state of this download.
+		 * @param state the new state, not null.
+		 */
+		protected final void setState(final State state) {
+			s().states.put(targetDir, state);
+		}
+
+		protected final void deleteDirQuietly(final File dir) {
 			try {
+				SearcherPool.invalidate(dir);
 				MiscUtils.deleteDir(dir);
 			} catch (IOException e) {
 				Log.e(DownloaderService.class.getSimpleName(), "Failed to delete the directory", e);
 			}
 		}
 
-		private void download() throws Exception {
-			final URLConnection conn = source.openConnection();
-			// this is the unpacked edict file size.
+		/**
+		 * Returns the file where the {@link #source} is downloaded to. The
+		 * file survives a failed download, the next download resumes it. The
+		 * file is hidden so that it is not mistaken for a dictionary.
+		 * @return the partial file, by default a hidden file next to the
+		 *         target directory.
+		 */
+		protected File getPartialFile() {
 			final File dir = new File(targetDir);
-			if (!dir.exists() && !dir.mkdirs()) {
-				throw new IOException("Failed to create directory '" + targetDir + "'. Please make sure that the sdcard is inserted in the phone, mounted and is not write-protected.");
+			return new File(dir.getParentFile(), "." + dir.getName() + ".download");
+		}
+
+		/**
+		 * Downloads the {@link #source} and invokes {@link #install(File)}.
+		 * An interrupted download is resumed, and the downloaded file is
+		 * verified against the published checksum, see
+		 * {@link ResumableDownload}.
+		 * @throws Exception on any error.
+		 */
+		protected void download() throws Exception {
+			final File partial = getPartialFile();
+			final File parent = partial.getParentFile();
+			if (!parent.exists() && !parent.mkdirs()) {
+				throw new IOException("Failed to create directory '" + parent + "'. Please make sure that the sdcard is inserted in the phone, mounted and is not write-protected.");
 			}
-			final InputStream in = new BufferedInputStream(conn.getInputStream());
+			setState(new State(AedictApp.format(R.string.downloading_dictionary, dictName), targetDir, 0, 100, false));
+			final ResumableDownload download = new ResumableDownload(source, partial);
+			final File file = download.download(new ResumableDownload.Copier() {
+
+				public long copy(long downloadedUntilNow, long length, InputStream in, OutputStream out) throws IOException {
+					return AbstractDownloader.this.copy(downloadedUntilNow, length, new BufferedInputStream(in), out);
+				}
+			});
 			try {
-				s().state = new State(AedictApp.format(R.string.downloading_dictionary, dictName), targetDir, 0, 100, false);
-				copy(in);
+				install(file);
 			} finally {
-				MiscUtils.closeQuietly(in);
+				download.delete();
 			}
 		}
 
 		/**
-		 * Copies all bytes from given input stream to given file, overwriting
-		 * the file. Progress is updated periodically.
+		 * Installs the downloaded file. The file is deleted afterwards.
 		 * 
-		 * @param in
-		 *            the source stream, already buffered.
+		 * @param file
+		 *            the downloaded file, verified.
 		 * @throws IOException
 		 *             on i/o error
 		 */
-		protected abstract void copy(final InputStream in) throws IOException;
+		protected abstract void install(final File file) throws IOException;
+
+		/**
+		 * Returns the size of the downloaded file, used as the progress total
+		 * when the server does not report the length.
+		 * 
+		 * @param downloadedUntilNow
+		 *            how many bytes were downloaded until now, i.e. the length
+		 *            of the {@link #getPartialFile() partial file}.
+		 * @param in
+		 *            the rest of the file, supports mark/reset. The stream
+		 *            must be reset to its current position when the method
+		 *            returns.
+		 * @return the size in bytes, by default {@link #expectedSize}.
+		 * @throws IOException
+		 *             on I/O problem
+		 */
+		protected long getSize(final long downloadedUntilNow, final InputStream in) throws IOException {
+			return expectedSize;
+		}
 
 		/**
 		 * Copies streams. Provides automatic notification of the progress.
@@ -353,11 +461,11 @@ public class DownloaderService implements Closeable {
 		protected final long copy(final long downloadedUntilNow, long expectedSize, final InputStream in, final OutputStream out) throws IOException {
 			long size = expectedSize;
 			if (size < 0) {
-				size = this.expectedSize;
+				size = getSize(downloadedUntilNow, in);
 			}
 			final int max = (int) (size / 1024L);
 			long downloaded = downloadedUntilNow;
-			s().state = new State(AedictApp.format(R.string.downloading_dictionary, dictName), targetDir, (int) (downloaded / 1024L), max, false);
+			setState(new State(AedictApp.format(R.string.downloading_dictionary, dictName), targetDir, (int) (downloaded / 1024L), max, false));
 			int reportCountdown = REPORT_EACH_XTH_BYTE;
 			final byte[] buf = new byte[BUFFER_SIZE];
 			int bufLen;
@@ -370,7 +478,7 @@ public class DownloaderService implements Closeable {
 				reportCountdown -= bufLen;
 				if (reportCountdown <= 0) {
 					final int progress = (int) (downloaded / 1024L);
-					s().state = new State(AedictApp.format(R.string.downloading_dictionary, dictName), targetDir, progress, max, false);
+					setState(new State(AedictApp.format(R.string.downloading_dictionary, dictName), targetDir, progress, max, false));
 					reportCountdown = REPORT_EACH_XTH_BYTE;
 				}
 			}
@@ -381,9 +489,16 @@ public class DownloaderService implements Closeable {
 		private static final int REPORT_EACH_XTH_BYTE = BUFFER_SIZE * 8;
 	}
 
+	/**
+	 * Downloads a zipped Lucene index. When updating an already downloaded
+	 * dictionary, the chain of {@link IndexPatch patches} is applied first;
+	 * the full index is downloaded only when there is no patch for the
+	 * installed index or when the patching fails.
+	 */
 	static class DictDownloader extends AbstractDownloader {
 		private static final long serialVersionUID = 1L;
 		private final Dictionary dictionary;
+		private final boolean update;
 		/**
 		 * Creates new dictionary downloader.
 		 * 
@@ -398,29 +513,124 @@ public class DownloaderService implements Closeable {
 		 *            the expected file size of unpacked dictionary.
 		 */
 		public DictDownloader(Dictionary dictionary, URL source, String targetDir, String dictName, long expectedSize) {
+			this(dictionary, source, targetDir, dictName, expectedSize, false);
+		}
+
+		/**
+		 * Creates new dictionary downloader.
+		 * 
+		 * @param source
+		 *            download the dictionary files from here. A zipped Lucene
+		 *            index file is expected.
+		 * @param targetDir
+		 *            unzip the files here
+		 * @param dictName
+		 *            the dictionary name.
+		 * @param expectedSize
+		 *            the expected file size of unpacked dictionary.
+		 * @param update
+		 *            if true then an already downloaded dictionary is
+		 *            updated.
+		 */
+		public DictDownloader(Dictionary dictionary, URL source, String targetDir, String dictName, long expectedSize, boolean update) {
 			super(source, targetDir, dictName, expectedSize);
 			this.dictionary = dictionary;
+			this.update = update;
 		}
 
 		@Override
-		protected void copy(final InputStream in) throws IOException {
-			final ZipInputStream zip = new ZipInputStream(in);
-			long downloaded = 0;
-			for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
-				final OutputStream out = new FileOutputStream(targetDir + "/" + entry.getName());
+		protected boolean isUpdate() {
+			return update;
+		}
+
+		@Override
+		protected void download() throws Exception {
+			final File dir = new File(targetDir);
+			if (update && dir.isDirectory() && dir.list().length > 0) {
 				try {
-					downloaded = copy(downloaded, entry.getSize(), zip, out);
-				} finally {
-					MiscUtils.closeQuietly(out);
+					if (patch(dir)) {
+						return;
+					}
+				} catch (IOException ex) {
+					Log.w(DownloaderService.class.getSimpleName(), "Failed to patch " + targetDir + ", downloading the whole dictionary", ex);
 				}
-				zip.closeEntry();
 			}
-			// update the version
+			super.download();
+		}
+
+		/**
+		 * Applies the chain of patches to the index.
+		 * @param dir the index directory
+		 * @return true if at least one patch was applied, false if there is no patch for the index.
+		 * @throws IOException on i/o error or if a patch cannot be applied.
+		 */
+		private boolean patch(final File dir) throws IOException {
+			// mark the dictionary as being downloaded, the index files are going to be modified
+			setState(new State(AedictApp.format(R.string.downloading_dictionary, dictName), targetDir, 0, 100, false));
+			SearcherPool.invalidate(dir);
+			try {
+				final int applied = IndexPatch.update(dir, source, new IndexPatch.Copier() {
+
+					public void copy(InputStream in, long length, OutputStream out) throws IOException {
+						DictDownloader.this.copy(0, length, new BufferedInputStream(in), out);
+					}
+				});
+				Log.i(DownloaderService.class.getSimpleName(), "Applied " + applied + " patches to " + targetDir);
+				if (applied == 0) {
+					return false;
+				}
+			} finally {
+				SearcherPool.invalidate(dir);
+			}
+			updateVersion();
+			return true;
+		}
+
+		private void updateVersion() throws IOException {
 			final String version = dictionary.downloadVersion();
 			final DictionaryVersions versions = AedictApp.getConfig().getCurrentDictVersions();
 			versions.versions.put(dictionary, version);
 			AedictApp.getConfig().setCurrentDictVersions(versions);
 		}
+
+		/**
+		 * Unzips the index to a hidden temporary directory, then replaces the
+		 * installed index with it. The installed index stays usable until the
+		 * new one is completely unpacked.
+		 */
+		@Override
+		protected void install(final File file) throws IOException {
+			final File dir = new File(targetDir);
+			final File tmp = new File(dir.getParentFile(), "." + dir.getName() + ".tmp");
+			deleteDirQuietly(tmp);
+			if (!tmp.mkdirs()) {
+				throw new IOException("Failed to create directory '" + tmp + "'. Please make sure that the sdcard is inserted in the phone, mounted and is not write-protected.");
+			}
+			final ZipInputStream zip = new ZipInputStream(new BufferedInputStream(new FileInputStream(file)));
+			try {
+				long downloaded = 0;
+				for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+					final OutputStream out = new FileOutputStream(new File(tmp, entry.getName()));
+					try {
+						downloaded = copy(downloaded, entry.getSize(), zip, out);
+					} finally {
+						MiscUtils.closeQuietly(out);
+					}
+					zip.closeEntry();
+				}
+			} finally {
+				MiscUtils.closeQuietly(zip);
+			}
+			// the index files are going to be replaced, close the shared index
+			SearcherPool.invalidate(dir);
+			deleteDirQuietly(dir);
+			if (!tmp.renameTo(dir)) {
+				throw new IOException("Failed to move " + tmp + " to " + dir);
+			}
+			// make sure that the new index files are picked up by the next search
+			SearcherPool.invalidate(dir);
+			updateVersion();
+		}
 	}
 
 	static class SodDownloader extends AbstractDownloader {
@@ -433,15 +643,43 @@ public class DownloaderService implements Closeable {
 			super(SodLoader.DOWNLOAD_URL, SodLoader.SDCARD_LOCATION.getParent(), SodLoader.SDCARD_LOCATION.getName(), SodLoader.UNPACKED_SIZE);
 		}
 
+		/**
+		 * Computes the size from the number of kanjis in the container header:
+		 * {@link SodLoader#UNPACKED_SIZE} assumes the largest possible number
+		 * of kanjis and would stop the progress bar way too early.
+		 */
 		@Override
-		protected void copy(InputStream in) throws IOException {
-			// we have to ungzip the input stream
-			final InputStream gzipped = new GZIPInputStream(in);
-			final OutputStream out = new FileOutputStream(SodLoader.SDCARD_LOCATION);
+		protected long getSize(final long downloadedUntilNow, final InputStream in) throws IOException {
+			final byte[] header = new byte[SodFile.HEADER_SIZE];
 			try {
-				copy(0L, -1, gzipped, out);
-			} finally {
-				MiscUtils.closeQuietly(out);
+				if (downloadedUntilNow == 0) {
+					in.mark(header.length);
+					try {
+						new DataInputStream(in).readFully(header);
+					} finally {
+						in.reset();
+					}
+				} else {
+					final DataInputStream partial = new DataInputStream(new FileInputStream(getPartialFile()));
+					try {
+						partial.readFully(header);
+					} finally {
+						MiscUtils.closeQuietly(partial);
+					}
+				}
+				return SodLoader.getSize(SodFile.getKanjiCount(header));
+			} catch (EOFException ex) {
+				// the header has not been downloaded yet
+				return super.getSize(downloadedUntilNow, in);
+			}
+		}
+
+		@Override
+		protected void install(File file) throws IOException {
+			// the file is a random-access container, it is used as it is
+			SodLoader.SDCARD_LOCATION.delete();
+			if (!file.renameTo(SodLoader.SDCARD_LOCATION)) {
+				throw new IOException("Failed to move " + file + " to " + SodLoader.SDCARD_LOCATION);
 			}
 		}
 	}
@@ -474,22 +712,52 @@ public class DownloaderService implements Closeable {
 			f.delete();
 			return false;
 		}
-		if (f.listFiles().length == 0) {
+		if (!hasVisibleFiles(f)) {
 			return false;
 		}
-		final State s = getState();
-		if (s != null && indexDir.equals(s.downloadPath) && !s.isError) {
+		final State s = states.get(indexDir);
+		if (s != null && !s.isError) {
 			// the dictionary is currently being downloaded.
 			return false;
 		}
 		return true;
 	}
 
-	public void cancelCurrentDownload() {
-		final Future<?> c = currentDownload;
-		if (c == null || c.isDone()) {
-			return;
+	/**
+	 * Checks if given directory contains a file which is not hidden. Hidden
+	 * files (e.g. a leftover partial download) do not make a dictionary.
+	 * 
+	 * @param dir
+	 *            the directory, not null.
+	 * @return true if there is at least one non-hidden file in the directory.
+	 */
+	static boolean hasVisibleFiles(final File dir) {
+		for (final File file : dir.listFiles()) {
+			if (!file.getName().startsWith(".")) {
+				return true;
+			}
 		}
-		c.cancel(true);
+		return false;
+	}
+
+	/**
+	 * Cancels a download. A queued download is removed from the queue, a
+	 * running download is interrupted.
+	 * 
+	 * @param targetDir
+	 *            the target directory of the download.
+	 * @return true if the download was cancelled, false if there is no such
+	 *         download.
+	 */
+	public boolean cancel(final String targetDir) {
+		states.remove(targetDir);
+		return downloader.cancel(targetDir);
+	}
+
+	/**
+	 * Cancels all queued and running downloads.
+	 */
+	public void cancelAll() {
+		downloader.cancelAll();
 	}
 }
@@ -27,6 +27,7 @@ import java.util.Random;
 import sk.baka.aedict.AedictApp;
 import sk.baka.aedict.R;
 import sk.baka.aedict.dict.EdictEntry;
+import sk.baka.aedict.kanji.FormResources;
 import sk.baka.aedict.kanji.RomanizationEnum;
 import sk.baka.aedict.kanji.VerbInflection;
 import sk.baka.autils.DialogUtils;
@@ -76,7 +77,7 @@ public class InflectionQuizActivity extends Activity {
 				continue;
 			}
 			final String inflected = RomanizationEnum.NihonShiki.toHiragana(form.inflect(RomanizationEnum.NihonShiki.toRomaji(entry.reading), isIchidan));
-			final String explanation = getString(form.explanationResId);
+			final String explanation = getString(FormResources.of(form).explanationResId);
 			model.add(new String[] { inflected, explanation });
 		}
 		Collections.shuffle(model);
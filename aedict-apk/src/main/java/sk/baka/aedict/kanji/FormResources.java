@@ -0,0 +1,190 @@
+/**
+ *     Aedict - an EDICT browser for Android
+Copyright (C) 2009 Martin Vysny
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package sk.baka.aedict.kanji;
+
+import java.util.StringTokenizer;
+
+import sk.baka.aedict.R;
+import sk.baka.aedict.kanji.VerbInflection.Form;
+import android.content.Context;
+
+/**
+ * The explanation and example sentences of a verb inflection {@link Form},
+ * one constant for each form.
+ * 
+ * @author Martin Vysny
+ */
+public enum FormResources {
+	PLAIN(R.string.iDoSomething, R.string.plainFormExamples),
+	POLITE(R.string.iDoSomethingPolitely, R.string.politeFormExamples),
+	POLITE_NEGATIVE(R.string.iDoNotDoSomethingPolitely, R.string.politeNegativeFormExamples),
+	POLITE_PAST(R.string.iDidSomethingPolitely, R.string.politePastFormExamples),
+	POLITE_PAST_NEGATIVE(R.string.iDidNotDoSomethingPolitely, R.string.politePastNegativeFormExamples),
+	WANT(R.string.iWantToDoSomething, R.string.wantFormExamples),
+	LET_S(R.string.letsDoSomethingPolitely, R.string.letsFormExamples),
+	SIMPLE_COMMAND(R.string.doSomething, R.string.simpleCommandExamples),
+	GOING(R.string.imGoingToDoSomething, R.string.goingFormExamples),
+	ARRIVE(R.string.imGoingToArrive, R.string.arriveFormExamples),
+	HARD_TO_DO(R.string.itIsHardToDoSomething, R.string.hardToDoFormExamples),
+	EASY_TO_DO(R.string.itIsEasyToDoSomething, R.string.easyToDoFormExamples),
+	GO_TOO_FAR(R.string.iWentTooFarDoingSomething, R.string.goTooFarFormExamples),
+	WHILE_DOING(R.string.iDidXWhileIWasDoingY, R.string.whileDoingFormExamples),
+	NEGATIVE(R.string.iDoNotDoSomething, R.string.negativeFormExamples),
+	PROBABLE_NEGATIVE(R.string.iProbablyDoNotDoSomething, R.string.probableNegativeFormExamples),
+	NEGATIVE_PAST(R.string.iDidNotDoSomething, R.string.negativePastFormExamples),
+	NEGATIVE_CONDITIONAL(R.string.ifIDoNotDoSomething, R.string.negativeConditionalFormExamples),
+	HAS_TO(R.string.iHaveToDoSomething, R.string.hasToFormExamples),
+	LET_HIM(R.string.iLLLetHimDoSomething, R.string.letHimFormExamples),
+	DID_X_WITHOUT_DOING_Y(R.string.iDidXWithoutDoingY, R.string.didXWithoutDoingYFormExamples),
+	PROBABLE(R.string.iLLProbablyDoSomething, R.string.probableFormExamples),
+	PLAN(R.string.iPlanToDoSomething, R.string.planFormExamples),
+	SHOULD(R.string.iShouldDoSomething, R.string.shouldFormExamples),
+	WHETHER_OR_NOT(R.string.iDontKnowWhetherIDoSomethingOrNot, R.string.whetherOrNotFormExamples),
+	MAYBE(R.string.maybeILLDoSomething, R.string.maybeFormExamples),
+	BECAUSE_OF(R.string.becauseOfX, R.string.becauseOfFormExamples),
+	BUT(R.string.heDoesXBut, R.string.butFormExamples),
+	ABLE_TO_DO(R.string.imAbleToDoSomething, R.string.ableToDoFormExamples),
+	DECIDED_TO_DO(R.string.iDecidedToDoSomething, R.string.decidedToDoFormExamples),
+	UNTIL(R.string.untilX, R.string.untilFormExamples),
+	NEGATIVE_COMMAND(R.string.dontDoX, R.string.negativeCommandFormExamples),
+	IF(R.string.ifXThen, R.string.ifFormExamples),
+	WHICH_WHERE_WHO(R.string.whichWhereWho, R.string.whichWhereWhoFormExamples),
+	IN_ORDER_TO(R.string.inOrderToDoSomething, R.string.inOrderToFormExamples),
+	NO_WA(R.string.noWa, R.string.noWaExamples),
+	BECAUSE_OF2(R.string.becauseOfX, R.string.becauseOf2FormExamples),
+	IN_SPITE_OF(R.string.inSpiteOfX, R.string.inSpiteOfFormExamples),
+	NEARLY(R.string.iWasJustAboutToDoX, R.string.nearlyFormExamples),
+	I_HEARD(R.string.iHeardThatX, R.string.iHeardFormExamples),
+	FOR_THE_PURPOSE_OF(R.string.forThePurposeOf, R.string.forThePurposeOfFormExamples),
+	WHEN_IF(R.string.whenIf, R.string.whenIfFormExamples),
+	I_THINK_THAT(R.string.iThinkThat, R.string.iThinkThatFormExamples),
+	I_INTENT(R.string.iIntentToX, R.string.iIntentFormExamples),
+	IT_SEEMS_TO(R.string.itSeemsToX, R.string.itSeemsToFormExamples),
+	IF2(R.string.ifXThen, R.string.if2FormExamples),
+	IT_WOULD_BE_GOOD_IF(R.string.itWouldBeGoodIfX, R.string.itWouldBeGoodIfFormExamples),
+	I_REGRET(R.string.iRegretX, R.string.iRegretFormExamples),
+	PLAIN_COMMAND(R.string.doSomething, R.string.plainCommandFormExamples),
+	ABLE_TO_DO2(R.string.imAbleToDoSomething, R.string.ableToDo2FormExamples),
+	LET_S2(R.string.letsDoSomething, R.string.letS2FormExamples),
+	I_WONDER_IF_I_SHOULD(R.string.iWonderIfIShould, R.string.iWonderIfIShouldFormExamples),
+	TRY_TO(R.string.tryToDoX, R.string.tryToFormExamples),
+	MILD_COMMAND(R.string.doSomethingMild, R.string.mildCommandFormExamples),
+	POLITE_COMMAND(R.string.pleaseDoSomething, R.string.politeCommandFormExamples),
+	LET_ME_DO_SOMETHING_FOR_YOU(R.string.letMeDoSomethingForYou, R.string.politeCommand2FormExamples),
+	HONORABLY_TAKE_A_LOOK(R.string.honorablyTakeALook, R.string.honorablyTakeALookFormExamples),
+	PROGRESSIVE_TENSE(R.string.iAmDoingX, R.string.progressiveTenseFormExamples),
+	VERY_POLITE_COMMAND(R.string.iHumblyPartake, R.string.veryPoliteCommandFormExamples),
+	I_HUMBLY_RECEIVE_COMMAND(R.string.iHumblyReceive, R.string.iHumblyReceiveFormExamples),
+	AFTER(R.string.afterDoingX, R.string.afterFormExamples),
+	REGULAR_PLEASE(R.string.pleaseDoSomething, R.string.regularPleaseFormExamples),
+	TO_FINISH(R.string.xFinished, R.string.toFinishFormExamples),
+	TO_START(R.string.xWillStart, R.string.toStartFormExamples),
+	TO_TRY(R.string.iLLTryDoingX, R.string.toTryFormExamples),
+	EVEN_IF2(R.string.evenIfXYouMustRememberThatY, R.string.evenIf2FormExamples),
+	CAN(R.string.canIDoX, R.string.canFormExamples),
+	ALL_HE_DOES(R.string.allHeDoesIsX, R.string.allHeDoesFormExamples),
+	I_WILL_CERTAINLY_DO(R.string.iWillCertainlyDoX, R.string.iWillCertainlyDoFormExamples),
+	COMPLETE(R.string.toCompleteDoingX, R.string.completeFormExamples),
+	HOW_ABOUT(R.string.howAboutDoingX, R.string.howAboutFormExamples),
+	FORBIDDEN(R.string.youMustNotDoX, R.string.forbiddenFormExamples),
+	CONTINUATION(R.string.iDidXThenYThenZ, R.string.continuationFormExamples),
+	PAST_TENSE(R.string.iDidX, R.string.pastTenseFormExamples),
+	I_DID_RECENTLY(R.string.iDidXRecently, R.string.iDidRecentlyFormExamples),
+	EXPERIENCED(R.string.iExperiencedX, R.string.experiencedFormExamples),
+	IF3(R.string.ifXThen, R.string.if3FormExamples),
+	IT_SEEMS_TO2(R.string.itSeemsToX, R.string.itSeemsTo2FormExamples),
+	ROUGHLY(R.string.iRoughlyDidX, R.string.roughlyFormExamples),
+	SUPPOSITION(R.string.ifIWereToDoX, R.string.suppositionFormExamples),
+	EVEN_IF(R.string.evenIfXYouMustRememberThatY, R.string.evenIfFormExamples),
+	WHEN(R.string.whenIDidX, R.string.whenFormExamples),
+	I_DID_JUST_NOW(R.string.iDidXJustNow, R.string.iDidJustNowFormExamples);
+
+	/**
+	 * Explanation of the form (e.g. I don't do something).
+	 */
+	public final int explanationResId;
+	/**
+	 * A new-line-separated list of example sentences, first in Japanese (a
+	 * {@link RomanizationEnum#Hepburn}-romanized), then in English. The
+	 * Japanese are directly taken from Tim Matheson's site, with very minor
+	 * alternations. Therefore, you'll have to:
+	 * <ul>
+	 * <li>Convert the jp string to lower case</li>
+	 * <li>Convert a lone-standing wa into ha</li>
+	 * <li>Convert a lone o to wo</li>
+	 * <li>Convert _text_ to katakana</li>
+	 * </ul>
+	 */
+	public final int examples;
+
+	/**
+	 * Returns the examples as a list of string pairs.
+	 * 
+	 * @param context
+	 *            used to resolve the string
+	 * @param romanization
+	 *            use optionally this romanization for Japanese sentences.
+	 *            May be null.
+	 * @return a list of pairs: first pair item is the Japanese sentence,
+	 *         second pair item is the English translation. Never null.
+	 */
+	public final String[][] getExamples(final Context context, final RomanizationEnum romanization) {
+		final String[] e = context.getString(examples).split("\n");
+		final String[][] result = new String[e.length / 2][];
+		for (int i = 0; i < e.length / 2; i++) {
+			final String english = e[i * 2 + 1];
+			String japanese = e[i * 2].toLowerCase();
+			// fix wa and o
+			japanese = japanese.replaceAll("\\s+wa\\s+", " ha ").replaceAll("\\s+o\\s+", " wo ");
+			// convert words marked with _ to katakana
+			boolean inUnderscore = false;
+			final StringBuilder jp = new StringBuilder(japanese.length());
+			for (final StringTokenizer t = new StringTokenizer(japanese, "_", true); t.hasMoreElements();) {
+				final String token = t.nextToken();
+				if (token.equals("_")) {
+					inUnderscore = !inUnderscore;
+				} else {
+					jp.append(inUnderscore ? RomanizationEnum.Hepburn.toKatakana(token) : token);
+				}
+			}
+			japanese = RomanizationEnum.Hepburn.toHiragana(jp.toString());
+			if (romanization != null) {
+				japanese = romanization.toRomaji(japanese);
+			}
+			result[i] = new String[] { japanese, english };
+		}
+		return result;
+	}
+
+
+	private FormResources(final int explanationResId, final int examples) {
+		this.explanationResId = explanationResId;
+		this.examples = examples;
+	}
+
+	/**
+	 * Returns the resources of given form.
+	 * 
+	 * @param form
+	 *            the form, not null.
+	 * @return the resources, never null.
+	 */
+	public static FormResources of(final Form form) {
+		return valueOf(form.name());
+	}
+}
@@ -18,12 +18,14 @@
 
 package sk.baka.aedict.kanji;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 
 import sk.baka.aedict.R;
+import sk.baka.aedict.dict.LuceneSearch;
 
 /**
  * Enumerates all radicals and appropriate characters.
@@ -75,13 +77,13 @@ public final class Radicals {
 	 * @return a radical list, never null, may be empty if unknown kanji is supplied.
 	 */
 	public static String getRadicals(final char kanji) {
-		final StringBuilder sb=new StringBuilder();
-		for(final Map.Entry<Character,Radical> r:RADICAL_TO_KANJILIST.entrySet()){
-			if(r.getValue().kanjis.indexOf(kanji)>=0){
-				sb.append(r.getKey());
-			}
+		final Index index = Index.INSTANCE;
+		final int i = Arrays.binarySearch(index.kanjis, kanji);
+		if (i < 0) {
+			return "";
 		}
-		return sb.toString();
+		final int start = index.kanjiRadicalsStart[i];
+		return new String(index.kanjiRadicals, start, index.kanjiRadicalsStart[i + 1] - start);
 	}
 	
 	/**
@@ -93,27 +95,189 @@ public final class Radicals {
 	 *         may be empty.
 	 */
 	public static Set<Character> getKanjisWithRadicals(final char[] radicals) {
+		final String kanjis = Index.INSTANCE.toString(getRadicalBits(radicals));
+		final Set<Character> result = new HashSet<Character>(kanjis.length());
+		for (final char c : kanjis.toCharArray()) {
+			result.add(c);
+		}
+		return result;
+	}
+
+	/**
+	 * Returns all kanjis which contains all given radicals and have given
+	 * number of strokes.
+	 * 
+	 * @param radicals
+	 *            a list of radical, must not be null nor empty.
+	 * @param minStrokes
+	 *            the minimum number of strokes, inclusive.
+	 * @param maxStrokes
+	 *            the maximum number of strokes, inclusive.
+	 * @param kanjisByStrokes
+	 *            all kanjis grouped by stroke count, as returned by
+	 *            {@link LuceneSearch#getKanjisByStrokes()}.
+	 * @return a string of all matching kanjis, never null, may be empty.
+	 */
+	public static String getKanjisWithRadicals(final char[] radicals, final int minStrokes, final int maxStrokes, final Map<Integer, String> kanjisByStrokes) {
+		final Index index = Index.INSTANCE;
+		final long[] result = getRadicalBits(radicals);
+		final long[][] strokeBits = index.getStrokeBits(kanjisByStrokes);
+		final long[] strokes = new long[result.length];
+		for (int i = Math.max(minStrokes, 0); i <= maxStrokes && i < strokeBits.length; i++) {
+			if (strokeBits[i] != null) {
+				or(strokes, strokeBits[i]);
+			}
+		}
+		and(result, strokes);
+		return index.toString(result);
+	}
+
+	private static long[] getRadicalBits(final char[] radicals) {
 		if (radicals.length == 0) {
 			throw new IllegalArgumentException("The radicals array must not be empty");
 		}
-		Set<Character> matchedKanjis = null;
+		final Index index = Index.INSTANCE;
+		final long[] result = new long[index.words];
+		Arrays.fill(result, -1L);
 		for (final char radical : radicals) {
-			Set<Character> kanjis = toSet(getRadical(radical).kanjis);
-			if (matchedKanjis == null) {
-				matchedKanjis = kanjis;
-			} else {
-				matchedKanjis.retainAll(kanjis);
+			final int i = RADICAL_ORDERING.indexOf(radical);
+			if (i < 0) {
+				throw new IllegalArgumentException("Not a radical: " + radical);
 			}
+			and(result, index.radicalBits[i]);
 		}
-		return matchedKanjis;
+		return result;
 	}
 
-	private static Set<Character> toSet(final String str) {
-		final Set<Character> result = new HashSet<Character>(str.length());
-		for (final char c : str.toCharArray()) {
-			result.add(c);
+	private static void and(final long[] bits, final long[] other) {
+		for (int i = 0; i < bits.length; i++) {
+			bits[i] &= other[i];
+		}
+	}
+
+	private static void or(final long[] bits, final long[] other) {
+		for (int i = 0; i < bits.length; i++) {
+			bits[i] |= other[i];
+		}
+	}
+
+	/**
+	 * Precomputed radical lookup tables. All kanjis are numbered by their
+	 * position in the sorted {@link #kanjis} array; sets of kanjis are
+	 * represented as bit sets of these numbers.
+	 * @author Martin Vysny
+	 */
+	private static final class Index {
+		/**
+		 * Lazily created on first access.
+		 */
+		static final Index INSTANCE = new Index();
+		/**
+		 * All kanjis which contain at least one radical, sorted.
+		 */
+		final char[] kanjis;
+		/**
+		 * Number of longs in a bit set.
+		 */
+		final int words;
+		/**
+		 * The kanji bit set of each radical, in the {@link Radicals#RADICAL_ORDERING} order.
+		 */
+		final long[][] radicalBits;
+		/**
+		 * Radicals of the i-th kanji are stored in {@link #kanjiRadicals} from index kanjiRadicalsStart[i] to kanjiRadicalsStart[i+1], exclusive.
+		 */
+		final int[] kanjiRadicalsStart;
+		final char[] kanjiRadicals;
+		/**
+		 * The stroke counts the {@link #strokeBits} were computed from.
+		 */
+		private Map<Integer, String> strokes = null;
+		/**
+		 * The kanji bit set of each stroke count, may contain nulls.
+		 */
+		private long[][] strokeBits = null;
+
+		private Index() {
+			final StringBuilder all = new StringBuilder();
+			for (final Radical r : RADICAL_TO_KANJILIST.values()) {
+				all.append(r.kanjis);
+			}
+			final char[] sorted = all.toString().toCharArray();
+			Arrays.sort(sorted);
+			int count = 0;
+			for (int i = 0; i < sorted.length; i++) {
+				if (count == 0 || sorted[count - 1] != sorted[i]) {
+					sorted[count++] = sorted[i];
+				}
+			}
+			kanjis = new char[count];
+			System.arraycopy(sorted, 0, kanjis, 0, count);
+			words = (count + 63) / 64;
+			radicalBits = new long[RADICAL_ORDERING.length()][];
+			final int[] radicalCount = new int[count + 1];
+			for (int r = 0; r < radicalBits.length; r++) {
+				final long[] bits = new long[words];
+				for (final char kanji : getRadical(RADICAL_ORDERING.charAt(r)).kanjis.toCharArray()) {
+					final int i = Arrays.binarySearch(kanjis, kanji);
+					if ((bits[i >> 6] & (1L << i)) == 0) {
+						bits[i >> 6] |= 1L << i;
+						radicalCount[i]++;
+					}
+				}
+				radicalBits[r] = bits;
+			}
+			kanjiRadicalsStart = new int[count + 1];
+			for (int i = 0; i < count; i++) {
+				kanjiRadicalsStart[i + 1] = kanjiRadicalsStart[i] + radicalCount[i];
+			}
+			kanjiRadicals = new char[kanjiRadicalsStart[count]];
+			final int[] next = new int[count];
+			System.arraycopy(kanjiRadicalsStart, 0, next, 0, count);
+			for (int r = 0; r < radicalBits.length; r++) {
+				for (int i = 0; i < count; i++) {
+					if ((radicalBits[r][i >> 6] & (1L << i)) != 0) {
+						kanjiRadicals[next[i]++] = RADICAL_ORDERING.charAt(r);
+					}
+				}
+			}
+		}
+
+		synchronized long[][] getStrokeBits(final Map<Integer, String> kanjisByStrokes) {
+			if (strokes != kanjisByStrokes) {
+				int max = 0;
+				for (final Integer s : kanjisByStrokes.keySet()) {
+					max = Math.max(max, s);
+				}
+				final long[][] result = new long[max + 1][];
+				for (final Map.Entry<Integer, String> e : kanjisByStrokes.entrySet()) {
+					if (e.getKey() < 0) {
+						continue;
+					}
+					final long[] bits = new long[words];
+					for (final char kanji : e.getValue().toCharArray()) {
+						final int i = Arrays.binarySearch(kanjis, kanji);
+						if (i >= 0) {
+							bits[i >> 6] |= 1L << i;
+						}
+					}
+					result[e.getKey()] = bits;
+				}
+				strokeBits = result;
+				strokes = kanjisByStrokes;
+			}
+			return strokeBits;
+		}
+
+		String toString(final long[] bits) {
+			final StringBuilder sb = new StringBuilder();
+			for (int i = 0; i < kanjis.length; i++) {
+				if ((bits[i >> 6] & (1L << i)) != 0) {
+					sb.append(kanjis[i]);
+				}
+			}
+			return sb.toString();
 		}
-		return result;
 	}
 
 	/**
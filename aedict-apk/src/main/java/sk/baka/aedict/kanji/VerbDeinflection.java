@@ -18,8 +18,12 @@ along with this program.  If not, see <http://www.gnu.org/licenses/>.
 package sk.baka.aedict.kanji;
 
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import sk.baka.aedict.dict.DictTypeEnum;
@@ -30,6 +34,11 @@ import sk.baka.aedict.kanji.VerbInflection.Form;
 
 /**
  * Performs a simple verb deinflection.
+ * <p/>
+ * The deinflection rules are compiled into a trie of reversed endings: a
+ * single backward scan of a verb finds all rules which can be applied to the
+ * verb. The rules are then applied in the order in which they are listed,
+ * therefore the order of the rules matters.
  * 
  * @author Martin Vysny
  */
@@ -42,7 +51,7 @@ public final class VerbDeinflection {
         }
     }
 
-    private static class EndsWithDeinflector extends AbstractDeinflector {
+    private static class EndsWithDeinflector {
 
         private final String endsWith;
         private final String[] replaceBy;
@@ -89,104 +98,126 @@ public final class VerbDeinflection {
             this.form = form;
         }
 
-        @Override
+        /**
+         * Deinflects a verb. The verb must already be known to end with the
+         * {@link #endsWith ending}, see {@link #isMatch(String)}.
+         *
+         * @param romaji
+         *            a verb in lower-case, trimmed romaji.
+         * @return deinflected verb, or a multiple verbs if there are multiple
+         *         possibilities to deinflect.
+         */
         public Set<String> deinflect(String romaji) {
-            final String ending = isMatch(romaji);
-            if (ending == null) {
-                // nothing matched
-                return null;
-            }
             final Set<String> result = new HashSet<String>(replaceBy.length);
-            final String verbPart = romaji.substring(0, romaji.length() - ending.length());
+            final String verbPart = romaji.substring(0, romaji.length() - endsWith.length());
             for (final String rb : replaceBy) {
                 result.add(verbPart + rb);
             }
             return result;
         }
 
-        private String isMatch(final String romaji) {
-            final String ending = endsWith;
-                if (isAllowEntireWordMatch && romaji.equals(ending)) {
-                    return ending;
-                }
-                if (!isAllowEntireWordMatch) {
-                    if (romaji.endsWith(ending) && !romaji.equals(ending)) {
-                        return ending;
-                    }
-                }
-            return null;
+        /**
+         * Checks if this rule can be applied to given verb. Invoked only when
+         * the verb ends with the {@link #endsWith ending}.
+         *
+         * @param romaji
+         *            a verb in lower-case, trimmed romaji.
+         * @return true if the rule can be applied.
+         */
+        protected boolean isMatch(final String romaji) {
+            return isAllowEntireWordMatch == (romaji.length() == endsWith.length());
         }
 
-        @Override
+        /**
+         * If true then there is nothing more to deinflect and the process can
+         * be safely stopped.
+         *
+         * @return true if there is nothing more to deinflect, false if the
+         *         deinflection should continue.
+         */
         public boolean stopIfMatch() {
             return isStopIfMatch;
         }
 
-		@Override
-		public Form getForm() {
-			return form;
-		}
+        /**
+         * Returns the originating form.
+         * @return originating form.
+         */
+        public Form getForm() {
+            return form;
+        }
     }
 
-    private static class EruDeinflector extends AbstractDeinflector {
+    private static class EruDeinflector extends EndsWithDeinflector {
         // this rule is also required, to correctly deinflect e.g.
         // aetai. list as a last rule. Make the rule produce the old verb and
         // also the deinflected one.
+        // if the -eru is deinflected, there is nothing more to match
 
-        private final AbstractDeinflector eruDeinflector = new EndsWithDeinflector("eru", Form.ABLE_TO_DO2, "eru", "u");
-
-        @Override
-        public Set<String> deinflect(String romaji) {
-            // do not deinflect -rareru
-            if (romaji.endsWith("rareru")) {
-                return null;
-            }
-            return eruDeinflector.deinflect(romaji);
+        public EruDeinflector() {
+            super("eru", false, true, Form.ABLE_TO_DO2, "eru", "u");
         }
 
         @Override
-        public boolean stopIfMatch() {
-            // if the -eru is deinflected, there is nothing more to match
-            return true;
+        protected boolean isMatch(String romaji) {
+            // do not deinflect -rareru
+            return super.isMatch(romaji) && !romaji.endsWith("rareru");
         }
-
-		@Override
-		public Form getForm() {
-			return Form.ABLE_TO_DO2;
-		}
     }
 
-    private static abstract class AbstractDeinflector {
-
-        /**
-         * Tries to deinflect a verb.
-         *
-         * @param romaji
-         *            a verb in lower-case, trimmed romaji.
-         * @return deinflected verb, or a multiple verbs if there are multiple
-         *         possibilities to deinflect. If this rule cannot be applied to
-         *         deinflect the verb, null or an empty array should be
-         *         returned.
-         */
-        public abstract Set<String> deinflect(String romaji);
+    /**
+     * A node of a trie of reversed endings. The path from the root to the node
+     * spells an ending backwards.
+     *
+     * @author Martin Vysny
+     */
+    private static final class Node {
 
         /**
-         * If true then there is nothing more to deinflect and the process can
-         * be safely stopped.
-         *
-         * @return true if there is nothing more to deinflect, false if the
-         *         deinflection should continue.
+         * The characters of the child nodes.
          */
-        public abstract boolean stopIfMatch();
-        
+        private char[] chars = new char[0];
+        private Node[] children = new Node[0];
         /**
-         * Returns the originating form.
-         * @return originating form.
+         * Indices of {@link #DEINFLECTORS rules} with the ending spelled by
+         * this node.
          */
-        public abstract Form getForm();
+        private int[] rules = new int[0];
+
+        public Node getChild(final char c) {
+            for (int i = 0; i < chars.length; i++) {
+                if (chars[i] == c) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        public Node addChild(final char c) {
+            Node result = getChild(c);
+            if (result == null) {
+                result = new Node();
+                final char[] newChars = new char[chars.length + 1];
+                System.arraycopy(chars, 0, newChars, 0, chars.length);
+                newChars[chars.length] = c;
+                chars = newChars;
+                final Node[] newChildren = new Node[children.length + 1];
+                System.arraycopy(children, 0, newChildren, 0, children.length);
+                newChildren[children.length] = result;
+                children = newChildren;
+            }
+            return result;
+        }
+
+        public void addRule(final int rule) {
+            final int[] newRules = new int[rules.length + 1];
+            System.arraycopy(rules, 0, newRules, 0, rules.length);
+            newRules[rules.length] = rule;
+            rules = newRules;
+        }
     }
 
-    private static AbstractDeinflector basicSuffix(final String endsWith, final Form form, final String... replaceBy) {
+    private static EndsWithDeinflector basicSuffix(final String endsWith, final Form form, final String... replaceBy) {
         return new EndsWithDeinflector(endsWith, false, true, form, replaceBy);
     }
 
@@ -198,10 +229,14 @@ public final class VerbDeinflection {
     	return result;
     }
     
-    private final static List<? extends AbstractDeinflector> DEINFLECTORS;
+    private final static EndsWithDeinflector[] DEINFLECTORS;
+    /**
+     * The reversed endings of the {@link #DEINFLECTORS}.
+     */
+    private final static Node TRIE = new Node();
 
     static {
-        final List<AbstractDeinflector> d = new ArrayList<AbstractDeinflector>();
+        final List<EndsWithDeinflector> d = new ArrayList<EndsWithDeinflector>();
         d.addAll(irregular(new String[]{"dewaarimasen", "dehaarimasen", "de wa arimasen", "de ha arimasen", "zya arimasen", "zyaarimasen"}, Form.POLITE_NEGATIVE, "desu"));
         d.addAll(irregular(new String[]{"dewaarimasendesita", "dehaarimasendesita", "de wa arimasen desita", "de ha arimasen desita", "zya arimasen desita", "zyaarimasendesita"}, Form.POLITE_PAST_NEGATIVE, "desu"));
         // the -masu deinflector
@@ -282,9 +317,81 @@ public final class VerbDeinflection {
         d.add(basicSuffix("tte",Form.CONTINUATION, "tu", "u", "ru"));
         d.add(basicSuffix("nda", Form.PAST_TENSE, "nu", "bu", "mu"));
         d.add(basicSuffix("nde",Form.CONTINUATION, "nu", "bu", "mu"));
-        DEINFLECTORS = d;
+        DEINFLECTORS = d.toArray(new EndsWithDeinflector[0]);
+        for (int i = 0; i < DEINFLECTORS.length; i++) {
+            final String endsWith = DEINFLECTORS[i].endsWith;
+            Node node = TRIE;
+            for (int j = endsWith.length() - 1; j >= 0; j--) {
+                node = node.addChild(endsWith.charAt(j));
+            }
+            node.addRule(i);
+        }
+    }
+
+    /**
+     * Finds all rules which can be applied to given verb.
+     *
+     * @param romaji
+     *            a verb in lower-case, trimmed romaji.
+     * @return indices of the matching {@link #DEINFLECTORS rules}.
+     */
+    private static BitSet match(final String romaji) {
+        final BitSet result = new BitSet(DEINFLECTORS.length);
+        Node node = TRIE;
+        for (int i = romaji.length() - 1; i >= 0; i--) {
+            node = node.getChild(romaji.charAt(i));
+            if (node == null) {
+                break;
+            }
+            for (final int rule : node.rules) {
+                if (DEINFLECTORS[rule].isMatch(romaji)) {
+                    result.set(rule);
+                }
+            }
+        }
+        return result;
     }
 
+    /**
+     * Finds the first rule which can be applied to any of given verbs.
+     *
+     * @param verbs
+     *            the verbs.
+     * @param matches
+     *            maps the verbs to the rules which can be applied to them.
+     * @param fromRule
+     *            the index of the first rule to consider.
+     * @return the rule index, -1 if no rule can be applied.
+     */
+    private static int nextRule(final Set<String> verbs, final Map<String, BitSet> matches, final int fromRule) {
+        int result = -1;
+        for (final String romaji : verbs) {
+            final int rule = matches.get(romaji).nextSetBit(fromRule);
+            if (rule >= 0 && (result < 0 || rule < result)) {
+                result = rule;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Maximum number of deinflected verbs kept in the {@link #CACHE}.
+     */
+    private static final int CACHE_MAX_SIZE = 64;
+
+    /**
+     * Caches the deinflected verbs: the same verb is deinflected repeatedly
+     * as the user types the search query. A LRU cache, guards itself.
+     */
+    private static final Map<String, Deinflections> CACHE = new LinkedHashMap<String, Deinflections>(16, 0.75f, true) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Deinflections> eldest) {
+            return size() > CACHE_MAX_SIZE;
+        }
+    };
+
     /**
      * Attempts to deinflect given verb.
      *
@@ -293,26 +400,61 @@ public final class VerbDeinflection {
      * @return deinflected verb(s)
      */
     public static Deinflections deinflect(final String japanese) {
+        return deinflectRomaji(RomanizationEnum.NihonShiki.toRomaji(japanese).trim());
+    }
+
+    private static Deinflections deinflectRomaji(final String romaji) {
+        Deinflections result;
+        synchronized (CACHE) {
+            result = CACHE.get(romaji);
+        }
+        if (result == null) {
+            result = compute(romaji);
+            synchronized (CACHE) {
+                CACHE.put(romaji, result);
+            }
+        }
+        return copy(result);
+    }
+
+    /**
+     * Deinflects given verb. The rules are applied in the order in which they
+     * are listed, each rule to all verbs produced by the preceding rules.
+     *
+     * @param romaji
+     *            a verb in lower-case, trimmed romaji.
+     * @return deinflected verb(s)
+     */
+    private static Deinflections compute(final String romaji) {
         final Deinflections result = new Deinflections();
-        result.deinflections=new ArrayList<Deinflection>();
+        result.deinflections = new ArrayList<Deinflection>();
         result.deinflectedVerbs = new HashSet<String>();
-        Set<String> finalDeinflect = new HashSet<String>();
-        result.deinflectedVerbs.add(RomanizationEnum.NihonShiki.toRomaji(japanese).trim());
-        for (final AbstractDeinflector deinflector : DEINFLECTORS) {
+        final Set<String> finalDeinflect = new HashSet<String>();
+        final Map<String, BitSet> matches = new HashMap<String, BitSet>();
+        result.deinflectedVerbs.add(romaji);
+        matches.put(romaji, match(romaji));
+        for (int rule = nextRule(result.deinflectedVerbs, matches, 0); rule >= 0; rule = nextRule(result.deinflectedVerbs, matches, rule + 1)) {
+            final EndsWithDeinflector deinflector = DEINFLECTORS[rule];
             final Set<String> newResult = new HashSet<String>(result.deinflectedVerbs);
-            for (final String romaji : result.deinflectedVerbs) {
-                final Set<String> deinflected = deinflector.deinflect(romaji);
-                if (deinflected != null && !deinflected.isEmpty()) {
-                    // successfully deinflected. remove the old verb and add the
-                    // deinflected one.
-                    newResult.remove(romaji);
-                    if (deinflector.stopIfMatch()) {
-                        finalDeinflect.addAll(deinflected);
-                    } else {
-                        newResult.addAll(deinflected);
+            for (final String verb : result.deinflectedVerbs) {
+                if (!matches.get(verb).get(rule)) {
+                    continue;
+                }
+                final Set<String> deinflected = deinflector.deinflect(verb);
+                // successfully deinflected. remove the old verb and add the
+                // deinflected one.
+                newResult.remove(verb);
+                if (deinflector.stopIfMatch()) {
+                    finalDeinflect.addAll(deinflected);
+                } else {
+                    newResult.addAll(deinflected);
+                    for (final String d : deinflected) {
+                        if (!matches.containsKey(d)) {
+                            matches.put(d, match(d));
+                        }
                     }
-                    result.deinflections.add(new Deinflection(romaji, deinflector.getForm(), deinflected.toArray(new String[0])));
                 }
+                result.deinflections.add(new Deinflection(verb, deinflector.getForm(), deinflected.toArray(new String[0])));
             }
             result.deinflectedVerbs = newResult;
         }
@@ -320,6 +462,24 @@ public final class VerbDeinflection {
         return result;
     }
 
+    /**
+     * Copies the cached deinflections, as the caller is free to modify them.
+     *
+     * @param d
+     *            the deinflections to copy.
+     * @return the copy.
+     */
+    private static Deinflections copy(final Deinflections d) {
+        final Deinflections result = new Deinflections();
+        result.deinflectedVerbs = new HashSet<String>(d.deinflectedVerbs);
+        result.deinflections = new ArrayList<Deinflection>(d.deinflections.size());
+        for (final Deinflection deinflection : d.deinflections) {
+            result.deinflections.add(new Deinflection(deinflection.inflected, deinflection.inflectedForm, deinflection.deinflected.clone()));
+        }
+        return result;
+    }
+
+
     private VerbDeinflection() {
         throw new AssertionError();
     }
@@ -339,7 +499,7 @@ public final class VerbDeinflection {
         final SearchQuery result = new SearchQuery(DictTypeEnum.Edict);
         final String conv = KanjiUtils.halfwidthToKatakana(verb);
         final String romaji = RomanizationEnum.NihonShiki.toRomaji(romanization.toHiragana(conv));
-        final Deinflections deinflections = VerbDeinflection.deinflect(romaji);
+        final Deinflections deinflections = deinflectRomaji(romaji.trim());
         result.query = deinflections.deinflectedVerbs.toArray(new String[0]);
         for (int i = 0; i < result.query.length; i++) {
             result.query[i] = RomanizationEnum.NihonShiki.toHiragana(result.query[i]);
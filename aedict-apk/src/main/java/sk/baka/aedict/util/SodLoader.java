@@ -18,66 +18,53 @@
 
 package sk.baka.aedict.util;
 
-import java.io.BufferedInputStream;
-import java.io.ByteArrayInputStream;
-import java.io.DataInputStream;
 import java.io.File;
-import java.io.FileInputStream;
+import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.io.RandomAccessFile;
 import java.net.MalformedURLException;
 import java.net.URL;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 
 import sk.baka.aedict.dict.DictTypeEnum;
-import sk.baka.autils.MiscUtils;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
 import android.graphics.drawable.BitmapDrawable;
 
 /**
  * Loads the <a href="http://www.kanjicafe.com/license.htm">SOD</a> images from
- * a custom binary format. The format is gzipped, with the following structure:
- * <h4>The header:</h4> 4 byte int - number of kanji entries; for each entry:
- * 2-byte UTF-16 kanji character, 4-byte png offset in the file. The entries are
- * ordered by the "offset" value, ascending. <h4>The contents:</h4> Basically
- * just a streams of PNG images, one after another.
+ * a {@link SodFile}. Both the old gunzipped (version 1) and the current
+ * random-access container format are supported.
  * <p/>
- * Not thread safe.
+ * The file is memory-mapped once per process, see {@link #getInstance()}. The
+ * decoded images are kept in a LRU cache shared by all loaders.
+ * <p/>
+ * Thread safe.
  * 
  * @author Martin Vysny
  */
-public class SodLoader {
+public final class SodLoader {
 	/**
-	 * Creates new loader. The loader is initialized immediately, by reading the
-	 * binary format header. The constructor fails if the file is not available.
+	 * Creates new loader. The loader is initialized immediately, by mapping the
+	 * file and reading the container index. The constructor fails if the file
+	 * is not available.
 	 * 
+	 * @param file
+	 *            the SOD file.
 	 * @throws IOException
 	 *             if the file fails to load.
 	 */
-	public SodLoader() throws IOException {
-		// parse the header
-		final DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(SDCARD_LOCATION)));
+	SodLoader(final File file) throws IOException {
+		lastModified = file.lastModified();
+		SodFile sod = null;
 		try {
-			try {
-				final int numberOfKanjis = in.readInt();
-				Character lastKanji = null;
-				for (int i = 0; i < numberOfKanjis; i++) {
-					final Character kanji = in.readChar();
-					final int offset = in.readInt();
-					startOffset.put(kanji, offset);
-					if (lastKanji != null) {
-						final int length = offset - startOffset.get(lastKanji);
-						this.length.put(lastKanji, length);
-					}
-					lastKanji = kanji;
-				}
-				length.put(lastKanji, (int) (SDCARD_LOCATION.length() - startOffset.get(lastKanji)));
-			} catch (IOException ex) {
-				tnio(ex);
-			}
-		} finally {
-			MiscUtils.closeQuietly(in);
+			sod = SodFile.open(file);
+		} catch (FileNotFoundException ex) {
+			throw ex;
+		} catch (IOException ex) {
+			tnio(ex);
 		}
+		this.sod = sod;
 	}
 
 	private static void tnio(final Throwable t) throws IOExceptionWithCause {
@@ -87,21 +74,19 @@ public class SodLoader {
 	}
 
 	/**
-	 * Maps a character to the starting offset of the image in the file.
-	 */
-	private final Map<Character, Integer> startOffset = new HashMap<Character, Integer>();
-	/**
-	 * Maps a character to the length of the image data in the file.
+	 * The {@link File#lastModified()} value of the file at the time of mapping.
 	 */
-	private final Map<Character, Integer> length = new HashMap<Character, Integer>();
+	private final long lastModified;
+	private final SodFile sod;
 
 	/**
-	 * The file can be obtained from this URL.
+	 * The file can be obtained from this URL. The file is in the current
+	 * {@link SodFile} format, not compressed.
 	 */
 	public static final URL DOWNLOAD_URL;
 	static {
 		try {
-			DOWNLOAD_URL = new URL(DictTypeEnum.DICT_BASE_LOCATION_URL + "sod.dat.gz");
+			DOWNLOAD_URL = new URL(DictTypeEnum.DICT_BASE_LOCATION_URL + "sod2.dat");
 		} catch (MalformedURLException e) {
 			throw new RuntimeException(e);
 		}
@@ -110,7 +95,64 @@ public class SodLoader {
 	 * The file name of the file.
 	 */
 	public static final File SDCARD_LOCATION = new File(DictTypeEnum.BASE_DIR + "/sod", "sod.dat");
-	public static final long UNPACKED_SIZE = 4584605L;
+	/**
+	 * The size of the version 1 file, unpacked.
+	 */
+	private static final long VERSION1_SIZE = 4584605L;
+	/**
+	 * The smallest possible PNG image: the signature, the IHDR chunk and
+	 * empty IDAT and IEND chunks.
+	 */
+	private static final int MIN_PNG_SIZE = 8 + 25 + 12 + 12;
+	/**
+	 * The upper bound of the {@link SodFile} size, derived from the version 1
+	 * file which contains the same images. Used for the free space check,
+	 * before the number of kanjis is known.
+	 */
+	public static final long UNPACKED_SIZE = SodFile.getMaxSize(VERSION1_SIZE, (int) ((VERSION1_SIZE - 4) / (6 + MIN_PNG_SIZE)));
+
+	/**
+	 * Computes the size of the {@link SodFile} holding given number of kanjis.
+	 * The result exceeds the real size by the image alignment padding at most.
+	 * 
+	 * @param kanjiCount
+	 *            the number of kanjis in the file, see
+	 *            {@link SodFile#getKanjiCount(byte[])}.
+	 * @return the size in bytes.
+	 */
+	public static long getSize(final int kanjiCount) {
+		return SodFile.getMaxSize(VERSION1_SIZE, kanjiCount);
+	}
+
+	private static SodLoader instance = null;
+
+	/**
+	 * Returns the loader of the {@link #SDCARD_LOCATION} file. The file is
+	 * mapped again (and the image cache is cleared) when it was re-downloaded
+	 * since the last call.
+	 * 
+	 * @return the loader, never null.
+	 * @throws IOException
+	 *             if the file fails to load.
+	 */
+	public static SodLoader getInstance() throws IOException {
+		synchronized (CACHE) {
+			if (instance == null || instance.lastModified != SDCARD_LOCATION.lastModified() || instance.sod.getSize() != SDCARD_LOCATION.length()) {
+				instance = new SodLoader(SDCARD_LOCATION);
+				CACHE.clear();
+			}
+			return instance;
+		}
+	}
+
+	/**
+	 * Returns the number of kanjis with an image.
+	 * 
+	 * @return the number of kanjis.
+	 */
+	public int getKanjiCount() {
+		return sod.getKanjiCount();
+	}
 
 	/**
 	 * Loads a SOD image for given kanji character. Returns null if there is no
@@ -118,41 +160,32 @@ public class SodLoader {
 	 * 
 	 * @param kanji
 	 *            the kanji
-	 * @return a bitmap instance or null if there is no such image.
-	 * @throws IOException
-	 *             if the file is not available.
+	 * @return the PNG image data or null if there is no such image.
 	 */
-	private byte[] load(final Character kanji) throws IOException {
-		final Integer offset = startOffset.get(kanji);
-		if (offset == null) {
-			return null;
-		}
-		final int length = this.length.get(kanji);
-		final RandomAccessFile file = new RandomAccessFile(SDCARD_LOCATION, "r");
+	byte[] load(final char kanji) throws IOException {
 		try {
-			try {
-				file.seek(offset);
-				final byte[] result = new byte[length];
-				file.readFully(result);
-				return result;
-			} catch (IOException ex) {
-				tnio(ex);
-				throw new AssertionError();
-			}
-		} finally {
-			MiscUtils.closeQuietly(file);
+			return sod.load(kanji);
+		} catch (IOException ex) {
+			tnio(ex);
+			throw new AssertionError();
 		}
 	}
 
 	/**
-	 * The cached images.
+	 * The maximum size of the decoded images kept in the {@link #CACHE}, in
+	 * bytes.
+	 */
+	private static final int CACHE_MAX_BYTES = 2 * 1024 * 1024;
+	/**
+	 * The decoded images, shared by all loaders. Guards the {@link #instance}
+	 * field as well.
 	 */
-	private final Map<Character, BitmapDrawable> cachedImages = new HashMap<Character, BitmapDrawable>();
+	private static final BitmapCache CACHE = new BitmapCache(CACHE_MAX_BYTES);
 
 	/**
 	 * Loads a SOD image for given kanji character. Returns null if there is no
-	 * image for given kanji. The image is cached in this instance of the
-	 * loader.
+	 * image for given kanji. The decoded image is cached in a LRU cache shared
+	 * by all loaders.
 	 * 
 	 * @param kanji
 	 *            the kanji
@@ -160,15 +193,77 @@ public class SodLoader {
 	 * @throws IOException
 	 *             if the file is not available.
 	 */
-	public BitmapDrawable loadBitmap(final Character kanji) throws IOException {
-		BitmapDrawable result = cachedImages.get(kanji);
+	public BitmapDrawable loadBitmap(final char kanji) throws IOException {
+		Bitmap result;
+		synchronized (CACHE) {
+			result = CACHE.get(this, kanji);
+		}
 		if (result == null) {
 			final byte[] img = load(kanji);
-			if (img != null) {
-				result = new BitmapDrawable(new ByteArrayInputStream(img));
-				cachedImages.put(kanji, result);
+			if (img == null) {
+				return null;
+			}
+			result = BitmapFactory.decodeByteArray(img, 0, img.length);
+			if (result == null) {
+				tnio(new IOException("Failed to decode the image of " + kanji));
 			}
+			synchronized (CACHE) {
+				CACHE.put(this, kanji, result);
+			}
+		}
+		// a drawable holds a reference to the view it is drawn in: share only
+		// the bitmap.
+		return new BitmapDrawable(result);
+	}
+
+	/**
+	 * A LRU cache of decoded images, bounded by the total size of the bitmaps.
+	 * Not thread safe.
+	 * 
+	 * @author Martin Vysny
+	 */
+	private static final class BitmapCache {
+		private final LinkedHashMap<Character, Bitmap> bitmaps = new LinkedHashMap<Character, Bitmap>(16, 0.75f, true);
+		private final int maxBytes;
+		private int bytes = 0;
+		/**
+		 * The images were decoded by this loader.
+		 */
+		private SodLoader owner = null;
+
+		public BitmapCache(final int maxBytes) {
+			this.maxBytes = maxBytes;
+		}
+
+		public Bitmap get(final SodLoader loader, final char kanji) {
+			return loader == owner ? bitmaps.get(kanji) : null;
+		}
+
+		public void put(final SodLoader loader, final char kanji, final Bitmap bitmap) {
+			if (loader != owner) {
+				clear();
+				owner = loader;
+			}
+			final Bitmap old = bitmaps.put(kanji, bitmap);
+			if (old != null) {
+				bytes -= sizeOf(old);
+			}
+			bytes += sizeOf(bitmap);
+			// evict the least recently used images, always keep the newest one
+			for (final Iterator<Bitmap> i = bitmaps.values().iterator(); bytes > maxBytes && bitmaps.size() > 1;) {
+				bytes -= sizeOf(i.next());
+				i.remove();
+			}
+		}
+
+		public void clear() {
+			bitmaps.clear();
+			bytes = 0;
+			owner = null;
+		}
+
+		private static int sizeOf(final Bitmap bitmap) {
+			return bitmap.getRowBytes() * bitmap.getHeight();
 		}
-		return result;
 	}
 }
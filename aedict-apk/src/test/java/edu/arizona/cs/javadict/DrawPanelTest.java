@@ -0,0 +1,118 @@
+/**
+ *     Aedict - an EDICT browser for Android
+Copyright (C) 2009 Martin Vysny
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package edu.arizona.cs.javadict;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Tests the {@link DrawPanel} class.
+ * 
+ * @author Martin Vysny
+ */
+public class DrawPanelTest {
+
+	private static DrawPanel newPanel() {
+		return new DrawPanel(DrawPanelTest.class.getClassLoader());
+	}
+
+	/**
+	 * Draws a line.
+	 */
+	private static void line(final DrawPanel panel, final int x1, final int y1, final int x2, final int y2) {
+		final List<Integer> x = new ArrayList<Integer>();
+		final List<Integer> y = new ArrayList<Integer>();
+		for (int i = 0; i <= 10; i++) {
+			x.add(x1 + (x2 - x1) * i / 10);
+			y.add(y1 + (y2 - y1) * i / 10);
+		}
+		panel.xstrokes.add(x);
+		panel.ystrokes.add(y);
+	}
+
+	@Test
+	public void recognizeIchi() throws IOException {
+		final DrawPanel panel = newPanel();
+		line(panel, 10, 50, 130, 50);
+		assertEquals('一', panel.analyzeKanji().charAt(0));
+	}
+
+	@Test
+	public void strokeTolerance() throws IOException {
+		final DrawPanel panel = newPanel();
+		line(panel, 30, 40, 110, 40);
+		line(panel, 10, 100, 130, 100);
+		// only kanjis with two strokes are matched
+		final String exact = panel.analyzeKanji();
+		assertEquals('二', exact.charAt(0));
+		assertTrue(exact.indexOf('一') < 0);
+		// one stroke less or more is tolerated, the exact stroke count is preferred
+		final String tolerant = panel.analyzeKanji(1);
+		assertEquals('二', tolerant.charAt(0));
+		assertTrue(tolerant.indexOf('一') > 0);
+	}
+
+	@Test
+	public void incrementalRecognitionEqualsFullRecognition() throws IOException {
+		final Random r = new Random(1);
+		final DrawPanel panel = newPanel();
+		for (int stroke = 0; stroke < 8; stroke++) {
+			line(panel, r.nextInt(200), r.nextInt(200), r.nextInt(200), r.nextInt(200));
+			panel.analyzeKanji(1);
+			if (stroke % 3 == 1) {
+				panel.undoLastStroke();
+				line(panel, r.nextInt(200), r.nextInt(200), r.nextInt(200), r.nextInt(200));
+			}
+			// the last stroke is still being drawn
+			panel.xstrokes.get(stroke).add(r.nextInt(200));
+			panel.ystrokes.get(stroke).add(r.nextInt(200));
+			final DrawPanel fresh = newPanel();
+			fresh.xstrokes.addAll(panel.xstrokes);
+			fresh.ystrokes.addAll(panel.ystrokes);
+			assertEquals(fresh.analyzeKanji(), panel.analyzeKanji());
+			assertEquals(fresh.analyzeKanji(1), panel.analyzeKanji(1));
+		}
+	}
+
+	@Test
+	public void strokesAreCopied() throws IOException {
+		final DrawPanel panel = newPanel();
+		line(panel, 10, 50, 130, 50);
+		final DrawPanel.Strokes strokes = panel.getStrokes();
+		// the user keeps drawing while the copy is analyzed
+		line(panel, 70, 10, 70, 130);
+		panel.xstrokes.get(0).add(10);
+		panel.ystrokes.get(0).add(130);
+		assertEquals('一', panel.analyzeKanji(strokes, 0).charAt(0));
+		final DrawPanel fresh = newPanel();
+		fresh.xstrokes.addAll(panel.xstrokes);
+		fresh.ystrokes.addAll(panel.ystrokes);
+		assertEquals(fresh.analyzeKanji(), panel.analyzeKanji());
+	}
+
+	@Test
+	public void noStrokes() throws IOException {
+		assertEquals("", newPanel().analyzeKanji(1));
+	}
+}
@@ -0,0 +1,85 @@
+/**
+ *     Aedict - an EDICT browser for Android
+Copyright (C) 2009 Martin Vysny
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package edu.arizona.cs.javadict;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+/**
+ * Tests the {@link StrokeDatabase} class.
+ * 
+ * @author Martin Vysny
+ */
+public class StrokeDatabaseTest {
+
+	private static StrokeDatabase.Entries compile(final String unistrok, final int strokes) throws IOException {
+		return StrokeDatabase.compile(new ByteArrayInputStream(unistrok.getBytes("UTF-8")), strokes);
+	}
+
+	@Test
+	public void compile() throws IOException {
+		final StrokeDatabase.Entries e = compile("# comment\n\n5ddd 6 \t| x 2 2\n0 2268\t| 2 b 6\n5c0f 7\t| 2 1\n53e3 1\t| 2 c 6 | x1-x2 l3-j1!\n", 3);
+		// the 5c0f line does not have 3 strokes and is skipped
+		assertEquals("川?口", new String(e.kanjis));
+		// the b, c and x codes are expanded
+		assertEquals("2122" + "2626" + "2266", new String(e.directions, "ASCII"));
+		assertTrue(Arrays.equals(new int[] { 0, 2, 3, 4, 5, 7, 8, 9, 11, 12 }, e.strokeStart));
+		assertTrue(Arrays.equals(new int[] { 0, 0, 0, 10 }, e.filterStart));
+		assertTrue(Arrays.equals(new byte[] { StrokeDatabase.VAL_FIRST_X, 0, StrokeDatabase.VAL_FIRST_X, 1, 0, StrokeDatabase.VAL_LENGTH, 2, StrokeDatabase.VAL_LAST_Y, 0, 1 },
+				e.filters));
+	}
+
+	@Test(expected = IOException.class)
+	public void unknownSymbol() throws IOException {
+		compile("5ddd | z 2 2\n", 3);
+	}
+
+	@Test(expected = IOException.class)
+	public void filterStrokeOutOfRange() throws IOException {
+		compile("5ddd | 2 2 2 | x1-x4\n", 3);
+	}
+
+	@Test
+	public void binaryFormat() throws IOException {
+		final StrokeDatabase db = StrokeDatabase.getInstance(getClass().getClassLoader());
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		db.write(out);
+		final StrokeDatabase db2 = StrokeDatabase.read(new ByteArrayInputStream(out.toByteArray()));
+		for (int strokes = 0; strokes <= StrokeDatabase.MAX_STROKES; strokes++) {
+			final StrokeDatabase.Entries e = db.get(strokes);
+			final StrokeDatabase.Entries e2 = db2.get(strokes);
+			if (e == null) {
+				assertNull(e2);
+				continue;
+			}
+			assertTrue(Arrays.equals(e.kanjis, e2.kanjis));
+			assertTrue(Arrays.equals(e.directions, e2.directions));
+			assertTrue(Arrays.equals(e.strokeStart, e2.strokeStart));
+			assertTrue(Arrays.equals(e.filters, e2.filters));
+			assertTrue(Arrays.equals(e.filterStart, e2.filterStart));
+		}
+		assertNotNull(db.get(1));
+		assertNull(db.get(0));
+	}
+}
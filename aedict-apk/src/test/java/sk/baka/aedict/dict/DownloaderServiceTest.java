@@ -0,0 +1,90 @@
+/**
+ *     Aedict - an EDICT browser for Android
+Copyright (C) 2009 Martin Vysny
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package sk.baka.aedict.dict;
+
+import static org.junit.Assert.*;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import sk.baka.aedict.dict.DownloaderService.SodDownloader;
+import sk.baka.aedict.util.SodFile;
+import sk.baka.aedict.util.SodLoader;
+import sk.baka.autils.MiscUtils;
+
+/**
+ * Tests the {@link DownloaderService} class.
+ * 
+ * @author Martin Vysny
+ */
+public class DownloaderServiceTest {
+	private File dir;
+	private DownloaderService service;
+
+	@Before
+	public void createDir() throws IOException {
+		dir = File.createTempFile("sod", "");
+		dir.delete();
+		assertTrue(dir.mkdir());
+		service = new DownloaderService();
+	}
+
+	@After
+	public void deleteDir() throws IOException {
+		service.close();
+		MiscUtils.deleteDir(dir);
+	}
+
+	@Test
+	public void leftoverPartialFileIsNotInstalled() throws IOException {
+		assertTrue(new File(dir, ".sod.dat.download").createNewFile());
+		assertTrue(new File(dir, ".sod.dat.download.validator").createNewFile());
+		assertFalse(service.isComplete(dir.getAbsolutePath()));
+		assertTrue(new File(dir, "sod.dat").createNewFile());
+		assertTrue(service.isComplete(dir.getAbsolutePath()));
+	}
+
+	@Test
+	public void sodPartialFileIsOutsideOfTargetDirectory() {
+		final SodDownloader downloader = new SodDownloader();
+		assertFalse(downloader.getPartialFile().getParentFile().equals(new File(downloader.targetDir)));
+	}
+
+	@Test
+	public void sodSizeIsComputedFromKanjiCount() throws IOException {
+		final SodFile.Writer writer = new SodFile.Writer();
+		writer.add('母', new byte[] { 1 });
+		writer.add('川', new byte[] { 2 });
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		writer.write(out, true);
+		final InputStream in = new BufferedInputStream(new ByteArrayInputStream(out.toByteArray()));
+		final long size = new SodDownloader().getSize(0, in);
+		assertEquals(SodLoader.getSize(2), size);
+		assertTrue(size < SodLoader.UNPACKED_SIZE);
+		// the stream is not consumed
+		assertEquals(out.toByteArray()[0], (byte) in.read());
+	}
+}
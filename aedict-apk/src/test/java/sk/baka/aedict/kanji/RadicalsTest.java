@@ -0,0 +1,89 @@
+/**
+ *     Aedict - an EDICT browser for Android
+Copyright (C) 2009 Martin Vysny
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package sk.baka.aedict.kanji;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Test;
+
+/**
+ * Tests the {@link Radicals} class.
+ * 
+ * @author Martin Vysny
+ */
+public class RadicalsTest {
+
+	@Test
+	public void getRadicals() {
+		// compare with a plain scan of all radicals
+		for (final char kanji : "読語母親一人".toCharArray()) {
+			final StringBuilder expected = new StringBuilder();
+			for (final char radical : Radicals.RADICAL_ORDERING.toCharArray()) {
+				if (Radicals.getRadical(radical).kanjis.indexOf(kanji) >= 0) {
+					expected.append(radical);
+				}
+			}
+			assertEquals(expected.toString(), Radicals.getRadicals(kanji));
+		}
+		assertTrue(Radicals.getRadicals('読').indexOf('言') >= 0);
+		assertEquals("", Radicals.getRadicals('a'));
+	}
+
+	@Test
+	public void getKanjisWithRadicals() {
+		final Set<Character> expected = new HashSet<Character>();
+		for (final char kanji : Radicals.getRadical('言').kanjis.toCharArray()) {
+			if (Radicals.getRadical('口').kanjis.indexOf(kanji) >= 0) {
+				expected.add(kanji);
+			}
+		}
+		assertFalse(expected.isEmpty());
+		assertEquals(expected, Radicals.getKanjisWithRadicals(new char[] { '言', '口' }));
+		assertEquals(expected, Radicals.getKanjisWithRadicals(new char[] { '口', '言', '口' }));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void emptyRadicals() {
+		Radicals.getKanjisWithRadicals(new char[0]);
+	}
+
+	@Test
+	public void getKanjisWithRadicalsAndStrokes() {
+		final Map<Integer, String> strokes = new HashMap<Integer, String>();
+		strokes.put(3, "口");
+		strokes.put(7, "言");
+		strokes.put(14, "語読");
+		strokes.put(15, "語");
+		assertEquals("語読", sorted(Radicals.getKanjisWithRadicals(new char[] { '言' }, 14, 14, strokes)));
+		assertEquals("語", Radicals.getKanjisWithRadicals(new char[] { '言', '口' }, 13, 15, strokes));
+		assertEquals("言語読", sorted(Radicals.getKanjisWithRadicals(new char[] { '言' }, 6, 16, strokes)));
+		assertEquals("", Radicals.getKanjisWithRadicals(new char[] { '言' }, 20, 22, strokes));
+	}
+
+	private static String sorted(final String kanjis) {
+		final char[] c = kanjis.toCharArray();
+		Arrays.sort(c);
+		return new String(c);
+	}
+}
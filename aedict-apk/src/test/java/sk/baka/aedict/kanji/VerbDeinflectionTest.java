@@ -19,6 +19,7 @@ package sk.baka.aedict.kanji;
 
 import static sk.baka.tools.test.Assert.assertArrayEqualsNoOrder;
 import static sk.baka.tools.test.Assert.assertUtilityClass;
+import static org.junit.Assert.assertEquals;
 
 import java.util.Arrays;
 import java.util.List;
@@ -26,6 +27,8 @@ import java.util.List;
 import org.junit.Test;
 
 import sk.baka.aedict.dict.SearchQuery;
+import sk.baka.aedict.kanji.Deinflections.Deinflection;
+import sk.baka.aedict.kanji.VerbInflection.Form;
 import sk.baka.tools.test.Assert;
 
 /**
@@ -188,4 +191,29 @@ public class VerbDeinflectionTest {
         Arrays.sort(q.query);
         Assert.assertArrayEquals(q.query, new String[]{"たぶ", "たべる"});
     }
+
+    @Test
+    public void deinflectionChain() {
+        final List<Deinflection> chain = VerbDeinflection.deinflect("tabenakatta").deinflections;
+        assertEquals(3, chain.size());
+        assertEquals("tabenakatta", chain.get(0).inflected);
+        assertEquals(Form.NEGATIVE_PAST, chain.get(0).inflectedForm);
+        assertArrayEqualsNoOrder(chain.get(0).deinflected, new String[]{"tabenai"});
+        assertEquals("tabenai", chain.get(1).inflected);
+        assertEquals(Form.NEGATIVE, chain.get(1).inflectedForm);
+        assertArrayEqualsNoOrder(chain.get(1).deinflected, new String[]{"taberu"});
+        assertEquals("taberu", chain.get(2).inflected);
+        assertEquals(Form.ABLE_TO_DO2, chain.get(2).inflectedForm);
+        assertArrayEqualsNoOrder(chain.get(2).deinflected, new String[]{"taberu", "tabu"});
+    }
+
+    @Test
+    public void cachedDeinflectionsAreNotShared() {
+        final Deinflections d = VerbDeinflection.deinflect("tabenai");
+        d.deinflectedVerbs.clear();
+        d.deinflections.get(0).deinflected[0] = "foo";
+        final Deinflections d2 = VerbDeinflection.deinflect("tabenai");
+        assertArrayEqualsNoOrder(d2.deinflectedVerbs, Arrays.asList("taberu", "tabu"));
+        assertArrayEqualsNoOrder(d2.deinflections.get(0).deinflected, new String[]{"taberu"});
+    }
 }
@@ -0,0 +1,117 @@
+/**
+ *     Aedict - an EDICT browser for Android
+ Copyright (C) 2009 Martin Vysny
+ 
+ This program is free software: you can redistribute it and/or modify
+ it under the terms of the GNU General Public License as published by
+ the Free Software Foundation, either version 3 of the License, or
+ (at your option) any later version.
+ 
+ This program is distributed in the hope that it will be useful,
+ but WITHOUT ANY WARRANTY; without even the implied warranty of
+ MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ GNU General Public License for more details.
+
+ You should have received a copy of the GNU General Public License
+ along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package sk.baka.aedict.util;
+
+import static org.junit.Assert.*;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests the {@link SodLoader} class.
+ * 
+ * @author Martin Vysny
+ */
+public class SodLoaderTest {
+	private File file;
+
+	@Before
+	public void createFile() throws IOException {
+		file = File.createTempFile("sod", ".dat");
+	}
+
+	@After
+	public void deleteFile() {
+		file.delete();
+	}
+
+	/**
+	 * Writes a SOD file with given kanjis, the image of each kanji is filled
+	 * with the kanji index, the length of the image is the index + 1.
+	 */
+	private void write(final String kanjis) throws IOException {
+		final DataOutputStream out = new DataOutputStream(new FileOutputStream(file));
+		try {
+			out.writeInt(kanjis.length());
+			int offset = 4 + kanjis.length() * 6;
+			for (int i = 0; i < kanjis.length(); i++) {
+				out.writeChar(kanjis.charAt(i));
+				out.writeInt(offset);
+				offset += i + 1;
+			}
+			for (int i = 0; i < kanjis.length(); i++) {
+				final byte[] img = new byte[i + 1];
+				Arrays.fill(img, (byte) i);
+				out.write(img);
+			}
+		} finally {
+			out.close();
+		}
+	}
+
+	@Test
+	public void load() throws IOException {
+		// the entries are ordered by the offset, not by the kanji
+		final String kanjis = "母今日川口一";
+		write(kanjis);
+		final SodLoader loader = new SodLoader(file);
+		assertEquals(6, loader.getKanjiCount());
+		for (int i = 0; i < kanjis.length(); i++) {
+			final byte[] img = new byte[i + 1];
+			Arrays.fill(img, (byte) i);
+			assertArrayEquals(img, loader.load(kanjis.charAt(i)));
+		}
+		assertNull(loader.load('二'));
+	}
+
+	@Test
+	public void emptyFile() throws IOException {
+		write("");
+		final SodLoader loader = new SodLoader(file);
+		assertEquals(0, loader.getKanjiCount());
+		assertNull(loader.load('一'));
+	}
+
+	@Test(expected = IOException.class)
+	public void truncatedFile() throws IOException {
+		write("母今日");
+		final byte[] data = new byte[10];
+		final FileInputStream in = new FileInputStream(file);
+		try {
+			in.read(data);
+		} finally {
+			in.close();
+		}
+		final FileOutputStream out = new FileOutputStream(file);
+		try {
+			out.write(data);
+		} finally {
+			out.close();
+		}
+		new SodLoader(file);
+	}
+}
@@ -232,6 +232,20 @@ public class DictEntry implements Comparable<DictEntry>, Serializable {
         return getJapanese().compareTo(another.getJapanese());
     }
 
+    /**
+     * Returns a rank of this entry. Lower rank means that the entry is placed
+     * before entries with higher rank, as per {@link #compareTo(DictEntry)}
+     * rules; the only exception is the last rule - entries with equal rank are
+     * not ordered. The rank is stored in the index, which allows Lucene to
+     * retrieve the top entries directly.
+     *
+     * @return the rank, a non-negative number. Undefined for invalid entries.
+     */
+    public final long getRank() {
+        final long length = Math.min(getJapanese().length(), 0xFFFF);
+        return ((isCommonNotNull() ? 0L : 1L) << 48) | (length << 32) | getCommonality();
+    }
+
     @Override
     public final int hashCode() {
         return hashCode(getJapanese()) * 1001 + hashCode(english);
@@ -19,12 +19,19 @@ package sk.baka.aedict.dict;
 
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.StringTokenizer;
 import java.util.zip.DataFormatException;
 import org.apache.lucene.document.CompressionTools;
 import org.apache.lucene.document.Document;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
 import sk.baka.aedict.util.Iso6393Codes;
 import sk.baka.autils.ListBuilder;
 import sk.baka.autils.MiscUtils;
@@ -73,9 +80,86 @@ public enum DictTypeEnum {
                     }
                 }
             }
+            // the common words are returned first by the means of getSort(), see
+            // http://code.google.com/p/aedict/issues/detail?id=47
+            return new String[]{sb.toString()};
+        }
+
+        @Override
+        public Query[] buildLuceneQuery(SearchQuery query) {
+            return buildLuceneQuery(query, false);
+        }
+
+        @Override
+        public Query[] buildLuceneQuery(SearchQuery query, Set<String> indexedFields) {
+            return buildLuceneQuery(query, indexedFields.contains(EDICT_JP_BIGRAM_FIELD));
+        }
+
+        private Query[] buildLuceneQuery(final SearchQuery query, final boolean bigrams) {
+            final List<Query> or = new ArrayList<Query>();
+            for (final String q : query.query) {
+                final List<Query> and = new ArrayList<Query>();
+                for (final String term : splitAnd(q)) {
+                    if (query.isJapanese) {
+                        final boolean boundaryBefore = query.matcher == MatcherEnum.Exact || query.matcher == MatcherEnum.StartsWith;
+                        final boolean boundaryAfter = query.matcher == MatcherEnum.Exact || query.matcher == MatcherEnum.EndsWith;
+                        if (bigrams) {
+                            and.add(LuceneQueries.jpBigramPhrase(EDICT_JP_BIGRAM_FIELD, term, boundaryBefore, boundaryAfter));
+                        } else {
+                            and.add(LuceneQueries.jpPhrase("jp", term, boundaryBefore, boundaryAfter));
+                        }
+                    } else {
+                        and.add(LuceneQueries.phrase("contents", term));
+                    }
+                }
+                or.add(LuceneQueries.and(and));
+            }
+            final Query q = LuceneQueries.or(or);
+            return new Query[]{q == null ? new BooleanQuery() : q};
+        }
+
+        @Override
+        public Query[] buildExactLuceneQuery(SearchQuery query, Set<String> indexedFields) {
+            if (query.isJapanese || query.matcher == MatcherEnum.Substring || !indexedFields.contains(EDICT_GLOSS_FIELD)) {
+                return null;
+            }
+            final List<Query> or = new ArrayList<Query>();
+            for (final String q : query.query) {
+                final List<Query> and = new ArrayList<Query>();
+                for (final String term : splitAnd(q)) {
+                    final String gloss = term.toLowerCase();
+                    for (int i = 0; i < gloss.length(); i++) {
+                        final char c = gloss.charAt(i);
+                        if (!isWordPart(c) && !Character.isWhitespace(c)) {
+                            // the term spans multiple glosses, cannot be
+                            // matched by a single term lookup
+                            return null;
+                        }
+                    }
+                    and.add(LuceneQueries.term(EDICT_GLOSS_FIELD, gloss));
+                }
+                or.add(LuceneQueries.and(and));
+            }
+            final Query q = LuceneQueries.or(or);
+            if (q == null) {
+                return null;
+            }
+            return new Query[]{q};
+        }
+
+        @Override
+        public String getExactLookupField() {
+            return EDICT_HEADWORD_FIELD;
+        }
+
+        @Override
+        public Sort getSort(boolean sorted, Set<String> indexedFields) {
+            if (sorted && indexedFields.contains(EDICT_RANK_FIELD)) {
+                return new Sort(new SortField(EDICT_RANK_FIELD, SortField.LONG));
+            }
             // first the common words are returned, then return all the rest
             // fixes http://code.google.com/p/aedict/issues/detail?id=47
-            return new String[]{"(" + sb + ") AND common:t", "(" + sb + ") AND common:f"};
+            return new Sort(new SortField("common", SortField.STRING, true), SortField.FIELD_SCORE);
         }
 
         @Override
@@ -125,10 +209,6 @@ public enum DictTypeEnum {
             return false;
         }
 
-        private boolean isWordPart(final char c) {
-            return c == '-' || c == '\'' || c == '.' || c == ',' || Character.isLetter(c);
-        }
-
         private char skipWhitespaces(final String line, final int charIndex, final int direction) {
             for (int i = charIndex; i >= 0 && i < line.length(); i += direction) {
                 final char c = line.charAt(i);
@@ -177,6 +257,48 @@ public enum DictTypeEnum {
             return new String[]{qb.toString()};
         }
 
+        @Override
+        public Query[] buildLuceneQuery(SearchQuery q) {
+            // q.query can be null in case we are performing e.g. a pure SKIP
+            // lookup (see the SkipActivity for details)
+            final List<Query> and = new ArrayList<Query>();
+            if (q.query != null) {
+                if (q.query.length != 1) {
+                    throw new IllegalStateException("Kanjidic search requires a single kanji character search");
+                }
+                and.add(LuceneQueries.term("kanji", q.query[0].trim()));
+            }
+            if (q.strokeCount != null) {
+                final int plusMinus = q.strokesPlusMinus == null ? 0 : q.strokesPlusMinus;
+                if ((plusMinus > 3) || (plusMinus < 0)) {
+                    throw new IllegalStateException("Invalid value: " + q.strokesPlusMinus);
+                }
+                // the strokes field is a plain text field, not a numeric one:
+                // enumerate all allowed stroke counts.
+                final List<Query> strokes = new ArrayList<Query>();
+                for (int i = q.strokeCount - plusMinus; i <= q.strokeCount + plusMinus; i++) {
+                    strokes.add(LuceneQueries.term("strokes", String.valueOf(i)));
+                }
+                and.add(LuceneQueries.or(strokes));
+            }
+            if (q.skip != null) {
+                and.add(LuceneQueries.term("skip", q.skip));
+            }
+            if (q.radical != null) {
+                and.add(LuceneQueries.term("radical", String.valueOf(q.radical)));
+            }
+            final Query result = LuceneQueries.and(and);
+            if (result == null) {
+                throw new IllegalStateException("Kanjidic search requires a kanji, a stroke count, a SKIP code or a radical");
+            }
+            return new Query[]{result};
+        }
+
+        @Override
+        public String getExactLookupField() {
+            return "kanji";
+        }
+
         @Override
         public String getDefaultDictionaryLoc() {
             return "index-kanjidic";
@@ -263,6 +385,16 @@ public enum DictTypeEnum {
 	    bu.add("("+b.toString()+")");
 	}
 
+        @Override
+        public Query[] buildLuceneQuery(SearchQuery query) {
+            return new Query[]{buildSampleSentenceQuery(query, "english", false)};
+        }
+
+        @Override
+        public Query[] buildLuceneQuery(SearchQuery query, Set<String> indexedFields) {
+            return new Query[]{buildSampleSentenceQuery(query, "english", indexedFields.contains(SENTENCE_JP_BIGRAM_FIELD))};
+        }
+
         @Override
         public String getDefaultDictionaryLoc() {
             return "index-tanaka";
@@ -329,6 +461,16 @@ public enum DictTypeEnum {
 	    bu.add("("+b.toString()+")");
 	}
 
+        @Override
+        public Query[] buildLuceneQuery(SearchQuery query) {
+            return new Query[]{buildSampleSentenceQuery(query, "translations", false)};
+        }
+
+        @Override
+        public Query[] buildLuceneQuery(SearchQuery query, Set<String> indexedFields) {
+            return new Query[]{buildSampleSentenceQuery(query, "translations", indexedFields.contains(SENTENCE_JP_BIGRAM_FIELD))};
+        }
+
         @Override
         public String getDefaultDictionaryLoc() {
             return "index-tatoeba";
@@ -399,6 +541,211 @@ public enum DictTypeEnum {
      */
     public abstract String[] getLuceneQuery(final SearchQuery query);
 
+    /**
+     * Returns a Lucene query which matches given query as close as possible.
+     * Equal to parsing the {@link #getLuceneQuery(SearchQuery)} query
+     * strings, but avoids the query string formatting and parsing.
+     *
+     * @param query
+     *            the query.
+     * @return the Apache Lucene query, or a list of queries. Must not be null
+     *         nor empty. If multiple queries are returned they have to be
+     *         executed in given order.
+     */
+    public abstract Query[] buildLuceneQuery(final SearchQuery query);
+
+    /**
+     * Returns a Lucene query which matches given query as close as possible,
+     * using the best fields available in the index. Newer indices contain
+     * fields which are searched faster, see {@link #EDICT_JP_BIGRAM_FIELD}.
+     *
+     * @param query
+     *            the query.
+     * @param indexedFields
+     *            names of all fields indexed in the dictionary being searched.
+     * @return the Apache Lucene query, or a list of queries. Must not be null
+     *         nor empty. If multiple queries are returned they have to be
+     *         executed in given order. Defaults to
+     *         {@link #buildLuceneQuery(SearchQuery)}.
+     */
+    public Query[] buildLuceneQuery(final SearchQuery query, final Set<String> indexedFields) {
+        return buildLuceneQuery(query);
+    }
+
+    /**
+     * Returns a Lucene query which matches exactly the entries accepted by
+     * {@link #tryGetEntry(Document, SearchQuery)}, therefore there is no need
+     * to over-fetch the documents and filter them afterwards. Such queries
+     * typically use fields which are not present in older indices.
+     *
+     * @param query
+     *            the query.
+     * @param indexedFields
+     *            names of all fields indexed in the dictionary being searched.
+     * @return the Apache Lucene query, or a list of queries which have to be
+     *         executed in given order. Returns null if there is no such query
+     *         for this dictionary, this query or this index; the
+     *         {@link #buildLuceneQuery(SearchQuery)} should be used instead.
+     */
+    public Query[] buildExactLuceneQuery(final SearchQuery query, final Set<String> indexedFields) {
+        return null;
+    }
+    /**
+     * Returns the order of the search results.
+     *
+     * @param sorted
+     *            if true then the results should be ordered as specified by
+     *            {@link DictEntry#compareTo(DictEntry)}.
+     * @param indexedFields
+     *            names of all fields indexed in the dictionary being searched.
+     * @return the sort, null if the results should be ordered by relevance.
+     *         Note that the order of the results may not follow the
+     *         {@link DictEntry#compareTo(DictEntry)} order exactly even if
+     *         sorted is true, thus the results have to be sorted anyway.
+     */
+    public Sort getSort(final boolean sorted, final Set<String> indexedFields) {
+        return null;
+    }
+    /**
+     * Returns an untokenized index field which contains the Japanese
+     * headwords, see {@link LuceneSearch#lookupExact(java.util.Collection, int)}.
+     *
+     * @return the field name, null if the dictionary does not have such
+     *         field.
+     */
+    public String getExactLookupField() {
+        return null;
+    }
+    /**
+     * The EDICT index field which contains both the kanji and the reading of
+     * the entry as lower-cased untokenized terms.
+     */
+    public static final String EDICT_HEADWORD_FIELD = "headword";
+    /**
+     * The EDICT index field which contains the {@link DictEntry#getRank() rank} of the entry.
+     */
+    public static final String EDICT_RANK_FIELD = "rank";
+    /**
+     * The EDICT index field which contains all {@link #getEdictGlosses(String) glosses}
+     * of the entry as untokenized terms.
+     */
+    public static final String EDICT_GLOSS_FIELD = "gloss";
+    /**
+     * The EDICT index field which contains the kanji and the reading of the
+     * entry, analyzed by the {@link JapaneseAnalyzer}. Supersedes the "jp"
+     * field.
+     */
+    public static final String EDICT_JP_BIGRAM_FIELD = "jp-bigram";
+    /**
+     * The EDICT index field which contains all {@link sk.baka.aedict.kanji.VerbInflection#inflect(EdictEntry) inflected forms}
+     * of a verb entry as untokenized terms, see
+     * {@link LuceneSearch#lookupInflected(String, int)}.
+     */
+    public static final String EDICT_INFLECTED_FIELD = "inflected";
+    /**
+     * The Tanaka/Tatoeba index field which contains the Japanese sentence,
+     * analyzed by the {@link JapaneseAnalyzer}. Supersedes the "japanese"
+     * field when searching.
+     */
+    public static final String SENTENCE_JP_BIGRAM_FIELD = "japanese-bigram";
+
+    private static boolean isWordPart(final char c) {
+        return c == '-' || c == '\'' || c == '.' || c == ',' || Character.isLetter(c);
+    }
+
+    /**
+     * Splits the English part of an EDICT entry into glosses: lower-cased,
+     * trimmed segments delimited by characters which are neither word parts
+     * nor whitespaces (slashes, parentheses, semicolons, digits etc). An
+     * English query exactly {@link #matches(DictEntry, boolean, String, MatcherEnum) matches}
+     * an EDICT entry if and only if it is equal to one of its glosses.
+     *
+     * @param english
+     *            the English part of the EDICT entry, see
+     *            {@link DictEntry#english}.
+     * @return the glosses, never null, without empty strings.
+     */
+    public static List<String> getEdictGlosses(final String english) {
+        final String line = english.toLowerCase();
+        final List<String> result = new ArrayList<String>();
+        int start = 0;
+        for (int i = 0; i <= line.length(); i++) {
+            if (i == line.length() || !(isWordPart(line.charAt(i)) || Character.isWhitespace(line.charAt(i)))) {
+                int from = start;
+                int to = i;
+                while (from < to && Character.isWhitespace(line.charAt(from))) {
+                    from++;
+                }
+                while (to > from && Character.isWhitespace(line.charAt(to - 1))) {
+                    to--;
+                }
+                if (from < to) {
+                    result.add(line.substring(from, to));
+                }
+                start = i + 1;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Splits the query string to terms which all must be matched.
+     *
+     * @param query
+     *            the query string, in the form of "term1 AND term2 AND ...".
+     * @return trimmed terms, never null.
+     */
+    static String[] splitAnd(final String query) {
+        final String[] result = query.trim().split("\\s+AND\\s+");
+        for (int i = 0; i < result.length; i++) {
+            result[i] = result[i].trim();
+        }
+        return result;
+    }
+
+    /**
+     * Builds a query for the Tanaka/Tatoeba example sentences.
+     *
+     * @param query
+     *            the query
+     * @param translationField
+     *            the name of the field containing the translated sentence.
+     * @param bigrams
+     *            if true then the {@link #SENTENCE_JP_BIGRAM_FIELD} is
+     *            searched instead of the "japanese" field.
+     * @return the query, never null.
+     */
+    private static Query buildSampleSentenceQuery(final SearchQuery query, final String translationField, final boolean bigrams) {
+        final List<Query> or = new ArrayList<Query>();
+        for (final String q : query.trim().query) {
+            final String[] qs = splitAnd(q);
+            if (query.isJapanese) {
+                if (bigrams) {
+                    final List<Query> and = new ArrayList<Query>(qs.length);
+                    for (final String term : qs) {
+                        and.add(LuceneQueries.jpBigramPhrase(SENTENCE_JP_BIGRAM_FIELD, term, false, false));
+                    }
+                    or.add(LuceneQueries.and(and));
+                } else {
+                    or.add(buildPhrasesQuery("japanese", qs));
+                }
+                or.add(buildPhrasesQuery("jp-deinflected", qs));
+            } else {
+                or.add(buildPhrasesQuery(translationField, qs));
+            }
+        }
+        final Query result = LuceneQueries.or(or);
+        return result == null ? new BooleanQuery() : result;
+    }
+
+    private static Query buildPhrasesQuery(final String field, final String[] andTerms) {
+        final List<Query> and = new ArrayList<Query>(andTerms.length);
+        for (final String term : andTerms) {
+            and.add(LuceneQueries.phrase(field, term));
+        }
+        return LuceneQueries.and(and);
+    }
+
     /**
      * The default dictionary location. A directory name without the
      * '/sdcard/aedict/' prefix.
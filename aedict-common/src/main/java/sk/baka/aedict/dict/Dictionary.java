@@ -129,9 +129,11 @@ public class Dictionary implements Serializable {
 	}
 
 	/**
-	 * Deletes this dictionary from the SD Card.
+	 * Deletes this dictionary from the SD Card. The opened index is dropped from
+	 * the {@link SearcherPool} first.
 	 */
 	public void delete() throws IOException {
+		SearcherPool.invalidate(this);
 		MiscUtils.deleteDir(getDictionaryLocation());
 	}
 
@@ -0,0 +1,290 @@
+/**
+ *     Aedict - an EDICT browser for Android
+Copyright (C) 2009 Martin Vysny
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package sk.baka.aedict.dict;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * A read-only trie of all EDICT headwords (kanji and readings), used for a
+ * fast longest-match word segmentation. The trie is produced by the indexer
+ * and stored in the EDICT index directory as {@link #FILE_NAME}; the file is
+ * memory-mapped, not loaded into the heap.
+ * <p/>
+ * The file format: magic number, format version, the node count N, then
+ * N+1 ints denoting the index of the first child of each node, N chars with
+ * the labels of the edges leading into the nodes and finally a bit set of
+ * nodes which terminate a headword. The nodes are stored in the breadth-first
+ * order, therefore children of a node form a contiguous block, sorted by the
+ * label. The root node has the index of 0.
+ * <p/>
+ * The matching is case-insensitive: all characters are lower-cased by
+ * {@link Character#toLowerCase(char)}.
+ *
+ * @author Martin Vysny
+ */
+public final class HeadwordTrie {
+
+    /**
+     * The trie file name, located in the EDICT index directory.
+     */
+    public static final String FILE_NAME = "headwords.trie";
+    private static final int MAGIC = 0x41545249;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 12;
+    private final ByteBuffer buffer;
+    private final int nodeCount;
+    private final int labelsOffset;
+    private final int terminalOffset;
+
+    /**
+     * Creates the trie from given buffer.
+     *
+     * @param buffer
+     *            the contents of the trie file, not null.
+     * @throws IOException
+     *             if the buffer does not contain a valid trie.
+     */
+    public HeadwordTrie(final ByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a headword trie");
+        }
+        if (buffer.getInt(4) != VERSION) {
+            throw new IOException("Unsupported headword trie version " + buffer.getInt(4));
+        }
+        nodeCount = buffer.getInt(8);
+        labelsOffset = HEADER_SIZE + (nodeCount + 1) * 4;
+        terminalOffset = labelsOffset + nodeCount * 2;
+        if (buffer.capacity() < terminalOffset + (nodeCount + 7) / 8) {
+            throw new IOException("The headword trie is truncated");
+        }
+    }
+
+    /**
+     * Memory-maps given trie file.
+     *
+     * @param file
+     *            the trie file, not null.
+     * @return the trie, never null.
+     * @throws IOException
+     *             on I/O error or if the file is not a valid trie.
+     */
+    public static HeadwordTrie open(final File file) throws IOException {
+        final FileInputStream in = new FileInputStream(file);
+        try {
+            final FileChannel channel = in.getChannel();
+            return new HeadwordTrie(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        } finally {
+            in.close();
+        }
+    }
+
+    /**
+     * Opens the trie of given EDICT dictionary.
+     *
+     * @param dictionaryPath
+     *            the EDICT index directory.
+     * @return the trie, null if the dictionary does not provide the trie
+     *         (older dictionaries).
+     * @throws IOException
+     *             on I/O error.
+     */
+    public static HeadwordTrie forDictionary(final String dictionaryPath) throws IOException {
+        final File file = new File(dictionaryPath, FILE_NAME);
+        return file.exists() ? open(file) : null;
+    }
+
+    private int firstChild(final int node) {
+        return buffer.getInt(HEADER_SIZE + node * 4);
+    }
+
+    private char label(final int node) {
+        return buffer.getChar(labelsOffset + node * 2);
+    }
+
+    private boolean isTerminal(final int node) {
+        return (buffer.get(terminalOffset + node / 8) & (1 << (node % 8))) != 0;
+    }
+
+    private int child(final int node, final char c) {
+        int lo = firstChild(node);
+        int hi = firstChild(node + 1) - 1;
+        while (lo <= hi) {
+            final int mid = (lo + hi) >>> 1;
+            final char label = label(mid);
+            if (label < c) {
+                lo = mid + 1;
+            } else if (label > c) {
+                hi = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the length of the longest headword which is a prefix of given
+     * text, starting at given index.
+     *
+     * @param text
+     *            the text, not null.
+     * @param start
+     *            the start index.
+     * @return the length of the longest headword, 0 if there is no such
+     *         headword.
+     */
+    public int longestPrefix(final CharSequence text, final int start) {
+        int result = 0;
+        int node = 0;
+        for (int i = start; i < text.length(); i++) {
+            node = child(node, Character.toLowerCase(text.charAt(i)));
+            if (node < 0) {
+                break;
+            }
+            if (isTerminal(node)) {
+                result = i - start + 1;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Checks if given word is a headword.
+     *
+     * @param word
+     *            the word, not null.
+     * @return true if the word is present in the trie.
+     */
+    public boolean contains(final CharSequence word) {
+        return word.length() > 0 && longestPrefix(word, 0) == word.length();
+    }
+
+    /**
+     * Returns the number of trie nodes.
+     *
+     * @return the number of nodes, including the root node.
+     */
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * Collects the headwords and writes the trie file.
+     *
+     * @author Martin Vysny
+     */
+    public static final class Builder {
+
+        private final TreeSet<String> words = new TreeSet<String>();
+
+        /**
+         * Adds a headword to the trie.
+         *
+         * @param word
+         *            the word, may be null or empty - such words are ignored.
+         */
+        public void add(final String word) {
+            if (word == null || word.length() == 0) {
+                return;
+            }
+            final char[] chars = word.toCharArray();
+            for (int i = 0; i < chars.length; i++) {
+                chars[i] = Character.toLowerCase(chars[i]);
+            }
+            words.add(new String(chars));
+        }
+
+        /**
+         * Writes the trie to given file.
+         *
+         * @param file
+         *            the file to write, overwritten if it exists.
+         * @throws IOException
+         *             on I/O error.
+         */
+        public void write(final File file) throws IOException {
+            final String[] w = words.toArray(new String[words.size()]);
+            // the nodes are created in the breadth-first order. Each node
+            // corresponds to a range of words sharing the same prefix.
+            final List<int[]> ranges = new ArrayList<int[]>();
+            final StringBuilder labels = new StringBuilder();
+            ranges.add(new int[]{0, w.length, 0});
+            labels.append('\0');
+            // there is at most one node per character, plus the root node
+            int maxNodes = 1;
+            for (final String word : w) {
+                maxNodes += word.length();
+            }
+            final int[] firstChild = new int[maxNodes + 1];
+            final List<Integer> terminal = new ArrayList<Integer>();
+            for (int node = 0; node < ranges.size(); node++) {
+                final int[] range = ranges.get(node);
+                final int depth = range[2];
+                int i = range[0];
+                if (i < range[1] && w[i].length() == depth) {
+                    // the shortest word in the range is the prefix itself
+                    terminal.add(node);
+                    i++;
+                }
+                firstChild[node] = ranges.size();
+                while (i < range[1]) {
+                    final char c = w[i].charAt(depth);
+                    int j = i + 1;
+                    while (j < range[1] && w[j].charAt(depth) == c) {
+                        j++;
+                    }
+                    ranges.add(new int[]{i, j, depth + 1});
+                    labels.append(c);
+                    i = j;
+                }
+                // release the memory
+                ranges.set(node, null);
+            }
+            final int nodeCount = ranges.size();
+            firstChild[nodeCount] = nodeCount;
+            final byte[] terminalBits = new byte[(nodeCount + 7) / 8];
+            for (final int node : terminal) {
+                terminalBits[node / 8] |= 1 << (node % 8);
+            }
+            final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+            try {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeInt(nodeCount);
+                for (int i = 0; i <= nodeCount; i++) {
+                    out.writeInt(firstChild[i]);
+                }
+                out.writeChars(labels.toString());
+                out.write(terminalBits);
+            } finally {
+                out.close();
+            }
+        }
+    }
+}
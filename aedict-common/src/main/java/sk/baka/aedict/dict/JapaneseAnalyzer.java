@@ -0,0 +1,253 @@
+/**
+ *     Aedict - an EDICT browser for Android
+Copyright (C) 2009 Martin Vysny
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package sk.baka.aedict.dict;
+
+import java.io.IOException;
+import java.io.Reader;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.PerFieldAnalyzerWrapper;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.OffsetAttribute;
+import org.apache.lucene.analysis.tokenattributes.TermAttribute;
+
+/**
+ * Analyzes Japanese text into overlapping bigrams. A run of kana/kanji
+ * characters (see {@link LuceneQueries#isSingleCharToken(char)}) is padded
+ * with the {@link #BOUNDARY} marker on both sides and split into bigrams, e.g.
+ * 食べる is analyzed to <code>|食 食べ べる る|</code>. Other letters and
+ * digits are analyzed to lower-cased words, all other characters are
+ * separators.
+ * <p/>
+ * A phrase query then intersects the posting lists of bigrams, which are far
+ * shorter than the posting lists of single kana. The boundary markers allow
+ * exact and starts-with/ends-with matching without additional terms.
+ *
+ * @author Martin Vysny
+ */
+public final class JapaneseAnalyzer extends Analyzer {
+
+    /**
+     * Marks the start and the end of a kana/kanji run.
+     */
+    public static final char BOUNDARY = '|';
+
+    /**
+     * Returns an analyzer suitable for indexing the dictionaries: the
+     * {@link DictTypeEnum#EDICT_JP_BIGRAM_FIELD} and
+     * {@link DictTypeEnum#SENTENCE_JP_BIGRAM_FIELD} fields are analyzed by the
+     * {@link JapaneseAnalyzer}, other fields by the {@link StandardAnalyzer}.
+     *
+     * @return the analyzer.
+     */
+    public static Analyzer newIndexAnalyzer() {
+        final PerFieldAnalyzerWrapper result = new PerFieldAnalyzerWrapper(new StandardAnalyzer(LuceneSearch.LUCENE_VERSION));
+        final JapaneseAnalyzer japanese = new JapaneseAnalyzer();
+        result.addAnalyzer(DictTypeEnum.EDICT_JP_BIGRAM_FIELD, japanese);
+        result.addAnalyzer(DictTypeEnum.SENTENCE_JP_BIGRAM_FIELD, japanese);
+        return result;
+    }
+
+    @Override
+    public TokenStream tokenStream(String fieldName, Reader reader) {
+        return new JapaneseTokenizer(reader, true, true);
+    }
+
+    @Override
+    public TokenStream reusableTokenStream(String fieldName, Reader reader) throws IOException {
+        JapaneseTokenizer result = (JapaneseTokenizer) getPreviousTokenStream();
+        if (result == null) {
+            result = new JapaneseTokenizer(reader, true, true);
+            setPreviousTokenStream(result);
+        } else {
+            result.reset(reader);
+        }
+        return result;
+    }
+
+    /**
+     * Separates the values of a multi-valued field, so that a phrase does not
+     * match across two values.
+     */
+    @Override
+    public int getPositionIncrementGap(String fieldName) {
+        return 1;
+    }
+
+    /**
+     * Splits the text into bigrams, see {@link JapaneseAnalyzer} for details.
+     * <p/>
+     * When analyzing a query, the text is typically a part of the indexed text,
+     * therefore the boundary markers must not be added at the start or at the
+     * end of the text, unless the query is anchored there. A kana/kanji run
+     * which consists of a single character without any boundary marker is
+     * produced as the character itself.
+     *
+     * @author Martin Vysny
+     */
+    public static final class JapaneseTokenizer extends Tokenizer {
+
+        private final TermAttribute termAtt = addAttribute(TermAttribute.class);
+        private final OffsetAttribute offsetAtt = addAttribute(OffsetAttribute.class);
+        private final boolean boundaryBefore;
+        private final boolean boundaryAfter;
+        /**
+         * The text being analyzed, null if not yet read.
+         */
+        private String text = null;
+        /**
+         * The next character to examine.
+         */
+        private int offset = 0;
+        /**
+         * The current kana/kanji run padded with the boundary markers, null if
+         * there is no such run.
+         */
+        private String run = null;
+        /**
+         * The text offset of the first run character.
+         */
+        private int runOffset;
+        /**
+         * The index of the first character of the next bigram in the run.
+         */
+        private int bigram;
+
+        /**
+         * Creates the tokenizer.
+         *
+         * @param input
+         *            the text to analyze.
+         * @param boundaryBefore
+         *            if true then the boundary marker is added before a
+         *            kana/kanji run at the start of the text.
+         * @param boundaryAfter
+         *            if true then the boundary marker is added after a
+         *            kana/kanji run at the end of the text.
+         */
+        public JapaneseTokenizer(final Reader input, final boolean boundaryBefore, final boolean boundaryAfter) {
+            super(input);
+            this.boundaryBefore = boundaryBefore;
+            this.boundaryAfter = boundaryAfter;
+        }
+
+        @Override
+        public boolean incrementToken() throws IOException {
+            clearAttributes();
+            if (text == null) {
+                text = read(input);
+            }
+            if (run != null) {
+                if (nextBigram()) {
+                    return true;
+                }
+                run = null;
+            }
+            final int length = text.length();
+            while (offset < length && !isTokenChar(text.charAt(offset))) {
+                offset++;
+            }
+            if (offset >= length) {
+                return false;
+            }
+            final int start = offset;
+            if (LuceneQueries.isSingleCharToken(text.charAt(offset))) {
+                while (offset < length && LuceneQueries.isSingleCharToken(text.charAt(offset))) {
+                    offset++;
+                }
+                final StringBuilder sb = new StringBuilder(offset - start + 2);
+                final boolean before = start > 0 || boundaryBefore;
+                if (before) {
+                    sb.append(BOUNDARY);
+                }
+                sb.append(text, start, offset);
+                if (offset < length || boundaryAfter) {
+                    sb.append(BOUNDARY);
+                }
+                run = sb.toString();
+                runOffset = before ? start - 1 : start;
+                bigram = 0;
+                if (run.length() == 1) {
+                    // a single character without boundaries, cannot form a bigram
+                    setToken(run, start, offset);
+                    run = null;
+                    return true;
+                }
+                return nextBigram();
+            }
+            while (offset < length && isTokenChar(text.charAt(offset)) && !LuceneQueries.isSingleCharToken(text.charAt(offset))) {
+                offset++;
+            }
+            setToken(text.substring(start, offset).toLowerCase(), start, offset);
+            return true;
+        }
+
+        private boolean nextBigram() {
+            if (bigram + 2 > run.length()) {
+                return false;
+            }
+            // the boundary markers are given the offsets of the surrounding text
+            final int start = Math.max(runOffset + bigram, 0);
+            final int end = Math.min(runOffset + bigram + 2, text.length());
+            setToken(run.substring(bigram, bigram + 2), start, end);
+            bigram++;
+            return true;
+        }
+
+        private void setToken(final String term, final int start, final int end) {
+            termAtt.setTermBuffer(term);
+            offsetAtt.setOffset(correctOffset(start), correctOffset(end));
+        }
+
+        private static boolean isTokenChar(final char c) {
+            return Character.isLetterOrDigit(c) || LuceneQueries.isSingleCharToken(c);
+        }
+
+        private static String read(final Reader reader) throws IOException {
+            final StringBuilder sb = new StringBuilder();
+            final char[] buf = new char[256];
+            int len;
+            while ((len = reader.read(buf)) >= 0) {
+                sb.append(buf, 0, len);
+            }
+            return sb.toString();
+        }
+
+        @Override
+        public void end() {
+            final int finalOffset = correctOffset(text == null ? 0 : text.length());
+            offsetAtt.setOffset(finalOffset, finalOffset);
+        }
+
+        @Override
+        public void reset(Reader input) throws IOException {
+            super.reset(input);
+            reset();
+        }
+
+        @Override
+        public void reset() throws IOException {
+            super.reset();
+            text = null;
+            offset = 0;
+            run = null;
+        }
+    }
+}
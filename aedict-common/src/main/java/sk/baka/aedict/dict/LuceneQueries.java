@@ -0,0 +1,314 @@
+/**
+ *     Aedict - an EDICT browser for Android
+Copyright (C) 2009 Martin Vysny
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package sk.baka.aedict.dict;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.PositionIncrementAttribute;
+import org.apache.lucene.analysis.tokenattributes.TermAttribute;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause.Occur;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.MultiTermQuery;
+import org.apache.lucene.search.PhraseQuery;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermQuery;
+
+/**
+ * Builds Lucene {@link Query} objects directly, without the need to format a
+ * query string and parse it back with a QueryParser. The produced queries are
+ * equal to those the QueryParser would produce for an equivalent query string,
+ * but there is no need to escape special characters.
+ *
+ * @author Martin Vysny
+ */
+public final class LuceneQueries {
+
+    private LuceneQueries() {
+        throw new AssertionError();
+    }
+    /**
+     * The analyzer used when indexing the free-text fields. Thread-safe.
+     */
+    private static final Analyzer ANALYZER = new StandardAnalyzer(LuceneSearch.LUCENE_VERSION);
+    /**
+     * The "word boundary" marker, as stored by the Edict indexer in the "jp"
+     * field. Lower-cased, as the analyzer lower-cases it during indexing.
+     */
+    private static final String JP_BOUNDARY = "w";
+
+    /**
+     * Checks if given character is tokenized by the StandardAnalyzer as a
+     * standalone token. This is true for kana, kanji and a couple of other CJK
+     * characters.
+     *
+     * @param c
+     *            the character to check
+     * @return true if the analyzer produces the character itself as a single
+     *         token.
+     */
+    static boolean isSingleCharToken(final char c) {
+        return (c >= 0x3040 && c <= 0x312f) || (c >= 0x31f0 && c <= 0x31ff) || (c >= 0x3300 && c <= 0x337f) || (c >= 0x3400 && c <= 0x4dbf)
+                || (c >= 0x4e00 && c <= 0x9fff) || (c >= 0xf900 && c <= 0xfaff) || (c >= 0xff65 && c <= 0xff9f);
+    }
+
+    private static boolean isSingleCharTokens(final String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (!isSingleCharToken(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Splits the text into terms, exactly as the analyzer would during the
+     * indexing.
+     *
+     * @param field
+     *            the field name
+     * @param text
+     *            the text to analyze
+     * @param terms
+     *            the terms are added here
+     * @param positions
+     *            the term positions are added here
+     */
+    private static void analyze(final String field, final String text, final List<String> terms, final List<Integer> positions) {
+        if (isSingleCharTokens(text)) {
+            // fast path for Japanese text: each character is a single term.
+            int position = positions.isEmpty() ? -1 : positions.get(positions.size() - 1);
+            for (int i = 0; i < text.length(); i++) {
+                terms.add(String.valueOf(text.charAt(i)));
+                positions.add(++position);
+            }
+            return;
+        }
+        try {
+            final TokenStream ts = ANALYZER.reusableTokenStream(field, new StringReader(text));
+            final TermAttribute term = ts.addAttribute(TermAttribute.class);
+            final PositionIncrementAttribute posIncr = ts.addAttribute(PositionIncrementAttribute.class);
+            int position = positions.isEmpty() ? -1 : positions.get(positions.size() - 1);
+            ts.reset();
+            while (ts.incrementToken()) {
+                position += posIncr.getPositionIncrement();
+                terms.add(term.term());
+                positions.add(position);
+            }
+            ts.end();
+            ts.close();
+        } catch (IOException ex) {
+            // not expected, we are reading from a String
+            throw new RuntimeException(ex);
+        }
+    }
+
+    private static Query toQuery(final String field, final List<String> terms, final List<Integer> positions) {
+        if (terms.isEmpty()) {
+            return null;
+        }
+        if (terms.size() == 1) {
+            return new TermQuery(new Term(field, terms.get(0)));
+        }
+        final PhraseQuery result = new PhraseQuery();
+        for (int i = 0; i < terms.size(); i++) {
+            result.add(new Term(field, terms.get(i)), positions.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Creates a phrase query which matches given text in an analyzed field.
+     *
+     * @param field
+     *            the field name, not null.
+     * @param text
+     *            the text to search for, not null.
+     * @return a {@link TermQuery} if the text is analyzed to a single term, a
+     *         {@link PhraseQuery} if the text contains multiple terms, null if
+     *         the text does not contain any searchable term (e.g. it consists
+     *         of stop words only).
+     */
+    public static Query phrase(final String field, final String text) {
+        final List<String> terms = new ArrayList<String>();
+        final List<Integer> positions = new ArrayList<Integer>();
+        analyze(field, text, terms, positions);
+        return toQuery(field, terms, positions);
+    }
+
+    /**
+     * Creates a phrase query which matches a Japanese text in the Edict "jp"
+     * field, optionally anchored by the word boundary markers.
+     *
+     * @param field
+     *            the field name, not null.
+     * @param text
+     *            the Japanese text, not null.
+     * @param boundaryBefore
+     *            if true then the text must start at the word boundary.
+     * @param boundaryAfter
+     *            if true then the text must end at the word boundary.
+     * @return the query, null if the text does not contain any searchable
+     *         term.
+     */
+    public static Query jpPhrase(final String field, final String text, final boolean boundaryBefore, final boolean boundaryAfter) {
+        if (!isSingleCharTokens(text)) {
+            // the analyzer would glue the boundary marker with Latin letters,
+            // digits etc. Let the analyzer handle this case as it did during indexing.
+            return phrase(field, (boundaryBefore ? "W" : "") + text + (boundaryAfter ? "W" : ""));
+        }
+        final List<String> terms = new ArrayList<String>();
+        final List<Integer> positions = new ArrayList<Integer>();
+        if (boundaryBefore) {
+            terms.add(JP_BOUNDARY);
+            positions.add(0);
+        }
+        analyze(field, text, terms, positions);
+        if (boundaryAfter) {
+            terms.add(JP_BOUNDARY);
+            positions.add(positions.isEmpty() ? 0 : positions.get(positions.size() - 1) + 1);
+        }
+        return toQuery(field, terms, positions);
+    }
+
+    /**
+     * Creates a phrase query which matches a Japanese text in a field analyzed
+     * by the {@link JapaneseAnalyzer}, optionally anchored by the boundary
+     * markers.
+     *
+     * @param field
+     *            the field name, not null.
+     * @param text
+     *            the Japanese text, not null.
+     * @param boundaryBefore
+     *            if true then the text must start at the start of a kana/kanji
+     *            run.
+     * @param boundaryAfter
+     *            if true then the text must end at the end of a kana/kanji
+     *            run.
+     * @return the query, null if the text does not contain any searchable
+     *         term.
+     */
+    public static Query jpBigramPhrase(final String field, final String text, final boolean boundaryBefore, final boolean boundaryAfter) {
+        final List<String> terms = new ArrayList<String>();
+        final List<Integer> positions = new ArrayList<Integer>();
+        try {
+            final TokenStream ts = new JapaneseAnalyzer.JapaneseTokenizer(new StringReader(text), boundaryBefore, boundaryAfter);
+            final TermAttribute term = ts.addAttribute(TermAttribute.class);
+            int position = 0;
+            ts.reset();
+            while (ts.incrementToken()) {
+                terms.add(term.term());
+                positions.add(position++);
+            }
+            ts.end();
+            ts.close();
+        } catch (IOException ex) {
+            // not expected, we are reading from a String
+            throw new RuntimeException(ex);
+        }
+        if (terms.size() == 1 && terms.get(0).length() == 1 && isSingleCharToken(terms.get(0).charAt(0))) {
+            // a single character is the first character of a bigram
+            final PrefixQuery result = new PrefixQuery(new Term(field, terms.get(0)));
+            // there may be more bigrams than the boolean query clause limit
+            result.setRewriteMethod(MultiTermQuery.CONSTANT_SCORE_FILTER_REWRITE);
+            return result;
+        }
+        return toQuery(field, terms, positions);
+    }
+
+    /**
+     * Matches an exact value of a not-analyzed field.
+     *
+     * @param field
+     *            the field name, not null.
+     * @param value
+     *            the value, not null.
+     * @return the term query.
+     */
+    public static Query term(final String field, final String value) {
+        return new TermQuery(new Term(field, value));
+    }
+
+    /**
+     * Creates a query which matches documents matching at least one of given
+     * queries.
+     *
+     * @param queries
+     *            the queries, null items are ignored.
+     * @return the query, null if there is no non-null query. If there is just
+     *         one non-null query then it is returned as-is.
+     */
+    public static Query or(final List<Query> queries) {
+        return bool(queries, Occur.SHOULD);
+    }
+
+    /**
+     * Creates a query which matches documents matching all given queries.
+     *
+     * @param queries
+     *            the queries, null items are ignored.
+     * @return the query, null if there is no non-null query. If there is just
+     *         one non-null query then it is returned as-is.
+     */
+    public static Query and(final List<Query> queries) {
+        return bool(queries, Occur.MUST);
+    }
+
+    /**
+     * Creates a query which matches documents matching all given queries.
+     *
+     * @param q1
+     *            the first query, may be null.
+     * @param q2
+     *            the second query, may be null.
+     * @return the query, null if both queries are null.
+     */
+    public static Query and(final Query q1, final Query q2) {
+        final List<Query> queries = new ArrayList<Query>(2);
+        queries.add(q1);
+        queries.add(q2);
+        return and(queries);
+    }
+
+    private static Query bool(final List<Query> queries, final Occur occur) {
+        final BooleanQuery result = new BooleanQuery();
+        Query last = null;
+        for (final Query q : queries) {
+            if (q != null) {
+                result.add(q, occur);
+                last = q;
+            }
+        }
+        final int clauses = result.clauses().size();
+        if (clauses == 0) {
+            return null;
+        }
+        if (clauses == 1) {
+            return last;
+        }
+        return result;
+    }
+}
@@ -21,37 +21,46 @@ import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 
-import org.apache.lucene.analysis.standard.StandardAnalyzer;
 import org.apache.lucene.document.Document;
 import org.apache.lucene.index.IndexReader;
-import org.apache.lucene.queryParser.ParseException;
-import org.apache.lucene.queryParser.QueryParser;
-import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.index.TermDocs;
+import org.apache.lucene.index.TermEnum;
+import org.apache.lucene.search.FieldCache;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.Searcher;
+import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.TopDocs;
-import org.apache.lucene.store.Directory;
-import org.apache.lucene.store.FSDirectory;
 import org.apache.lucene.util.Version;
 
+import sk.baka.aedict.kanji.VerbInflection;
+import sk.baka.aedict.kanji.VerbInflection.Form;
 import sk.baka.aedict.util.IOExceptionWithCause;
 import sk.baka.autils.MiscUtils;
 
 /**
- * Allows Lucene search for a query.
+ * Allows Lucene search for a query. The index itself is not opened by this
+ * object: a shared, long-lived searcher is borrowed from the
+ * {@link SearcherPool} instead, which makes this object cheap to create. The
+ * object must be {@link #close() closed} to return the searcher back to the
+ * pool.
  * 
  * @author Martin Vysny
  */
 public final class LuceneSearch implements Closeable {
 
-    private final Directory directory;
-    private final IndexReader reader;
+    private final SearcherPool.SharedSearcher shared;
     private final Searcher searcher;
-    private final QueryParser parser;
+    private boolean closed = false;
     public static final Version LUCENE_VERSION = Version.LUCENE_30;
     /**
      * The dictionary type.
@@ -61,9 +70,13 @@ public final class LuceneSearch implements Closeable {
      * if true then the result list is always sorted.
      */
     private final boolean sort;
+    /**
+     * The order of Lucene hits, null for relevance order.
+     */
+    private final Sort luceneSort;
 
     /**
-     * Creates the object and opens the index file.
+     * Creates the object and acquires a shared searcher for the index file.
      *
      * @param dictType
      *            the dictionary we will use for the search.
@@ -76,11 +89,17 @@ public final class LuceneSearch implements Closeable {
      */
     public LuceneSearch(final DictTypeEnum dictType, final String dictionaryPath, final boolean sort) throws IOException {
         this.dictType = dictType;
-        directory = FSDirectory.open(new File(dictionaryPath != null ? dictionaryPath : dictType.getDefaultDictionaryPath()));
-        reader = IndexReader.open(directory, true);
-        searcher = new IndexSearcher(reader);
-        parser = new QueryParser(LUCENE_VERSION, "contents", new StandardAnalyzer(LUCENE_VERSION));
+        shared = SearcherPool.acquire(new File(dictionaryPath != null ? dictionaryPath : dictType.getDefaultDictionaryPath()));
+        searcher = shared.searcher;
         this.sort = sort;
+        luceneSort = dictType.getSort(sort, shared.indexedFields);
+    }
+
+    private TopDocs search(final Query query, final int n) throws IOException {
+        if (luceneSort == null) {
+            return searcher.search(query, null, n);
+        }
+        return searcher.search(query, null, n, luceneSort);
     }
 
     /**
@@ -110,25 +129,26 @@ public final class LuceneSearch implements Closeable {
     private List<DictEntry> searchInternal(final SearchQuery query, final int maxResults) throws IOException {
         query.validate();
         final List<DictEntry> r = new ArrayList<DictEntry>();
-        final String[] queries = dictType.getLuceneQuery(query);
-        // 5000 is just an approximate value.
-        // we are searching for an exact match. We cannot simply grab the first
-        // "maxResults" results and filter out non-exact results - we can filter
-        // out all results this way, and the real, exact matches, may remain
-        // unretrieved by Lucene. TODO perhaps a better Lucene query might help.
-        final int maxLuceneResults = (query.matcher != MatcherEnum.Substring) && (query.dictType == DictTypeEnum.Edict) && (!query.isJapanese) ? 5000 : maxResults;
+        Query[] queries = dictType.buildExactLuceneQuery(query, shared.indexedFields);
+        final int maxLuceneResults;
+        if (queries != null) {
+            // the query matches exactly the entries we are looking for, no
+            // need to fetch more documents.
+            maxLuceneResults = maxResults;
+        } else {
+            queries = dictType.buildLuceneQuery(query, shared.indexedFields);
+            // 5000 is just an approximate value.
+            // we are searching for an exact match. We cannot simply grab the first
+            // "maxResults" results and filter out non-exact results - we can filter
+            // out all results this way, and the real, exact matches, may remain
+            // unretrieved by Lucene. Newer indices avoid this by the means
+            // of the EDICT gloss field, see buildExactLuceneQuery().
+            maxLuceneResults = (query.matcher != MatcherEnum.Substring) && (query.dictType == DictTypeEnum.Edict) && (!query.isJapanese) ? 5000 : maxResults;
+        }
         int resultsToFind = maxLuceneResults;
-        for (final String q : queries) {
+        for (final Query q : queries) {
             // gradually walk through the queries and fill the result list.
-            final Query parsedQuery;
-            try {
-                parsedQuery = parser.parse(q);
-            } catch (ParseException e) {
-                // not expected - the SearchQuery object should produce valid
-                // query strings... indicates a bug in Aedict code.
-                throw new RuntimeException(e);
-            }
-            final TopDocs result = searcher.search(parsedQuery, null, resultsToFind);
+            final TopDocs result = search(q, resultsToFind);
             for (final ScoreDoc sd : result.scoreDocs) {
                 final Document doc = searcher.doc(sd.doc);
                 final DictEntry entry = dictType.tryGetEntry(doc, query);
@@ -165,26 +185,366 @@ public final class LuceneSearch implements Closeable {
         try {
             return searchInternal(query, maxResults);
         } catch (IOException ex) {
-            // catch the "read past EOF" IO exception which indicates that the
-            // dictionary files are corrupted. See
-            // http://code.google.com/p/aedict/issues/detail?id=55 for details
-            if ("read past EOF".equals(ex.getMessage())) {
-                throw new IOExceptionWithCause(DICT_FILES_CORRUPTED + ": " + ex.getMessage(), ex);
+            throw translate(ex);
+        }
+    }
+    /**
+     * Looks up entries whose kanji or reading is exactly equal to given word,
+     * for many words at once. Much faster than searching for each word
+     * separately: the words are looked up in a single pass over the term
+     * dictionary and only the best entries are loaded.
+     *
+     * @param words
+     *            the Japanese words to look up, not null. Duplicates are
+     *            ignored.
+     * @param maxEntries
+     *            the maximum number of entries returned for a single word,
+     *            must be positive.
+     * @return maps a word to its entries, the best entry first (see
+     *         {@link DictEntry#compareTo(DictEntry)}). Words without a
+     *         matching entry are not present in the map. Never null.
+     * @throws IOException
+     *             on I/O error.
+     */
+    public Map<String, List<DictEntry>> lookupExact(final Collection<String> words, final int maxEntries) throws IOException {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Parameter maxEntries: invalid value " + maxEntries + ": must be positive");
+        }
+        try {
+            final String field = dictType.getExactLookupField();
+            if (field == null || !shared.indexedFields.contains(field)) {
+                // older index, fall back to a search for each word
+                return lookupExactBySearch(words, maxEntries);
+            }
+            return lookupExactByTerms(field, words, maxEntries);
+        } catch (IOException ex) {
+            throw translate(ex);
+        }
+    }
+
+    private Map<String, List<DictEntry>> lookupExactBySearch(final Collection<String> words, final int maxEntries) throws IOException {
+        final Map<String, List<DictEntry>> result = new HashMap<String, List<DictEntry>>();
+        for (final String word : new TreeSet<String>(words)) {
+            final SearchQuery q = new SearchQuery(dictType);
+            q.isJapanese = true;
+            q.matcher = MatcherEnum.Exact;
+            q.query = new String[]{word};
+            final List<DictEntry> entries = searchInternal(q, maxEntries);
+            DictEntry.removeInvalid(entries);
+            if (!entries.isEmpty()) {
+                result.put(word, entries);
+            }
+        }
+        return result;
+    }
+
+    private Map<String, List<DictEntry>> lookupExactByTerms(final String field, final Collection<String> words, final int maxEntries) throws IOException {
+        final IndexReader reader = shared.searcher.getIndexReader();
+        // the rank is cached by Lucene, it is also used for sorting
+        final long[] ranks = shared.indexedFields.contains(DictTypeEnum.EDICT_RANK_FIELD) ? FieldCache.DEFAULT.getLongs(reader, DictTypeEnum.EDICT_RANK_FIELD) : null;
+        final Map<String, List<DictEntry>> result = new HashMap<String, List<DictEntry>>();
+        final List<Integer> docs = new ArrayList<Integer>();
+        final TermDocs termDocs = reader.termDocs();
+        try {
+            // walk the words in the term order, to avoid random seeks in the
+            // term dictionary
+            for (final String word : new TreeSet<String>(words)) {
+                docs.clear();
+                // the EDICT headwords are lower-cased; no-op for kanji
+                termDocs.seek(new Term(field, word.toLowerCase()));
+                while (termDocs.next()) {
+                    final int doc = termDocs.doc();
+                    if (ranks == null) {
+                        docs.add(doc);
+                        continue;
+                    }
+                    // keep only maxEntries documents with the lowest rank
+                    int i = docs.size();
+                    while (i > 0 && ranks[docs.get(i - 1)] > ranks[doc]) {
+                        i--;
+                    }
+                    if (i < maxEntries) {
+                        docs.add(i, doc);
+                        if (docs.size() > maxEntries) {
+                            docs.remove(maxEntries);
+                        }
+                    }
+                }
+                final List<DictEntry> entries = new ArrayList<DictEntry>(docs.size());
+                for (final int doc : docs) {
+                    entries.add(dictType.tryGetEntry(searcher.doc(doc), (String) null));
+                }
+                DictEntry.removeInvalid(entries);
+                if (entries.isEmpty()) {
+                    continue;
+                }
+                if (ranks == null || sort) {
+                    Collections.sort(entries);
+                }
+                result.put(word, entries.size() > maxEntries ? new ArrayList<DictEntry>(entries.subList(0, maxEntries)) : entries);
+            }
+        } finally {
+            termDocs.close();
+        }
+        return result;
+    }
+
+    /**
+     * An EDICT entry found by {@link LuceneSearch#lookupInflected(String, int)}.
+     *
+     * @author Martin Vysny
+     */
+    public static final class InflectedEntry {
+
+        /**
+         * The verb in its base form, not null.
+         */
+        public final EdictEntry entry;
+        /**
+         * The forms which inflect the verb to the word being looked up, never
+         * null, never empty.
+         */
+        public final Set<Form> forms;
+
+        private InflectedEntry(final EdictEntry entry, final Set<Form> forms) {
+            this.entry = entry;
+            this.forms = forms;
+        }
+    }
+
+    /**
+     * Looks up EDICT verbs which are inflected to given word, using a single
+     * term lookup in the {@link DictTypeEnum#EDICT_INFLECTED_FIELD}.
+     *
+     * @param word
+     *            the inflected verb in kanji and hiragana, e.g. 食べなかった.
+     * @param maxEntries
+     *            the maximum number of entries returned, must be positive.
+     * @return the verbs, the best entry first (see
+     *         {@link DictEntry#compareTo(DictEntry)}). Empty if no verb is
+     *         inflected to given word. Null if the index does not contain the
+     *         inflected forms: the word must be deinflected in that case.
+     * @throws IOException
+     *             on I/O error.
+     */
+    public List<InflectedEntry> lookupInflected(final String word, final int maxEntries) throws IOException {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Parameter maxEntries: invalid value " + maxEntries + ": must be positive");
+        }
+        if (!shared.indexedFields.contains(DictTypeEnum.EDICT_INFLECTED_FIELD)) {
+            return null;
+        }
+        final List<InflectedEntry> result = new ArrayList<InflectedEntry>();
+        try {
+            final List<DictEntry> entries = lookupExactByTerms(DictTypeEnum.EDICT_INFLECTED_FIELD, Collections.singleton(word), maxEntries).get(word);
+            if (entries == null) {
+                return result;
+            }
+            for (final DictEntry e : entries) {
+                final EdictEntry entry = EdictEntry.fromEntry(e);
+                // the forms are not stored in the index: computing them is cheaper than storing them for every verb
+                final Set<Form> forms = VerbInflection.inflect(entry).get(word);
+                if (forms != null) {
+                    result.add(new InflectedEntry(entry, forms));
+                }
+            }
+        } catch (IOException ex) {
+            throw translate(ex);
+        }
+        return result;
+    }
+
+    /**
+     * Returns all kanjis grouped by the number of strokes. The stroke counts
+     * are read directly from the term dictionary of the "strokes" field, thus
+     * a kanji is listed under its correct stroke count as well as under the
+     * commonly mistaken counts, exactly as
+     * {@link SearchQuery#kanjiSearch(char, Integer, Integer)} matches it. The
+     * result is computed once and cached until the index is
+     * {@link SearcherPool#invalidate(File) invalidated}.
+     * <p/>
+     * Only the {@link DictTypeEnum#Kanjidic} dictionary is supported.
+     *
+     * @return maps the stroke count to a string of kanjis, never null.
+     *         Unmodifiable.
+     * @throws IOException
+     *             on I/O error.
+     */
+    public Map<Integer, String> getKanjisByStrokes() throws IOException {
+        if (dictType != DictTypeEnum.Kanjidic) {
+            throw new IllegalStateException("Only KANJIDIC provides stroke counts");
+        }
+        synchronized (shared) {
+            if (shared.kanjisByStrokes == null) {
+                try {
+                    shared.kanjisByStrokes = Collections.unmodifiableMap(loadKanjisByStrokes());
+                } catch (IOException ex) {
+                    throw translate(ex);
+                }
+            }
+            return shared.kanjisByStrokes;
+        }
+    }
+
+    private Map<Integer, String> loadKanjisByStrokes() throws IOException {
+        final IndexReader reader = shared.searcher.getIndexReader();
+        // the kanji field is not analyzed, thus it contains a single term
+        final String[] kanjis = FieldCache.DEFAULT.getStrings(reader, "kanji");
+        final Map<Integer, String> result = new HashMap<Integer, String>();
+        final StringBuilder sb = new StringBuilder();
+        final TermEnum terms = reader.terms(new Term("strokes", ""));
+        final TermDocs termDocs = reader.termDocs();
+        try {
+            do {
+                final Term term = terms.term();
+                if (term == null || !term.field().equals("strokes")) {
+                    break;
+                }
+                final int strokes;
+                try {
+                    strokes = Integer.parseInt(term.text());
+                } catch (NumberFormatException ex) {
+                    continue;
+                }
+                sb.setLength(0);
+                termDocs.seek(terms);
+                while (termDocs.next()) {
+                    final String kanji = kanjis[termDocs.doc()];
+                    if (kanji != null) {
+                        sb.append(kanji);
+                    }
+                }
+                result.put(strokes, sb.toString());
+            } while (terms.next());
+        } finally {
+            termDocs.close();
+            terms.close();
+        }
+        return result;
+    }
+
+    /**
+     * One page of search results, see {@link LuceneSearch#search(SearchCursor, int)}.
+     *
+     * @author Martin Vysny
+     */
+    public static final class Page {
+
+        /**
+         * The entries, never null, may be empty. Sorted if the
+         * {@link LuceneSearch} has been created with sorting turned on. Only
+         * the entries within a single page are sorted, unless the index
+         * provides the sort order, see
+         * {@link DictTypeEnum#getSort(boolean, java.util.Set)}.
+         */
+        public final List<DictEntry> entries;
+        /**
+         * Points to the next page. Null if there are no more results. The
+         * next page may turn out to be empty, if none of the remaining Lucene
+         * hits matches the query.
+         */
+        public final SearchCursor next;
+
+        private Page(final List<DictEntry> entries, final SearchCursor next) {
+            this.entries = entries;
+            this.next = next;
+        }
+    }
+
+    /**
+     * Performs a search and returns a single page of results. Only as many
+     * Lucene documents as needed to fill the page are loaded, thus the first
+     * page is available quickly even for queries with many matches. Use
+     * {@link Page#next} to retrieve following pages.
+     *
+     * @param cursor
+     *            denotes the query and the page start. Use
+     *            {@link SearchCursor#SearchCursor(SearchQuery)} to obtain the
+     *            first page.
+     * @param pageSize
+     *            the maximum number of entries on the page, must be positive.
+     * @return the page, never null.
+     * @throws IOException
+     *             on I/O error.
+     */
+    public Page search(final SearchCursor cursor, final int pageSize) throws IOException {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Parameter pageSize: invalid value " + pageSize + ": must be positive");
+        }
+        try {
+            return searchPage(cursor, pageSize);
+        } catch (IOException ex) {
+            throw translate(ex);
+        }
+    }
+
+    private Page searchPage(final SearchCursor cursor, final int pageSize) throws IOException {
+        final SearchQuery query = cursor.query;
+        query.validate();
+        Query[] queries = dictType.buildExactLuceneQuery(query, shared.indexedFields);
+        if (queries == null) {
+            queries = dictType.buildLuceneQuery(query, shared.indexedFields);
+        }
+        final List<DictEntry> r = new ArrayList<DictEntry>();
+        int queryIndex = cursor.queryIndex;
+        int hitIndex = cursor.hitIndex;
+        SearchCursor next = null;
+        while (queryIndex < queries.length && next == null) {
+            // Lucene 3.0 cannot continue a search after given hit. Simply
+            // repeat the search and skip already returned hits; double the
+            // number of fetched hits to avoid too many repeated searches when
+            // the hits are filtered out by the tryGetEntry() method.
+            final TopDocs result = search(queries[queryIndex], hitIndex + Math.max(pageSize, hitIndex));
+            while (hitIndex < result.scoreDocs.length) {
+                final Document doc = searcher.doc(result.scoreDocs[hitIndex++].doc);
+                final DictEntry entry = dictType.tryGetEntry(doc, query);
+                if (entry != null) {
+                    r.add(entry);
+                    if (r.size() >= pageSize) {
+                        break;
+                    }
+                }
+            }
+            if (hitIndex >= result.totalHits) {
+                queryIndex++;
+                hitIndex = 0;
+            }
+            if (r.size() >= pageSize && queryIndex < queries.length) {
+                next = new SearchCursor(query, queryIndex, hitIndex);
             }
-            throw ex;
         }
+        if (sort) {
+            Collections.sort(r);
+        }
+        return new Page(r, next);
+    }
+
+    private static IOException translate(final IOException ex) {
+        // catch the "read past EOF" IO exception which indicates that the
+        // dictionary files are corrupted. See
+        // http://code.google.com/p/aedict/issues/detail?id=55 for details
+        if ("read past EOF".equals(ex.getMessage())) {
+            return new IOExceptionWithCause(DICT_FILES_CORRUPTED + ": " + ex.getMessage(), ex);
+        }
+        return ex;
     }
     public static String DICT_FILES_CORRUPTED = "It seems that the dictionary files became corrupted. Please try to delete them and re-download them. Also please check your sd-card for errors.";
 
-    public void close() throws IOException {
-        searcher.close();
-        reader.close();
-        directory.close();
+    /**
+     * Returns the shared searcher back to the {@link SearcherPool}. The index
+     * itself stays opened.
+     */
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        SearcherPool.release(shared);
     }
 
     /**
-     * A handy method to perform a quick search. For performing multiple search
-     * queries please use the {@link #search(SearchQuery)} method.
+     * A handy method to perform a quick search. The index is not reopened on
+     * every call as the searcher is shared via the {@link SearcherPool}.
      *
      * @param query
      *            the query
@@ -0,0 +1,70 @@
+/**
+ *     Aedict - an EDICT browser for Android
+Copyright (C) 2009 Martin Vysny
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package sk.baka.aedict.dict;
+
+import java.io.Serializable;
+
+/**
+ * A continuation token of a paged search, see
+ * {@link LuceneSearch#search(SearchCursor, int)}. Denotes the position in the
+ * search results where the next page starts. Immutable, may be stored in an
+ * Intent or a Bundle.
+ * <p/>
+ * The position is only valid as long as the dictionary files are not
+ * modified.
+ *
+ * @author Martin Vysny
+ */
+public final class SearchCursor implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+    /**
+     * The query being searched for.
+     */
+    public final SearchQuery query;
+    /**
+     * Index of the Lucene query (see
+     * {@link DictTypeEnum#buildLuceneQuery(SearchQuery)}) which provides the
+     * next page.
+     */
+    final int queryIndex;
+    /**
+     * Index of the first Lucene hit of the next page.
+     */
+    final int hitIndex;
+
+    /**
+     * Creates a cursor which points to the first page of results of given
+     * query.
+     *
+     * @param query
+     *            the query, not null.
+     */
+    public SearchCursor(final SearchQuery query) {
+        this(query, 0, 0);
+    }
+
+    SearchCursor(final SearchQuery query, final int queryIndex, final int hitIndex) {
+        if (query == null) {
+            throw new IllegalArgumentException("Parameter query: invalid value " + query + ": must not be null");
+        }
+        this.query = query;
+        this.queryIndex = queryIndex;
+        this.hitIndex = hitIndex;
+    }
+}
@@ -0,0 +1,236 @@
+/**
+ *     Aedict - an EDICT browser for Android
+Copyright (C) 2009 Martin Vysny
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package sk.baka.aedict.dict;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+
+/**
+ * A process-wide registry of opened Lucene indices. Opening the
+ * {@link FSDirectory}, {@link IndexReader} and {@link IndexSearcher} is by far
+ * the most expensive part of a search, thus the indices are opened once and
+ * shared by all {@link LuceneSearch} instances (and threads). An index is kept
+ * open until it is {@link #invalidate(File) invalidated}, e.g. when a new
+ * version of the dictionary is downloaded.
+ * <p/>
+ * The indices are keyed by the index directory, which uniquely identifies the
+ * dictionary type and a custom dictionary name (see
+ * {@link Dictionary#getDictionaryLocation()}).
+ *
+ * @author Martin Vysny
+ */
+public final class SearcherPool {
+
+    private SearcherPool() {
+        throw new AssertionError();
+    }
+
+    /**
+     * A reference-counted opened index.
+     */
+    static final class SharedSearcher {
+
+        private final Directory directory;
+        private final IndexReader reader;
+        /**
+         * The searcher, thread-safe.
+         */
+        final IndexSearcher searcher;
+        /**
+         * The index directory.
+         */
+        final File location;
+        /**
+         * Names of all indexed fields. Older dictionaries may lack some of
+         * the fields.
+         */
+        final Set<String> indexedFields;
+        /**
+         * Lazily computed KANJIDIC kanjis grouped by stroke count, see
+         * {@link LuceneSearch#getKanjisByStrokes()}. Guarded by this object.
+         */
+        Map<Integer, String> kanjisByStrokes = null;
+        /**
+         * Number of {@link LuceneSearch} instances currently using this
+         * searcher. Guarded by the {@link SearcherPool} class lock.
+         */
+        private int refCount = 0;
+        /**
+         * If true then this searcher has been removed from the pool and will be
+         * closed as soon as the last reference is released. Guarded by the
+         * {@link SearcherPool} class lock.
+         */
+        private boolean invalidated = false;
+
+        private SharedSearcher(final File location) throws IOException {
+            this.location = location;
+            directory = FSDirectory.open(location);
+            try {
+                reader = IndexReader.open(directory, true);
+            } catch (IOException ex) {
+                directory.close();
+                throw ex;
+            }
+            searcher = new IndexSearcher(reader);
+            indexedFields = Collections.unmodifiableSet(new HashSet<String>(reader.getFieldNames(IndexReader.FieldOption.INDEXED)));
+        }
+
+        private void close() throws IOException {
+            try {
+                searcher.close();
+                reader.close();
+            } finally {
+                directory.close();
+            }
+        }
+    }
+    /**
+     * Maps absolute index directory path to an opened index.
+     */
+    private static final Map<String, SharedSearcher> SEARCHERS = new HashMap<String, SharedSearcher>();
+
+    private static String toKey(final File location) {
+        return location.getAbsolutePath();
+    }
+
+    /**
+     * Returns a shared searcher for given index directory, opening the index
+     * if necessary. The reference count is incremented: every call must be
+     * paired with {@link #release(SharedSearcher)}.
+     *
+     * @param location
+     *            the index directory, not null.
+     * @return the searcher, never null.
+     * @throws IOException
+     *             if the index cannot be opened.
+     */
+    static synchronized SharedSearcher acquire(final File location) throws IOException {
+        final String key = toKey(location);
+        SharedSearcher result = SEARCHERS.get(key);
+        if (result == null) {
+            result = new SharedSearcher(location);
+            SEARCHERS.put(key, result);
+        }
+        result.refCount++;
+        return result;
+    }
+
+    /**
+     * Releases a searcher obtained by {@link #acquire(File)}. The searcher is
+     * kept open unless it has been invalidated in the meantime.
+     *
+     * @param searcher
+     *            the searcher to release, not null.
+     * @throws IOException
+     *             if the invalidated searcher fails to close.
+     */
+    static synchronized void release(final SharedSearcher searcher) throws IOException {
+        if (searcher.refCount <= 0) {
+            throw new IllegalStateException("Searcher for " + searcher.location + " released too many times");
+        }
+        searcher.refCount--;
+        if (searcher.invalidated && searcher.refCount == 0) {
+            searcher.close();
+        }
+    }
+
+    /**
+     * Drops the opened index for given directory. Must be called when the
+     * index files are about to be deleted or replaced (for example by a
+     * dictionary download). The index is closed immediately when unused, or
+     * as soon as the last {@link LuceneSearch} using it is closed. The next
+     * search will open the index again.
+     *
+     * @param location
+     *            the index directory, not null.
+     * @throws IOException
+     *             if the index fails to close.
+     */
+    public static synchronized void invalidate(final File location) throws IOException {
+        final SharedSearcher searcher = SEARCHERS.remove(toKey(location));
+        if (searcher != null) {
+            invalidate(searcher);
+        }
+    }
+
+    /**
+     * Drops the opened index of given dictionary. See {@link #invalidate(File)}
+     * for details.
+     *
+     * @param dictionary
+     *            the dictionary, not null.
+     * @throws IOException
+     *             if the index fails to close.
+     */
+    public static void invalidate(final Dictionary dictionary) throws IOException {
+        invalidate(dictionary.getDictionaryLocation());
+    }
+
+    /**
+     * Drops all opened indices. See {@link #invalidate(File)} for details.
+     *
+     * @throws IOException
+     *             if some index fails to close.
+     */
+    public static synchronized void invalidateAll() throws IOException {
+        final List<SharedSearcher> searchers = new ArrayList<SharedSearcher>(SEARCHERS.values());
+        SEARCHERS.clear();
+        IOException failure = null;
+        for (final SharedSearcher searcher : searchers) {
+            try {
+                invalidate(searcher);
+            } catch (IOException ex) {
+                failure = ex;
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private static void invalidate(final SharedSearcher searcher) throws IOException {
+        searcher.invalidated = true;
+        if (searcher.refCount == 0) {
+            searcher.close();
+        }
+    }
+
+    /**
+     * Checks if there is an opened index for given directory. Intended for
+     * testing purposes.
+     *
+     * @param location
+     *            the index directory, not null.
+     * @return true if the index is opened and cached, false otherwise.
+     */
+    static synchronized boolean isOpened(final File location) {
+        return SEARCHERS.containsKey(toKey(location));
+    }
+}
@@ -0,0 +1,756 @@
+/**
+ *     Aedict - an EDICT browser for Android
+Copyright (C) 2009 Martin Vysny
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package sk.baka.aedict.kanji;
+
+/**
+ * Per-character properties of the kana and kanji characters, packed into a
+ * single int. The tables are indexed directly by the character, therefore a
+ * lookup is just a range check and an array read. The tables are string
+ * constants: they are stored in the class file and need no initialization.
+ * <p/>
+ * The tables between the GENERATED markers are generated by
+ * <code>CharPropertiesTest.main()</code> from the {@link KanjiUtils} tables
+ * and from the {@link RomanizationEnum} tables; the test fails when they are
+ * out of date.
+ * 
+ * @author Martin Vysny
+ */
+final class CharProperties {
+
+    private CharProperties() {
+        throw new AssertionError();
+    }
+
+    /**
+     * The position of the character in the {@link KanjiUtils#COMMONALITY}
+     * list plus one, 0 if the character is not present in the list.
+     */
+    static final int RANK_MASK = 0x3FF;
+    /**
+     * The JLPT level 1..5 of a kanji, 0 if the kanji is not present in any
+     * JLPT test.
+     */
+    static final int JLPT_SHIFT = 10;
+    static final int JLPT_MASK = 7;
+    /**
+     * The joyo grade 1..6 of a kanji, 7 for the joyo kanjis taught at junior
+     * high school, 0 if the kanji is not a joyo kanji.
+     */
+    static final int JOYO_SHIFT = 13;
+    static final int JOYO_MASK = 7;
+    /**
+     * The kana class: {@link #HIRAGANA}, {@link #KATAKANA},
+     * {@link #HALFWIDTH}, 0 if the character is not kana.
+     */
+    static final int KANA_SHIFT = 16;
+    static final int HIRAGANA = 1;
+    static final int KATAKANA = 2;
+    static final int HALFWIDTH = 3;
+    static final char KANJI_FIRST = '\u4E00';
+    static final char KANJI_LAST = '\u9FA0';
+    static final char KANA_FIRST = '\u3040';
+    static final char KANA_LAST = '\u30FF';
+    static final char HALFWIDTH_FIRST = '\uFF61';
+    static final char HALFWIDTH_LAST = '\uFF9F';
+
+    /**
+     * Returns the properties of given character.
+     * 
+     * @param c
+     *            the character
+     * @return the properties, see the <code>*_SHIFT</code> and
+     *         <code>*_MASK</code> constants for the layout. 0 if the
+     *         character has no properties.
+     */
+    static int get(final char c) {
+        if (c >= KANJI_FIRST && c <= KANJI_LAST) {
+            return KANJI.charAt(c - KANJI_FIRST);
+        }
+        if (c >= KANA_FIRST && c <= KANA_LAST) {
+            return KANA.charAt(c - KANA_FIRST) << KANA_SHIFT;
+        }
+        if (c >= HALFWIDTH_FIRST && c <= HALFWIDTH_LAST) {
+            return HALFWIDTH_KANA.charAt(c - HALFWIDTH_FIRST) << KANA_SHIFT;
+        }
+        return 0;
+    }
+    // GENERATED START
+    private static final String KANJI = "\u3402\u6400\u0000\u3473\u0000\u0000\u0000\u5577\uE000\u340E\u3423\u3461\u0000\u9065\uED34\u0000\u0000\u0400\u0000\u0000\uE400\u0000\u7087\u0000\uE400\uE400\u0000\u0000\u0000\u0000\u0400\u0000"
+            + "\u0000\u6CF7\u0000\u0000\u0000\u0000\uCA57\u0000\u0000\u0000\u0000\u0000\u0000\u340B\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u4A1E\uE400\u0000\u705F\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0400\u0000\uAAB0\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u6D79\u0000\uE400\u0000\u0000\u0000\u3437\u0000\u0400"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uCAF3\u0000\uC800\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE800\u0000"
+            + "\u0400\u0000\u0000\u0000\u0000\u0000\uEB18\u0000\u6CB4\u8D0F\u0000\u7012\u3409\u0000\u0000\u0000\u0000\u0000\uEF92\u0000\u341F\uE553\u0000\u0000\u0400\u0000\u0000\u0000\uE400\u0000\u0000\u0000"
+            + "\u0000\uCE95\u0000\u0000\u4CB2\u0400\u0400\u0000\u0400\u0000\u0000\uE400\u504A\uE400\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u3405\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\uC400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u5431\uEA69\u0000\u0000\u0000\uAB33\u0000\u0000\u0000\u0000\u0000\u71B7\u6E1F\u0000\u8D42\uE400\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u7042\u8B24\u907E\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uA400\u0000\uE400\u0000\u8B97\u0000\u0000\u0000\uACD4\u0000\u0000\u0000\u0000\uACD9\u0000\u0000\u0000\u0000"
+            + "\u0000\uE516\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u06BF\u0000\u0000\u0400\u0400\uE400\uE400\u3682\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u5004\u0000\u0000\u8DA0\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\uE776\u0000\u0400\u0000\uEADA\u0000\uE800\u0000\uAF9B\u0400\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u8D14\u89B3\u710E\uE5DA\u0400\u0000\u5058\u0000\u5554\u0000\u0000\u0000\uAEA8\u0000\u0000\u5067\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\uE7C6\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u70DB"
+            + "\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u8D8F\u0000\uE400\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uCD39\u0000\uEB8A\u0000\u0000"
+            + "\u0000\uA4FA\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\uE400\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u8ED9"
+            + "\u0000\u0000\u6CE8\uE7E6\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\uA492\u0000\u0000"
+            + "\u0000\u8CD0\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uA65B\u0000\u0000\u0000\u0000\uC400\u0000\uA400\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u8400\u0000\uA9C3\u0000\u6ACA\u0000\u0000\u0000\u0000\uEF17\u0000\u0000\u0000\u0400\u0000\u0000\u8DFE\u0000\u0000\u0000\u0000\u0000\u93A4"
+            + "\u0000\u0000\u0000\uE400\uCE06\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uEC00\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u8ADD\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u863C\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u8CD8\uE400\uEC00\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\uE400\uAD64\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE618\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE6D8\u0000\uC74D\u0000\u0000\u0000\u0000\u0000\u0000\uEBAA\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u8DA1\u0000\uAB58\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\uE6C5\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\uE6E3\u0000\u0000\u0000\u8ACC\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE756"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uCD4E\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0400\u0000\u50C0\u5000\uE7B5\u8800\u0000\u34AD\u4E0F\u0000\uE400\u0000\uE400\u0000\u0000\u8AA7\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uC827\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u3438\u0000\u0000\u6C4B\u0000\u0000\u345C\u5076\u345D\u0000\u0000\u0000\u8CAE\u0000\u0000\u0000\u8A0A\u0000\u6E75\u8400\u0000\u0000\u0000\uE400\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u4C2C\u3445\u0000\u0000\u0000\uC800\u0000\u0000\uA913\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\uE400\u0000\u71C5\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u5000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0400\u8E9B\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0400\uE800\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\uE400\u0000\u0000"
+            + "\u0000\uE400\u0000\u0000\u0000\u0000\uCE23\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\uE400\u0000\uE400\uE400\u340D\u0000\u0000\u0000\u0000\u0000"
+            + "\u4400\u0000\u0000\uE400\u0000\u0000\u4018\u5144\uE400\u0000\uAB57\u0000\u0000\u0000\u0000\u0000\u0000\uE760\u0000\u0000\u0000\u0000\u0000\u6F9F\u0000\u0000\u0000\u0000\u0000\u8C98\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\uACC5\u90D6\u0000\u0000\u0000\u8CCB\u0000\u0000\u0000\u0000\u0000\u0000\uEC00\u0000\u0000\u0000\u0000\u0000\uAC6C\u8800\uAA47\u0000\uE800\uCF62\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uAAF1\u0000\u0000\uE72E\u0000\u0000\u541B\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\uE400\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u8968\uE400\u0000\uCD3E\u0000\u0000\uC6E5\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uCA96\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u303E\u0000\u0000\u0000\u8759"
+            + "\u8C82\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u6D8D\u8EED\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u8D8E\u0000\u0000\u0000\u0000\uAA1A\u0000\u0000\u0000\u0000\uE400\u0000"
+            + "\u0000\u0400\u0000\u0000\u0000\uE400\u0000\u8800\u0000\u7000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u7049\u0000\u0000\uE400\uAC6F\u0000\u0000\u0000\u6CB9\u0000\uEB29"
+            + "\u0000\u0000\uA904\u0000\uCF3E\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\uE400\u0000\u0000\u0000\u8BBA\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u6C59\u5499\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\uE400\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE800\u6889\u71B5\u0000\u0000\u0000\uE400"
+            + "\u0000\u3408\u0000\u34C3\u0000\u0000\u0000\uE400\u549A\u0000\u54E0\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u8B04\uE400\u8879\u0000\u0000\u5555\u8E4A\u0000\u871A\u0000\u0000\u0000\u0000\u0000"
+            + "\uEAB6\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u8AAA\uCE5E\u0000\uE400\uE7BF\uC800\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\uAB00\u0000\u0000\u0000\u0000\u4CAC"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uC67E\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u71B8\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u8CC9\u0000\u0000\u0000\u0000\u0000\uE400\u0000\uE620\u566E\uE800\u6CBF\uCD51\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u6C7A\u6C88\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0400\u0000\u311C\u51FD\uA400\u0000\u0000\u0000\u0000\u0400\uE800\uE800\u0000\u0000\uA13A\u5106\u0000\u89FF\u365A\u0000\u0000\u0400\u6E49\u86F7\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u88F3\u0000\u0000\u0000\u4C29\uE6C7\u0000\u0000\u500F\u34B1\uC400\uE400\uE400\u6CB6\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u6FB3\u0000\u0000\u0000\uE400"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\uCE31\u0000\u0000\u0000\u0000\uE9D2\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uCC00\uEC00\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\uE400\uE400\u8CBC\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u8A32\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u71BA\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uCDF2\u6DD1\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u6C7C\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE800\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\uE400\u70E1\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u7036\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0400\u0000\uE400\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u8400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0400\u0000\u6D9D\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u7040\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\uC6FD\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u8F01\uE400\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE775\uE800\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uA92F\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u860D\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u342F\u0000\u0000\u4C32\u0000"
+            + "\uAE7C\u0000\u0000\uA8D5\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uCF4B\u0000\u8B03\u521B\u0000\u0000\u0000\u0000\u0000\u0000\u8AEE\u0000\u0000\u5403\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u4E74\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u3533"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uAACE\uACD3\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u5028\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u6B61\u0000\u0000\u0000\u0000\uAACB\u0000\u0000\uE000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\uC400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u89E2\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE800\u0000\u0000\uCB1B\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uC98C"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE720\u0000\uE400\uA4F1\u0000\u03CB\u0000\u0000\u0000"
+            + "\uE400\u0000\u9000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\uACA7\u0000\u0000\u5034\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\uE400\uE68B\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\uE800\u0000\u0000\uE800\u0000\u0000\uE765\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u8800\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000"
+            + "\u0000\u0000\u0000\uA95A\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uA400\u0000\u0000\u0000\uACE7\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000"
+            + "\u0000\uE400\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\uE6D7\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u860E\u0000\u0000\uE400\u0000\u4D84\uE400\u50CA\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u8CEE\u0000\u0000\u0000\u0000\u0000\u5293\u0000\u0000\u0000\u0000\u0000\u339C\u5451\u0000\u0000\u0000\u508B\u0000\u51E7\u0000\u0000\u0000"
+            + "\u0000\u0000\uAFAF\u0000\u0000\u0000\u0000\u3407\u0000\u3600\u4E28\u8D4F\u0000\u0000\u6A46\u0000\u0000\u8DBF\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0749\uE400\u0000\u0000\u0000\u0000\u0400\uC400\u0000\uE782\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\uE800\u0000\u0000\uE400\u0000\uE7CE\u0000\u0000\u0000\uC400\u0000\u0000\u0000\u0000\u3497\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u8DA7\u0000\u0000"
+            + "\u0000\u0000\uE400\uE400\uE400\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u5000\u0000\uAEB3\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u5000\u0000\u70F4\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE800\u68BB\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\uC5B9"
+            + "\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uEC00\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uEEFF\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\uAE9F\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u3448\u0000\u0000\u0000\uE400\u0000\u0000\u31E5\uCE41\u0000\u0000\u0000\u0000\uC000\u0000\u0400"
+            + "\u0000\u0000\u0000\u8B4A\uE400\u0000\u343F\u0000\u0000\u0000\u0000\u8800\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\uCD65\u0000\uCB73\u6DC9\u7090\u0000\u0000\u8E53\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uC7E5\u8CE6\uC400\u6C30\u0000\uE400\uC800\u0000\u6C44"
+            + "\u0000\u0000\u6E2D\uC6B7\u5226\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u656F\u0000\uE400\u0000\u0000\u8D66\uE400\uE400\u5085\u0000\u0000\uAD08\u0000\u0000\u0000\u0000\u0000\u6EBD"
+            + "\u0000\u0000\uE400\u0000\uAEA1\u0400\uC72F\u0000\u0000\u0000\u0000\u0000\uAE84\u0000\u0000\u0000\u0000\u0000\u6C00\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\uEC00\u0000\u8DDD"
+            + "\u0000\uE400\u0000\u0000\u0000\u0000\u0000\uE400\u0000\uE59C\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uC400\u0000\u4B6F\u0000\u0000\u0000\u6C22\uE000"
+            + "\u0000\uE800\uC9FA\u0000\uC7A9\u0000\uCA7A\u0000\u0000\uE400\uC800\uE400\u0000\u0000\uA962\u3472\u0000\u511F\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\uC670\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uC400\u0000\uE400\uE400\uE76B\uE400"
+            + "\u6D1E\u0000\u0000\u0000\u0000\uAF44\u0000\u0000\uE400\u0000\uCBAB\u7268\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uC560\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uA790\u0000"
+            + "\u0000\u0000\u0000\u0000\uCB21\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u3483\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u01CF\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u4B13\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u6A2C\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\uE400\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u68F5\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\uE615\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE70A\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u34B5\u6982\u0000"
+            + "\u0000\uE400\u0000\u8400\u0000\u512B\u3676\uE400\uEB7C\u0000\u0000\u0000\u0000\u0000\u8DC1\u0000\u0000\uC400\u0000\u0400\u0400\u0000\u0000\u0000\u0000\u0000\u0000\uCBB0\u0000\u0400\u0000\u0000"
+            + "\u0000\u0000\u4C2A\uAB6D\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u8B80\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\uAE33\u0000\u8D72\u0000\u8AEA\u51F8\u0000\u0000\u6400\u0000\u0000\u0000\u0000\uAD25\u0000\u0000\u0000\u0000\uE800\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\uEA81\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uC743\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uC800\u6C80\u3406\u0000\u0000\u0000\u6F12\uA56C\u0000\uE400\uC800\uE400\uEC00\u0000"
+            + "\u0000\uCB19\u0000\u5107\u0400\u0000\u0000\u0000\u0000\u0000\uE800\u0000\u0000\u0000\u0000\uA400\u0000\u0000\u0000\u0000\u0000\u8B63\u0000\u517A\u0000\u0000\u0000\u0000\u88AA\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u706E\uCE4C\u0000\u0000\u0000\u6B54\u0000\u6F30\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u86F8\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\uE6BA\u0000\u0000\u0000\u0000\u0000\uE400\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uCAEB\uE400\u0000\u0000\u912C\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\uA66B\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u6CFB\uE400\u0000\u0000\u4400\uE400\u4CDA\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u5000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0400\uE400\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u4BBE\u0000\u0000\u0000\uA593\u0000\u5070\u0000\u0000\u0000\u0000\u0000\u0000\uE755\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u4C5B\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u4DA2\u0000\u0000\u0000\u0400\u0000\u0000\uE400\u0400\uE400\u0400\u0000\u0000\u0000\uE400\uE5D0\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u6D3B\u0000\u0000\uEE88\u0000\u0000\u0000"
+            + "\uA400\uE400\u0000\u0000\u8400\u7187\u0000\u0000\u0000\u0000\u0000\uCBE0\u541A\u0000\u0000\u0000\uE400\u0000\u8F31\uC659\u0000\u0000\u0000\u8CAF\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\uEC00\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uA9B6\uE400\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\uA400\uE752\u0000\u0000\u0000\u0000\uE7C8\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u509D\u0000\u8D09\u0000\u0000\u0000\u0000\u0000\u0000\uE400\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uA737\uCC00\uEC00\u0000\u0000\uA50A\u0000\u0000\u0000"
+            + "\uC400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uA800\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u8D86\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uEC00\u0000\u0000\u0000\uEC00\u0000\u0000\u0000\u0000\u0000\u0400\u5084\u0000\u0000"
+            + "\uE400\u0000\u0000\u0000\u0000\u7135\u0000\uAC68\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE800\u0000\u0000\u0000\u0000\uEF6E\u0000\uE400\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\uEC00\u0000\u0000\uE400\uA400\u0000\u0000\u0000\uE400\u0000\u6F72\u0000\u0000\u0000\u0000\u0000\uE79D\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400"
+            + "\uE400\u0000\u0000\uEB1C\u0000\u0000\uE400\u0000\u0000\uE800\u7212\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u6C00\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\uACEB\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE709\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0400"
+            + "\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u6D7D\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u7063\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u8E80\u0000\u0000\u0000\u6CE9"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\uA561\uE000\u0000\uE7E7\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\uE400\uAC00\u0000\u0000\u0000\u0400\uE400\u0000\u0000\u0000\u0000\u0000\uE794\u0000\uE400\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE800\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0400\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uC627\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\uE779\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u8C74\uC73D\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u8C4E\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u4A3F\u0000\u0000\uEF7A\u0000\u0000\u0000\uE728"
+            + "\u6CDD\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\uE400\u0000\u303C\u0000\u4C00\u0000\u0000\u0000\u0000\u0000\u6CEF\u0000\uEF2D\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\uE400\u0000\u0000\uC638\u0000\u0000\u0000\u0000\u0000\uAB07"
+            + "\uA9B2\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\uE742\u0000\u0000\u0000\u6CEC\u0000\uE69A\u8FC2\u0000\u0000\u0000\uEED6\u0000\uE74F\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\uEF67\u0000\u0000\u0000\uE400\u0000\u0000\u0000\uE400\u0000\u0000\uEF15\uE400\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\uC9A6\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\uE400\u0000\uE75F\uE400\u0000\u0000\u0000\u0000\uE400\uE400\u0000\uAF48\u0000\uC800\u0000\u0000"
+            + "\uE75A\uC663\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u6800\u0000"
+            + "\u0000\u7077\u0000\u0000\u0000\u0000\u0000\u6C9B\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE7DD\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u8501\u0000\u0000\u0000\u0000\u0000\uE800"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE666\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uEE5C\u0000\u0000\u0000\u0000\u0000\u0000\uEA50\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uC800\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\uE800\u0000\u0000\u0000\u0000\uA617\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\uE800\u0000\u0000\uEC00\u0000\u0000\u0000\u0000"
+            + "\u0000\uAA5F\uCFA2\u0000\u0000\uAA0B\u0000\uE7E8\uC5FB\u0000\uE732\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE783\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE76C\uA4FE\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\uEAAF\u0000\u0000\u0000\u0000"
+            + "\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uC7B2\u0000\u0000\u0000\u0000\u0000\uE538\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uAB27\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\uE400\u0000"
+            + "\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE634\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\uE5D9\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\uE72B\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uC400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uAC9F\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u8893\u0000\uE614\u0000\u0000\u6D20\uAC11"
+            + "\u0000\u0000\u0000\u0000\u0000\uA664\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u871F\u0000\u0000\u0000\u0000\u0000\u8E04\u0000\u50A6\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\uE400\u8EF6\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\uC800\u0000\u0000\u0000\u4C94\u0000\u0000\u0000\u65DE\uA400\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u30BE\u0000\uE400\u0000\u0000\u0000\u0000\uE400\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u9127\u0000\u0000\uE400\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\uE400\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uAD52\u0000\u0000\u5033\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u502E\u0000\u0000\u0400\uE543\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u730F\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u7189\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u8400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\uE400\u0000\u0000\u3401\u0400\uAA25\uE400\u3192\u0000\u0000\uE400\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0400\u0000\u0000\u0000\uE400\uEB3A\u0000\u0000\u0000\u0000\u0400\u0000\u5043\u0000\u0000\u0000\u0000\uAE3B\u6C00\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u4B4C"
+            + "\uD194\u0000\u0000\u0000\u0000\u5243\u0000\u0000\u8CE2\u0000\u0000\u0000\u0000\u66B9\u0000\uE400\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u5000\u0000\u0000\u0000"
+            + "\u0000\u0000\u5410\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\uCC00\u0000\u0000\u0000\u0000\uEAF5\u8DA3\u0000\u0000\u0000\u0000\u4C00\u0000\uE400\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\uE400\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u6400\u0000\u0000\u0000\u0000\uC400\u6C00\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0400\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\uE400\u0000\u0000\uCFD2\u0000\u0000\u0000\u0000\u0000\uAAB4\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE800\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u53AC\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u6F2A\u0000\uEF5D\u0000\u0000\u0000\u54A9\uE400\u0000\u0000\u0000\u0000\u0000\uEBD3"
+            + "\u8C52\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u3417\u711A\u0000\u0400\u0000\u7369\u0000\u0000\u0000\u0000\u0000\u0000\u0400\uE400\u0000\uC400\u0000\u0000\u0000\u8DD6\u0000\u50F8\u0000\u6C75"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u353D\u0000\u8E8A\u8DC8\u340A\u8B99\u0000\u0000\u0000\uE400\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\uC800\u0000\u0000\uE400\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0400\u0400\u8A35\u28FD\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u8F96"
+            + "\u0000\uA56B\u0000\u0000\u0000\u5466\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uEC00\u0000\u5425\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u85D7\u6B9E"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE7D4\u0000\u0000\u0000\u0000\u0000\u0000\u2A90\u0000\u0000\uCB8F\u0000\u8D02\uA800\u0000\u0000"
+            + "\uE79A\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE800\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\uC745\uE800\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u6800\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uA8B8\u0000\u0000\u0400\u0000"
+            + "\u0000\u0000\u0000\u0000\u8B98\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000"
+            + "\u0000\u3526\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uC5B0\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE5DB\u6A6C\u0000\u0000\uAD19\uE400\u0000\u0000"
+            + "\u0000\u0000\u0400\uE400\u0000\u0000\u0000\u0000\u84CE\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uA400\u0000\u0000\uE400"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u8400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0400\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u8800\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\uE785\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\uC800\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\uE400"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u2A61\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u6ABB\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uA522\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u702B\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u89CC\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u5175\u0000\u0000"
+            + "\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uAD3C\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u6DED\u0400\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\uE400\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u86AE\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\uC69C\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uCC9C\u6DE0\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uC7DC\u0400\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u6A29\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u8C7F"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u8F5C\u6CDE\u0000\u0400\u0000\u0000\u0000\uE9A5\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uCF86\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0400\uE400\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u5207\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u5136\u308F\u0000\u0000\uA983\u0000\u0000\u522A\u0000\u0000\u0000\u0000\u0000\u6C00\u0000\u0000\u0000\uED0D\u8A78\u0000\u0000\u0000\u0000\u0000\u0000\u70E5\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\uE400\u8D7C\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\uCDDF\u0000\u0000\u0000\u0000\u8E45\uE400\u0000\u0000\u0000\uE800"
+            + "\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u563A\u55B4\u0000\u0000\u0000\u8800\u0000\uA949\u0000\u0000\u0000\u0000\u0000\u0000\u4800\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u8454\u0000\u8C1C\u0000\u0000\u0000\u0000\u0000\u3471\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u34DF\u0000\u0000\u6800\uAB4E\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\uE400\u8CDC\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\uE800\u0000\u0000\uEB8C\u0000\u0000\u0000\u0000\uE6C0"
+            + "\u4B3B\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u6C47\u0000\u0000\u4400\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE800\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE7A1\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\uE400\uE528\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uAA97\u0000\u0000\u0000\u0000\uE800\u6AB2\u0000\u8C6D\uE400\u0000\u0000\uC400"
+            + "\u0000\uE9EA\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uC800\uE800\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u8C64\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\uE400\u6AE4\u8400\u0000\uE800\u0000\u0000\u71F1\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u6C00\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u72FB\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uCC00\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0400\u0000\u0000\u0400\u0000\u0000\u4CAB\u0000\u0000\uC4A4\u0000"
+            + "\u0000\u6D18\u0000\u0000\uE400\u8800\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE685\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\uE7D1\u0000\u0000\u0400\uE400\u0000\u0000\u0000\uEF08\u0000\u0000\u0000\u0000\u0000\u8800\u0000\u0000\u50C8\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u6D59\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE800\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\uA800\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE800\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u6DE4\u0000\u0400\u0000\u0000\u0000\uAB38\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u8AC1\u0000\uE400\uCCA8\uE5F3\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0400\uA905\u0000\u0000\u0000\u0000"
+            + "\u0000\uEDBE\u0000\u0000\u0000\u0400\uE400\u0000\u0000\u6B46\u0000\u0000\uAAF9\u0000\u0000\u6DEF\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u6800\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u6800\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uEA21\uE800"
+            + "\u8E03\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uC6E2\u0000\u0000\u0000\u0000\u0000\uA9A9\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE800\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0400\u0000\uE400\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\uE400\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE800\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u8800\uE400\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\uAD0B\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\uE400\u0000\u7000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\uE400\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uA400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\uE400"
+            + "\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uC400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\uC630\uE400\u0000\uE800\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\uE800\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u363E\u0000\u0000\u0000\u8800\uC800\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uA7D0\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\uE400\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u6800\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u4CA5\uE73F\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u8112\u0000\u0000\u0000\u0000\uE7CD\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u8D91\u0000\u0000\u0000\u0000\u0000\u8BD6\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uEC00\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u8800\u0000\uE400\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\uC400"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u8EBC\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\uABB4\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\uE800\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\uEADF\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u5686\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0400\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uC800\uAB22\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u5000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u8400\u0000\u70D7\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u90EA\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u3000\u0000\u0000\uAF6A\u0000\u0000\u0000\u0000\u0000\u0000\uAD2A\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u02E9\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\uA56D\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\uE400"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\uEC00\u0000\u0000\uE67D\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400"
+            + "\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE7C4\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\uE400\u0000\u0000\uA57F\u0000\u2AE1\u0000\u2EAC\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE800\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uC400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uAC55\u0000"
+            + "\u0000\u0000\u0000\u6D2E\u0000\u0000\u5056\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0400\u0000\u0000\u0400\u0000"
+            + "\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE599\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE800\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE800\u0000\uE400\u0000\u0000\u0000\u0000\u341D"
+            + "\u0000\u0000\u0000\u8CA1\u0000\u0000\u0000\u0000\u506B\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u305A\u6D45\uE400\u6DEC\u0000\u0000\u0000\u34F0\u0000\u0000\u3124\u50C7\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u709E\u0000\u0000\u0000\u0000\u6000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\uAEDB\u0000\u0000\uE800\uE400\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\uAB06\u0000\u0000\u0000\u0000\u4D5C\u0000\u0000\u0000\u0000\u0000\uC677\u0000\u0000\uE800\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\uCD1B\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\uEC00\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u7180\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\uCF87\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\uEA58\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u7020\u6E36\u0000\u35E3\u34A3\u0000"
+            + "\u0000\u0000\u0000\u0000\u8069\u0000\uEC00\uC6D1\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u6800\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u6800"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\uA6A2\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uEC00\u0000\u0000\u0000\uC6C8\u0000\u0000\u0000\uC64B"
+            + "\u0000\u0000\u0000\uE598\uE771\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u304C\u0000\u0000\u0000\uE400\u0000\u4CF6\u0000\u0000\u0000\u6C2D\u0000\u0000\u0000\u0000\u0000\uE400\u0000"
+            + "\u0000\u8A24\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\uC400\u688C\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u7117"
+            + "\uEC00\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\uE400\u0000\uA400\u0000\u0000\u0000"
+            + "\u7178\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\uE400\u0000\uE616\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0400\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u4400\u0000\u0000\u50CD\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u6AB1\u0000\uE400\u0000\u0000\u0000\u2D56\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\uC800\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u7150\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\uAE4E\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\uE800\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uACFC\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\uC400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE800\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uACED\u0000\u6C00\u0000\u5015\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE800\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\uAC00\u0000\u0000\u0000\u0000\u0000\u0000\u8800\u6D5B\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u85E9\u0000\u0000\u0000\u0000\u6800\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\uAAA9\u0000\u0000\u0400\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0400\u6DD3\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\uE750\uD0F2\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u527B\u0000\u0000\u0000\u0000\u0000\u4E13\u6800\u0000\u0000\u0000\u0000\u0000\uC75E\u0000\u0000\u0000\u0000\u0000\u0000\uE400"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\uE7D9\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uA9C0\u0000\u0000\u0000\u0000"
+            + "\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uAE02\u0000\u0000\uA921\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0400\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u8DCD\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\uE400"
+            + "\uC400\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u8E1D\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uC400\u0000\u7170\u0000\u0000\u0000\u3130\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\uEE09\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\uCC00\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u303A\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000"
+            + "\u6BDE\u0000\u0000\u0400\u0000\u6800\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE7C0\u0000\u0000\u0000\u0000\u0000\u0000\u8A62\u0000\u0000\u2A51\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u8F91\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u6400\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\uE800\u0000\u0000\u0000\u0000\u0000\u64A0\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u6800\u0000\u0000\u6F1E\u0000\uC6E8\u0000\u0000\u0000\u0000\u0000\u0000\uE800\u0000\u51E6\u0000\uC4D1\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u4969\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u8A05\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u6C00\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u87A6\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\uAB35\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\uCBD7\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uEB8B\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u4C3D\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u8800\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\uE800\u0000\u0000\u0000\u0000\uE400\uE400\u0000\u0000\uE400\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uAEF0\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uC400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u2800\u0000\u0000\uC637\u0000\u0000\uE400\u0000"
+            + "\u870C\u0000\u0000\u0000\u8C5E\uC800\u0000\u0000\u0000\u0000\u0000\uE400\u0000\uC7DB\u0000\u0000\u0000\u0000\u0000\u0000\uC800\u0000\u0000\u0400\u0400\u522F\u6711\uE7E2\u0000\u0000\u0000\u0000"
+            + "\uA694\uE400\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0400\u0000\u0000\uE400\u4A19\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\uEBC3\uE400\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u7100\u0400\u4CCC\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uAC4F\u0000\u0000\u0000\u84A2\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000"
+            + "\u0000\uEB26\u0400\u0000\u0000\u0000\u8E67\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uA47D\u0000\u0000\u0000\u4F7F\uAF10\u0000\u0000\uC400\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE6E7\u8C8D\u0000\u0400\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE683\u0000\u0000\u0000\uE400\uE400\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0400\u0000\u0000\u0000\u0400\uA800"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE6A5\u0400\u0000\u0000\u0000\uA881\u0000\u6800\uEFB8\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u497E\u0000\u0000\u0000\u0000\u0000"
+            + "\uE71D\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uAA4F\uE7A5\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u6B14\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\uE400\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\uC400\u0000\u0000\u0000\u0000\uE400\u0000\u0000\uC78D\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uAB34\u0000"
+            + "\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uA660\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\uE768\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE800\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uAEDC\u0000\u0000\u0000\u8D15\u0000\uE400\u0000\uCAD5\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u6400\u0000\u0000\u0000\u6DCE\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\uA800\u0000\u0000\u0000\u0000\uA59F\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u4AEC\u0000\u0000"
+            + "\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uC800\u0000\u0000\u0000\u0000\u0000\u72C2\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\uE400\u0000\u0000\u0000"
+            + "\u0400\u8F23\u0000\u50C4\u0000\u7026\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\uA800\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u2C00\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uC400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u553F\u0000"
+            + "\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE70D\u0000\u0000\uAD31\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u53DA\u0000\u0000\uE800\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000"
+            + "\u0000\u0000\uE400\u0000\u0000\uA400\u0000\u0000\u0000\uE800\uE400\u0000\u0000\u0000\u0000\uE800\u0000\u0000\u6D71\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uC400\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u8800\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\uCEB8\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000"
+            + "\u0000\u0400\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\uC800\u0000\u0000\u0000\u0000\uAD11\u0000\u0000"
+            + "\u0000\u0000\uE800\u0000\u0000\uE400\u0000\u0000\u8400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE70E\u0000\uC9CB\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\uE800\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE800\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u8400\uCC00\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE800\u0000\uE400\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uCBDF\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u8800\u0000\u0000\u0000\u0000\uC6D2\u0000\u5013\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\uC7E4\uE766\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uA6DE\u0000\u0000\u0000\uA400\u0000\uA400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0400\u0000\uEE8F\uE800"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u8A99\u0000\uEA89\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u4EC9\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u8DF5\u0000\u0000\u526D\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\uE400\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u3242\u0000\uE400\u0000\u0000\u0000\u0000\u8ACF\u0400\u0000\u0000\u0000\u8400\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\uCDCA\u6E6F\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u91AE\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\uE400\u0000\u0400\u0400\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u5000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u2FC7\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE800\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u6800\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\uE800\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u8800\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u6DA4\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u6D9E\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uCB51\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE6F2\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uC800\u0000\u0000\u0000\u0400\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uC9D4\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\uE800\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\uE400\uE400\u6EBE\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0523\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\uE400\u0000\uE400\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u2800\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uC400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE5E1\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u6B40\u0000\u0000\u0000\u0000\u0000\uC5C2\u0000\u0000\u0000\u0000\u0000\u5414\u0000\u0000\u0000\u0000\u0000\u0000\uAD5E\u0000\u0000\u0000\u877B\u0000\u0000\u0000\uA590\u0000\uE7CC\u0000\u0000"
+            + "\u0000\uE400\u0000\u8800\u0000\u0000\u0000\u0000\u6C4D\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\uE800\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE9AF\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\uC529\uE400\u0000\u0000\uCA91\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uCB2C\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\uC94C\u0000\u0000\u0400"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\uA5E8\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uAB93\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u5503"
+            + "\u0000\u8C6A\u0000\u0000\u0000\u0000\uE400\uE400\u0000\u0000\u0000\u3416\u0000\u0000\u0000\uAD5D\u0000\u0000\u0000\u0000\u0000\u0000\uC56A\u0000\u0000\u0000\u8EC6\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uC400\u0000\u0000\u5196\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u8DDC\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u4B25\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\uACB0\u0000\u0000\uEB88\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u5053\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u50E4\u0000\u0000\u0000\u0000\u0000\uC610\u0000\u0000\u0000\u0000\u8800\u0000\u0000\u0000\uE400\u4C95\u0000\u0000\u0000\u0000\u0000\u0000\uE400"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uCD74\u0000\u0000\uA891\u0000\u0000\u0000\uAED0\u0000\uC400\uE5AB\u0000\u0000\u0000\u0000\u0000\uE400\u0000\uA532\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\uE400\uA5C6\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uC800\u0000"
+            + "\uE400\u0000\u0400\u0000\u0000\u0000\u9188\u0000\u0000\u6400\u0000\u0000\u0000\u0000\u0000\u0000\uE800\u5486\uE400\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\uE400\u0000\u0000\uCB53\uCCC6\u0000\u0000\u0000\u0000\u0000\uE400\u0000\uC400\u0000\u0000\uE7E1\u0000\u0000\u0000\u0000\u0000\u552D\u0000"
+            + "\uC400\u0000\u0000\u0000\uCC00\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u8D46\u566A\u0000\u0000\u0000\u0000\u89C7\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u6C57"
+            + "\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u6D10\u0000\u0000\u0000\uE60C\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\uCCE3\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uCA92\u0000\u0000\u0000\u0000\u0000\uE400\u0000"
+            + "\uE400\uE400\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\uAA8D\u0000\uA400\u0000\u0000"
+            + "\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uADF0\u0000\u0000\u0000\uE400\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\uCD6E\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u8C19\u0000\uE7D8\u0000\u0000\u0000\u0000\uA55F\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u49FC\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u6400\u0000\u0000\u0000\uAAFA\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u898A\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u2800\uE400\u0000"
+            + "\u6DBB\uADEE\uE7BC\u0000\u0000\u0000\u0000\uAC00\u8B36\uEA73\u0000\uE400\uAE56\u0000\u0000\u8800\u0000\u0000\u0000\u0000\uC7CA\u0000\u0000\u5208\uB3E3\u0000\u0000\u8D41\u0000\u0000\u0000\uAA8C"
+            + "\uA400\u0000\u0000\uC7C1\uE400\u0000\u0000\uACB3\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uAF64\uE400\u0000\u89AA\u0000"
+            + "\uE400\u0000\uE800\u0000\u0000\u0000\uE400\u0000\u0000\u0000\uB185\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE7B1\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE800\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u3248\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u5272\u0000\u0000\u0400\uE400\u0000\u0000\u7176\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\uEA55\u0000\u0000\u0000\u0000\uEF81\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u3157\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000"
+            + "\u0000\uEBB9\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u6E11\u0000\u0000\u0000\uE400\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE800\u0000\u0000\u0000\u0000\uE6D3\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE784\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u6140\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u354D\u0000\uE400\u88BD\u0000\u0000\u0000\u0000\uE800\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE800"
+            + "\u0000\u0000\u7147\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u6B16\u0000\u0000"
+            + "\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\uE739\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u8AB5\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uA973\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE800\u0000\u0000\u8E79\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\uE400\u6981\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u89AC\u0000\uEEA3\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uEE71\u0000\u0000\u50C2\u0000\u0000\u6EAD\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\uE705\u0000\uE400\u0000\u0000\uA97B\u0000\u0000\u0000\u0000\u0000\u0000\uAFAE\u0000\u0000\u0000\u0000\u0000\u6D9B\u0000\u0000"
+            + "\uADA8\u7137\u0000\uEFA3\u0000\u0000\uAAAB\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\uE400\u0000\u0000\uE400\uEECD\u0000\u0000\u0000\u0000\u0000\u5050\u0000\u0000\uE400\u0000\u6E40"
+            + "\uA9AD\u0000\u0000\u8C1E\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE6FE\u0000\u0000\u521C\u6C8E\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\uE400\u0000\u0000\uEF41\u0000\uE400\u0000\u0000\u6FAD\u70FF\u0000\uE400\uAD1D\u0000\u0000\u0000\u0000\u50CF\u8DF4\uED58\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u4F77\u0000\u0000\uE698\u0000\u0400\u0000\u0000\u0000\uAE9E\u0000\u0000\u0000\uE400\uE400\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\uE400\u8C39\u0000\uC687\u0000\u0400\u0000\u0000\uE6F4"
+            + "\u0000\u0000\u0000\u0000\uE78E\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0400\u0000\u0000\uE68E\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE789\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE800\u0000\u0000\u0000\uE639\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u87C5\u0000\u0000\u0000\u0000\u0000\u0000\u6C24\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uCB95\u0000\uC400\u0000\u0000\u0000\u0000\u0000\u6C7B\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\uE400\u6D67\u0000\u0000\u0000\u0000\u6C00\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\uE400\uA400\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\uE400\u0000\u0000\u0000\u4000\u70C1\u5078\u89D5\u0000\u3435\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uC9F9\u0000\u0000"
+            + "\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE800\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE770\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u6AA0\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uA800\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u718B\u0000\u0000\uE400\u0000\uA800\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uA400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE800\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uC400\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\uE400\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\uE400\u0000\u0000\u8A22\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u8400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u540C\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u49C4\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uCFB7\u0000\u703B\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u5421\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u8C46\uC5BC\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE6EF\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u01F7\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uA94B\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0400"
+            + "\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uCE54\u0000\u0000\uAD95\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uC400\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u7096\uE73C\uCE52\uE400\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\uE400\u0000\uE400\uE400\u0000\u8AE0\u0000\uAEC3\u0000\u0000\u6C00\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\uE800\uE400\u0000\u0000\u0000\u865D\u0000\u0000\u0000\u6A01\uE400\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\uACB7\uC6E6\u0000\u0000\u0000"
+            + "\uE400\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\uE800\u0400\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\uE69D\uE400\u70D2\uEBCF\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\uAF47\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\uE62B\uCD4A\u0000\u0000\u0000\u0000\u37B6\u0000\u4C00\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u4800\u0000\u0000\u0000\uE800\uE400\u0000\u0000\u0000\u550C\u0000\u0000\u0000\u0000"
+            + "\uE7A7\u0000\u0000\u0000\u0000\u0000\u0000\uEB7D\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0400\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE7A0\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u324D\u0000\u0000\u0000\u0400\u0000\u0000\u8EFC\u0000\u0000\u0000\u0000\uADD8\u0000"
+            + "\u0000\u0000\u6CBA\u0000\u0000\u0000\u0000\u0000\u0000\uC8F9\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uEC00\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u01BD\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u31EB\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\uE5F6"
+            + "\u0000\u0000\uCC00\u0000\u0000\uE774\u8B0B\u0000\u0400\u0000\u0000\u0000\u0400\u0000\u0000\u0000\uABD5\uE400\uE400\u0000\u0000\u0000\u0000\u0000\uA88A\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u4DB1\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\uEEC4\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u7060\uA997\u0000\u0000\u0000\u0000\u0000\u0000\u4EA4\uE400\u0000\u0000\u8F7E\u0000\u0000\u0000\u0000\u0000\u8EA6\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u522E\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u8E44\u0000\u0000\u0000\u5548"
+            + "\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u9000\u0000\u0000\u73C9\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uA400\uE400\uE400\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u8778\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u7265\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u4C62\u0000\u0000\uEB5B\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u4E7F\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\uE400\u72D4\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uEBBB\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\uE400\u919A\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uCBA8\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u5441\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uEC00\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000"
+            + "\u0000\u0400\uE400\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u5000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE563\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u5000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u4C00\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u07BD"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u4800\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0400"
+            + "\u0000\u0000\u0000\u0000\u4800\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0400\u0000\u0000\u0000\u523D\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0400\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\uE400\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u6800\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\uEB02\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000";
+    private static final String KANA = "\u0000\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0000\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001"
+            + "\u0001\u0001\u0000\u0001\u0001\u0000\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001"
+            + "\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0001\u0000\u0001\u0001\u0001\u0001\u0001\u0001\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+            + "\u0000\u0000\u0002\u0000\u0002\u0000\u0002\u0000\u0002\u0000\u0002\u0002\u0002\u0002\u0002\u0002\u0002\u0002\u0002\u0002\u0002\u0002\u0002\u0002\u0002\u0002\u0002\u0002\u0002\u0002\u0002\u0002"
+            + "\u0002\u0002\u0000\u0000\u0002\u0000\u0002\u0002\u0002\u0002\u0002\u0002\u0002\u0002\u0002\u0002\u0002\u0002\u0002\u0002\u0002\u0002\u0002\u0002\u0002\u0002\u0002\u0002\u0002\u0002\u0002\u0002"
+            + "\u0002\u0002\u0002\u0002\u0002\u0002\u0002\u0002\u0002\u0002\u0002\u0002\u0002\u0002\u0000\u0002\u0002\u0002\u0002\u0002\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0002\u0000\u0000\u0000";
+    private static final String HALFWIDTH_KANA = "\u0003\u0003\u0003\u0003\u0000\u0003\u0003\u0003\u0003\u0003\u0003\u0003\u0003\u0003\u0003\u0003\u0003\u0003\u0003\u0003\u0003\u0003\u0003\u0003\u0003\u0003\u0003\u0003\u0003\u0003\u0003\u0003"
+            + "\u0003\u0003\u0003\u0003\u0003\u0003\u0003\u0003\u0003\u0003\u0003\u0003\u0003\u0003\u0003\u0003\u0003\u0003\u0003\u0003\u0003\u0003\u0003\u0003\u0003\u0003\u0003\u0003\u0003\u0000\u0000";
+    // GENERATED END
+}
@@ -0,0 +1,153 @@
+/**
+ *     Aedict - an EDICT browser for Android
+Copyright (C) 2009 Martin Vysny
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package sk.baka.aedict.kanji;
+
+import java.util.Arrays;
+
+/**
+ * A trie which maps strings to strings. Finds the longest key which prefixes
+ * given text without allocating any objects, therefore it is suitable for
+ * transliteration of large amounts of text.
+ * 
+ * @author Martin Vysny
+ */
+final class CharTrie {
+
+    /**
+     * The characters of the child nodes, sorted.
+     */
+    private char[] chars = new char[0];
+    private CharTrie[] children = new CharTrie[0];
+    /**
+     * The value of the key spelled by the path from the root to this node,
+     * null if there is no such key.
+     */
+    private String value = null;
+    /**
+     * The length of the key spelled by the path from the root to this node.
+     */
+    private final int depth;
+
+    /**
+     * Creates an empty trie.
+     */
+    public CharTrie() {
+        this(0);
+    }
+
+    private CharTrie(final int depth) {
+        this.depth = depth;
+    }
+
+    /**
+     * Maps given key to given value.
+     * 
+     * @param key
+     *            the key, not empty.
+     * @param value
+     *            the value, not null.
+     * @return the previous value of the key, null if there was none.
+     */
+    public String put(final String key, final String value) {
+        CharTrie node = this;
+        for (int i = 0; i < key.length(); i++) {
+            final char c = key.charAt(i);
+            final int index = Arrays.binarySearch(node.chars, c);
+            if (index >= 0) {
+                node = node.children[index];
+                continue;
+            }
+            final int insert = -index - 1;
+            final char[] newChars = new char[node.chars.length + 1];
+            System.arraycopy(node.chars, 0, newChars, 0, insert);
+            System.arraycopy(node.chars, insert, newChars, insert + 1, node.chars.length - insert);
+            newChars[insert] = c;
+            final CharTrie[] newChildren = new CharTrie[node.children.length + 1];
+            System.arraycopy(node.children, 0, newChildren, 0, insert);
+            System.arraycopy(node.children, insert, newChildren, insert + 1, node.children.length - insert);
+            newChildren[insert] = new CharTrie(node.depth + 1);
+            node.chars = newChars;
+            node.children = newChildren;
+            node = newChildren[insert];
+        }
+        final String result = node.value;
+        node.value = value;
+        return result;
+    }
+
+    /**
+     * Returns the value of a single-character key.
+     * 
+     * @param c
+     *            the key.
+     * @return the value, null if there is no such key.
+     */
+    public String get(final char c) {
+        final int index = Arrays.binarySearch(chars, c);
+        return index < 0 ? null : children[index].value;
+    }
+
+    /**
+     * Finds the longest key which prefixes the text at given offset.
+     * 
+     * @param text
+     *            the text, not null.
+     * @param offset
+     *            the offset of the first character to match.
+     * @param ignoreCase
+     *            if true then the text characters are lower-cased before
+     *            they are matched. The keys must be in lower case in such
+     *            case.
+     * @return the node of the key, see {@link #getValue()} and
+     *         {@link #getLength()}. Null if no key matches.
+     */
+    public CharTrie longestMatch(final CharSequence text, final int offset, final boolean ignoreCase) {
+        CharTrie result = null;
+        CharTrie node = this;
+        for (int i = offset; i < text.length(); i++) {
+            final char c = ignoreCase ? Character.toLowerCase(text.charAt(i)) : text.charAt(i);
+            final int index = Arrays.binarySearch(node.chars, c);
+            if (index < 0) {
+                break;
+            }
+            node = node.children[index];
+            if (node.value != null) {
+                result = node;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the value of the key which ends in this node.
+     * 
+     * @return the value, null if no key ends in this node.
+     */
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * Returns the length of the key which ends in this node.
+     * 
+     * @return the key length.
+     */
+    public int getLength() {
+        return depth;
+    }
+}
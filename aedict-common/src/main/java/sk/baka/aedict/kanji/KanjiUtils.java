@@ -17,13 +17,9 @@ along with this program.  If not, see <http://www.gnu.org/licenses/>.
  */
 package sk.baka.aedict.kanji;
 
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.EnumMap;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
-import java.util.Set;
 import java.util.StringTokenizer;
 
 /**
@@ -36,7 +32,6 @@ public final class KanjiUtils {
     private KanjiUtils() {
         throw new AssertionError();
     }
-    private static final Set<Character> HIRAGANA_SPECIALS = new HashSet<Character>(Arrays.asList('っ', 'ゃ', 'ゅ', 'ょ'));
 
     /**
      * A very simple check for hiragana characters.
@@ -46,47 +41,22 @@ public final class KanjiUtils {
      * @return true if it is a hiragana character, false otherwise.
      */
     public static boolean isHiragana(char c) {
-        // first check for special characters, like small ya, yu, yo. These
-        // characters are generally untranslateable with the toRomaji founction
-        // and it will fail.
-        if (HIRAGANA_SPECIALS.contains(c)) {
-            return true;
-        }
-        final String romaji = RomanizationEnum.Hepburn.toRomaji(c);
-        if (romaji.length() == 0 || romaji.charAt(0) == c) {
-            // kanji
-            return false;
-        }
-        final char c1 = RomanizationEnum.Hepburn.toHiragana(romaji).charAt(0);
-        return c1 == c;
+        return CharProperties.get(c) >> CharProperties.KANA_SHIFT == CharProperties.HIRAGANA;
     }
-    private static final Set<Character> KATAKANA_SPECIALS = new HashSet<Character>(Arrays.asList('ー', 'ャ', 'ュ', 'ョ'));
 
     /**
-     * A very simple check for hiragana characters.
+     * A very simple check for katakana characters.
      *
      * @param c
      *            the character to analyze.
-     * @return true if it is a hiragana character, false otherwise.
+     * @return true if it is a katakana character, false otherwise.
      */
     public static boolean isKatakana(char c) {
-        // first check for special characters, like small ya, yu, yo. These
-        // characters are generally untranslateable with the toRomaji founction
-        // and it will fail.
-        if (KATAKANA_SPECIALS.contains(c)) {
-            return true;
-        }
-        final String romaji = RomanizationEnum.Hepburn.toRomaji(c);
-        if (romaji.length() == 0 || romaji.charAt(0) == c) {
-            // kanji
-            return false;
-        }
-        final char c1 = RomanizationEnum.Hepburn.toKatakana(romaji).charAt(0);
-        return c1 == c;
+        return CharProperties.get(c) >> CharProperties.KANA_SHIFT == CharProperties.KATAKANA;
     }
     private static final String HALFWIDTH_KATAKANA_TABLE = "。=｡;「=｢;」=｣;、=､;ー=ｰ;ッ=ｯ;ャ=ｬ;ュ=ｭ;ョ=ｮ;ァ=ｧ;ィ=ｨ;ゥ=ｩ;ェ=ｪ;ォ=ｫ;ア=ｱ;イ=ｲ;ウ=ｳ;エ=ｴ;オ=ｵ;カ=ｶ;キ=ｷ;ク=ｸ;ケ=ｹ;コ=ｺ;サ=ｻ;シ=ｼ;ス=ｽ;セ=ｾ;ソ=ｿ;タ=ﾀ;チ=ﾁ;ツ=ﾂ;テ=ﾃ;ト=ﾄ;ナ=ﾅ;ニ=ﾆ;ヌ=ﾇ;ネ=ﾈ;ノ=ﾉ;ハ=ﾊ;ヒ=ﾋ;フ=ﾌ;ヘ=ﾍ;ホ=ﾎ;マ=ﾏ;ミ=ﾐ;ム=ﾑ;メ=ﾒ;モ=ﾓ;ヤ=ﾔ;ユ=ﾕ;ヨ=ﾖ;ラ=ﾗ;リ=ﾘ;ル=ﾙ;レ=ﾚ;ロ=ﾛ;ワ=ﾜ;ヲ=ｦ;ン=ﾝ;ガ=ｶﾞ;ギ=ｷﾞ;グ=ｸﾞ;ゲ=ｹﾞ;ゴ=ｺﾞ;ザ=ｻﾞ;ジ=ｼﾞ;ズ=ｽﾞ;ゼ=ｾﾞ;ゾ=ｿﾞ;ダ=ﾀﾞ;ヂ=ﾁﾞ;ヅ=ﾂﾞ;デ=ﾃﾞ;ド=ﾄﾞ;バ=ﾊﾞ;ビ=ﾋﾞ;ブ=ﾌﾞ;ベ=ﾍﾞ;ボ=ﾎﾞ;パ=ﾊﾟ;ピ=ﾋﾟ;プ=ﾌﾟ;ペ=ﾍﾟ;ポ=ﾎﾟ";
-    private static final Map<String, String> KATAKANA_TO_HALFWIDTH = new HashMap<String, String>();
-    private static final Map<String, String> HALFWIDTH_TO_KATAKANA = new HashMap<String, String>();
+    private static final CharTrie KATAKANA_TO_HALFWIDTH = new CharTrie();
+    private static final CharTrie HALFWIDTH_TO_KATAKANA = new CharTrie();
 
     static {
         for (final Object entry : Collections.list(new StringTokenizer(HALFWIDTH_KATAKANA_TABLE, ";"))) {
@@ -111,7 +81,23 @@ public final class KanjiUtils {
      * @return full-width katakana, never null
      */
     public static String halfwidthToKatakana(final String halfwidth) {
-        return translate(halfwidth, HALFWIDTH_TO_KATAKANA, 2);
+        final StringBuilder result = new StringBuilder(halfwidth.length());
+        halfwidthToKatakana(halfwidth, result);
+        return result.toString();
+    }
+
+    /**
+     * Converts a string containing half-width katakana to full-width katakana.
+     * Non-half-width katakana characters are unchanged. Does not allocate any
+     * objects besides growing the builder.
+     *
+     * @param halfwidth
+     *            a string containing half-width characters, not null
+     * @param out
+     *            the full-width katakana is appended here.
+     */
+    public static void halfwidthToKatakana(final CharSequence halfwidth, final StringBuilder out) {
+        translate(halfwidth, HALFWIDTH_TO_KATAKANA, out);
     }
 
     /**
@@ -123,7 +109,23 @@ public final class KanjiUtils {
      * @return half-width katakana, never null
      */
     public static String toHalfwidth(final String katakana) {
-        return translate(katakana, KATAKANA_TO_HALFWIDTH, 1);
+        final StringBuilder result = new StringBuilder(katakana.length());
+        toHalfwidth(katakana, result);
+        return result.toString();
+    }
+
+    /**
+     * Converts a string containing full-width katakana to half-width katakana.
+     * Non-full-width katakana characters are unchanged. Does not allocate any
+     * objects besides growing the builder.
+     *
+     * @param katakana
+     *            a string containing full-width characters, not null
+     * @param out
+     *            the half-width katakana is appended here.
+     */
+    public static void toHalfwidth(final CharSequence katakana, final StringBuilder out) {
+        translate(katakana, KATAKANA_TO_HALFWIDTH, out);
     }
 
     /**
@@ -134,27 +136,19 @@ public final class KanjiUtils {
      * @return true if it is half-width katakana, false otherwise
      */
     public static boolean isHalfwidth(final char ch) {
-        return HALFWIDTH_TO_KATAKANA.containsKey(String.valueOf(ch));
+        return CharProperties.get(ch) >> CharProperties.KANA_SHIFT == CharProperties.HALFWIDTH;
     }
 
-    private static String translate(final String in, final Map<? extends String, ? extends String> table, final int maxKeyLength) {
-        final StringBuilder result = new StringBuilder(in.length());
+    private static void translate(final CharSequence in, final CharTrie table, final StringBuilder out) {
         for (int i = 0; i < in.length(); i++) {
-            String translated = null;
-            int prefixLen;
-            for (prefixLen = Math.min(maxKeyLength, in.length() - i); prefixLen >= 1; prefixLen--) {
-                final String prefix = in.substring(i, i + prefixLen);
-                translated = table.get(prefix);
-                if (translated != null) {
-                    break;
-                }
-            }
-            result.append(translated != null ? translated : in.substring(i, i + 1));
-            if ((translated != null) && (prefixLen > 1)) {
-                i += prefixLen - 1;
+            final CharTrie translated = table.longestMatch(in, i, false);
+            if (translated == null) {
+                out.append(in.charAt(i));
+            } else {
+                out.append(translated.getValue());
+                i += translated.getLength() - 1;
             }
         }
-        return result.toString();
     }
 
     /**
@@ -168,7 +162,7 @@ public final class KanjiUtils {
      *         kanji}), false otherwise.
      */
     public static boolean isKana(char ch) {
-        return isKatakana(ch) || isHiragana(ch) || isHalfwidth(ch);
+        return CharProperties.get(ch) >> CharProperties.KANA_SHIFT != 0;
     }
 
     /**
@@ -180,7 +174,7 @@ public final class KanjiUtils {
      *         kana), false otherwise.
      */
     public static boolean isKanji(char ch) {
-        return (ch >= 19968) && (ch <= 40864);
+        return (ch >= CharProperties.KANJI_FIRST) && (ch <= CharProperties.KANJI_LAST);
     }
 
     /**
@@ -195,15 +189,8 @@ public final class KanjiUtils {
     /**
      * A kanji list, ordered by its commonality (most common one to least common one). Only first 1000 most common kanji characters are stored here.
      */
-    private static final String COMMONALITY = "日一国会人年大十二本中長出三同時政事自行社見月分議後前民生連五発間対上部東者党地合市業内相方四定今回新場金員九入選立開手米力学問高代明実円関決子動京全目表戦経通外最言氏現理調体化田当八六約主題下首意法不来作性的要用制治度務強気小七成期公持野協取都和統以機平総加山思家話世受区領多県続進正安設保改数記院女初北午指権心界支第産結百派点教報済書府活原先共得解名交資予川向際査勝面委告軍文反元重近千考判認画海参売利組知案道信策集在件団別物側任引使求所次水半品昨論計死官増係感特情投示変打男基私各始島直両朝革価式確村提運終挙果西勢減台広容必応演電歳住争談能無再位置企真流格有疑口過局少放税検藤町常校料沢裁状工建語球営空職証土与急止送援供可役構木割聞身費付施切由説転食比難防補車優夫研収断井何南石足違消境神番規術護展態導鮮備宅害配副算視条幹独警宮究育席輸訪楽起万着乗店述残想線率病農州武声質念待試族象銀域助労例衛然早張映限親額監環験追審商葉義伝働形景落欧担好退準賞訴辺造英被株頭技低毎医復仕去姿味負閣韓渡失移差衆個門写評課末守若脳極種美岡影命含福蔵量望松非撃佐核観察整段横融型白深字答夜製票況音申様財港識注呼渉達良響阪帰針専推谷古候史天階程満敗管値歌買突兵接請器士光討路悪科攻崎督授催細効図週積丸他及湾録処省旧室憲太橋歩離岸客風紙激否周師摘材登系批郎母易健黒火戸速存花春飛殺央券赤号単盟座青破編捜竹除完降超責並療従右修捕隊危採織森競拡故館振給屋介読弁根色友苦就迎走販園具左異歴辞将秋因献厳馬愛幅休維富浜父遺彼般未塁貿講邦舞林装諸夏素亡劇河遣航抗冷模雄適婦鉄寄益込顔緊類児余禁印逆王返標換久短油妻暴輪占宣背昭廃植熱宿薬伊江清習険頼僚覚吉盛船倍均億途圧芸許皇臨踏駅署抜壊債便伸留罪停興爆陸玉源儀波創障継筋狙帯延羽努固闘精則葬乱避普散司康測豊洋静善逮婚厚喜齢囲卒迫略承浮惑崩順紀聴脱旅絶級幸岩練押軽倒了庁博城患締等救執層版老令角絡損房募曲撤裏払削密庭徒措仏績築貨志混載昇池陣我勤為血遅抑幕居染温雑招奈季困星傷永択秀著徴誌庫弾償刊像功拠香欠更秘拒刑坂刻底賛塚致抱繰服犯尾描布恐寺鈴盤息宇項喪伴遠養懸戻街巨震願絵希越契掲躍棄欲痛触邸依籍汚縮還枚属笑互複慮郵束仲栄札枠似夕恵板列露沖探逃借緩節需骨射傾届曜遊迷夢巻購揮君燃充雨閉緒跡包駐貢鹿弱却端賃折紹獲郡併草徹飲貴埼衝焦奪雇災浦暮替析預焼簡譲称肉納樹挑章臓律誘紛貸至宗促慎控";
-    private static final Map<Character, Integer> COMMONALITY_MAP = new HashMap<Character, Integer>(COMMONALITY.length());
-
-    static {
-        int commonality = 2;
-        for (final char ch : COMMONALITY.toCharArray()) {
-            COMMONALITY_MAP.put(ch, commonality++);
-        }
-    }
+    static final String COMMONALITY = "日一国会人年大十二本中長出三同時政事自行社見月分議後前民生連五発間対上部東者党地合市業内相方四定今回新場金員九入選立開手米力学問高代明実円関決子動京全目表戦経通外最言氏現理調体化田当八六約主題下首意法不来作性的要用制治度務強気小七成期公持野協取都和統以機平総加山思家話世受区領多県続進正安設保改数記院女初北午指権心界支第産結百派点教報済書府活原先共得解名交資予川向際査勝面委告軍文反元重近千考判認画海参売利組知案道信策集在件団別物側任引使求所次水半品昨論計死官増係感特情投示変打男基私各始島直両朝革価式確村提運終挙果西勢減台広容必応演電歳住争談能無再位置企真流格有疑口過局少放税検藤町常校料沢裁状工建語球営空職証土与急止送援供可役構木割聞身費付施切由説転食比難防補車優夫研収断井何南石足違消境神番規術護展態導鮮備宅害配副算視条幹独警宮究育席輸訪楽起万着乗店述残想線率病農州武声質念待試族象銀域助労例衛然早張映限親額監環験追審商葉義伝働形景落欧担好退準賞訴辺造英被株頭技低毎医復仕去姿味負閣韓渡失移差衆個門写評課末守若脳極種美岡影命含福蔵量望松非撃佐核観察整段横融型白深字答夜製票況音申様財港識注呼渉達良響阪帰針専推谷古候史天階程満敗管値歌買突兵接請器士光討路悪科攻崎督授催細効図週積丸他及湾録処省旧室憲太橋歩離岸客風紙激否周師摘材登系批郎母易健黒火戸速存花春飛殺央券赤号単盟座青破編捜竹除完降超責並療従右修捕隊危採織森競拡故館振給屋介読弁根色友苦就迎走販園具左異歴辞将秋因献厳馬愛幅休維富浜父遺彼般未塁貿講邦舞林装諸夏素亡劇河遣航抗冷模雄適婦鉄寄益込顔緊類児余禁印逆王返標換久短油妻暴輪占宣背昭廃植熱宿薬伊江清習険頼僚覚吉盛船倍均億途圧芸許皇臨踏駅署抜壊債便伸留罪停興爆陸玉源儀波創障継筋狙帯延羽努固闘精則葬乱避普散司康測豊洋静善逮婚厚喜齢囲卒迫略承浮惑崩順紀聴脱旅絶級幸岩練押軽倒了庁博城患締等救執層版老令角絡損房募曲撤裏払削密庭徒措仏績築貨志混載昇池陣我勤為血遅抑幕居染温雑招奈季困星傷永択秀著徴誌庫弾償刊像功拠香欠更秘拒刑坂刻底賛塚致抱繰服犯尾描布恐寺鈴盤息宇項喪伴遠養懸戻街巨震願絵希越契掲躍棄欲痛触邸依籍汚縮還枚属笑互複慮郵束仲栄札枠似夕恵板列露沖探逃借緩節需骨射傾届曜遊迷夢巻購揮君燃充雨閉緒跡包駐貢鹿弱却端賃折紹獲郡併草徹飲貴埼衝焦奪雇災浦暮替析預焼簡譲称肉納樹挑章臓律誘紛貸至宗促慎控";
+    private static final int UNKNOWN_COMMONALITY = COMMONALITY.length() + 2;
 
     /**
      * Returns commonality of given japanese character. Katakana and hiragana
@@ -216,14 +203,12 @@ public final class KanjiUtils {
      * @return the commonality.
      */
     public static int getCommonality(final char ch) {
-        if (isKana(ch)) {
+        final int properties = CharProperties.get(ch);
+        if (properties >> CharProperties.KANA_SHIFT != 0) {
             return 1;
         }
-        final Integer commonality = COMMONALITY_MAP.get(ch);
-        if (commonality != null) {
-            return commonality;
-        }
-        return COMMONALITY_MAP.size() + 2;
+        final int rank = properties & CharProperties.RANK_MASK;
+        return rank == 0 ? UNKNOWN_COMMONALITY : rank + 1;
     }
 
     /**
@@ -283,20 +268,10 @@ public final class KanjiUtils {
         QUIZ_TABLE.put(KanjiQuiz.JoyoGrade6, "異遺域危簡株巻干看灰拡閣革割宇映延沿我呼己系警劇激穴憲権絹厳源敬筋胸郷勤供貴疑吸揮机視詞誌磁私至姿蚕冊裁策砂座済鋼降刻穀骨困皇紅后孝誤垂推蒸針仁城純処署諸除傷将障縮熟衆従縦樹収宗就射捨尺若段値宙忠暖宅担探誕層操窓装臓蔵存尊創奏宣専泉洗染善盛聖誠寸難乳認納脳派俳拝背肺届党糖討庁潮頂賃痛展著枚幕補暮宝訪亡忘棒並閉陛片腹奮班晩否批秘朗論臨欲翌乱卵覧裏律幼郵優訳盟模密");
         QUIZ_TABLE.put(KanjiQuiz.JoyoJuniorHighSchool, "亜哀握扱依偉威尉慰為維緯違井壱逸稲芋姻陰隠閑陥含頑企鑑緩缶肝艦貫還滑褐轄且刈乾冠勘勧喚堪寛患憾換敢棺款歓汗環甘監戒拐皆劾慨概涯該垣嚇核殻獲穫較郭隔岳掛潟喝括渇怪悔懐壊塊韻渦浦影詠鋭疫悦謁越閲宴援炎煙猿縁鉛汚凹奥押欧殴翁沖憶乙卸穏佳嫁寡暇架禍稼箇華菓蚊雅餓介誇雇顧鼓互呉孤弧枯渓継茎蛍鶏迎鯨撃傑倹兼剣圏堅嫌懸献肩謙賢軒遣顕幻弦玄契恵慶憩掲携緊菌襟謹吟駆愚虞偶遇隅屈掘靴繰桑勲薫傾刑啓況狂狭矯脅響驚仰凝暁斤琴挟恭恐峡拒拠虚距享凶叫巨祈軌輝飢騎鬼偽儀宜戯擬欺犠菊吉喫詰却脚虐丘及朽窮糾奇岐幾忌既棋棄軸執湿漆疾諮賜雌侍慈滋璽施旨祉紫肢脂嗣傘惨桟暫伺刺撮擦索錯載剤咲崎削搾詐鎖債催宰彩栽歳砕斎衡貢購郊酵項香剛拷豪克酷獄腰込墾婚恨懇昆紺魂佐唆更江洪溝甲硬稿絞綱肯荒坑孔巧恒慌抗拘控攻娯御悟碁侯酢吹帥炊睡粋衰遂酔錘随髄崇浄畳譲醸錠嘱飾殖触辱伸侵唇娠寝審慎振浸紳薪診辛震刃尋甚尽迅陣剰壌嬢巡遵庶緒叙徐償匠升召奨宵尚床彰抄掌昇晶沼渉焦症硝礁祥称粧紹肖衝訟詔詳鐘丈冗盾准循旬殉潤淑粛塾俊瞬臭舟襲酬醜充柔汁渋獣銃叔儒寿需囚愁秀朱殊狩珠趣寂赦斜煮遮蛇邪勺爵酌釈芝恥痴稚致遅畜蓄逐秩窒嫡抽択拓沢濯託濁諾但奪脱棚丹嘆淡端胆鍛壇弾逮滝卓怠替泰滞胎袋耐駄捜掃挿曹槽燥荘葬藻遭霜騒憎贈促即俗賊堕妥惰訴阻僧双喪壮惜斥析籍跡拙摂窃仙占扇栓潜旋繊薦践遷銑鮮漸禅繕塑措疎礎租粗隻斉牲誓請逝枢据杉澄瀬畝是姓征軟尼弐如尿妊忍寧猫粘悩濃把覇婆廃排杯輩培媒透陶騰闘洞胴峠匿督篤凸突屯豚曇鈍縄謄踏逃奴怒倒凍唐塔悼搭桃棟盗痘筒到斗渡途弔彫徴懲挑眺聴脹超跳勅朕沈珍鎮陳津墜塚漬坪釣亭偵貞呈堤帝廷抵締艇訂逓邸泥摘滴哲徹撤迭添殿吐塗衷鋳駐膜又抹繭慢穂募慕簿倣俸奉峰崩抱泡砲縫胞芳褒邦飽乏傍剖坊妨帽忙房某冒紡肪膨謀僕墨撲朴没堀奔翻凡盆摩磨魔麻埋遍舗捕雰丙併塀幣弊柄壁癖偏賦赴附侮舞封伏幅覆払沸噴墳憤紛浜賓頻敏瓶怖扶敷普浮符腐膚譜縛肌鉢髪伐罰抜閥伴帆搬畔繁般藩販範煩頒盤蛮卑妃彼扉披泌疲碑罷被避尾微匹姫漂描苗拍泊舶薄迫漠爆賠陪伯霊麗齢暦劣烈裂廉恋錬炉露廊楼浪漏郎賄惑枠湾腕糧陵倫厘隣塁涙累励鈴隷零謡踊抑翼羅裸頼雷絡酪欄濫吏履痢離硫粒隆竜慮虜了僚寮涼猟療窯誉庸揚揺擁溶与雄融裕誘悠憂猶諭唯幽柳愉癒躍黙戻紋匁厄猛盲網耗銘滅免茂妄漫魅岬妙眠矛霧婿娘");
     }
-    private static final Map<Character, Integer> JLPT_LEVEL = new HashMap<Character, Integer>();
-
-    static {
-        for (int i = 1; i <= 5; i++) {
-            final String jlpt = getJlptKanjis(i);
-            for (int j = 0; j < jlpt.length(); j++) {
-                final Character kanji = jlpt.charAt(j);
-                final Integer prev = JLPT_LEVEL.put(kanji, i);
-                if (prev != null) {
-                    throw new RuntimeException("Kanji " + kanji + " present in levels " + prev + " and " + i);
-                }
-            }
-        }
-    }
+    /**
+     * The joyo kanji quizzes, by their grade stored in {@link CharProperties}.
+     */
+    private static final KanjiQuiz[] JOYO_GRADES = {null, KanjiQuiz.JoyoGrade1, KanjiQuiz.JoyoGrade2, KanjiQuiz.JoyoGrade3, KanjiQuiz.JoyoGrade4, KanjiQuiz.JoyoGrade5, KanjiQuiz.JoyoGrade6, KanjiQuiz.JoyoJuniorHighSchool};
 
     /**
      * Returns JLPT level of given kanji.
@@ -304,7 +279,20 @@ public final class KanjiUtils {
      * @return JLPT level N1..5, null if the kanji is not present in any of the JLPT test. See http://www.tanos.co.uk/jlpt/jlpt1/kanji/ for details.
      */
     public static Integer getJlptLevel(final Character kanji) {
-        return JLPT_LEVEL.get(kanji);
+        if (kanji == null) {
+            return null;
+        }
+        final int level = (CharProperties.get(kanji) >> CharProperties.JLPT_SHIFT) & CharProperties.JLPT_MASK;
+        return level == 0 ? null : level;
+    }
+
+    /**
+     * Returns the joyo grade of given kanji.
+     * @param kanji the kanji
+     * @return one of the JoyoGrade1..6 quizzes for kanjis taught at elementary school, {@link KanjiQuiz#JoyoJuniorHighSchool} for the remaining joyo kanjis, null if the kanji is not a joyo kanji.
+     */
+    public static KanjiQuiz getJoyoGrade(final char kanji) {
+        return JOYO_GRADES[(CharProperties.get(kanji) >> CharProperties.JOYO_SHIFT) & CharProperties.JOYO_MASK];
     }
 
     public static String getJlptKanjis(final int level) {
@@ -17,12 +17,9 @@ along with this program.  If not, see <http://www.gnu.org/licenses/>.
  */
 package sk.baka.aedict.kanji;
 
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
-import java.util.Set;
 import java.util.StringTokenizer;
 
 import sk.baka.autils.MiscUtils;
@@ -88,10 +85,23 @@ public enum RomanizationEnum {
     private final Map<String, String> hiraganaToRomaji = new HashMap<String, String>();
     private final Map<String, String> romajiToKatakana = new HashMap<String, String>();
     private final Map<String, String> romajiToHiragana = new HashMap<String, String>();
+    // the tables compiled into tries: the transliteration then does not need
+    // to create a substring for each possible key.
+    private final CharTrie romajiToKatakanaTrie = new CharTrie();
+    private final CharTrie romajiToHiraganaTrie = new CharTrie();
+    /**
+     * Maps both katakana and hiragana to the romaji as returned by
+     * {@link #toRomaji(String)}.
+     */
+    private final CharTrie kanaToRomajiTrie = new CharTrie();
 
     private RomanizationEnum() {
         parse(new StringTokenizer(getKatakanaTable(), ";"), katakanaToRomaji, romajiToKatakana);
         parse(new StringTokenizer(getHiraganaTable(), ";"), hiraganaToRomaji, romajiToHiragana);
+        compile(romajiToKatakana, romajiToKatakanaTrie);
+        compile(romajiToHiragana, romajiToHiraganaTrie);
+        compileRomaji(katakanaToRomaji, kanaToRomajiTrie);
+        compileRomaji(hiraganaToRomaji, kanaToRomajiTrie);
     }
 
     private static void parse(final StringTokenizer kanaStream, Map<String, String> kanaToRomaji, Map<String, String> romajiToKana) {
@@ -110,6 +120,25 @@ public enum RomanizationEnum {
         }
     }
 
+    private static void compile(final Map<String, String> table, final CharTrie trie) {
+        for (final Map.Entry<String, String> e : table.entrySet()) {
+            trie.put(e.getKey(), e.getValue());
+        }
+    }
+
+    private static void compileRomaji(final Map<String, String> kanaToRomaji, final CharTrie trie) {
+        for (final Map.Entry<String, String> e : kanaToRomaji.entrySet()) {
+            String romaji = e.getValue();
+            // fix xji and nn
+            if (romaji.equals("nn")) {
+                romaji = "n";
+            } else if (romaji.startsWith("x")) {
+                romaji = romaji.substring(1);
+            }
+            trie.put(e.getKey(), romaji);
+        }
+    }
+
     /**
      * Converts given romaji text to hiragana
      *
@@ -118,7 +147,23 @@ public enum RomanizationEnum {
      * @return text converted to hiragana, with unknown characters untranslated.
      */
     public String toHiragana(final String romaji) {
-        return toKana(romajiToHiragana, romaji, false);
+        final StringBuilder sb = new StringBuilder(romaji.length());
+        toHiragana(romaji, sb);
+        return sb.toString();
+    }
+
+    /**
+     * Converts given romaji text to hiragana. Does not allocate any objects
+     * besides growing the builder.
+     *
+     * @param romaji
+     *            romaji text
+     * @param out
+     *            the text converted to hiragana is appended here, with
+     *            unknown characters untranslated.
+     */
+    public void toHiragana(final CharSequence romaji, final StringBuilder out) {
+        toKana(romajiToHiraganaTrie, romaji, false, out);
     }
 
     /**
@@ -129,75 +174,67 @@ public enum RomanizationEnum {
      * @return text converted to katakana, with unknown characters untranslated.
      */
     public String toKatakana(final String romaji) {
-        return toKana(romajiToKatakana, romaji, true);
+        final StringBuilder sb = new StringBuilder(romaji.length());
+        toKatakana(romaji, sb);
+        return sb.toString();
     }
 
-    private static String toKana(final Map<String, String> romajiToKana, String romaji, final boolean isKatakana) {
-        final StringBuilder sb = new StringBuilder();
+    /**
+     * Converts given romaji text to katakana. Does not allocate any objects
+     * besides growing the builder.
+     *
+     * @param romaji
+     *            romaji text
+     * @param out
+     *            the text converted to katakana is appended here, with
+     *            unknown characters untranslated.
+     */
+    public void toKatakana(final CharSequence romaji, final StringBuilder out) {
+        toKana(romajiToKatakanaTrie, romaji, true, out);
+    }
+
+    private static void toKana(final CharTrie romajiToKana, final CharSequence romaji, final boolean isKatakana, final StringBuilder sb) {
         for (int i = 0; i < romaji.length(); i++) {
             // optimization - only convert ascii letters
             final char c = romaji.charAt(i);
-	    if (!MiscUtils.isAsciiLetter(c)) {
-		if (c == '\'' && i > 0 && MiscUtils.isAsciiLetter(romaji.charAt(i - 1))) {
-		    // this is a syllable separator (like x) - handle it correctly
-		} else {
-		    sb.append(c);
-		    continue;
-		}
-	    }
-            String kana = null;
-            for (int matchLen = Math.min(romaji.length() - i, 4); matchLen >= 1; matchLen--) {
-                final String romajiMatch = romaji.substring(i, i + matchLen).toLowerCase();
-                kana = romajiToKana.get(romajiMatch);
-                if (kana != null) {
-                    i += matchLen - 1;
-                    break;
+            if (!MiscUtils.isAsciiLetter(c)) {
+                if (c == '\'' && i > 0 && MiscUtils.isAsciiLetter(romaji.charAt(i - 1))) {
+                    // this is a syllable separator (like x) - handle it correctly
+                } else {
+                    sb.append(c);
+                    continue;
                 }
             }
-            if (kana == null && romaji.substring(i).startsWith("nn")) {
-                // check for 'nn'
-                kana = romajiToKana.get("nn");
-                i += 1;
-            }
-            if (kana == null && romaji.substring(i).startsWith("n")) {
-                // a stand-alone n.
-                kana = romajiToKana.get("n");
-            }
-            if (kana == null && i < romaji.length() - 1) {
+            String kana = null;
+            final CharTrie match = romajiToKana.longestMatch(romaji, i, true);
+            if (match != null) {
+                kana = match.getValue();
+                i += match.getLength() - 1;
+            } else if (i < romaji.length() - 1 && isDoubledConsonant(c, romaji.charAt(i + 1))) {
                 // check for double consonant: for example "tta" must be
                 // transformed to った
-                String romajiMatch = romaji.substring(i, i + 2);
-                if (isDoubledConsonant(romajiMatch)) {
-                    kana = isKatakana ? "ッ" : "っ";
-                }
+                kana = isKatakana ? "ッ" : "っ";
             }
-            if (kana == null) {
-                // give up
-                kana = String.valueOf(romaji.charAt(i));
-            }
-            if (isKatakana) {
+            if (isKatakana && isVowel(c) && i > 0 && romaji.charAt(i - 1) == c) {
                 // check for double vowel: in katakana, aa must be replaced by
                 // アー instead of アア
-                if (isVowel(c) && i > 0 && romaji.charAt(i - 1) == c) {
-                    kana = "ー";
-                }
+                sb.append('ー');
+            } else if (kana != null) {
+                sb.append(kana);
+            } else {
+                // give up
+                sb.append(c);
             }
-            sb.append(kana);
         }
-        return sb.toString();
-
     }
 
     private static boolean isVowel(final char c) {
         return c == 'a' || c == 'u' || c == 'e' || c == 'i' || c == 'o' || c == 'A' || c == 'U' || c == 'E' || c == 'I' || c == 'O';
     }
-    private final static Set<String> DOUBLED_CONSONANTS = new HashSet<String>(Arrays.asList("rr", "tt", "pp", "ss", "dd", "gg", "hh", "jj", "kk", "zz", "cc", "bb", "mm"));
 
-    private static boolean isDoubledConsonant(final String str) {
-        if (str.length() != 2) {
-            throw new AssertionError();
-        }
-        return DOUBLED_CONSONANTS.contains(str.toLowerCase());
+    private static boolean isDoubledConsonant(final char c1, final char c2) {
+        final char c = Character.toLowerCase(c1);
+        return c == Character.toLowerCase(c2) && "rtpsdghjkzcbm".indexOf(c) >= 0;
     }
 
     /**
@@ -232,64 +269,57 @@ public enum RomanizationEnum {
      * @return romaji text
      */
     public String toRomaji(final String hiraganaOrKatakana) {
-        final StringBuilder sb = new StringBuilder();
+        final StringBuilder sb = new StringBuilder(hiraganaOrKatakana.length() * 2);
+        toRomaji(hiraganaOrKatakana, sb);
+        return sb.toString();
+    }
+
+    /**
+     * Converts a text in hiragana or katakana to romaji. Does not handle
+     * kanji. Does not allocate any objects besides growing the builder.
+     *
+     * @param hiraganaOrKatakana
+     *            text in hiragana or katakana, not null
+     * @param out
+     *            the romaji text is appended here.
+     */
+    public void toRomaji(final CharSequence hiraganaOrKatakana, final StringBuilder out) {
+        final int start = out.length();
         // last kana character was the small "tsu". this means that we have to
         // double next character.
         boolean wasXtsu = false;
         for (int i = 0; i < hiraganaOrKatakana.length(); i++) {
-            // check two consecutive kana characters first - to support stuff
-            // like "pyu" etc
-            String romaji = null;
-            String kana = null;
-            if (i < hiraganaOrKatakana.length() - 1) {
-                kana = String.valueOf(hiraganaOrKatakana.substring(i, i + 2));
-                romaji = katakanaToRomaji.get(kana);
-                if (romaji == null) {
-                    romaji = hiraganaToRomaji.get(kana);
-                }
-                if (romaji != null) {
-                    // success! skip next kana
-                    i++;
-                }
-            }
-            if (romaji == null) {
-                // nope. convert just a single kana character
-                kana = String.valueOf(hiraganaOrKatakana.charAt(i));
-                romaji = katakanaToRomaji.get(kana);
-            }
-            if (romaji == null) {
-                romaji = hiraganaToRomaji.get(kana);
-            }
+            final char c = hiraganaOrKatakana.charAt(i);
+            // two consecutive kana characters are matched first - to support
+            // stuff like "pyu" etc
+            final CharTrie match = kanaToRomajiTrie.longestMatch(hiraganaOrKatakana, i, false);
+            final String romaji = match == null ? null : match.getValue();
             if (romaji != null) {
-                // fix xji and nn
-                if (romaji.equals("nn")) {
-                    romaji = "n";
-                } else if (romaji.startsWith("x")) {
-                    romaji = romaji.substring(1);
-                }
-            }
-            // check for katakana "-"
-            if (romaji == null && "ー".equals(kana)) {
-                // just repeat last letter if there is one
-                if (sb.length() > 0) {
-                    romaji = String.valueOf(sb.charAt(sb.length() - 1));
-                }
-            }
-            // check for small "tsu"
-            if (romaji == null && ("っ".equals(kana) || "ッ".equals(kana))) {
+                i += match.getLength() - 1;
+            } else if (c == 'っ' || c == 'ッ') {
+                // check for small "tsu"
                 wasXtsu = true;
                 continue;
             }
-            if (romaji == null) {
-                romaji = kana;
+            final char first;
+            if (romaji != null) {
+                first = romaji.charAt(0);
+            } else if (c == 'ー' && out.length() > start) {
+                // katakana "-": just repeat last letter if there is one
+                first = out.charAt(out.length() - 1);
+            } else {
+                first = c;
             }
             if (wasXtsu) {
-                sb.append(romaji.charAt(0));
+                out.append(first);
                 wasXtsu = false;
             }
-            sb.append(romaji);
+            if (romaji != null) {
+                out.append(romaji);
+            } else {
+                out.append(first);
+            }
         }
-        return sb.toString();
     }
 
     /**
@@ -20,15 +20,17 @@ package sk.baka.aedict.kanji;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
-import java.util.StringTokenizer;
+import java.util.Map;
+import java.util.Set;
 
-import sk.baka.aedict.R;
-import android.content.Context;
+import sk.baka.aedict.dict.EdictEntry;
 
 /**
- * Holds rules for verb inflection and also provides examples of inflected
- * verbs.
+ * Holds rules for verb inflection. The explanations and examples of the
+ * inflected verbs are Android resources and are provided by the application.
  * 
  * @author Martin Vysny
  */
@@ -387,77 +389,77 @@ public final class VerbInflection {
 		 * The verb's plain form - I do something:
 		 * http://www.timwerx.net/language/jpverbs/lesson1.htm
 		 */
-		PLAIN(new Base3Inflector(), "", true, R.string.iDoSomething, R.string.plainFormExamples),
+		PLAIN(new Base3Inflector(), "", true),
 		/**
 		 * The verb's polite plain form (I do something):
 		 * http://www.timwerx.net/language/jpverbs/lesson2.htm
 		 */
-		POLITE(new Base2Inflector(), "masu", true, R.string.iDoSomethingPolitely, R.string.politeFormExamples),
+		POLITE(new Base2Inflector(), "masu", true),
 		/**
 		 * The verb's polite negative form (I do not do something):
 		 * http://www.timwerx.net/language/jpverbs/lesson4.htm
 		 */
-		POLITE_NEGATIVE(new Base2Inflector(), "masen", true, R.string.iDoNotDoSomethingPolitely, R.string.politeNegativeFormExamples),
+		POLITE_NEGATIVE(new Base2Inflector(), "masen", true),
 		/**
 		 * The verb's polite past form (I did something):
 		 * http://www.timwerx.net/language/jpverbs/lesson5.htm
 		 */
-		POLITE_PAST(new Base2Inflector(), "masita", true, R.string.iDidSomethingPolitely, R.string.politePastFormExamples),
+		POLITE_PAST(new Base2Inflector(), "masita", true),
 		/**
 		 * The verb's polite past negative form (I didn't do something):
 		 * http://www.timwerx.net/language/jpverbs/lesson6.htm
 		 */
-		POLITE_PAST_NEGATIVE(new Base2Inflector(), "masen desita", true, R.string.iDidNotDoSomethingPolitely, R.string.politePastNegativeFormExamples),
+		POLITE_PAST_NEGATIVE(new Base2Inflector(), "masen desita", true),
 		/**
 		 * To hell with official names :-) The verb's "want" form:
 		 * http://www.timwerx.net/language/jpverbs/lesson8.htm
 		 */
-		WANT(new Base2Inflector(), "tai", true, R.string.iWantToDoSomething, R.string.wantFormExamples),
+		WANT(new Base2Inflector(), "tai", true),
 		/**
 		 * The verb's "Let's do something." form:
 		 * http://www.timwerx.net/language/jpverbs/lesson9.htm
 		 */
-		LET_S(new Base2Inflector(), "masyou", true, R.string.letsDoSomethingPolitely, R.string.letsFormExamples),
+		LET_S(new Base2Inflector(), "masyou", true),
 		/**
 		 * The verb's "Do something!" form:
 		 * http://www.timwerx.net/language/jpverbs/lesson10.htm
 		 */
-		SIMPLE_COMMAND(new Base2Inflector(), "nasai", false, R.string.doSomething, R.string.simpleCommandExamples),
+		SIMPLE_COMMAND(new Base2Inflector(), "nasai", false),
 		/**
 		 * The verb's "I'm going to do something" form:
 		 * http://www.timwerx.net/language/jpverbs/lesson13.htm
 		 */
-		GOING(new Base2Inflector(), " ni iku", true, R.string.imGoingToDoSomething, R.string.goingFormExamples),
+		GOING(new Base2Inflector(), " ni iku", true),
 		/**
 		 * The verb's "I'm going to arrive" form:
 		 * http://www.timwerx.net/language/jpverbs/lesson13.htm
 		 */
-		ARRIVE(new Base2Inflector(), " ni kuru", true, R.string.imGoingToArrive, R.string.arriveFormExamples),
+		ARRIVE(new Base2Inflector(), " ni kuru", true),
 		/**
 		 * The verb's "It is hard to do something" form:
 		 * http://www.timwerx.net/language/jpverbs/lesson14.htm
 		 */
-		HARD_TO_DO(new Base2Inflector(), "nikui", false, R.string.itIsHardToDoSomething, R.string.hardToDoFormExamples),
+		HARD_TO_DO(new Base2Inflector(), "nikui", false),
 		/**
 		 * The verb's "It is easy to do something." form:
 		 * http://www.timwerx.net/language/jpverbs/lesson14.htm
 		 */
-		EASY_TO_DO(new Base2Inflector(), "yasui", false, R.string.itIsEasyToDoSomething, R.string.easyToDoFormExamples),
+		EASY_TO_DO(new Base2Inflector(), "yasui", false),
 		/**
 		 * The verb's "I went too far doing something." form:
 		 * http://www.timwerx.net/language/jpverbs/lesson15.htm
 		 */
-		GO_TOO_FAR(new Base2Inflector(), "sugiru", false, R.string.iWentTooFarDoingSomething, R.string.goTooFarFormExamples),
+		GO_TOO_FAR(new Base2Inflector(), "sugiru", false),
 		/**
 		 * The verb's "I did X while I was doing Y." form:
 		 * http://www.timwerx.net/language/jpverbs/lesson16.htm
 		 */
-		WHILE_DOING(new Base2Inflector(), "nagara", false, R.string.iDidXWhileIWasDoingY, R.string.whileDoingFormExamples),
+		WHILE_DOING(new Base2Inflector(), "nagara", false),
 		/**
 		 * The verb's "I do not do something." form:
 		 * http://www.timwerx.net/language/jpverbs/lesson17.htm
 		 */
-		NEGATIVE(new Base1Inflector(), "nai", true, R.string.iDoNotDoSomething, R.string.negativeFormExamples) {
+		NEGATIVE(new Base1Inflector(), "nai", true) {
 
 			@Override
 			public String inflect(String verb, boolean ichidan) {
@@ -471,27 +473,27 @@ public final class VerbInflection {
 		 * The verb's "I probably do not do something." form:
 		 * http://www.timwerx.net/language/jpverbs/lesson18.htm
 		 */
-		PROBABLE_NEGATIVE(new Base1Inflector(), "nai desyou", false, R.string.iProbablyDoNotDoSomething, R.string.probableNegativeFormExamples),
+		PROBABLE_NEGATIVE(new Base1Inflector(), "nai desyou", false),
 		/**
 		 * The verb's "I didn't do something." form:
 		 * http://www.timwerx.net/language/jpverbs/lesson19.htm
 		 */
-		NEGATIVE_PAST(new Base1Inflector(), "nakatta", true, R.string.iDidNotDoSomething, R.string.negativePastFormExamples),
+		NEGATIVE_PAST(new Base1Inflector(), "nakatta", true),
 		/**
 		 * The verb's "If I do not do something" form:
 		 * http://www.timwerx.net/language/jpverbs/lesson20.htm
 		 */
-		NEGATIVE_CONDITIONAL(new Base1Inflector(), "nakereba", false, R.string.ifIDoNotDoSomething, R.string.negativeConditionalFormExamples),
+		NEGATIVE_CONDITIONAL(new Base1Inflector(), "nakereba", false),
 		/**
 		 * The verb's "I have to do something (It won't go otherwise)" form:
 		 * http://www.timwerx.net/language/jpverbs/lesson21.htm
 		 */
-		HAS_TO(new Base1Inflector(), "nakereba narimasen", true, R.string.iHaveToDoSomething, R.string.hasToFormExamples),
+		HAS_TO(new Base1Inflector(), "nakereba narimasen", true),
 		/**
 		 * The verb's "I'll let/have/make him do something" form:
 		 * http://www.timwerx.net/language/jpverbs/lesson22.htm
 		 */
-		LET_HIM(new Base1Inflector(), "seru", "saseru", false, R.string.iLLLetHimDoSomething, R.string.letHimFormExamples) {
+		LET_HIM(new Base1Inflector(), "seru", "saseru", false) {
 
 			@Override
 			public String inflect(String verb, boolean ichidan) {
@@ -506,47 +508,47 @@ public final class VerbInflection {
 		 * The verb's "I did X without doing Y" form:
 		 * http://www.timwerx.net/language/jpverbs/lesson23.htm
 		 */
-		DID_X_WITHOUT_DOING_Y(new Base1Inflector(), "zu ni", false, R.string.iDidXWithoutDoingY, R.string.didXWithoutDoingYFormExamples),
+		DID_X_WITHOUT_DOING_Y(new Base1Inflector(), "zu ni", false),
 		/**
 		 * The verb's "I'll probably do something" form:
 		 * http://www.timwerx.net/language/jpverbs/lesson24.htm
 		 */
-		PROBABLE(new Base3Inflector(), " desyou", false, R.string.iLLProbablyDoSomething, R.string.probableFormExamples),
+		PROBABLE(new Base3Inflector(), " desyou", false),
 		/**
 		 * The verb's "I plan to do something" form:
 		 * http://www.timwerx.net/language/jpverbs/lesson25.htm
 		 */
-		PLAN(new Base3Inflector(), " hazu", false, R.string.iPlanToDoSomething, R.string.planFormExamples),
+		PLAN(new Base3Inflector(), " hazu", false),
 		/**
 		 * The verb's "I should do something" form:
 		 * http://www.timwerx.net/language/jpverbs/lesson26.htm
 		 */
-		SHOULD(new Base3Inflector(), " hou ga ii", true, R.string.iShouldDoSomething, R.string.shouldFormExamples),
+		SHOULD(new Base3Inflector(), " hou ga ii", true),
 		/**
 		 * The verb's "I don't know whether I do something or not." form:
 		 * http://www.timwerx.net/language/jpverbs/lesson27.htm
 		 */
-		WHETHER_OR_NOT(new Base3Inflector(), " ka dou ka", false, R.string.iDontKnowWhetherIDoSomethingOrNot, R.string.whetherOrNotFormExamples),
+		WHETHER_OR_NOT(new Base3Inflector(), " ka dou ka", false),
 		/**
 		 * The verb's "Maybe I'll do something." form:
 		 * http://www.timwerx.net/language/jpverbs/lesson28.htm
 		 */
-		MAYBE(new Base3Inflector(), " kamo siremasen", true, R.string.maybeILLDoSomething, R.string.maybeFormExamples),
+		MAYBE(new Base3Inflector(), " kamo siremasen", true),
 		/**
 		 * The verb's "Because of X..." form:
 		 * http://www.timwerx.net/language/jpverbs/lesson29.htm
 		 */
-		BECAUSE_OF(new Base3Inflector(), " kara", false, R.string.becauseOfX, R.string.becauseOfFormExamples),
+		BECAUSE_OF(new Base3Inflector(), " kara", false),
 		/**
 		 * The verb's "He does X, but..." form:
 		 * http://www.timwerx.net/language/jpverbs/lesson30.htm
 		 */
-		BUT(new Base3Inflector(), " keredomo / kedo", false, R.string.heDoesXBut, R.string.butFormExamples),
+		BUT(new Base3Inflector(), " keredomo / kedo", false),
 		/**
 		 * The verb's "I'm able to do something." form:
 		 * http://www.timwerx.net/language/jpverbs/lesson31.htm
 		 */
-		ABLE_TO_DO(new Base3Inflector(), " koto ga dekiru", true, R.string.imAbleToDoSomething, R.string.ableToDoFormExamples) {
+		ABLE_TO_DO(new Base3Inflector(), " koto ga dekiru", true) {
 			@Override
 			public String inflect(String verb, boolean ichidan) {
 				if (verb.endsWith("suru")) {
@@ -560,103 +562,103 @@ public final class VerbInflection {
 		 * The verb's "I decided to do something." form:
 		 * http://www.timwerx.net/language/jpverbs/lesson32.htm
 		 */
-		DECIDED_TO_DO(new Base3Inflector(), " koto ni suru", false, R.string.iDecidedToDoSomething, R.string.decidedToDoFormExamples),
+		DECIDED_TO_DO(new Base3Inflector(), " koto ni suru", false),
 		/**
 		 * The verb's "... until X." form:
 		 * http://www.timwerx.net/language/jpverbs/lesson33.htm
 		 */
-		UNTIL(new Base3Inflector(), " made", false, R.string.untilX, R.string.untilFormExamples),
+		UNTIL(new Base3Inflector(), " made", false),
 		/**
 		 * The verb's "Don't do X!" form:
 		 * http://www.timwerx.net/language/jpverbs/lesson34.htm
 		 */
-		NEGATIVE_COMMAND(new Base3Inflector(), " na!", false, R.string.dontDoX, R.string.negativeCommandFormExamples),
+		NEGATIVE_COMMAND(new Base3Inflector(), " na!", false),
 
 		/**
 		 * The verb's "If X, then..." form:
 		 * http://www.timwerx.net/language/jpverbs/lesson35.htm
 		 */
-		IF(new Base3Inflector(), " nara", true, R.string.ifXThen, R.string.ifFormExamples),
+		IF(new Base3Inflector(), " nara", true),
 		/**
 		 * The verb's "X which/where/who Y" form:
 		 * http://www.timwerx.net/language/jpverbs/lesson36.htm
 		 */
-		WHICH_WHERE_WHO(new Base3Inflector(), "", true, R.string.whichWhereWho, R.string.whichWhereWhoFormExamples),
+		WHICH_WHERE_WHO(new Base3Inflector(), "", true),
 		/**
 		 * The verb's "In order to do something" form:
 		 * http://www.timwerx.net/language/jpverbs/lesson38.htm
 		 */
-		IN_ORDER_TO(new Base3Inflector(), " no ni", false, R.string.inOrderToDoSomething, R.string.inOrderToFormExamples),
+		IN_ORDER_TO(new Base3Inflector(), " no ni", false),
 		/**
 		 * The verb's "No wa" form:
 		 * http://www.timwerx.net/language/jpverbs/lesson39.htm
 		 */
-		NO_WA(new Base3Inflector(), " no ha", false, R.string.noWa, R.string.noWaExamples),
+		NO_WA(new Base3Inflector(), " no ha", false),
 		/**
 		 * The verb's "Because of X" form:
 		 * http://www.timwerx.net/language/jpverbs/lesson40.htm
 		 */
-		BECAUSE_OF2(new Base3Inflector(), " node", false, R.string.becauseOfX, R.string.becauseOf2FormExamples),
+		BECAUSE_OF2(new Base3Inflector(), " node", false),
 		/**
 		 * The verb's "In spite of X" form:
 		 * http://www.timwerx.net/language/jpverbs/lesson41.htm
 		 */
-		IN_SPITE_OF(new Base3Inflector(), " noni", false, R.string.inSpiteOfX, R.string.inSpiteOfFormExamples),
+		IN_SPITE_OF(new Base3Inflector(), " noni", false),
 		/**
 		 * The verb's "I was just about to do X." form:
 		 * http://www.timwerx.net/language/jpverbs/lesson82.htm
 		 */
-		NEARLY(new Base3Inflector(), " tokoro datta", false, R.string.iWasJustAboutToDoX, R.string.nearlyFormExamples),
+		NEARLY(new Base3Inflector(), " tokoro datta", false),
 		/**
 		 * The verb's "I heard that X" form:
 		 * http://www.timwerx.net/language/jpverbs/lesson42.htm
 		 */
-		I_HEARD(new Base3Inflector(), " sou desu", false, R.string.iHeardThatX, R.string.iHeardFormExamples),
+		I_HEARD(new Base3Inflector(), " sou desu", false),
 		/**
 		 * The verb's "For the purpose of X" form:
 		 * http://www.timwerx.net/language/jpverbs/lesson43.htm
 		 */
-		FOR_THE_PURPOSE_OF(new Base3Inflector(), " tame ni", true, R.string.forThePurposeOf, R.string.forThePurposeOfFormExamples),
+		FOR_THE_PURPOSE_OF(new Base3Inflector(), " tame ni", true),
 		/**
 		 * The verb's "When/If" form:
 		 * http://www.timwerx.net/language/jpverbs/lesson44.htm
 		 */
-		WHEN_IF(new Base3Inflector(), " ni", false, R.string.whenIf, R.string.whenIfFormExamples),
+		WHEN_IF(new Base3Inflector(), " ni", false),
 		/**
 		 * The verb's "I think that X" form:
 		 * http://www.timwerx.net/language/jpverbs/lesson45.htm
 		 */
-		I_THINK_THAT(new Base3Inflector(), " to omou", true, R.string.iThinkThat, R.string.iThinkThatFormExamples),
+		I_THINK_THAT(new Base3Inflector(), " to omou", true),
 		/**
 		 * The verb's "I intent to X" form:
 		 * http://www.timwerx.net/language/jpverbs/lesson46.htm
 		 */
-		I_INTENT(new Base3Inflector(), " tumori", false, R.string.iIntentToX, R.string.iIntentFormExamples),
+		I_INTENT(new Base3Inflector(), " tumori", false),
 		/**
 		 * The verb's "It seems to X" form:
 		 * http://www.timwerx.net/language/jpverbs/lesson47.htm
 		 */
-		IT_SEEMS_TO(new Base3Inflector(), " you desu", false, R.string.itSeemsToX, R.string.itSeemsToFormExamples),
+		IT_SEEMS_TO(new Base3Inflector(), " you desu", false),
 		/**
 		 * The verb's "If X, then..." form:
 		 * http://www.timwerx.net/language/jpverbs/lesson48.htm
 		 */
-		IF2(new Base4Inflector(), "ba", true, R.string.ifXThen, R.string.if2FormExamples),
+		IF2(new Base4Inflector(), "ba", true),
 		/**
 		 * The verb's "It would be good if X" form:
 		 * http://www.timwerx.net/language/jpverbs/lesson49.htm
 		 */
-		IT_WOULD_BE_GOOD_IF(new Base4Inflector(), "ba ii", true, R.string.itWouldBeGoodIfX, R.string.itWouldBeGoodIfFormExamples),
+		IT_WOULD_BE_GOOD_IF(new Base4Inflector(), "ba ii", true),
 		/**
 		 * The verb's "I regret X" form:
 		 * http://www.timwerx.net/language/jpverbs/lesson49.htm
 		 */
-		I_REGRET(new Base4Inflector(), "ba yokatta", false, R.string.iRegretX, R.string.iRegretFormExamples),
+		I_REGRET(new Base4Inflector(), "ba yokatta", false),
 		/**
 		 * The verb's "Do something!" form:
 		 * http://www.timwerx.net/language/jpverbs/lesson50.htm
 		 */
-		PLAIN_COMMAND(new Base4Inflector(), "", false, R.string.doSomething, R.string.plainCommandFormExamples) {
+		PLAIN_COMMAND(new Base4Inflector(), "", false) {
 			@Override
 			public boolean appliesToIchidan() {
 				return false;
@@ -666,233 +668,176 @@ public final class VerbInflection {
 		 * The verb's "Able to do something" form:
 		 * http://www.timwerx.net/language/jpverbs/lesson51.htm
 		 */
-		ABLE_TO_DO2(new Base4Inflector(), "ru", true, R.string.imAbleToDoSomething, R.string.ableToDo2FormExamples),
+		ABLE_TO_DO2(new Base4Inflector(), "ru", true),
 		/**
 		 * The verb's "Let's do something" form:
 		 * http://www.timwerx.net/language/jpverbs/lesson54.htm
 		 */
-		LET_S2(new Base5Inflector(), "", true, R.string.letsDoSomething, R.string.letS2FormExamples),
+		LET_S2(new Base5Inflector(), "", true),
 		/**
 		 * The verb's "I wonder if I should..." form:
 		 * http://www.timwerx.net/language/jpverbs/lesson54.htm
 		 */
-		I_WONDER_IF_I_SHOULD(new Base5Inflector(), " ka na", true, R.string.iWonderIfIShould, R.string.iWonderIfIShouldFormExamples),
+		I_WONDER_IF_I_SHOULD(new Base5Inflector(), " ka na", true),
 		/**
 		 * The verb's "Try to do X" form:
 		 * http://www.timwerx.net/language/jpverbs/lesson54.htm
 		 */
-		TRY_TO(new Base5Inflector(), " to suru", false, R.string.tryToDoX, R.string.tryToFormExamples),
+		TRY_TO(new Base5Inflector(), " to suru", false),
 		/**
 		 * The verb's "Do something." form:
 		 * http://www.timwerx.net/language/jpverbs/lesson55.htm
 		 */
-		MILD_COMMAND(new BaseTeInflector(), "", false, R.string.doSomethingMild, R.string.mildCommandFormExamples),
+		MILD_COMMAND(new BaseTeInflector(), "", false),
 		/**
 		 * The verb's "Please do something." form:
 		 * http://www.timwerx.net/language/jpverbs/lesson55.htm
 		 */
-		POLITE_COMMAND(new BaseTeInflector(), " kudasai", true, R.string.pleaseDoSomething, R.string.politeCommandFormExamples),
+		POLITE_COMMAND(new BaseTeInflector(), " kudasai", true),
 		/**
 		 * The verb's "Let me do something for you." form:
 		 * http://www.timwerx.net/language/jpverbs/lesson56.htm
 		 */
-		LET_ME_DO_SOMETHING_FOR_YOU(new BaseTeInflector(), " ageru", true, R.string.letMeDoSomethingForYou, R.string.politeCommand2FormExamples),
+		LET_ME_DO_SOMETHING_FOR_YOU(new BaseTeInflector(), " ageru", true),
 		/**
 		 * The verb's "honorably take a look." form:
 		 * http://www.timwerx.net/language/jpverbs/lesson57.htm
 		 */
-		HONORABLY_TAKE_A_LOOK(new BaseTeInflector(), " goran", false, R.string.honorablyTakeALook, R.string.honorablyTakeALookFormExamples),
+		HONORABLY_TAKE_A_LOOK(new BaseTeInflector(), " goran", false),
 		/**
 		 * The verb's "I am doing X." form:
 		 * http://www.timwerx.net/language/jpverbs/lesson58.htm
 		 */
-		PROGRESSIVE_TENSE(new BaseTeInflector(), " iru", true, R.string.iAmDoingX, R.string.progressiveTenseFormExamples),
+		PROGRESSIVE_TENSE(new BaseTeInflector(), " iru", true),
 		/**
 		 * The verb's "I humbly partake" form:
 		 * http://www.timwerx.net/language/jpverbs/lesson61.htm
 		 */
-		VERY_POLITE_COMMAND(new BaseTeInflector(), " itadaku", true, R.string.iHumblyPartake, R.string.veryPoliteCommandFormExamples),
+		VERY_POLITE_COMMAND(new BaseTeInflector(), " itadaku", true),
 		/**
 		 * The verb's "I humbly receive" form:
 		 * http://www.timwerx.net/language/jpverbs/lesson61.htm
 		 */
-		I_HUMBLY_RECEIVE_COMMAND(new BaseTeInflector(), " morau", true, R.string.iHumblyReceive, R.string.iHumblyReceiveFormExamples),
+		I_HUMBLY_RECEIVE_COMMAND(new BaseTeInflector(), " morau", true),
 		/**
 		 * The verb's "After doing X..." form:
 		 * http://www.timwerx.net/language/jpverbs/lesson62.htm
 		 */
-		AFTER(new BaseTeInflector(), " kara", true, R.string.afterDoingX, R.string.afterFormExamples),
+		AFTER(new BaseTeInflector(), " kara", true),
 		/**
 		 * The verb's "Please do X..." form:
 		 * http://www.timwerx.net/language/jpverbs/lesson63.htm
 		 */
-		REGULAR_PLEASE(new BaseTeInflector(), " kureru", true, R.string.pleaseDoSomething, R.string.regularPleaseFormExamples),
+		REGULAR_PLEASE(new BaseTeInflector(), " kureru", true),
 		/**
 		 * The verb's "X finished" form:
 		 * http://www.timwerx.net/language/jpverbs/lesson64.htm
 		 */
-		TO_FINISH(new BaseTeInflector(), " kuru", true, R.string.xFinished, R.string.toFinishFormExamples),
+		TO_FINISH(new BaseTeInflector(), " kuru", true),
 		/**
 		 * The verb's "X will start" form:
 		 * http://www.timwerx.net/language/jpverbs/lesson64.htm
 		 */
-		TO_START(new BaseTeInflector(), " iku", true, R.string.xWillStart, R.string.toStartFormExamples),
+		TO_START(new BaseTeInflector(), " iku", true),
 		/**
 		 * The verb's "I'll try doing X" form:
 		 * http://www.timwerx.net/language/jpverbs/lesson65.htm
 		 */
-		TO_TRY(new BaseTeInflector(), " miru", false, R.string.iLLTryDoingX, R.string.toTryFormExamples),
+		TO_TRY(new BaseTeInflector(), " miru", false),
 		/**
 		 * The verb's "even IF (something were to happen), you must remember that (something else)..." form:
 		 * http://www.timwerx.net/language/jpverbs/lesson80.htm
 		 */
-		EVEN_IF2(new BaseTeInflector(), " mo", false, R.string.evenIfXYouMustRememberThatY, R.string.evenIf2FormExamples),
+		EVEN_IF2(new BaseTeInflector(), " mo", false),
 		/**
 		 * The verb's "Can I do X? (Do I have a permission?)" form:
 		 * http://www.timwerx.net/language/jpverbs/lesson66.htm
 		 */
-		CAN(new BaseTeInflector(), " mo ii", true, R.string.canIDoX, R.string.canFormExamples),
+		CAN(new BaseTeInflector(), " mo ii", true),
 		/**
 		 * The verb's "All he does is X" form:
 		 * http://www.timwerx.net/language/jpverbs/lesson66.htm
 		 */
-		ALL_HE_DOES(new BaseTeInflector(), " bakari", false, R.string.allHeDoesIsX, R.string.allHeDoesFormExamples),
+		ALL_HE_DOES(new BaseTeInflector(), " bakari", false),
 		/**
 		 * The verb's "I will certainly do X" form:
 		 * http://www.timwerx.net/language/jpverbs/lesson67.htm
 		 */
-		I_WILL_CERTAINLY_DO(new BaseTeInflector(), " oku", false, R.string.iWillCertainlyDoX, R.string.iWillCertainlyDoFormExamples),
+		I_WILL_CERTAINLY_DO(new BaseTeInflector(), " oku", false),
 		/**
 		 * The verb's "To complete doing X / To do something unexpected / Something negative may happen" form:
 		 * http://www.timwerx.net/language/jpverbs/lesson68.htm
 		 */
-		COMPLETE(new BaseTeInflector(), " simau", false, R.string.toCompleteDoingX, R.string.completeFormExamples),
+		COMPLETE(new BaseTeInflector(), " simau", false),
 		/**
 		 * The verb's "How about doing X?" form:
 		 * http://www.timwerx.net/language/jpverbs/lesson69.htm
 		 */
-		HOW_ABOUT(new BaseTeInflector(), " ha ikaga / dou desu ka", false, R.string.howAboutDoingX, R.string.howAboutFormExamples),
+		HOW_ABOUT(new BaseTeInflector(), " ha ikaga / dou desu ka", false),
 		/**
 		 * The verb's "You must not do X!" form:
 		 * http://www.timwerx.net/language/jpverbs/lesson70.htm
 		 */
-		FORBIDDEN(new BaseTeInflector(), " ha ikemasen", true, R.string.youMustNotDoX, R.string.forbiddenFormExamples),
+		FORBIDDEN(new BaseTeInflector(), " ha ikemasen", true),
 		/**
 		 * The verb's "I did X, then Y, then Z..." form:
 		 * http://www.timwerx.net/language/jpverbs/lesson71.htm
 		 */
-		CONTINUATION(new BaseTeInflector(), "", true, R.string.iDidXThenYThenZ, R.string.continuationFormExamples),
+		CONTINUATION(new BaseTeInflector(), "", true),
 		/**
 		 * The verb's "I did X" form:
 		 * http://www.timwerx.net/language/jpverbs/lesson72.htm
 		 */
-		PAST_TENSE(new BaseTaInflector(), "", true, R.string.iDidX, R.string.pastTenseFormExamples),
+		PAST_TENSE(new BaseTaInflector(), "", true),
 		/**
 		 * The verb's "I did X recently" form:
 		 * http://www.timwerx.net/language/jpverbs/lesson74.htm
 		 */
-		I_DID_RECENTLY(new BaseTaInflector(), " bakari", false, R.string.iDidXRecently, R.string.iDidRecentlyFormExamples),
+		I_DID_RECENTLY(new BaseTaInflector(), " bakari", false),
 		/**
 		 * The verb's "I experienced X" form:
 		 * http://www.timwerx.net/language/jpverbs/lesson75.htm
 		 */
-		EXPERIENCED(new BaseTaInflector(), " koto ga aru", true, R.string.iExperiencedX, R.string.experiencedFormExamples),
+		EXPERIENCED(new BaseTaInflector(), " koto ga aru", true),
 		/**
 		 * The verb's "If X, then" form:
 		 * http://www.timwerx.net/language/jpverbs/lesson76.htm
 		 */
-		IF3(new BaseTaInflector(), "ra", false, R.string.ifXThen, R.string.if3FormExamples),
+		IF3(new BaseTaInflector(), "ra", false),
 		/**
 		 * The verb's "If X, then" form:
 		 * http://www.timwerx.net/language/jpverbs/lesson77.htm
 		 */
-		IT_SEEMS_TO2(new BaseTaInflector(), " rasii", false, R.string.itSeemsToX, R.string.itSeemsTo2FormExamples),
+		IT_SEEMS_TO2(new BaseTaInflector(), " rasii", false),
 		/**
 		 * The verb's "I roughly did X" form:
 		 * http://www.timwerx.net/language/jpverbs/lesson78.htm
 		 */
-		ROUGHLY(new BaseTaInflector(), "ri", false, R.string.iRoughlyDidX, R.string.roughlyFormExamples),
+		ROUGHLY(new BaseTaInflector(), "ri", false),
 		/**
 		 * The verb's "If I were to do X, ..." form:
 		 * http://www.timwerx.net/language/jpverbs/lesson79.htm
 		 */
-		SUPPOSITION(new BaseTaInflector(), " to sitara", false, R.string.ifIWereToDoX, R.string.suppositionFormExamples),
+		SUPPOSITION(new BaseTaInflector(), " to sitara", false),
 		/**
 		 * The verb's "even IF X, you must remember that Y." form:
 		 * http://www.timwerx.net/language/jpverbs/lesson80.htm
 		 */
-		EVEN_IF(new BaseTaInflector(), " to site mo", false, R.string.evenIfXYouMustRememberThatY, R.string.evenIfFormExamples),
+		EVEN_IF(new BaseTaInflector(), " to site mo", false),
 		/**
 		 * The verb's "When I did X..." form:
 		 * http://www.timwerx.net/language/jpverbs/lesson81.htm
 		 */
-		WHEN(new BaseTaInflector(), " toki", false, R.string.whenIDidX, R.string.whenFormExamples),
+		WHEN(new BaseTaInflector(), " toki", false),
 		/**
 		 * The verb's "I did X just now." form:
 		 * http://www.timwerx.net/language/jpverbs/lesson82.htm
 		 */
-		I_DID_JUST_NOW(new BaseTaInflector(), " tokoro", false, R.string.iDidXJustNow, R.string.iDidJustNowFormExamples);
+		I_DID_JUST_NOW(new BaseTaInflector(), " tokoro", false);
 
 		private final AbstractBaseInflector inflector;
 		private final String suffix;
 		private final String suffixIchidan;
-		/**
-		 * Explanation of the form (e.g. I don't do something).
-		 */
-		public final int explanationResId;
-		/**
-		 * A new-line-separated list of example sentences, first in Japanese (a
-		 * {@link RomanizationEnum#Hepburn}-romanized), then in English. The
-		 * Japanese are directly taken from Tim Matheson's site, with very minor
-		 * alternations. Therefore, you'll have to:
-		 * <ul>
-		 * <li>Convert the jp string to lower case</li>
-		 * <li>Convert a lone-standing wa into ha</li>
-		 * <li>Convert a lone o to wo</li>
-		 * <li>Convert _text_ to katakana</li>
-		 * </ul>
-		 */
-		public final int examples;
-
-		/**
-		 * Returns the examples as a list of string pairs.
-		 * 
-		 * @param context
-		 *            used to resolve the string
-		 * @param romanization
-		 *            use optionally this romanization for Japanese sentences.
-		 *            May be null.
-		 * @return a list of pairs: first pair item is the Japanese sentence,
-		 *         second pair item is the English translation. Never null.
-		 */
-		public final String[][] getExamples(final Context context, final RomanizationEnum romanization) {
-			final String[] e = context.getString(examples).split("\n");
-			final String[][] result = new String[e.length / 2][];
-			for (int i = 0; i < e.length / 2; i++) {
-				final String english = e[i * 2 + 1];
-				String japanese = e[i * 2].toLowerCase();
-				// fix wa and o
-				japanese = japanese.replaceAll("\\s+wa\\s+", " ha ").replaceAll("\\s+o\\s+", " wo ");
-				// convert words marked with _ to katakana
-				boolean inUnderscore = false;
-				final StringBuilder jp = new StringBuilder(japanese.length());
-				for (final StringTokenizer t = new StringTokenizer(japanese, "_", true); t.hasMoreElements();) {
-					final String token = t.nextToken();
-					if (token.equals("_")) {
-						inUnderscore = !inUnderscore;
-					} else {
-						jp.append(inUnderscore ? RomanizationEnum.Hepburn.toKatakana(token) : token);
-					}
-				}
-				japanese = RomanizationEnum.Hepburn.toHiragana(jp.toString());
-				if (romanization != null) {
-					japanese = romanization.toRomaji(japanese);
-				}
-				result[i] = new String[] { japanese, english };
-			}
-			return result;
-		}
-
 		/**
 		 * If true this expression is widely used.
 		 */
@@ -907,15 +852,9 @@ public final class VerbInflection {
 		 *            additional suffix to add to the inflected verb
 		 * @param basic
 		 *            if true this expression is a basic one
-		 * @param explanationResId
-		 *            explanation of the form (e.g. I don't do something).
-		 * @param examples
-		 *            a new-line-separated list of example sentences, first in
-		 *            Japanese (a {@link RomanizationEnum#Hepburn}-romanized),
-		 *            then in English.
 		 */
-		private Form(final AbstractBaseInflector inflector, final String suffix, final boolean basic, final int explanationResId, final int examples) {
-			this(inflector, suffix, null, basic, explanationResId, examples);
+		private Form(final AbstractBaseInflector inflector, final String suffix, final boolean basic) {
+			this(inflector, suffix, null, basic);
 		}
 
 		/**
@@ -931,20 +870,12 @@ public final class VerbInflection {
 		 *            applicable to Ichidan verbs.
 		 * @param basic
 		 *            if true this form is a basic one.
-		 * @param explanationResId
-		 *            explanation of the form (e.g. I don't do something).
-		 * @param examples
-		 *            a new-line-separated list of example sentences, first in
-		 *            Japanese (a {@link RomanizationEnum#Hepburn}-romanized),
-		 *            then in English.
-		 */
-		private Form(final AbstractBaseInflector inflector, final String suffixGodan, final String suffixIchidan, final boolean basic, final int explanationResId, final int examples) {
+		 */
+		private Form(final AbstractBaseInflector inflector, final String suffixGodan, final String suffixIchidan, final boolean basic) {
 			this.inflector = inflector;
 			this.suffix = suffixGodan;
 			this.suffixIchidan = suffixIchidan;
 			this.basic = basic;
-			this.explanationResId = explanationResId;
-			this.examples = examples;
 		}
 
 		/**
@@ -969,6 +900,17 @@ public final class VerbInflection {
 			return inflector.getName() + " + " + suffix;
 		}
 
+		/**
+		 * Checks if this form conjugates the verb itself, e.g. tabemasen
+		 * desita. Other forms combine the verb with another words, e.g.
+		 * taberu koto ga dekiru.
+		 * 
+		 * @return true if the suffix is attached directly to the verb base.
+		 */
+		public boolean isConjugation() {
+			return !suffix.startsWith(" ");
+		}
+
 		/**
 		 * Checks if this form is applicable to ichidan verbs.
 		 * 
@@ -979,4 +921,80 @@ public final class VerbInflection {
 		}
 	}
 
+	/**
+	 * Inflects given EDICT verb entry to all {@link Form#isConjugation()
+	 * conjugations}. Both the kanji and the reading of the entry are
+	 * inflected. Spaces are removed from the inflected verbs, as they are not
+	 * written in Japanese.
+	 * 
+	 * @param entry
+	 *            the entry, not null.
+	 * @return maps the inflected verb (in kanji and hiragana) to the forms
+	 *         which produce the verb. Empty if the entry is not a
+	 *         {@link EdictEntry#isVerb() verb}.
+	 */
+	public static Map<String, Set<Form>> inflect(final EdictEntry entry) {
+		final Map<String, Set<Form>> result = new HashMap<String, Set<Form>>();
+		if (!entry.isVerb()) {
+			return result;
+		}
+		final boolean ichidan = entry.isIchidan();
+		final String reading = RomanizationEnum.NihonShiki.toHiragana(RomanizationEnum.NihonShiki.toRomaji(entry.reading));
+		final String romaji = RomanizationEnum.NihonShiki.toRomaji(reading);
+		for (final Form form : Form.values()) {
+			if (!form.isConjugation() || (ichidan && !form.appliesToIchidan())) {
+				continue;
+			}
+			final String inflected;
+			try {
+				inflected = RomanizationEnum.NihonShiki.toHiragana(form.inflect(romaji, ichidan).replace(" ", ""));
+			} catch (RuntimeException ex) {
+				// not a regular verb, e.g. a wrongly marked expression
+				continue;
+			}
+			put(result, inflected, form);
+			if (entry.kanji != null) {
+				final String kanji = toKanji(entry.kanji, reading, inflected);
+				if (kanji != null) {
+					put(result, kanji, form);
+				}
+			}
+		}
+		return result;
+	}
+
+	private static void put(final Map<String, Set<Form>> map, final String inflected, final Form form) {
+		Set<Form> forms = map.get(inflected);
+		if (forms == null) {
+			forms = EnumSet.noneOf(Form.class);
+			map.put(inflected, forms);
+		}
+		forms.add(form);
+	}
+
+	/**
+	 * Writes the inflected reading using the kanji of the entry. The kanji
+	 * and the reading share the trailing kana (okurigana), the rest of the
+	 * reading is written by the kanji.
+	 * 
+	 * @param kanji
+	 *            the kanji of the entry.
+	 * @param reading
+	 *            the reading of the entry, in hiragana.
+	 * @param inflected
+	 *            the inflected reading, in hiragana.
+	 * @return the inflected kanji, null if the inflection changes the part of
+	 *         the reading written by the kanji (e.g. 来る - こない).
+	 */
+	private static String toKanji(final String kanji, final String reading, final String inflected) {
+		int okurigana = 0;
+		while (okurigana < kanji.length() && okurigana < reading.length() && kanji.charAt(kanji.length() - 1 - okurigana) == reading.charAt(reading.length() - 1 - okurigana)) {
+			okurigana++;
+		}
+		final String readingStem = reading.substring(0, reading.length() - okurigana);
+		if (!inflected.startsWith(readingStem)) {
+			return null;
+		}
+		return kanji.substring(0, kanji.length() - okurigana) + inflected.substring(readingStem.length());
+	}
 }
@@ -0,0 +1,396 @@
+/**
+ *     Aedict - an EDICT browser for Android
+Copyright (C) 2009 Martin Vysny
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package sk.baka.aedict.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.HttpURLConnection;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * A file-level patch of an index directory. Lucene never modifies an index
+ * file once it is written, therefore an incremental index update only adds new
+ * files (new segments, deletions, the new segments_N file) and removes files
+ * of merged segments. The patch is a zip file containing:
+ * <ul>
+ * <li>all files which were added or modified by the update, stored under their
+ * names;</li>
+ * <li>the {@link #DESCRIPTOR} entry, an UTF-8 text file with lines
+ * <code>base [fingerprint]</code> and <code>target [fingerprint]</code>,
+ * followed by a <code>delete [file name]</code> line for each file removed by
+ * the update. The descriptor is the last entry of the zip file.</li>
+ * </ul>
+ * The patch applies only to an index directory with the
+ * {@link #fingerprint(File) base fingerprint}. Applying a patch yields an index
+ * with the target fingerprint, which may be the base of another patch - the
+ * patches form a chain. The patches are published next to the full index zip
+ * file, see {@link #getFileName(String, String)}; the chain ends when there is
+ * no patch for the current fingerprint.
+ *
+ * @author Martin Vysny
+ */
+public final class IndexPatch {
+
+    private IndexPatch() {
+        throw new AssertionError();
+    }
+
+    /**
+     * The name of the zip entry which describes the patch.
+     */
+    public static final String DESCRIPTOR = "aedict-patch.txt";
+
+    /**
+     * Computes a fingerprint of given index directory. The fingerprint is
+     * computed from the names and lengths of the files only, thus it is cheap
+     * to compute even on the device.
+     *
+     * @param dir
+     *            the index directory.
+     * @return the fingerprint, an 8-character hexadecimal string. Returns a
+     *         fingerprint of an empty directory if the directory does not
+     *         exist.
+     */
+    public static String fingerprint(final File dir) {
+        final File[] files = dir.listFiles();
+        final CRC32 crc = new CRC32();
+        if (files != null) {
+            final String[] names = new String[files.length];
+            for (int i = 0; i < files.length; i++) {
+                names[i] = files[i].getName();
+            }
+            Arrays.sort(names);
+            for (final String name : names) {
+                final File file = new File(dir, name);
+                if (!file.isFile()) {
+                    continue;
+                }
+                try {
+                    crc.update(name.getBytes("UTF-8"));
+                } catch (UnsupportedEncodingException ex) {
+                    throw new AssertionError(ex);
+                }
+                crc.update(0);
+                final long length = file.length();
+                for (int i = 56; i >= 0; i -= 8) {
+                    crc.update((int) (length >>> i));
+                }
+            }
+        }
+        final String hex = Long.toHexString(crc.getValue());
+        return "00000000".substring(hex.length()) + hex;
+    }
+
+    /**
+     * Returns the file name of the patch for given index.
+     *
+     * @param targetFileName
+     *            the file name of the full index zip file, e.g.
+     *            <code>edict-lucene.zip</code>.
+     * @param baseFingerprint
+     *            the fingerprint of the index the patch applies to.
+     * @return the patch file name, e.g.
+     *         <code>edict-lucene.zip.0a1b2c3d.patch</code>.
+     */
+    public static String getFileName(final String targetFileName, final String baseFingerprint) {
+        return targetFileName + "." + baseFingerprint + ".patch";
+    }
+
+    /**
+     * Returns the URL of the patch for given index.
+     *
+     * @param indexURL
+     *            the URL of the full index zip file.
+     * @param baseFingerprint
+     *            the fingerprint of the index the patch applies to.
+     * @return the patch URL.
+     */
+    public static URL getURL(final URL indexURL, final String baseFingerprint) {
+        try {
+            return new URL(getFileName(indexURL.toString(), baseFingerprint));
+        } catch (MalformedURLException ex) {
+            throw new AssertionError(ex);
+        }
+    }
+
+    /**
+     * The maximum number of patches applied by
+     * {@link #update(File, URL, Copier)}, guards against a cycle of patches.
+     */
+    public static final int MAX_CHAIN_LENGTH = 100;
+
+    /**
+     * Copies a downloaded patch file. Allows the caller to report the progress
+     * of the download.
+     *
+     * @author Martin Vysny
+     */
+    public static interface Copier {
+
+        /**
+         * Copies all bytes from given input stream to given output stream.
+         *
+         * @param in
+         *            the patch contents, not null.
+         * @param length
+         *            the length of the patch file in bytes, -1 if not known.
+         * @param out
+         *            the output stream, not null.
+         * @throws IOException
+         *             on I/O error.
+         */
+        void copy(InputStream in, long length, OutputStream out) throws IOException;
+    }
+
+    /**
+     * Updates given index directory: downloads and applies the chain of patches,
+     * until there is no patch for the current fingerprint of the index.
+     *
+     * @param dir
+     *            the index directory.
+     * @param indexURL
+     *            the URL of the full index zip file. The patches are expected
+     *            next to this file.
+     * @param copier
+     *            downloads the patch files, not null.
+     * @return the number of applied patches, 0 if there is no patch for the
+     *         index.
+     * @throws IOException
+     *             on I/O error or if a patch is invalid. The directory may
+     *             contain partially updated index, see
+     *             {@link #apply(File, File)}.
+     */
+    public static int update(final File dir, final URL indexURL, final Copier copier) throws IOException {
+        final File tmp = getTempFile(dir, ".patch");
+        try {
+            for (int applied = 0; applied < MAX_CHAIN_LENGTH; applied++) {
+                final URLConnection conn = getURL(indexURL, fingerprint(dir)).openConnection();
+                if (conn instanceof HttpURLConnection && ((HttpURLConnection) conn).getResponseCode() == HttpURLConnection.HTTP_NOT_FOUND) {
+                    return applied;
+                }
+                final InputStream in;
+                try {
+                    in = conn.getInputStream();
+                } catch (FileNotFoundException ex) {
+                    return applied;
+                }
+                try {
+                    final OutputStream out = new FileOutputStream(tmp);
+                    try {
+                        copier.copy(in, conn.getContentLength(), out);
+                    } finally {
+                        out.close();
+                    }
+                } finally {
+                    in.close();
+                }
+                apply(dir, tmp);
+            }
+            throw new IOException("The patch chain is longer than " + MAX_CHAIN_LENGTH + " patches");
+        } finally {
+            tmp.delete();
+        }
+    }
+
+    /**
+     * Applies the patch to given index directory. The files are unpacked to a
+     * temporary directory first, then moved to the index directory in this
+     * order: the index data files, the non-Lucene files (the headword trie),
+     * the segments_N file and finally the segments.gen file; the files removed
+     * by the patch are deleted last. Lucene reads the index using the latest
+     * segments_N file, therefore the index stays readable (either the old or
+     * the new version) even if the application of the patch is interrupted.
+     * The headword trie is replaced right before segments_N, therefore it
+     * mismatches the index only between these two renames.
+     *
+     * @param dir
+     *            the index directory.
+     * @param patch
+     *            the patch file.
+     * @throws IOException
+     *             on I/O error, if the patch is invalid or if it does not
+     *             apply to the index. The index directory is not modified if
+     *             the patch does not apply.
+     */
+    public static void apply(final File dir, final File patch) throws IOException {
+        final File staging = getTempFile(dir, ".staging");
+        deleteDir(staging);
+        if (!staging.mkdirs()) {
+            throw new IOException("Failed to create " + staging);
+        }
+        try {
+            final List<String> deleted = new ArrayList<String>();
+            String base = null;
+            String target = null;
+            final List<String> files = new ArrayList<String>();
+            final ZipFile zip = new ZipFile(patch);
+            try {
+                for (final Enumeration<? extends ZipEntry> e = zip.entries(); e.hasMoreElements();) {
+                    final ZipEntry entry = e.nextElement();
+                    final String name = entry.getName();
+                    if (name.length() == 0 || name.indexOf('/') >= 0 || name.indexOf('\\') >= 0 || name.equals("..")) {
+                        throw new IOException("Invalid patch entry " + name);
+                    }
+                    final InputStream in = zip.getInputStream(entry);
+                    try {
+                        if (name.equals(DESCRIPTOR)) {
+                            final byte[] contents = readFully(in);
+                            for (final String line : new String(contents, "UTF-8").split("\n")) {
+                                if (line.startsWith("base ")) {
+                                    base = line.substring(5);
+                                } else if (line.startsWith("target ")) {
+                                    target = line.substring(7);
+                                } else if (line.startsWith("delete ")) {
+                                    deleted.add(line.substring(7));
+                                } else if (line.length() > 0) {
+                                    throw new IOException("Invalid patch descriptor line: " + line);
+                                }
+                            }
+                        } else {
+                            final OutputStream out = new FileOutputStream(new File(staging, name));
+                            try {
+                                copy(in, out);
+                            } finally {
+                                out.close();
+                            }
+                            files.add(name);
+                        }
+                    } finally {
+                        in.close();
+                    }
+                }
+            } finally {
+                zip.close();
+            }
+            if (base == null || target == null) {
+                throw new IOException("The patch descriptor is missing");
+            }
+            if (!base.equals(fingerprint(dir))) {
+                throw new IOException("The patch applies to index " + base + " but the index is " + fingerprint(dir));
+            }
+            sortByMoveOrder(files);
+            for (final String name : files) {
+                final File from = new File(staging, name);
+                final File to = new File(dir, name);
+                if (!from.renameTo(to)) {
+                    // some filesystems refuse to overwrite the file
+                    to.delete();
+                    if (!from.renameTo(to)) {
+                        throw new IOException("Failed to move " + from + " to " + to);
+                    }
+                }
+            }
+            for (final String name : deleted) {
+                final File file = new File(dir, name);
+                if (file.exists() && !file.delete()) {
+                    throw new IOException("Failed to delete " + file);
+                }
+            }
+            if (!target.equals(fingerprint(dir))) {
+                throw new IOException("The patched index is " + fingerprint(dir) + ", expected " + target);
+            }
+        } finally {
+            deleteDir(staging);
+        }
+    }
+
+    /**
+     * Returns a hidden temporary file next to given directory. The temporary
+     * file name must not start with the directory name, otherwise it could be
+     * mistaken for another dictionary.
+     */
+    private static File getTempFile(final File dir, final String suffix) {
+        return new File(dir.getAbsoluteFile().getParentFile(), "." + dir.getName() + suffix);
+    }
+
+    /**
+     * Sorts the files in the order in which they are moved to the index
+     * directory: the Lucene data files first, then other files stored
+     * alongside the index (e.g. the headword trie), the segments_N file and
+     * finally segments.gen. The other files are modified in place, not added,
+     * thus they must be installed together with segments_N: right before it,
+     * after all data files are in place.
+     *
+     * @param files
+     *            the file names, sorted in place.
+     */
+    static void sortByMoveOrder(final List<String> files) {
+        Collections.sort(files, new Comparator<String>() {
+
+            public int compare(String o1, String o2) {
+                return getMoveOrder(o1) - getMoveOrder(o2);
+            }
+        });
+    }
+
+    private static int getMoveOrder(final String name) {
+        if (name.equals("segments.gen")) {
+            return 3;
+        }
+        if (name.startsWith("segments")) {
+            return 2;
+        }
+        return name.startsWith("_") ? 0 : 1;
+    }
+
+    private static void deleteDir(final File dir) throws IOException {
+        final File[] files = dir.listFiles();
+        if (files == null) {
+            return;
+        }
+        for (final File file : files) {
+            if (!file.delete()) {
+                throw new IOException("Failed to delete " + file);
+            }
+        }
+        if (!dir.delete()) {
+            throw new IOException("Failed to delete " + dir);
+        }
+    }
+
+    private static byte[] readFully(final InputStream in) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        copy(in, out);
+        return out.toByteArray();
+    }
+
+    private static void copy(final InputStream in, final OutputStream out) throws IOException {
+        final byte[] buf = new byte[8192];
+        int len;
+        while ((len = in.read(buf)) >= 0) {
+            out.write(buf, 0, len);
+        }
+    }
+}
@@ -0,0 +1,244 @@
+/**
+ *     Aedict - an EDICT browser for Android
+Copyright (C) 2009 Martin Vysny
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package sk.baka.aedict.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs tasks on a bounded pool of threads. Queued tasks are started in the
+ * order of their priority, tasks with equal priority in the order of
+ * submission. Each task is identified by a key: at most one task with given
+ * key is queued or running at a time, and the task can be cancelled by its key.
+ * A task submitted while a cancelled task with the same key is still
+ * terminating is started only after the cancelled task terminates.
+ *
+ * @author Martin Vysny
+ */
+public final class PriorityExecutor {
+
+    private final ThreadPoolExecutor executor;
+    /**
+     * Maps keys to queued and running tasks. Guarded by this.
+     */
+    private final Map<String, Task> tasks = new HashMap<String, Task>();
+    /**
+     * Orders tasks with equal priority. Guarded by this.
+     */
+    private long sequence = 0;
+
+    /**
+     * Creates the executor.
+     *
+     * @param threads
+     *            the maximum number of concurrently running tasks.
+     */
+    public PriorityExecutor(final int threads) {
+        executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, new PriorityBlockingQueue<Runnable>());
+    }
+
+    private final class Task extends FutureTask<Object> implements Comparable<Task> {
+
+        private final String key;
+        private final Runnable runnable;
+        private final int priority;
+        private final long sequence;
+        /**
+         * Guarded by the enclosing executor.
+         */
+        private boolean started = false;
+        /**
+         * The task to execute when this cancelled task terminates. Guarded by
+         * the enclosing executor.
+         */
+        private Task successor = null;
+        /**
+         * If not null then this task waits until the cancelled predecessor
+         * terminates, and it is not in the executor queue. Guarded by the
+         * enclosing executor.
+         */
+        private Task predecessor = null;
+
+        public Task(final String key, final Runnable runnable, final int priority, final long sequence) {
+            super(runnable, null);
+            this.key = key;
+            this.runnable = runnable;
+            this.priority = priority;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public void run() {
+            synchronized (PriorityExecutor.this) {
+                started = true;
+            }
+            try {
+                super.run();
+            } finally {
+                // a cancelled task is removed only after its runnable terminates
+                synchronized (PriorityExecutor.this) {
+                    if (tasks.get(key) == this) {
+                        tasks.remove(key);
+                    }
+                    if (successor != null && !successor.isCancelled()) {
+                        successor.predecessor = null;
+                        executor.execute(successor);
+                    }
+                }
+            }
+        }
+
+        public int compareTo(Task o) {
+            if (priority != o.priority) {
+                return priority > o.priority ? -1 : 1;
+            }
+            return sequence < o.sequence ? -1 : sequence == o.sequence ? 0 : 1;
+        }
+    }
+
+    /**
+     * Submits a task. If a task with given key is already queued with a lower
+     * priority then it is replaced by this task.
+     *
+     * @param key
+     *            identifies the task, not null.
+     * @param priority
+     *            tasks with higher priority are started first.
+     * @param runnable
+     *            the task to run, not null.
+     * @return true if the task was queued, false if a task with given key is
+     *         already running (and not cancelled) or queued with the same or
+     *         higher priority.
+     */
+    public synchronized boolean submit(final String key, final int priority, final Runnable runnable) {
+        final Task existing = tasks.get(key);
+        Task predecessor = null;
+        if (existing != null) {
+            if (existing.started && existing.isCancelled()) {
+                // the cancelled task is still terminating
+                predecessor = existing;
+            } else if (existing.started || existing.priority >= priority) {
+                return false;
+            } else if (existing.predecessor != null) {
+                predecessor = existing.predecessor;
+                existing.cancel(false);
+            } else if (executor.remove(existing)) {
+                existing.cancel(false);
+            } else {
+                return false;
+            }
+        }
+        final Task task = new Task(key, runnable, priority, sequence++);
+        tasks.put(key, task);
+        if (predecessor == null) {
+            executor.execute(task);
+        } else {
+            task.predecessor = predecessor;
+            predecessor.successor = task;
+        }
+        return true;
+    }
+
+    /**
+     * Cancels a task. A queued task is removed from the queue, a running task
+     * is interrupted.
+     *
+     * @param key
+     *            the task key.
+     * @return true if the task was cancelled, false if there is no such task.
+     */
+    public synchronized boolean cancel(final String key) {
+        final Task task = tasks.get(key);
+        if (task == null || task.isCancelled()) {
+            return false;
+        }
+        if (!task.started) {
+            executor.remove(task);
+            tasks.remove(key);
+        }
+        return task.cancel(true);
+    }
+
+    /**
+     * Cancels all queued and running tasks.
+     */
+    public synchronized void cancelAll() {
+        for (final String key : new ArrayList<String>(tasks.keySet())) {
+            cancel(key);
+        }
+    }
+
+    /**
+     * Returns the queued tasks.
+     *
+     * @return the tasks in the order in which they will be started.
+     */
+    public synchronized List<Runnable> getQueued() {
+        final List<Task> queued = new ArrayList<Task>();
+        for (final Task task : tasks.values()) {
+            if (!task.started) {
+                queued.add(task);
+            }
+        }
+        Collections.sort(queued);
+        final List<Runnable> result = new ArrayList<Runnable>(queued.size());
+        for (final Task task : queued) {
+            result.add(task.runnable);
+        }
+        return result;
+    }
+
+    /**
+     * Checks if there is a running task.
+     *
+     * @return true if at least one task is running.
+     */
+    public synchronized boolean isRunning() {
+        for (final Task task : tasks.values()) {
+            if (task.started) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Cancels all tasks and waits until the running tasks terminate. The
+     * executor cannot be used afterwards.
+     *
+     * @param timeout
+     *            the maximum time to wait.
+     * @param unit
+     *            the timeout unit.
+     * @return true if all tasks terminated, false if the timeout elapsed.
+     * @throws InterruptedException
+     *             if interrupted while waiting.
+     */
+    public boolean shutdown(final long timeout, final TimeUnit unit) throws InterruptedException {
+        cancelAll();
+        executor.shutdownNow();
+        return executor.awaitTermination(timeout, unit);
+    }
+}
@@ -0,0 +1,276 @@
+/**
+ *     Aedict - an EDICT browser for Android
+Copyright (C) 2009 Martin Vysny
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package sk.baka.aedict.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Downloads a file to a partial file, which survives failures: the next
+ * download continues where the previous one stopped, using the HTTP
+ * <code>Range</code> header. The partial file is paired with the
+ * <code>ETag</code> (or <code>Last-Modified</code>) value of the remote file,
+ * sent in the <code>If-Range</code> header: if the remote file changed in the
+ * meantime, the server sends the whole file again.
+ * <p/>
+ * The completed file is verified against the MD5 checksum published next to
+ * the file, see {@link #CHECKSUM_SUFFIX}. The verification is skipped if the
+ * checksum is not published.
+ *
+ * @author Martin Vysny
+ */
+public final class ResumableDownload {
+
+    /**
+     * The checksum of a file is published at the URL of the file plus this
+     * suffix. The checksum file contains the MD5 of the file as a hexadecimal
+     * string, optionally followed by a whitespace and arbitrary text (the
+     * <code>md5sum</code> output format).
+     */
+    public static final String CHECKSUM_SUFFIX = ".md5";
+    private final URL url;
+    private final File partial;
+    private final File validator;
+
+    /**
+     * Creates the download.
+     *
+     * @param url
+     *            the file to download.
+     * @param partial
+     *            the partial file. The file is overwritten if it belongs to
+     *            another download.
+     */
+    public ResumableDownload(final URL url, final File partial) {
+        this.url = url;
+        this.partial = partial;
+        validator = new File(partial.getPath() + ".validator");
+    }
+
+    /**
+     * Copies the downloaded bytes. Allows the caller to report the progress of
+     * the download.
+     *
+     * @author Martin Vysny
+     */
+    public static interface Copier {
+
+        /**
+         * Copies all bytes from given input stream to given output stream.
+         *
+         * @param downloadedUntilNow
+         *            how many bytes were downloaded until now (the length of
+         *            the partial file).
+         * @param length
+         *            the length of the whole file in bytes, -1 if not known.
+         * @param in
+         *            the input stream, not null.
+         * @param out
+         *            the output stream, not null.
+         * @return the number of bytes downloaded, including the
+         *         downloadedUntilNow bytes.
+         * @throws IOException
+         *             on I/O error.
+         */
+        long copy(long downloadedUntilNow, long length, InputStream in, OutputStream out) throws IOException;
+    }
+
+    /**
+     * Downloads the file. The previous partial download is resumed if
+     * possible.
+     *
+     * @param copier
+     *            copies the bytes, not null.
+     * @return the completed, verified file.
+     * @throws IOException
+     *             on I/O error or if the checksum does not match - in such
+     *             case the partial file is deleted.
+     */
+    public File download(final Copier copier) throws IOException {
+        final String checksum = getChecksum();
+        long offset = partial.exists() && validator.exists() ? partial.length() : 0;
+        final URLConnection conn = url.openConnection();
+        if (offset > 0) {
+            conn.setRequestProperty("Range", "bytes=" + offset + "-");
+            conn.setRequestProperty("If-Range", new String(readFully(validator), "UTF-8"));
+        }
+        boolean complete = false;
+        if (conn instanceof HttpURLConnection) {
+            final int code = ((HttpURLConnection) conn).getResponseCode();
+            if (code == HttpURLConnection.HTTP_OK) {
+                // the server sends the whole file
+                offset = 0;
+            } else if (code == HttpURLConnection.HTTP_PARTIAL) {
+                // resume
+            } else if (code == 416 && offset > 0) {
+                // the requested range is not satisfiable: the partial file is already complete
+                complete = true;
+            } else {
+                throw new IOException("Failed to download " + url + ": HTTP " + code);
+            }
+        } else {
+            offset = 0;
+        }
+        if (!complete) {
+            writeValidator(conn);
+            final long length = conn.getContentLength() < 0 ? -1 : offset + conn.getContentLength();
+            final InputStream in = conn.getInputStream();
+            try {
+                final OutputStream out = new FileOutputStream(partial, offset > 0);
+                final long downloaded;
+                try {
+                    downloaded = copier.copy(offset, length, in, out);
+                } finally {
+                    out.close();
+                }
+                if (length >= 0 && downloaded < length) {
+                    // the connection was closed prematurely, keep the partial file
+                    throw new IOException("Download of " + url + " interrupted after " + downloaded + " of " + length + " bytes");
+                }
+            } finally {
+                in.close();
+            }
+        }
+        if (checksum != null) {
+            final String actual = md5(partial);
+            if (!checksum.equalsIgnoreCase(actual)) {
+                delete();
+                throw new IOException("The checksum of " + url + " does not match: expected " + checksum + " but got " + actual);
+            }
+        }
+        validator.delete();
+        return partial;
+    }
+
+    private void writeValidator(final URLConnection conn) throws IOException {
+        String value = conn.getHeaderField("ETag");
+        if (value == null) {
+            value = conn.getHeaderField("Last-Modified");
+        }
+        if (value == null) {
+            // the download cannot be resumed
+            validator.delete();
+            return;
+        }
+        final OutputStream out = new FileOutputStream(validator);
+        try {
+            out.write(value.getBytes("UTF-8"));
+        } finally {
+            out.close();
+        }
+    }
+
+    /**
+     * Downloads the published checksum.
+     *
+     * @return the checksum, null if it is not published.
+     */
+    private String getChecksum() throws IOException {
+        final URLConnection conn = new URL(url.toString() + CHECKSUM_SUFFIX).openConnection();
+        if (conn instanceof HttpURLConnection && ((HttpURLConnection) conn).getResponseCode() == HttpURLConnection.HTTP_NOT_FOUND) {
+            return null;
+        }
+        final InputStream in;
+        try {
+            in = conn.getInputStream();
+        } catch (FileNotFoundException ex) {
+            return null;
+        }
+        try {
+            final String checksum = new String(readFully(in), "UTF-8").trim().split("\\s+")[0];
+            if (checksum.length() != 32) {
+                throw new IOException("Invalid checksum of " + url + ": " + checksum);
+            }
+            return checksum;
+        } finally {
+            in.close();
+        }
+    }
+
+    /**
+     * Deletes the partial file.
+     */
+    public void delete() {
+        partial.delete();
+        validator.delete();
+    }
+
+    /**
+     * Computes the MD5 checksum of given file.
+     *
+     * @param file
+     *            the file
+     * @return the checksum as a lower-case hexadecimal string.
+     * @throws IOException
+     *             on I/O error.
+     */
+    public static String md5(final File file) throws IOException {
+        final MessageDigest md;
+        try {
+            md = MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new AssertionError(ex);
+        }
+        final InputStream in = new FileInputStream(file);
+        try {
+            final byte[] buf = new byte[8192];
+            int len;
+            while ((len = in.read(buf)) >= 0) {
+                md.update(buf, 0, len);
+            }
+        } finally {
+            in.close();
+        }
+        final StringBuilder sb = new StringBuilder();
+        for (final byte b : md.digest()) {
+            sb.append(Character.forDigit((b >> 4) & 0xF, 16));
+            sb.append(Character.forDigit(b & 0xF, 16));
+        }
+        return sb.toString();
+    }
+
+    private static byte[] readFully(final File file) throws IOException {
+        final InputStream in = new FileInputStream(file);
+        try {
+            return readFully(in);
+        } finally {
+            in.close();
+        }
+    }
+
+    private static byte[] readFully(final InputStream in) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final byte[] buf = new byte[8192];
+        int len;
+        while ((len = in.read(buf)) >= 0) {
+            out.write(buf, 0, len);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,394 @@
+/**
+ *     Aedict - an EDICT browser for Android
+Copyright (C) 2009 Martin Vysny
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package sk.baka.aedict.util;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.zip.CRC32;
+
+/**
+ * A random-access container of the <a
+ * href="http://www.kanjicafe.com/license.htm">SOD</a> images. The container is
+ * not compressed (the PNG images are compressed already) and is read directly
+ * from a memory-mapped file.
+ * <p/>
+ * Two formats are supported:
+ * <h4>Version 1</h4> 4 byte int - number of kanji entries; for each entry:
+ * 2-byte UTF-16 kanji character, 4-byte png offset in the file. The entries are
+ * ordered by the "offset" value, ascending. The PNG images follow, one after
+ * another. This format is distributed gzipped and only read for compatibility.
+ * <h4>Version 2</h4> The header: {@link #MAGIC}, the format version, the number
+ * of entries, flags ({@link #FLAG_CHECKSUMS}) and the alignment of the images,
+ * all 4-byte ints. For each entry: code point, image offset, image length and,
+ * if {@link #FLAG_CHECKSUMS} is set, CRC32 of the image; all 4-byte ints. The
+ * entries are sorted by the code point, ascending. Each PNG image starts at an
+ * offset which is a multiple of the alignment.
+ * <p/>
+ * Thread safe.
+ * 
+ * @author Martin Vysny
+ */
+public final class SodFile {
+
+    /**
+     * The first int of the version 2+ files. A version 1 file starts with the
+     * number of entries instead, which is always way smaller than this value.
+     */
+    public static final int MAGIC = 0x534F4421;
+    /**
+     * The current format version.
+     */
+    public static final int VERSION = 2;
+    /**
+     * If set, each entry contains CRC32 of the image.
+     */
+    public static final int FLAG_CHECKSUMS = 1;
+    /**
+     * The alignment of the images in the files written by {@link Writer}.
+     */
+    public static final int ALIGNMENT = 8;
+    /**
+     * The size of the {@link #VERSION current} file header, in bytes.
+     */
+    public static final int HEADER_SIZE = 20;
+    private final ByteBuffer buffer;
+    private final int version;
+    /**
+     * The kanji code points, sorted.
+     */
+    private final int[] codePoints;
+    /**
+     * The starting offset of the image of the kanji at the same index in
+     * {@link #codePoints}.
+     */
+    private final int[] offsets;
+    /**
+     * The length of the image data of the kanji at the same index in
+     * {@link #codePoints}.
+     */
+    private final int[] lengths;
+    /**
+     * CRC32 of the image of the kanji at the same index in {@link #codePoints},
+     * null if the file does not contain checksums.
+     */
+    private final int[] checksums;
+
+    /**
+     * Parses the container index.
+     * 
+     * @param buffer
+     *            the file contents, not null.
+     * @throws IOException
+     *             if the buffer does not contain a valid container.
+     */
+    public SodFile(final ByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+        try {
+            if (buffer.getInt(0) == MAGIC) {
+                version = buffer.getInt(4);
+                if (version != VERSION) {
+                    throw new IOException("Unsupported SOD file version " + version);
+                }
+                final int count = buffer.getInt(8);
+                final boolean hasChecksums = (buffer.getInt(12) & FLAG_CHECKSUMS) != 0;
+                final int entrySize = hasChecksums ? 16 : 12;
+                checkCount(count, HEADER_SIZE, entrySize);
+                codePoints = new int[count];
+                offsets = new int[count];
+                lengths = new int[count];
+                checksums = hasChecksums ? new int[count] : null;
+                for (int i = 0; i < count; i++) {
+                    final int entry = HEADER_SIZE + i * entrySize;
+                    codePoints[i] = buffer.getInt(entry);
+                    offsets[i] = buffer.getInt(entry + 4);
+                    lengths[i] = buffer.getInt(entry + 8);
+                    if (hasChecksums) {
+                        checksums[i] = buffer.getInt(entry + 12);
+                    }
+                    if (i > 0 && codePoints[i - 1] >= codePoints[i]) {
+                        throw new IOException("The entries are not sorted");
+                    }
+                }
+            } else {
+                version = 1;
+                final int count = buffer.getInt(0);
+                checkCount(count, 4, 6);
+                // the entries are ordered by the offset. Sort them by the kanji
+                // character, keeping the index of the entry in the lower 32 bits.
+                final long[] entries = new long[count];
+                for (int i = 0; i < count; i++) {
+                    entries[i] = ((long) buffer.getChar(4 + i * 6) << 32) | i;
+                }
+                Arrays.sort(entries);
+                codePoints = new int[count];
+                offsets = new int[count];
+                lengths = new int[count];
+                checksums = null;
+                for (int i = 0; i < count; i++) {
+                    final int entry = (int) entries[i];
+                    codePoints[i] = (int) (entries[i] >>> 32);
+                    offsets[i] = buffer.getInt(4 + entry * 6 + 2);
+                    final int end = entry + 1 < count ? buffer.getInt(4 + (entry + 1) * 6 + 2) : buffer.capacity();
+                    lengths[i] = end - offsets[i];
+                }
+            }
+        } catch (IndexOutOfBoundsException ex) {
+            throw new IOExceptionWithCause("The SOD file is truncated", ex);
+        }
+        for (int i = 0; i < codePoints.length; i++) {
+            if (offsets[i] < 0 || lengths[i] < 0 || (long) offsets[i] + lengths[i] > buffer.capacity()) {
+                throw new IOException("Invalid image offset for " + new String(Character.toChars(codePoints[i])));
+            }
+        }
+    }
+
+    private void checkCount(final int count, final int headerSize, final int entrySize) throws IOException {
+        if (count < 0 || headerSize + (long) count * entrySize > buffer.capacity()) {
+            throw new IOException("Invalid number of kanjis: " + count);
+        }
+    }
+
+    /**
+     * Memory-maps given container file.
+     * 
+     * @param file
+     *            the file, not null.
+     * @return the container, never null.
+     * @throws IOException
+     *             on I/O error or if the file is not a valid container.
+     */
+    public static SodFile open(final File file) throws IOException {
+        final FileInputStream in = new FileInputStream(file);
+        try {
+            final FileChannel channel = in.getChannel();
+            return new SodFile(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        } finally {
+            in.close();
+        }
+    }
+
+    /**
+     * Returns the format version of the file.
+     * 
+     * @return 1 or {@link #VERSION}.
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the size of the container in bytes.
+     * 
+     * @return the size.
+     */
+    public int getSize() {
+        return buffer.capacity();
+    }
+
+    /**
+     * Computes the largest possible size of a {@link #VERSION current} file
+     * with checksums, holding the same images as given version 1 file.
+     * 
+     * @param version1Size
+     *            the size of the version 1 file, in bytes.
+     * @param kanjiCount
+     *            the number of kanjis in the version 1 file, or its upper
+     *            bound.
+     * @return the upper bound of the file size, in bytes.
+     */
+    public static long getMaxSize(final long version1Size, final int kanjiCount) {
+        // each entry grows from 6 to 16 bytes and its image may be preceded by a padding
+        return version1Size - 4 + HEADER_SIZE + (long) kanjiCount * (16 - 6 + ALIGNMENT - 1);
+    }
+
+    /**
+     * Reads the number of kanjis from the header of a {@link #VERSION current}
+     * file. Useful when only the beginning of the file is available, e.g. while
+     * it is being downloaded.
+     * 
+     * @param header
+     *            the first {@link #HEADER_SIZE} bytes of the file, not null.
+     * @return the number of kanjis.
+     * @throws IOException
+     *             if the header is truncated or does not belong to a
+     *             {@link #VERSION current} file.
+     */
+    public static int getKanjiCount(final byte[] header) throws IOException {
+        if (header.length < HEADER_SIZE) {
+            throw new IOException("The SOD file header is truncated");
+        }
+        final ByteBuffer buffer = ByteBuffer.wrap(header);
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IOException("Not a version " + VERSION + " SOD file");
+        }
+        final int count = buffer.getInt(8);
+        if (count < 0) {
+            throw new IOException("Invalid number of kanjis: " + count);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of kanjis with an image.
+     * 
+     * @return the number of kanjis.
+     */
+    public int getKanjiCount() {
+        return codePoints.length;
+    }
+
+    /**
+     * Returns the image of given kanji. The image checksum is verified if the
+     * file contains checksums.
+     * 
+     * @param codePoint
+     *            the kanji code point.
+     * @return the PNG image data or null if there is no such image.
+     * @throws IOException
+     *             if the checksum does not match.
+     */
+    public byte[] load(final int codePoint) throws IOException {
+        final int index = Arrays.binarySearch(codePoints, codePoint);
+        if (index < 0) {
+            return null;
+        }
+        final byte[] result = new byte[lengths[index]];
+        // the position is per-buffer: use a duplicate to stay thread safe
+        final ByteBuffer b = buffer.duplicate();
+        try {
+            b.position(offsets[index]);
+            b.get(result);
+        } catch (BufferUnderflowException ex) {
+            throw new IOExceptionWithCause("The SOD file is truncated", ex);
+        }
+        if (checksums != null && checksums[index] != crc(result)) {
+            throw new IOException("The image of " + new String(Character.toChars(codePoint)) + " is corrupted");
+        }
+        return result;
+    }
+
+    private static int crc(final byte[] data) {
+        final CRC32 crc = new CRC32();
+        crc.update(data);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Collects the images and writes the container.
+     * 
+     * @author Martin Vysny
+     */
+    public static final class Writer {
+
+        private final Map<Integer, byte[]> images = new TreeMap<Integer, byte[]>();
+
+        /**
+         * Adds an image.
+         * 
+         * @param codePoint
+         *            the kanji code point.
+         * @param png
+         *            the PNG image, not null.
+         */
+        public void add(final int codePoint, final byte[] png) {
+            images.put(codePoint, png);
+        }
+
+        /**
+         * Writes the container in the current format.
+         * 
+         * @param out
+         *            the stream to write to, not closed.
+         * @param checksums
+         *            if true then the CRC32 of each image is stored.
+         * @throws IOException
+         *             on I/O error.
+         */
+        public void write(final OutputStream out, final boolean checksums) throws IOException {
+            final DataOutputStream dout = new DataOutputStream(out);
+            final int entrySize = checksums ? 16 : 12;
+            dout.writeInt(MAGIC);
+            dout.writeInt(VERSION);
+            dout.writeInt(images.size());
+            dout.writeInt(checksums ? FLAG_CHECKSUMS : 0);
+            dout.writeInt(ALIGNMENT);
+            int offset = align(HEADER_SIZE + images.size() * entrySize);
+            for (final Map.Entry<Integer, byte[]> e : images.entrySet()) {
+                dout.writeInt(e.getKey());
+                dout.writeInt(offset);
+                dout.writeInt(e.getValue().length);
+                if (checksums) {
+                    dout.writeInt(crc(e.getValue()));
+                }
+                offset = align(offset + e.getValue().length);
+            }
+            for (final byte[] png : images.values()) {
+                pad(dout);
+                dout.write(png);
+            }
+            pad(dout);
+            dout.flush();
+        }
+
+        private static int align(final int offset) {
+            return (offset + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+        }
+
+        private static void pad(final DataOutputStream out) throws IOException {
+            while (out.size() % ALIGNMENT != 0) {
+                out.write(0);
+            }
+        }
+
+        /**
+         * Writes the container in the version 1 format, for older clients.
+         * Only kanjis from the Basic Multilingual Plane are supported.
+         * 
+         * @param out
+         *            the stream to write to, not closed.
+         * @throws IOException
+         *             on I/O error.
+         */
+        public void writeVersion1(final OutputStream out) throws IOException {
+            final DataOutputStream dout = new DataOutputStream(out);
+            int offset = images.size() * 6 + 4;
+            dout.writeInt(images.size());
+            for (final Map.Entry<Integer, byte[]> e : images.entrySet()) {
+                if (e.getKey() > Character.MAX_VALUE) {
+                    throw new IllegalStateException("The version 1 format does not support " + e.getKey());
+                }
+                dout.writeChar(e.getKey());
+                dout.writeInt(offset);
+                offset += e.getValue().length;
+            }
+            for (final byte[] png : images.values()) {
+                dout.write(png);
+            }
+            dout.flush();
+        }
+    }
+}
@@ -52,4 +52,19 @@ public class DictEntryTest {
     private void checkExternalize(final DictEntry entry) {
         assertEquals(entry, DictEntry.fromExternal(entry.toExternal()));
     }
+
+    @Test
+    public void rankFollowsCompareTo() {
+        final DictEntry[] entries = {new EdictEntry("母", "はは", "mother", true), new EdictEntry("母", "はは", "mother", false), new EdictEntry("お母さん", "おかあさん", "mother", true),
+            new EdictEntry(null, "はは", "ha-ha", true), new EdictEntry("御母", "おんはは", "mother", false), new EdictEntry("母上", "ははうえ", "mother", false), new EdictEntry("亡母", "ぼうぼ", "late mother", false)};
+        for (final DictEntry e1 : entries) {
+            for (final DictEntry e2 : entries) {
+                if (e1.getRank() < e2.getRank()) {
+                    assertTrue(e1 + " < " + e2, e1.compareTo(e2) < 0);
+                } else if (e1.getRank() > e2.getRank()) {
+                    assertTrue(e1 + " > " + e2, e1.compareTo(e2) > 0);
+                }
+            }
+        }
+    }
 }
@@ -19,9 +19,16 @@ package sk.baka.aedict.dict;
 
 import static org.junit.Assert.*;
 import java.text.ParseException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
 
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
 import org.apache.lucene.document.Document;
 import org.apache.lucene.document.Field;
+import org.apache.lucene.queryParser.QueryParser;
+import org.apache.lucene.search.Query;
 import org.junit.Test;
 import sk.baka.tools.test.Assert;
 
@@ -137,7 +144,7 @@ public class DictTypeEnumTest {
         q.query = new String[]{"foo", "bar"};
         q.isJapanese = true;
         q.validate();
-        Assert.assertArrayEquals(DictTypeEnum.Edict.getLuceneQuery(q), new String[]{"(jp:\"WfooW\" OR jp:\"WbarW\") AND common:t", "(jp:\"WfooW\" OR jp:\"WbarW\") AND common:f"});
+        Assert.assertArrayEquals(DictTypeEnum.Edict.getLuceneQuery(q), new String[]{"jp:\"WfooW\" OR jp:\"WbarW\""});
     }
 
     @Test
@@ -147,7 +154,7 @@ public class DictTypeEnumTest {
         q.query = new String[]{"foo AND goo", "bar"};
         q.isJapanese = true;
         q.validate();
-        Assert.assertArrayEquals(DictTypeEnum.Edict.getLuceneQuery(q), new String[]{"((jp:Wfoo AND jp:Wgoo) OR jp:\"Wbar\") AND common:t", "((jp:Wfoo AND jp:Wgoo) OR jp:\"Wbar\") AND common:f"});
+        Assert.assertArrayEquals(DictTypeEnum.Edict.getLuceneQuery(q), new String[]{"(jp:Wfoo AND jp:Wgoo) OR jp:\"Wbar\""});
     }
 
     @Test
@@ -168,4 +175,106 @@ public class DictTypeEnumTest {
         q.isJapanese = false;
         Assert.assertArrayEquals(DictTypeEnum.Tanaka.getLuceneQuery(q), new String[]{"(english:\"foo\" AND english:\"goo\") OR (english:\"bar\")"});
     }
+
+    /**
+     * Asserts that the {@link DictTypeEnum#buildLuceneQuery(SearchQuery)} produces
+     * the same queries as the QueryParser parsing the {@link DictTypeEnum#getLuceneQuery(SearchQuery)} output.
+     */
+    private static void assertQueriesEqual(final SearchQuery q) throws Exception {
+        final QueryParser parser = new QueryParser(LuceneSearch.LUCENE_VERSION, "contents", new StandardAnalyzer(LuceneSearch.LUCENE_VERSION));
+        final String[] expected = q.dictType.getLuceneQuery(q);
+        final Query[] actual = q.dictType.buildLuceneQuery(q);
+        assertEquals(expected.length, actual.length);
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(parser.parse(expected[i]).toString(), actual[i].toString());
+        }
+    }
+
+    @Test
+    public void edictQueryObjects() throws Exception {
+        final SearchQuery q = new SearchQuery(DictTypeEnum.Edict);
+        q.query = new String[]{"\u6bcd", "\u306f\u306f AND \u3061\u3061", "\u6bcdX"};
+        q.isJapanese = true;
+        for (final MatcherEnum m : MatcherEnum.values()) {
+            q.matcher = m;
+            assertQueriesEqual(q);
+        }
+        q.isJapanese = false;
+        q.query = new String[]{"mother", "the Mother", "mother AND father", "foster mother"};
+        q.matcher = MatcherEnum.Exact;
+        assertQueriesEqual(q);
+        q.matcher = MatcherEnum.Substring;
+        assertQueriesEqual(q);
+    }
+
+    @Test
+    public void tanakaQueryObjects() throws Exception {
+        final SearchQuery q = new SearchQuery(DictTypeEnum.Tanaka);
+        q.query = new String[]{"\u6bcd\u306f AND \u884c\u304f", "\u6bcd"};
+        q.isJapanese = true;
+        assertQueriesEqual(q);
+        q.query = new String[]{"my mother AND went", "father"};
+        q.isJapanese = false;
+        assertQueriesEqual(q);
+        final SearchQuery tatoeba = new SearchQuery(DictTypeEnum.Tatoeba);
+        tatoeba.query = q.query;
+        assertQueriesEqual(tatoeba);
+    }
+
+    @Test
+    public void kanjidicQueryObjects() {
+        final SearchQuery q = new SearchQuery(DictTypeEnum.Kanjidic);
+        q.query = new String[]{"\u6bcd"};
+        q.strokeCount = 5;
+        q.strokesPlusMinus = 1;
+        q.skip = "1-2-3";
+        assertEquals("+kanji:\u6bcd +(strokes:4 strokes:5 strokes:6) +skip:1-2-3", DictTypeEnum.Kanjidic.buildLuceneQuery(q)[0].toString());
+        q.query = null;
+        q.strokesPlusMinus = null;
+        q.skip = null;
+        assertEquals("strokes:5", DictTypeEnum.Kanjidic.buildLuceneQuery(q)[0].toString());
+    }
+
+    @Test
+    public void edictGlosses() {
+        assertEquals(Arrays.asList("n", "hum", "mother", "p"), DictTypeEnum.getEdictGlosses("(n) (hum) mother/(P)"));
+        assertEquals(Arrays.asList("ik", "n", "col", "one's mother"), DictTypeEnum.getEdictGlosses("(iK) (n) (col) one's mother"));
+        assertEquals(Arrays.asList("query", "query"), DictTypeEnum.getEdictGlosses("query;  query "));
+        assertEquals(Arrays.asList("foo-bar-baz", "f", "p", "query", "query"), DictTypeEnum.getEdictGlosses("foo-bar-baz [f] (p) query; query"));
+        assertEquals(Collections.emptyList(), DictTypeEnum.getEdictGlosses(" / "));
+    }
+
+    @Test
+    public void edictGlossesEqualToExactMatch() {
+        final String[] lines = {"QUERYQUERY", "QUERY QUERY", "query-query", "query,query", "query; query", "foo-bar-baz [f] (p) query; query", "(n) (hum) mother/(P)", "(n) foster mother/mother"};
+        final String[] queries = {"query", "query query", "query-query", "mother", "foster mother", "hum", "p"};
+        for (final String line : lines) {
+            for (final String query : queries) {
+                assertEquals(line + ": " + query, matches(query, line), DictTypeEnum.getEdictGlosses(line).contains(query));
+            }
+        }
+    }
+
+    @Test
+    public void edictExactQueryObjects() {
+        final SearchQuery q = SearchQuery.searchEnEdict("Mother AND father", true);
+        assertNull(DictTypeEnum.Edict.buildExactLuceneQuery(q, Collections.<String>emptySet()));
+        final HashSet<String> fields = new HashSet<String>(Arrays.asList("contents", "common", "jp", DictTypeEnum.EDICT_GLOSS_FIELD));
+        final Query[] queries = DictTypeEnum.Edict.buildExactLuceneQuery(q, fields);
+        assertEquals(1, queries.length);
+        assertEquals("+gloss:mother +gloss:father", queries[0].toString());
+        assertNull(DictTypeEnum.Edict.buildExactLuceneQuery(SearchQuery.searchEnEdict("mother;", true), fields));
+        assertNull(DictTypeEnum.Edict.buildExactLuceneQuery(SearchQuery.searchEnEdict("mother", false), fields));
+        assertNull(DictTypeEnum.Tanaka.buildExactLuceneQuery(SearchQuery.searchEnEdict("mother", true), fields));
+    }
+
+    @Test
+    public void edictSort() {
+        final Set<String> oldIndex = new HashSet<String>(Arrays.asList("contents", "common", "jp"));
+        final Set<String> newIndex = new HashSet<String>(Arrays.asList("contents", "common", "jp", DictTypeEnum.EDICT_RANK_FIELD));
+        assertEquals("<long: \"rank\">", DictTypeEnum.Edict.getSort(true, newIndex).toString());
+        assertEquals("<string: \"common\">!,<score>", DictTypeEnum.Edict.getSort(false, newIndex).toString());
+        assertEquals("<string: \"common\">!,<score>", DictTypeEnum.Edict.getSort(true, oldIndex).toString());
+        assertNull(DictTypeEnum.Tanaka.getSort(true, newIndex));
+    }
 }
@@ -0,0 +1,93 @@
+/**
+ *     Aedict - an EDICT browser for Android
+Copyright (C) 2009 Martin Vysny
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package sk.baka.aedict.dict;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Tests the {@link HeadwordTrie} class.
+ * @author Martin Vysny
+ */
+public class HeadwordTrieTest {
+
+    private File file;
+    private HeadwordTrie trie;
+
+    @Before
+    public void createTrie() throws IOException {
+        final HeadwordTrie.Builder builder = new HeadwordTrie.Builder();
+        for (final String word : new String[]{"母", "母親", "母親学級", "はは", "はは", "", null, "Mother", "ははおや"}) {
+            builder.add(word);
+        }
+        file = File.createTempFile("aedict", HeadwordTrie.FILE_NAME);
+        builder.write(file);
+        trie = HeadwordTrie.open(file);
+    }
+
+    @After
+    public void deleteTrie() {
+        file.delete();
+    }
+
+    @Test
+    public void longestPrefix() {
+        assertEquals(2, trie.longestPrefix("母親は", 0));
+        assertEquals(4, trie.longestPrefix("母親学級", 0));
+        // 母親学 is not a headword
+        assertEquals(2, trie.longestPrefix("母親学", 0));
+        assertEquals(1, trie.longestPrefix("母の", 0));
+        assertEquals(0, trie.longestPrefix("の母", 0));
+        assertEquals(1, trie.longestPrefix("の母", 1));
+        assertEquals(4, trie.longestPrefix("ははおやは", 0));
+        assertEquals(2, trie.longestPrefix("ははお", 0));
+        assertEquals(0, trie.longestPrefix("", 0));
+    }
+
+    @Test
+    public void caseInsensitive() {
+        assertTrue(trie.contains("mother"));
+        assertTrue(trie.contains("MOTHER"));
+        assertFalse(trie.contains("moth"));
+        assertFalse(trie.contains(""));
+    }
+
+    @Test
+    public void nodeCount() {
+        // root, 母, 親, 学, 級, は, は, お, や, m, o, t, h, e, r
+        assertEquals(15, trie.getNodeCount());
+    }
+
+    @Test
+    public void emptyTrie() throws IOException {
+        new HeadwordTrie.Builder().write(file);
+        final HeadwordTrie empty = HeadwordTrie.open(file);
+        assertEquals(1, empty.getNodeCount());
+        assertEquals(0, empty.longestPrefix("母", 0));
+    }
+
+    @Test(expected = IOException.class)
+    public void invalidFile() throws IOException {
+        new HeadwordTrie(ByteBuffer.wrap(new byte[16]));
+    }
+}
@@ -0,0 +1,100 @@
+/**
+ *     Aedict - an EDICT browser for Android
+Copyright (C) 2009 Martin Vysny
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package sk.baka.aedict.dict;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.tokenattributes.OffsetAttribute;
+import org.apache.lucene.analysis.tokenattributes.TermAttribute;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Tests the {@link JapaneseAnalyzer} class.
+ * @author Martin Vysny
+ */
+public class JapaneseAnalyzerTest {
+
+    private static List<String> analyze(final TokenStream ts) throws Exception {
+        final TermAttribute term = ts.addAttribute(TermAttribute.class);
+        final List<String> result = new ArrayList<String>();
+        ts.reset();
+        while (ts.incrementToken()) {
+            result.add(term.term());
+        }
+        ts.end();
+        ts.close();
+        return result;
+    }
+
+    private static List<String> analyze(final String text) throws Exception {
+        return analyze(new JapaneseAnalyzer().reusableTokenStream("f", new StringReader(text)));
+    }
+
+    private static List<String> analyzeQuery(final String text, final boolean boundaryBefore, final boolean boundaryAfter) throws Exception {
+        return analyze(new JapaneseAnalyzer.JapaneseTokenizer(new StringReader(text), boundaryBefore, boundaryAfter));
+    }
+
+    @Test
+    public void bigrams() throws Exception {
+        assertEquals(Arrays.asList("|食", "食べ", "べる", "る|"), analyze("食べる"));
+        assertEquals(Arrays.asList("|母", "母|"), analyze("母"));
+        assertEquals(Arrays.asList("|私", "私は", "は|", "abc", "|学", "学生", "生|"), analyze("私はABC学生。"));
+        assertEquals(Arrays.asList("ｔ", "|シ", "シャ", "ャツ", "ツ|"), analyze("Ｔシャツ"));
+        assertEquals(Arrays.<String>asList(), analyze("。、 "));
+        // the analyzer is reusable
+        assertEquals(Arrays.asList("|食", "食べ", "べる", "る|"), analyze("食べる"));
+    }
+
+    @Test
+    public void queryBoundaries() throws Exception {
+        assertEquals(Arrays.asList("食べ"), analyzeQuery("食べ", false, false));
+        assertEquals(Arrays.asList("|食", "食べ"), analyzeQuery("食べ", true, false));
+        assertEquals(Arrays.asList("食べ", "べ|"), analyzeQuery("食べ", false, true));
+        assertEquals(Arrays.asList("べ"), analyzeQuery("べ", false, false));
+        assertEquals(Arrays.asList("|べ"), analyzeQuery("べ", true, false));
+        // the boundaries inside the text are always marked
+        assertEquals(Arrays.asList("ｔ", "|シ", "シャ"), analyzeQuery("Ｔシャ", false, false));
+        assertEquals(Arrays.asList("私は", "は|", "abc"), analyzeQuery("私はabc", false, false));
+    }
+
+    @Test
+    public void offsets() throws Exception {
+        final TokenStream ts = new JapaneseAnalyzer().tokenStream("f", new StringReader("a食べ"));
+        final OffsetAttribute offset = ts.addAttribute(OffsetAttribute.class);
+        final List<String> offsets = new ArrayList<String>();
+        while (ts.incrementToken()) {
+            offsets.add(offset.startOffset() + "-" + offset.endOffset());
+        }
+        assertEquals(Arrays.asList("0-1", "0-2", "1-3", "2-3"), offsets);
+    }
+
+    @Test
+    public void jpBigramPhrase() throws Exception {
+        assertEquals("f:\"食べ べる\"", LuceneQueries.jpBigramPhrase("f", "食べる", false, false).toString());
+        assertEquals("f:\"|食 食べ べる る|\"", LuceneQueries.jpBigramPhrase("f", "食べる", true, true).toString());
+        assertEquals("f:食べ", LuceneQueries.jpBigramPhrase("f", "食べ", false, false).toString());
+        assertEquals("f:\"|母 母|\"", LuceneQueries.jpBigramPhrase("f", "母", true, true).toString());
+        // a single character matches the first character of a bigram
+        assertEquals("f:母*", LuceneQueries.jpBigramPhrase("f", "母", false, false).toString());
+        assertNull(LuceneQueries.jpBigramPhrase("f", "。", false, false));
+    }
+}
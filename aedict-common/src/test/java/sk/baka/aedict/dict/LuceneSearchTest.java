@@ -0,0 +1,214 @@
+/**
+ *     Aedict - an EDICT browser for Android
+Copyright (C) 2009 Martin Vysny
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package sk.baka.aedict.dict;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.store.FSDirectory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import sk.baka.autils.MiscUtils;
+import static org.junit.Assert.*;
+
+/**
+ * Tests the {@link LuceneSearch} class.
+ * @author Martin Vysny
+ */
+public class LuceneSearchTest {
+
+    private static final String KANA = "あいうえおかきくけこさしすせそたちつてとなにぬねの";
+    private File index;
+    private LuceneSearch search;
+
+    @Before
+    public void createIndex() throws IOException {
+        index = createIndex(true);
+        search = new LuceneSearch(DictTypeEnum.Edict, index.getAbsolutePath(), false);
+    }
+
+    /**
+     * Creates an EDICT index with 25 entries.
+     * @param headwords if false then the {@link DictTypeEnum#EDICT_HEADWORD_FIELD} field is omitted, like in the older indices.
+     * @return the index directory.
+     */
+    private static File createIndex(final boolean headwords) throws IOException {
+        final File index = File.createTempFile("aedict", "index");
+        index.delete();
+        final FSDirectory dir = FSDirectory.open(index);
+        try {
+            final IndexWriter writer = new IndexWriter(dir, new StandardAnalyzer(LuceneSearch.LUCENE_VERSION), true, IndexWriter.MaxFieldLength.UNLIMITED);
+            try {
+                for (int i = 0; i < 25; i++) {
+                    // every third entry contains "mother" only as a part of a longer gloss
+                    final String english = i % 3 == 0 ? "foster mother " + i : "mother " + i;
+                    final String kanji = "母母母母母".substring(i % 5) + KANA.charAt(i);
+                    final String line = kanji + " [はは] /(n) " + english + (i % 2 == 0 ? "/(P)/" : "/");
+                    final EdictEntry entry = DictTypeEnum.parseEdictEntry(line);
+                    final Document doc = new Document();
+                    doc.add(new Field("contents", line, Field.Store.YES, Field.Index.ANALYZED));
+                    doc.add(new Field("common", entry.isCommon ? "t" : "f", Field.Store.NO, Field.Index.NOT_ANALYZED));
+                    doc.add(new Field("jp", "W" + kanji + "W WははW", Field.Store.NO, Field.Index.ANALYZED));
+                    doc.add(new Field(DictTypeEnum.EDICT_RANK_FIELD, String.valueOf(entry.getRank()), Field.Store.NO, Field.Index.NOT_ANALYZED_NO_NORMS));
+                    if (headwords) {
+                        doc.add(new Field(DictTypeEnum.EDICT_HEADWORD_FIELD, kanji, Field.Store.NO, Field.Index.NOT_ANALYZED_NO_NORMS));
+                        doc.add(new Field(DictTypeEnum.EDICT_HEADWORD_FIELD, "はは", Field.Store.NO, Field.Index.NOT_ANALYZED_NO_NORMS));
+                    }
+                    writer.addDocument(doc);
+                }
+            } finally {
+                writer.close();
+            }
+        } finally {
+            dir.close();
+        }
+        return index;
+    }
+
+    @After
+    public void deleteIndex() throws IOException {
+        search.close();
+        SearcherPool.invalidate(index);
+        MiscUtils.deleteDir(index);
+    }
+
+    private List<DictEntry> searchPaged(final SearchQuery query, final int pageSize) throws IOException {
+        return searchPaged(search, query, pageSize);
+    }
+
+    private static List<DictEntry> searchPaged(final LuceneSearch search, final SearchQuery query, final int pageSize) throws IOException {
+        final List<DictEntry> result = new ArrayList<DictEntry>();
+        for (SearchCursor cursor = new SearchCursor(query); cursor != null;) {
+            final LuceneSearch.Page page = search.search(cursor, pageSize);
+            assertTrue(page.entries.size() <= pageSize);
+            result.addAll(page.entries);
+            cursor = page.next;
+        }
+        return result;
+    }
+
+    private static List<String> toString(final List<DictEntry> entries) {
+        final List<String> result = new ArrayList<String>();
+        for (final DictEntry e : entries) {
+            result.add(e.toString());
+        }
+        return result;
+    }
+
+    @Test
+    public void pagesContainAllResults() throws IOException {
+        final SearchQuery q = SearchQuery.searchEnEdict("mother", false);
+        final List<DictEntry> all = search.search(q, 1000);
+        assertEquals(25, all.size());
+        for (final int pageSize : new int[]{1, 4, 7, 25, 100}) {
+            assertEquals(toString(all), toString(searchPaged(q, pageSize)));
+        }
+    }
+
+    @Test
+    public void filteredHitsAreSkipped() throws IOException {
+        final SearchQuery q = SearchQuery.searchEnEdict("foster mother", true);
+        final List<DictEntry> all = search.search(q, 1000);
+        assertEquals(9, all.size());
+        for (final int pageSize : new int[]{1, 2, 5, 9, 10}) {
+            assertEquals(toString(all), toString(searchPaged(q, pageSize)));
+        }
+    }
+
+    @Test
+    public void lastPageHasNoCursor() throws IOException {
+        final LuceneSearch.Page page = search.search(new SearchCursor(SearchQuery.searchEnEdict("mother", false)), 25);
+        assertEquals(25, page.entries.size());
+        assertNull(page.next);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidPageSize() throws IOException {
+        search.search(new SearchCursor(SearchQuery.searchEnEdict("mother", false)), 0);
+    }
+
+    @Test
+    public void commonEntriesFirst() throws IOException {
+        final List<DictEntry> all = search.search(SearchQuery.searchEnEdict("mother", false), 1000);
+        assertEquals(25, all.size());
+        for (int i = 0; i < all.size(); i++) {
+            assertEquals(i < 13, all.get(i).isCommon);
+        }
+    }
+
+    @Test
+    public void sortedPagesAreOrderedByRank() throws IOException {
+        final LuceneSearch sorted = new LuceneSearch(DictTypeEnum.Edict, index.getAbsolutePath(), true);
+        try {
+            final SearchQuery q = SearchQuery.searchEnEdict("mother", false);
+            final List<DictEntry> all = sorted.search(q, 1000);
+            assertEquals(25, all.size());
+            final List<DictEntry> paged = searchPaged(sorted, q, 4);
+            assertEquals(25, paged.size());
+            for (int i = 1; i < paged.size(); i++) {
+                assertTrue(paged.get(i - 1).getRank() <= paged.get(i).getRank());
+            }
+            // the best entries are retrieved even if only a few entries are requested
+            assertEquals(all.subList(0, 3), sorted.search(q, 3));
+        } finally {
+            sorted.close();
+        }
+    }
+
+    private static void assertLookupExact(final LuceneSearch search) throws IOException {
+        final Map<String, List<DictEntry>> result = search.lookupExact(Arrays.asList("母母母母母あ", "はは", "母", "はは"), 2);
+        assertEquals(2, result.size());
+        assertEquals(Arrays.asList("母母母母母あ [はは]: (n) foster mother 0/(P)"), toString(result.get("母母母母母あ")));
+        // the best entries are returned first: common ones, with the shortest kanji
+        assertEquals(Arrays.asList("母お [はは]: (n) mother 4/(P)", "母そ [はは]: (n) mother 14/(P)"), toString(result.get("はは")));
+    }
+
+    @Test
+    public void lookupExact() throws IOException {
+        final LuceneSearch sorted = new LuceneSearch(DictTypeEnum.Edict, index.getAbsolutePath(), true);
+        try {
+            assertLookupExact(sorted);
+        } finally {
+            sorted.close();
+        }
+    }
+
+    @Test
+    public void lookupExactOnOlderIndex() throws IOException {
+        final File olderIndex = createIndex(false);
+        try {
+            final LuceneSearch sorted = new LuceneSearch(DictTypeEnum.Edict, olderIndex.getAbsolutePath(), true);
+            try {
+                assertLookupExact(sorted);
+            } finally {
+                sorted.close();
+            }
+        } finally {
+            SearcherPool.invalidate(olderIndex);
+            MiscUtils.deleteDir(olderIndex);
+        }
+    }
+}
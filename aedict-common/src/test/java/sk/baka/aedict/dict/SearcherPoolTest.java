@@ -0,0 +1,114 @@
+/**
+ *     Aedict - an EDICT browser for Android
+Copyright (C) 2009 Martin Vysny
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package sk.baka.aedict.dict;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.store.FSDirectory;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import sk.baka.autils.MiscUtils;
+import static org.junit.Assert.*;
+
+/**
+ * Tests the {@link SearcherPool} class.
+ * @author Martin Vysny
+ */
+public class SearcherPoolTest {
+
+    private File index;
+
+    @Before
+    public void createIndex() throws IOException {
+        index = File.createTempFile("aedict", "index");
+        index.delete();
+        writeIndex("母 [はは] /(n) (hum) mother/(P)/");
+    }
+
+    private void writeIndex(final String edictLine) throws IOException {
+        final FSDirectory dir = FSDirectory.open(index);
+        try {
+            final IndexWriter writer = new IndexWriter(dir, new StandardAnalyzer(LuceneSearch.LUCENE_VERSION), true, IndexWriter.MaxFieldLength.UNLIMITED);
+            try {
+                final Document doc = new Document();
+                doc.add(new Field("contents", edictLine, Field.Store.YES, Field.Index.ANALYZED));
+                doc.add(new Field("common", "t", Field.Store.NO, Field.Index.NOT_ANALYZED));
+                writer.addDocument(doc);
+            } finally {
+                writer.close();
+            }
+        } finally {
+            dir.close();
+        }
+    }
+
+    @After
+    public void deleteIndex() throws IOException {
+        SearcherPool.invalidate(index);
+        MiscUtils.deleteDir(index);
+    }
+
+    private List<DictEntry> search(final String word) throws IOException {
+        return LuceneSearch.singleSearch(SearchQuery.searchEnEdict(word, true), index.getAbsolutePath(), false);
+    }
+
+    @Test
+    public void indexIsKeptOpened() throws IOException {
+        assertFalse(SearcherPool.isOpened(index));
+        assertEquals(1, search("mother").size());
+        assertTrue(SearcherPool.isOpened(index));
+        assertEquals(1, search("mother").size());
+        assertTrue(SearcherPool.isOpened(index));
+    }
+
+    @Test
+    public void invalidateReopensIndex() throws IOException {
+        assertEquals(1, search("mother").size());
+        SearcherPool.invalidate(index);
+        assertFalse(SearcherPool.isOpened(index));
+        writeIndex("父 [ちち] /(n) (hum) father/(P)/");
+        assertEquals(0, search("mother").size());
+        assertEquals(1, search("father").size());
+    }
+
+    @Test
+    public void invalidatedSearcherStaysUsableUntilClosed() throws IOException {
+        final LuceneSearch s = new LuceneSearch(DictTypeEnum.Edict, index.getAbsolutePath(), false);
+        try {
+            SearcherPool.invalidate(index);
+            assertEquals(1, s.search(SearchQuery.searchEnEdict("mother", true)).size());
+        } finally {
+            s.close();
+        }
+        assertFalse(SearcherPool.isOpened(index));
+    }
+
+    @Test
+    public void doubleCloseIsHarmless() throws IOException {
+        final LuceneSearch s = new LuceneSearch(DictTypeEnum.Edict, index.getAbsolutePath(), false);
+        s.close();
+        s.close();
+        assertEquals(1, search("mother").size());
+    }
+}
@@ -0,0 +1,131 @@
+/**
+ *     Aedict - an EDICT browser for Android
+Copyright (C) 2009 Martin Vysny
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package sk.baka.aedict.kanji;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Tests the {@link CharProperties} tables. Run {@link #main(String[])} to
+ * regenerate the tables.
+ * 
+ * @author Martin Vysny
+ */
+public class CharPropertiesTest {
+
+    @Test
+    public void rankBitsCoverCommonalityList() {
+        // the rank of the last kanji in the list must fit in the rank bits
+        assertTrue(KanjiUtils.COMMONALITY.length() + " kanjis do not fit in the rank bits", KanjiUtils.COMMONALITY.length() <= CharProperties.RANK_MASK);
+    }
+
+    @Test
+    public void tablesAreUpToDate() {
+        for (int c = Character.MIN_VALUE; c <= Character.MAX_VALUE; c++) {
+            final int expected = compute((char) c);
+            if (CharProperties.get((char) c) != expected) {
+                fail("Properties of " + (char) c + " (" + Integer.toHexString(c) + ") differ, expected " + Integer.toHexString(expected) + ": regenerate the CharProperties tables");
+            }
+        }
+    }
+
+    /**
+     * Computes the properties of given character from the source tables.
+     * 
+     * @param c
+     *            the character
+     * @return the properties, see {@link CharProperties#get(char)}.
+     */
+    private static int compute(final char c) {
+        int result = 0;
+        final int rank = KanjiUtils.COMMONALITY.indexOf(c) + 1;
+        if (rank != KanjiUtils.COMMONALITY.lastIndexOf(c) + 1) {
+            throw new IllegalStateException("Kanji " + c + " present multiple times in the commonality list");
+        }
+        result |= rank;
+        for (int level = 1; level <= 5; level++) {
+            if (KanjiUtils.getJlptKanjis(level).indexOf(c) >= 0) {
+                if ((result >> CharProperties.JLPT_SHIFT & CharProperties.JLPT_MASK) != 0) {
+                    throw new IllegalStateException("Kanji " + c + " present in multiple JLPT levels");
+                }
+                result |= level << CharProperties.JLPT_SHIFT;
+            }
+        }
+        final KanjiUtils.KanjiQuiz[] joyo = {KanjiUtils.KanjiQuiz.JoyoGrade1, KanjiUtils.KanjiQuiz.JoyoGrade2, KanjiUtils.KanjiQuiz.JoyoGrade3, KanjiUtils.KanjiQuiz.JoyoGrade4, KanjiUtils.KanjiQuiz.JoyoGrade5, KanjiUtils.KanjiQuiz.JoyoGrade6, KanjiUtils.KanjiQuiz.JoyoJuniorHighSchool};
+        for (int grade = 1; grade <= joyo.length; grade++) {
+            if (KanjiUtils.QUIZ_TABLE.get(joyo[grade - 1]).indexOf(c) >= 0) {
+                if ((result >> CharProperties.JOYO_SHIFT & CharProperties.JOYO_MASK) != 0) {
+                    throw new IllegalStateException("Kanji " + c + " present in multiple joyo grades");
+                }
+                result |= grade << CharProperties.JOYO_SHIFT;
+            }
+        }
+        if (result != 0 && !KanjiUtils.isKanji(c)) {
+            throw new IllegalStateException("Not a kanji: " + c);
+        }
+        final int kana;
+        if (isKana(c, "っゃゅょ", false)) {
+            kana = CharProperties.HIRAGANA;
+        } else if (isKana(c, "ーャュョ", true)) {
+            kana = CharProperties.KATAKANA;
+        } else if (!KanjiUtils.halfwidthToKatakana(String.valueOf(c)).equals(String.valueOf(c))) {
+            kana = CharProperties.HALFWIDTH;
+        } else {
+            kana = 0;
+        }
+        return result | kana << CharProperties.KANA_SHIFT;
+    }
+
+    private static boolean isKana(final char c, final String specials, final boolean katakana) {
+        // small ya, yu, yo etc are generally untranslateable with the toRomaji
+        // function
+        if (specials.indexOf(c) >= 0) {
+            return true;
+        }
+        final String romaji = RomanizationEnum.Hepburn.toRomaji(c);
+        if (romaji.length() == 0 || romaji.charAt(0) == c) {
+            // kanji
+            return false;
+        }
+        final String kana = katakana ? RomanizationEnum.Hepburn.toKatakana(romaji) : RomanizationEnum.Hepburn.toHiragana(romaji);
+        return kana.charAt(0) == c;
+    }
+
+    /**
+     * Prints the generated tables, to be pasted into {@link CharProperties}.
+     * 
+     * @param args
+     *            ignored.
+     */
+    public static void main(String[] args) {
+        printTable("KANJI", CharProperties.KANJI_FIRST, CharProperties.KANJI_LAST, 0);
+        printTable("KANA", CharProperties.KANA_FIRST, CharProperties.KANA_LAST, CharProperties.KANA_SHIFT);
+        printTable("HALFWIDTH_KANA", CharProperties.HALFWIDTH_FIRST, CharProperties.HALFWIDTH_LAST, CharProperties.KANA_SHIFT);
+    }
+
+    private static void printTable(final String name, final char first, final char last, final int shift) {
+        System.out.print("    private static final String " + name + " = \"");
+        for (int c = first; c <= last; c++) {
+            if (c > first && (c - first) % 32 == 0) {
+                System.out.print("\"\n            + \"");
+            }
+            System.out.printf("\\u%04X", compute((char) c) >> shift);
+        }
+        System.out.println("\";");
+    }
+}
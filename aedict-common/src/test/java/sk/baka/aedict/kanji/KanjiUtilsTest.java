@@ -96,6 +96,15 @@ public class KanjiUtilsTest {
         assertEquals("FOOBARBAZ", KanjiUtils.halfwidthToKatakana("FOOBARBAZ"));
     }
 
+    @Test
+    public void testHalfwidthAppendToBuilder() {
+        final StringBuilder sb = new StringBuilder("foo:");
+        KanjiUtils.halfwidthToKatakana("ﾊﾟﾊﾟ", sb);
+        assertEquals("foo:パパ", sb.toString());
+        KanjiUtils.toHalfwidth(new StringBuilder("コンピューター"), sb);
+        assertEquals("foo:パパｺﾝﾋﾟｭｰﾀｰ", sb.toString());
+    }
+
     @Test
     public void testJlpt() {
         assertEquals((Integer) 5, KanjiUtils.getJlptLevel('山'));
@@ -105,4 +114,23 @@ public class KanjiUtilsTest {
         assertNull(KanjiUtils.getJlptLevel('可'));
         assertEquals((Integer) 2, KanjiUtils.getJlptLevel('庁'));
     }
+
+    @Test
+    public void testJoyoGrade() {
+        assertEquals(KanjiUtils.KanjiQuiz.JoyoGrade1, KanjiUtils.getJoyoGrade('山'));
+        assertEquals(KanjiUtils.KanjiQuiz.JoyoGrade3, KanjiUtils.getJoyoGrade('商'));
+        assertEquals(KanjiUtils.KanjiQuiz.JoyoJuniorHighSchool, KanjiUtils.getJoyoGrade('亜'));
+        assertNull(KanjiUtils.getJoyoGrade('嘘'));
+        assertNull(KanjiUtils.getJoyoGrade('か'));
+    }
+
+    @Test
+    public void testCommonality() {
+        assertEquals(1, KanjiUtils.getCommonality('か'));
+        assertEquals(1, KanjiUtils.getCommonality('ｶ'));
+        assertEquals(2, KanjiUtils.getCommonality('日'));
+        assertEquals(3, KanjiUtils.getCommonality('一'));
+        assertEquals(1002, KanjiUtils.getCommonality('嘘'));
+        assertEquals(1002, KanjiUtils.getCommonality('a'));
+    }
 }
@@ -122,4 +122,26 @@ public class RomanizationEnumTest {
 	assertEquals("ぼんやり", RomanizationEnum.Hepburn.toHiragana("bon'yari"));
 	assertEquals("ぼんやり", RomanizationEnum.NihonShiki.toHiragana("bon'yari"));
     }
+
+    @Test
+    public void testAppendToBuilder() {
+        final StringBuilder sb = new StringBuilder("foo:");
+        RomanizationEnum.Hepburn.toHiragana("gakkou", sb);
+        assertEquals("foo:がっこう", sb.toString());
+        RomanizationEnum.Hepburn.toKatakana(new StringBuilder("konpyuutaa"), sb);
+        assertEquals("foo:がっこうコンピューター", sb.toString());
+        RomanizationEnum.Hepburn.toRomaji("ちょっと", sb);
+        assertEquals("foo:がっこうコンピューターchotto", sb.toString());
+    }
+
+    /**
+     * The katakana "ー" must not repeat a character which was in the builder
+     * before the conversion.
+     */
+    @Test
+    public void testProlongedSoundMarkIgnoresBuilderContents() {
+        final StringBuilder sb = new StringBuilder("a");
+        RomanizationEnum.Hepburn.toRomaji("ーコー", sb);
+        assertEquals("aーkoo", sb.toString());
+    }
 }
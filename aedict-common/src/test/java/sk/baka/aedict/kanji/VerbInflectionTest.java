@@ -17,9 +17,15 @@
  */
 package sk.baka.aedict.kanji;
 
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
 import org.junit.Test;
 
+import sk.baka.aedict.dict.EdictEntry;
 import sk.baka.aedict.kanji.VerbInflection.AbstractBaseInflector;
+import sk.baka.aedict.kanji.VerbInflection.Form;
 
 import static org.junit.Assert.*;
 
@@ -161,4 +167,25 @@ public class VerbInflectionTest {
 		assertEquals("kaetta", i.inflect("kaeru", false));
 		assertEquals("tabeta", i.inflect("taberu", true));
 	}
+
+	@Test
+	public void testInflectEntry() {
+		final Map<String, Set<Form>> forms = VerbInflection.inflect(new EdictEntry("食べる", "たべる", "(v1,vt) to eat/(P)"));
+		assertEquals(EnumSet.of(Form.NEGATIVE_PAST), forms.get("食べなかった"));
+		assertEquals(EnumSet.of(Form.NEGATIVE_PAST), forms.get("たべなかった"));
+		assertEquals(EnumSet.of(Form.POLITE_PAST_NEGATIVE), forms.get("食べませんでした"));
+		assertEquals(EnumSet.of(Form.PLAIN, Form.WHICH_WHERE_WHO), forms.get("食べる"));
+		// not a conjugation
+		assertFalse(forms.containsKey("食べることができる"));
+		assertTrue(VerbInflection.inflect(new EdictEntry("母", "はは", "(n) (hum) mother/(P)")).isEmpty());
+	}
+
+	@Test
+	public void testInflectIrregularEntry() {
+		final Map<String, Set<Form>> forms = VerbInflection.inflect(new EdictEntry("来る", "くる", "(vk,vi) to come/(P)"));
+		assertEquals(EnumSet.of(Form.NEGATIVE), forms.get("こない"));
+		// the kanji is read differently
+		assertFalse(forms.containsKey("来ない"));
+		assertEquals(EnumSet.of(Form.IF2), forms.get("来れば"));
+	}
 }
@@ -0,0 +1,239 @@
+/**
+ *     Aedict - an EDICT browser for Android
+Copyright (C) 2009 Martin Vysny
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package sk.baka.aedict.util;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Tests the {@link IndexPatch} class.
+ * @author Martin Vysny
+ */
+public class IndexPatchTest {
+
+    private File dir;
+    private File index;
+    private File server;
+    private LocalHttpServer http;
+
+    @Before
+    public void createIndex() throws Exception {
+        dir = new File("target/index-patch");
+        deleteDir(dir);
+        index = new File(dir, "index");
+        server = new File(dir, "server");
+        assertTrue(index.mkdirs());
+        assertTrue(server.mkdirs());
+        write(new File(index, "_0.cfs"), "segment 0");
+        write(new File(index, "segments_1"), "commit 1");
+        write(new File(index, "segments.gen"), "1");
+        http = new LocalHttpServer(server);
+    }
+
+    @After
+    public void stopServer() throws Exception {
+        http.close();
+    }
+
+    private static void deleteDir(final File dir) {
+        final File[] files = dir.listFiles();
+        if (files != null) {
+            for (final File file : files) {
+                deleteDir(file);
+            }
+        }
+        dir.delete();
+    }
+
+    private static void write(final File file, final String contents) throws IOException {
+        final OutputStream out = new FileOutputStream(file);
+        try {
+            out.write(contents.getBytes("UTF-8"));
+        } finally {
+            out.close();
+        }
+    }
+
+    private static String read(final File file) throws IOException {
+        final BufferedReader in = new BufferedReader(new InputStreamReader(new FileInputStream(file), "UTF-8"));
+        try {
+            return in.readLine();
+        } finally {
+            in.close();
+        }
+    }
+
+    /**
+     * Creates a patch file.
+     * @param base the base fingerprint
+     * @param target the target fingerprint
+     * @param files pairs of file name and contents
+     * @param deleted names of deleted files.
+     */
+    private File patch(final String base, final String target, final String[] files, final String... deleted) throws IOException {
+        final File patch = new File(server, IndexPatch.getFileName("index.zip", base));
+        final ZipOutputStream out = new ZipOutputStream(new FileOutputStream(patch));
+        try {
+            for (int i = 0; i < files.length; i += 2) {
+                out.putNextEntry(new ZipEntry(files[i]));
+                out.write(files[i + 1].getBytes("UTF-8"));
+                out.closeEntry();
+            }
+            final StringBuilder descriptor = new StringBuilder("base " + base + "\ntarget " + target + "\n");
+            for (final String name : deleted) {
+                descriptor.append("delete ").append(name).append('\n');
+            }
+            out.putNextEntry(new ZipEntry(IndexPatch.DESCRIPTOR));
+            out.write(descriptor.toString().getBytes("UTF-8"));
+            out.closeEntry();
+        } finally {
+            out.close();
+        }
+        return patch;
+    }
+
+    /**
+     * Computes the fingerprint of the index after applying the files.
+     */
+    private String fingerprintAfter(final String[] files, final String... deleted) throws IOException {
+        final File copy = new File(dir, "copy");
+        deleteDir(copy);
+        assertTrue(copy.mkdirs());
+        for (final File file : index.listFiles()) {
+            write(new File(copy, file.getName()), read(file));
+        }
+        for (int i = 0; i < files.length; i += 2) {
+            write(new File(copy, files[i]), files[i + 1]);
+        }
+        for (final String name : deleted) {
+            new File(copy, name).delete();
+        }
+        final String result = IndexPatch.fingerprint(copy);
+        deleteDir(copy);
+        return result;
+    }
+
+    private static final IndexPatch.Copier COPIER = new IndexPatch.Copier() {
+
+        public void copy(InputStream in, long length, OutputStream out) throws IOException {
+            final byte[] buf = new byte[1024];
+            int len;
+            while ((len = in.read(buf)) >= 0) {
+                out.write(buf, 0, len);
+            }
+        }
+    };
+
+    @Test
+    public void fingerprintDependsOnNamesAndLengths() throws Exception {
+        final String fingerprint = IndexPatch.fingerprint(index);
+        assertEquals(8, fingerprint.length());
+        write(new File(index, "segments.gen"), "2");
+        assertEquals(fingerprint, IndexPatch.fingerprint(index));
+        write(new File(index, "segments.gen"), "22");
+        assertFalse(fingerprint.equals(IndexPatch.fingerprint(index)));
+        assertEquals(IndexPatch.fingerprint(new File(dir, "nonexisting")), IndexPatch.fingerprint(server));
+    }
+
+    @Test
+    public void applyPatchChain() throws Exception {
+        final String base = IndexPatch.fingerprint(index);
+        final String[] files1 = {"segments.gen", "22", "segments_2", "commit 2", "_1.cfs", "segment 1"};
+        final String fingerprint1 = fingerprintAfter(files1, "segments_1");
+        patch(base, fingerprint1, files1, "segments_1");
+        // apply the first patch so that the second one can be computed
+        IndexPatch.apply(index, new File(server, IndexPatch.getFileName("index.zip", base)));
+        assertEquals(fingerprint1, IndexPatch.fingerprint(index));
+        final String[] files2 = {"segments.gen", "333", "segments_3", "commit 3", "_2.cfs", "merged"};
+        final String fingerprint2 = fingerprintAfter(files2, "segments_2", "_0.cfs", "_1.cfs");
+        patch(fingerprint1, fingerprint2, files2, "segments_2", "_0.cfs", "_1.cfs");
+        // revert to the original index and apply the whole chain over HTTP
+        deleteDir(index);
+        assertTrue(index.mkdirs());
+        write(new File(index, "_0.cfs"), "segment 0");
+        write(new File(index, "segments_1"), "commit 1");
+        write(new File(index, "segments.gen"), "1");
+        assertEquals(2, IndexPatch.update(index, http.getURL("index.zip"), COPIER));
+        assertEquals(fingerprint2, IndexPatch.fingerprint(index));
+        final String[] names = index.list();
+        Arrays.sort(names);
+        assertArrayEquals(new String[]{"_2.cfs", "segments.gen", "segments_3"}, names);
+        assertEquals("merged", read(new File(index, "_2.cfs")));
+        assertEquals("333", read(new File(index, "segments.gen")));
+        assertFalse(new File(dir, ".index.staging").exists());
+        assertFalse(new File(dir, ".index.patch").exists());
+        // the index is up-to-date
+        assertEquals(0, IndexPatch.update(index, http.getURL("index.zip"), COPIER));
+    }
+
+    @Test
+    public void noPatchAvailable() throws Exception {
+        final String fingerprint = IndexPatch.fingerprint(index);
+        assertEquals(0, IndexPatch.update(index, http.getURL("index.zip"), COPIER));
+        assertEquals(fingerprint, IndexPatch.fingerprint(index));
+    }
+
+    @Test
+    public void patchForDifferentIndexIsRejected() throws Exception {
+        final String fingerprint = IndexPatch.fingerprint(index);
+        final File patch = patch("01234567", "76543210", new String[]{"_1.cfs", "segment 1"});
+        try {
+            IndexPatch.apply(index, patch);
+            fail("Expected IOException");
+        } catch (IOException ex) {
+            // okay
+        }
+        assertEquals(fingerprint, IndexPatch.fingerprint(index));
+        assertFalse(new File(index, "_1.cfs").exists());
+    }
+
+    @Test
+    public void invalidEntryNameIsRejected() throws Exception {
+        final String base = IndexPatch.fingerprint(index);
+        final File patch = patch(base, base, new String[]{"../evil", "evil"});
+        try {
+            IndexPatch.apply(index, patch);
+            fail("Expected IOException");
+        } catch (IOException ex) {
+            // okay
+        }
+        assertFalse(new File(dir, "evil").exists());
+    }
+
+    @Test
+    public void trieIsMovedRightBeforeSegments() {
+        final List<String> files = new ArrayList<String>(Arrays.asList("segments.gen", "headwords.trie", "segments_3", "_2.cfs", "_2_1.del"));
+        IndexPatch.sortByMoveOrder(files);
+        assertEquals(Arrays.asList("_2.cfs", "_2_1.del", "headwords.trie", "segments_3", "segments.gen"), files);
+    }
+}
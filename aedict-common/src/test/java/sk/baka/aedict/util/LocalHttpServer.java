@@ -0,0 +1,166 @@
+/**
+ *     Aedict - an EDICT browser for Android
+Copyright (C) 2009 Martin Vysny
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package sk.baka.aedict.util;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A minimal HTTP server for tests. Serves files from given directory, responds with 404 to requests for missing files.
+ * Supports the <code>Range</code> and <code>If-Range</code> headers; the ETag of a file is derived from its length and
+ * last modification time.
+ * @author Martin Vysny
+ */
+public class LocalHttpServer implements Runnable {
+
+    private final File root;
+    private final ServerSocket socket;
+    /**
+     * If non-negative then the connection is dropped after this number of bytes of the response body.
+     */
+    public volatile long dropAfter = -1;
+    /**
+     * The request lines and headers received by the server, one string per request.
+     */
+    public final List<String> requests = Collections.synchronizedList(new ArrayList<String>());
+
+    /**
+     * Starts the server on a random free port.
+     * @param root serve files from this directory.
+     * @throws IOException on i/o error.
+     */
+    public LocalHttpServer(final File root) throws IOException {
+        this.root = root;
+        socket = new ServerSocket(0);
+        final Thread thread = new Thread(this, "http-server");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Returns URL of given file.
+     * @param file the file name, relative to the root directory.
+     * @return the URL.
+     * @throws IOException never thrown.
+     */
+    public URL getURL(final String file) throws IOException {
+        return new URL("http://localhost:" + socket.getLocalPort() + "/" + file);
+    }
+
+    /**
+     * Returns the ETag of given file.
+     * @param file the file
+     * @return the ETag value.
+     */
+    public static String getETag(final File file) {
+        return "\"" + file.length() + "-" + file.lastModified() + "\"";
+    }
+
+    public void run() {
+        while (!socket.isClosed()) {
+            try {
+                final Socket s = socket.accept();
+                try {
+                    serve(s);
+                } finally {
+                    s.close();
+                }
+            } catch (IOException ex) {
+                // the server socket was closed, or the client disconnected
+            }
+        }
+    }
+
+    private void serve(final Socket s) throws IOException {
+        final BufferedReader in = new BufferedReader(new InputStreamReader(s.getInputStream(), "ISO-8859-1"));
+        final String request = in.readLine();
+        final StringBuilder headers = new StringBuilder(request);
+        String range = null;
+        String ifRange = null;
+        for (String line = in.readLine(); line != null && line.length() > 0; line = in.readLine()) {
+            headers.append('\n').append(line);
+            final String lower = line.toLowerCase();
+            if (lower.startsWith("range: bytes=")) {
+                range = line.substring("range: bytes=".length());
+            } else if (lower.startsWith("if-range: ")) {
+                ifRange = line.substring("if-range: ".length());
+            }
+        }
+        requests.add(headers.toString());
+        final File file = new File(root, request.split(" ")[1].substring(1));
+        final OutputStream out = s.getOutputStream();
+        if (!file.isFile()) {
+            out.write("HTTP/1.0 404 Not Found\r\nContent-Length: 0\r\n\r\n".getBytes("ISO-8859-1"));
+            out.flush();
+            return;
+        }
+        final String etag = getETag(file);
+        long start = 0;
+        if (range != null && (ifRange == null || ifRange.equals(etag))) {
+            start = Long.parseLong(range.substring(0, range.indexOf('-')));
+            if (start >= file.length()) {
+                out.write("HTTP/1.0 416 Requested Range Not Satisfiable\r\nContent-Length: 0\r\n\r\n".getBytes("ISO-8859-1"));
+                out.flush();
+                return;
+            }
+            out.write(("HTTP/1.0 206 Partial Content\r\nContent-Range: bytes " + start + "-" + (file.length() - 1) + "/" + file.length() + "\r\n").getBytes("ISO-8859-1"));
+        } else {
+            out.write("HTTP/1.0 200 OK\r\n".getBytes("ISO-8859-1"));
+        }
+        out.write(("ETag: " + etag + "\r\nContent-Length: " + (file.length() - start) + "\r\n\r\n").getBytes("ISO-8859-1"));
+        final RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try {
+            raf.seek(start);
+            final long limit = dropAfter;
+            long sent = 0;
+            final byte[] buf = new byte[1024];
+            int len;
+            while ((len = raf.read(buf)) >= 0) {
+                if (limit >= 0 && sent + len > limit) {
+                    out.write(buf, 0, (int) (limit - sent));
+                    out.flush();
+                    // drop the connection
+                    return;
+                }
+                out.write(buf, 0, len);
+                sent += len;
+            }
+        } finally {
+            raf.close();
+        }
+        out.flush();
+    }
+
+    /**
+     * Stops the server.
+     * @throws IOException on i/o error.
+     */
+    public void close() throws IOException {
+        socket.close();
+    }
+}
@@ -0,0 +1,174 @@
+/**
+ *     Aedict - an EDICT browser for Android
+Copyright (C) 2009 Martin Vysny
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package sk.baka.aedict.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Tests the {@link PriorityExecutor} class.
+ * @author Martin Vysny
+ */
+public class PriorityExecutorTest {
+
+    private PriorityExecutor executor;
+    private final List<String> log = Collections.synchronizedList(new ArrayList<String>());
+    private final CountDownLatch blocker = new CountDownLatch(1);
+    private final CountDownLatch blockerStarted = new CountDownLatch(1);
+
+    @Before
+    public void createExecutor() throws Exception {
+        executor = new PriorityExecutor(1);
+        // occupy the only thread so that the other tasks are queued
+        assertTrue(executor.submit("blocker", 0, new Runnable() {
+
+            public void run() {
+                blockerStarted.countDown();
+                try {
+                    blocker.await();
+                    log.add("blocker");
+                } catch (InterruptedException ex) {
+                    log.add("interrupted");
+                }
+            }
+        }));
+        assertTrue(blockerStarted.await(5, TimeUnit.SECONDS));
+        assertTrue(executor.isRunning());
+    }
+
+    @After
+    public void shutdown() throws Exception {
+        assertTrue(executor.shutdown(5, TimeUnit.SECONDS));
+    }
+
+    private final class Logger implements Runnable {
+
+        private final String name;
+
+        public Logger(String name) {
+            this.name = name;
+        }
+
+        public void run() {
+            log.add(name);
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    private void submit(final String name, final int priority, final boolean expected) {
+        assertEquals(expected, executor.submit(name, priority, new Logger(name)));
+    }
+
+    private void awaitIdle() throws InterruptedException {
+        for (int i = 0; i < 500 && (executor.isRunning() || !executor.getQueued().isEmpty()); i++) {
+            Thread.sleep(10);
+        }
+        assertFalse(executor.isRunning());
+    }
+
+    @Test
+    public void tasksAreStartedInPriorityOrder() throws Exception {
+        submit("a", 0, true);
+        submit("b", 1, true);
+        submit("c", 0, true);
+        submit("d", 2, true);
+        assertEquals("[d, b, a, c]", executor.getQueued().toString());
+        blocker.countDown();
+        awaitIdle();
+        assertEquals(Arrays.asList("blocker", "d", "b", "a", "c"), log);
+    }
+
+    @Test
+    public void queuedTaskIsReprioritized() throws Exception {
+        submit("a", 0, true);
+        submit("b", 0, true);
+        // duplicates are ignored
+        submit("a", 0, false);
+        submit("blocker", 5, false);
+        submit("b", 1, true);
+        assertEquals("[b, a]", executor.getQueued().toString());
+        blocker.countDown();
+        awaitIdle();
+        assertEquals(Arrays.asList("blocker", "b", "a"), log);
+    }
+
+    @Test
+    public void cancel() throws Exception {
+        submit("a", 0, true);
+        submit("b", 0, true);
+        assertTrue(executor.cancel("a"));
+        assertFalse(executor.cancel("nonexisting"));
+        assertEquals("[b]", executor.getQueued().toString());
+        // the running task is interrupted
+        assertTrue(executor.cancel("blocker"));
+        awaitIdle();
+        assertEquals(Arrays.asList("interrupted", "b"), log);
+        // a cancelled task may be submitted again
+        submit("a", 0, true);
+        awaitIdle();
+        assertEquals(Arrays.asList("interrupted", "b", "a"), log);
+    }
+
+    @Test
+    public void taskResubmittedWhileCancelledTaskTerminatesIsStartedAfterwards() throws Exception {
+        final CountDownLatch slowStarted = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        assertTrue(executor.submit("slow", 0, new Runnable() {
+
+            public void run() {
+                slowStarted.countDown();
+                boolean interrupted = false;
+                while (true) {
+                    try {
+                        release.await();
+                        break;
+                    } catch (InterruptedException ex) {
+                        // keep running for a while after the cancellation
+                        interrupted = true;
+                    }
+                }
+                log.add(interrupted ? "slow interrupted" : "slow");
+            }
+        }));
+        blocker.countDown();
+        assertTrue(slowStarted.await(5, TimeUnit.SECONDS));
+        assertTrue(executor.cancel("slow"));
+        assertTrue(executor.submit("slow", 0, new Logger("slow again")));
+        assertEquals("[slow again]", executor.getQueued().toString());
+        // the replacement of a waiting task waits as well
+        assertTrue(executor.submit("slow", 1, new Logger("slow again 2")));
+        assertEquals("[slow again 2]", executor.getQueued().toString());
+        Thread.sleep(50);
+        assertEquals(Arrays.asList("blocker"), log);
+        release.countDown();
+        awaitIdle();
+        assertEquals(Arrays.asList("blocker", "slow interrupted", "slow again 2"), log);
+    }
+}
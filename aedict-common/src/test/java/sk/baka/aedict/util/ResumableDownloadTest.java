@@ -0,0 +1,201 @@
+/**
+ *     Aedict - an EDICT browser for Android
+Copyright (C) 2009 Martin Vysny
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package sk.baka.aedict.util;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Tests the {@link ResumableDownload} class.
+ * @author Martin Vysny
+ */
+public class ResumableDownloadTest {
+
+    private File server;
+    private File partial;
+    private LocalHttpServer http;
+    private byte[] contents;
+
+    @Before
+    public void startServer() throws Exception {
+        final File dir = new File("target/resumable-download");
+        server = new File(dir, "server");
+        server.mkdirs();
+        partial = new File(dir, ".file.download");
+        new ResumableDownload(null, partial).delete();
+        contents = new byte[100000];
+        for (int i = 0; i < contents.length; i++) {
+            contents[i] = (byte) (i * 31 + i / 256);
+        }
+        write(new File(server, "file.zip"), contents);
+        new File(server, "file.zip" + ResumableDownload.CHECKSUM_SUFFIX).delete();
+        http = new LocalHttpServer(server);
+    }
+
+    @After
+    public void stopServer() throws Exception {
+        http.close();
+    }
+
+    private static void write(final File file, final byte[] contents) throws IOException {
+        final OutputStream out = new FileOutputStream(file);
+        try {
+            out.write(contents);
+        } finally {
+            out.close();
+        }
+    }
+
+    private static byte[] read(final File file) throws IOException {
+        final byte[] result = new byte[(int) file.length()];
+        final InputStream in = new FileInputStream(file);
+        try {
+            int offset = 0;
+            while (offset < result.length) {
+                offset += in.read(result, offset, result.length - offset);
+            }
+        } finally {
+            in.close();
+        }
+        return result;
+    }
+
+    private void publishChecksum() throws IOException {
+        write(new File(server, "file.zip" + ResumableDownload.CHECKSUM_SUFFIX), (ResumableDownload.md5(new File(server, "file.zip")) + "  file.zip\n").getBytes("UTF-8"));
+    }
+
+    /**
+     * Records the arguments of the last copy invocation.
+     */
+    private static class Copier implements ResumableDownload.Copier {
+
+        public long downloadedUntilNow = -1;
+        public long length = -2;
+
+        public long copy(long downloadedUntilNow, long length, InputStream in, OutputStream out) throws IOException {
+            this.downloadedUntilNow = downloadedUntilNow;
+            this.length = length;
+            long downloaded = downloadedUntilNow;
+            final byte[] buf = new byte[1024];
+            int len;
+            while ((len = in.read(buf)) >= 0) {
+                out.write(buf, 0, len);
+                downloaded += len;
+            }
+            return downloaded;
+        }
+    }
+
+    private ResumableDownload newDownload() throws IOException {
+        return new ResumableDownload(http.getURL("file.zip"), partial);
+    }
+
+    @Test
+    public void download() throws Exception {
+        publishChecksum();
+        final Copier copier = new Copier();
+        final File file = newDownload().download(copier);
+        assertTrue(Arrays.equals(contents, read(file)));
+        assertEquals(0, copier.downloadedUntilNow);
+        assertEquals(contents.length, copier.length);
+    }
+
+    @Test
+    public void droppedConnectionIsResumed() throws Exception {
+        publishChecksum();
+        http.dropAfter = 40000;
+        try {
+            newDownload().download(new Copier());
+            fail("Expected IOException");
+        } catch (IOException ex) {
+            // okay, the connection was dropped
+        }
+        assertEquals(40000, partial.length());
+        http.dropAfter = -1;
+        final Copier copier = new Copier();
+        final File file = newDownload().download(copier);
+        assertTrue(Arrays.equals(contents, read(file)));
+        assertEquals(40000, copier.downloadedUntilNow);
+        assertEquals(contents.length, copier.length);
+        assertTrue(http.requests.get(http.requests.size() - 1).contains("Range: bytes=40000-"));
+    }
+
+    @Test
+    public void changedFileIsDownloadedAgain() throws Exception {
+        http.dropAfter = 40000;
+        try {
+            newDownload().download(new Copier());
+            fail("Expected IOException");
+        } catch (IOException ex) {
+            // okay, the connection was dropped
+        }
+        http.dropAfter = -1;
+        // the remote file changes: the ETag changes as well
+        final byte[] changed = new byte[contents.length + 1];
+        System.arraycopy(contents, 0, changed, 0, contents.length);
+        changed[0]++;
+        contents = changed;
+        write(new File(server, "file.zip"), contents);
+        final Copier copier = new Copier();
+        final File file = newDownload().download(copier);
+        assertTrue(Arrays.equals(contents, read(file)));
+        assertEquals(0, copier.downloadedUntilNow);
+    }
+
+    @Test
+    public void completedPartialFileIsNotDownloadedAgain() throws Exception {
+        publishChecksum();
+        http.dropAfter = contents.length;
+        newDownload().download(new Copier());
+        // simulate a failure after the download completed but before the validator was deleted
+        write(new File(partial.getPath() + ".validator"), LocalHttpServer.getETag(new File(server, "file.zip")).getBytes("UTF-8"));
+        final Copier copier = new Copier();
+        final File file = newDownload().download(copier);
+        assertTrue(Arrays.equals(contents, read(file)));
+        // copy was not invoked
+        assertEquals(-1, copier.downloadedUntilNow);
+    }
+
+    @Test
+    public void checksumMismatchDeletesPartialFile() throws Exception {
+        write(new File(server, "file.zip" + ResumableDownload.CHECKSUM_SUFFIX), "0123456789abcdef0123456789abcdef\n".getBytes("UTF-8"));
+        try {
+            newDownload().download(new Copier());
+            fail("Expected IOException");
+        } catch (IOException ex) {
+            assertTrue(ex.getMessage(), ex.getMessage().contains("checksum"));
+        }
+        assertFalse(partial.exists());
+    }
+
+    @Test
+    public void md5() throws Exception {
+        final File file = new File(server, "abc");
+        write(file, "abc".getBytes("UTF-8"));
+        assertEquals("900150983cd24fb0d6963f7d28e17f72", ResumableDownload.md5(file));
+    }
+}
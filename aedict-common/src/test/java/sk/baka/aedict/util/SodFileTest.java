@@ -0,0 +1,143 @@
+/**
+ *     Aedict - an EDICT browser for Android
+Copyright (C) 2009 Martin Vysny
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package sk.baka.aedict.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Tests the {@link SodFile} class.
+ * @author Martin Vysny
+ */
+public class SodFileTest {
+
+    private static final String KANJIS = "母今日川口一";
+
+    /**
+     * Each image is filled with the index of the kanji, the length of the image is the index + 1.
+     */
+    private static byte[] image(final int index) {
+        final byte[] result = new byte[index + 1];
+        Arrays.fill(result, (byte) index);
+        return result;
+    }
+
+    private static SodFile.Writer writer() {
+        final SodFile.Writer writer = new SodFile.Writer();
+        for (int i = 0; i < KANJIS.length(); i++) {
+            writer.add(KANJIS.charAt(i), image(i));
+        }
+        return writer;
+    }
+
+    private static byte[] write(final boolean checksums) throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer().write(out, checksums);
+        return out.toByteArray();
+    }
+
+    private static void assertImages(final SodFile file) throws IOException {
+        assertEquals(KANJIS.length(), file.getKanjiCount());
+        for (int i = 0; i < KANJIS.length(); i++) {
+            assertArrayEquals(image(i), file.load(KANJIS.charAt(i)));
+        }
+        assertNull(file.load('二'));
+    }
+
+    @Test
+    public void currentFormat() throws IOException {
+        for (final boolean checksums : new boolean[]{false, true}) {
+            final byte[] data = write(checksums);
+            assertEquals(0, data.length % SodFile.ALIGNMENT);
+            final SodFile file = new SodFile(ByteBuffer.wrap(data));
+            assertEquals(SodFile.VERSION, file.getVersion());
+            assertImages(file);
+        }
+    }
+
+    @Test
+    public void imagesAreAligned() throws IOException {
+        final ByteBuffer data = ByteBuffer.wrap(write(true));
+        for (int i = 0; i < KANJIS.length(); i++) {
+            assertEquals(0, data.getInt(20 + i * 16 + 4) % SodFile.ALIGNMENT);
+        }
+    }
+
+    @Test
+    public void version1Format() throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer().writeVersion1(out);
+        final SodFile file = new SodFile(ByteBuffer.wrap(out.toByteArray()));
+        assertEquals(1, file.getVersion());
+        assertImages(file);
+    }
+
+    @Test
+    public void maxSize() throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer().writeVersion1(out);
+        final long max = SodFile.getMaxSize(out.size(), KANJIS.length());
+        assertTrue(write(true).length <= max);
+        assertTrue(write(false).length <= max);
+    }
+
+    private static byte[] header(final byte[] data) {
+        final byte[] result = new byte[SodFile.HEADER_SIZE];
+        System.arraycopy(data, 0, result, 0, result.length);
+        return result;
+    }
+
+    @Test
+    public void kanjiCountFromHeader() throws IOException {
+        final byte[] header = header(write(true));
+        assertEquals(KANJIS.length(), SodFile.getKanjiCount(header));
+    }
+
+    @Test(expected = IOException.class)
+    public void kanjiCountFromVersion1Header() throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writer().writeVersion1(out);
+        SodFile.getKanjiCount(header(out.toByteArray()));
+    }
+
+    @Test
+    public void corruptedImageIsDetected() throws IOException {
+        final byte[] data = write(true);
+        data[data.length - SodFile.ALIGNMENT]++;
+        final SodFile file = new SodFile(ByteBuffer.wrap(data));
+        // the first image is fine
+        assertArrayEquals(image(5), file.load('一'));
+        try {
+            file.load('母');
+            fail("The image is corrupted");
+        } catch (IOException ex) {
+            // okay
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void truncatedFile() throws IOException {
+        final byte[] data = write(false);
+        final ByteBuffer buffer = ByteBuffer.wrap(data, 0, 40).slice();
+        new SodFile(buffer);
+    }
+}
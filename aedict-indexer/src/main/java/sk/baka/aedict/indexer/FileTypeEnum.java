@@ -17,6 +17,7 @@ along with this program.  If not, see <http://www.gnu.org/licenses/>.
  */
 package sk.baka.aedict.indexer;
 
+import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
@@ -28,11 +29,14 @@ import org.apache.lucene.document.CompressionTools;
 import org.apache.lucene.document.Document;
 import org.apache.lucene.document.Field;
 import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.store.FSDirectory;
 import sk.baka.aedict.dict.DictTypeEnum;
 import sk.baka.aedict.dict.EdictEntry;
+import sk.baka.aedict.dict.HeadwordTrie;
 import sk.baka.aedict.dict.KanjidicEntry;
 import sk.baka.aedict.indexer.Main.Config;
 import sk.baka.aedict.kanji.KanjiUtils;
+import sk.baka.aedict.kanji.VerbInflection;
 import sk.baka.autils.ListBuilder;
 
 /**
@@ -59,32 +63,81 @@ public enum FileTypeEnum {
         }
 
         public IDictParser newParser(Config cfg) {
-            return new IDictParser() {
+            return new ParallelDictParser<EdictDocument>() {
 
-                public void addLine(String line, IndexWriter writer) throws IOException {
+                private final HeadwordTrie.Builder headwords = new HeadwordTrie.Builder();
+
+                public EdictDocument parse(List<String> record) {
+                    final String line = record.get(0);
                     if (line.startsWith("　？？？")) {
-                        return;
+                        return null;
                     }
                     final Document doc = new Document();
                     try {
                         final EdictEntry entry = DictTypeEnum.parseEdictEntry(line);
                         doc.add(new Field("contents", line, Field.Store.YES, Field.Index.ANALYZED));
+                        doc.add(IndexManifest.newIdField(record));
                         doc.add(new Field("common", entry.isCommon ? "t" : "f", Field.Store.NO, Field.Index.NOT_ANALYZED));
+                        // allows Lucene to return the top entries in the DictEntry.compareTo() order
+                        doc.add(new Field(DictTypeEnum.EDICT_RANK_FIELD, String.valueOf(entry.getRank()), Field.Store.NO, Field.Index.NOT_ANALYZED_NO_NORMS));
                         final ListBuilder jp = new ListBuilder(" ");
                         if (entry.kanji != null) {
                             jp.add("W" + entry.kanji + "W");
                         }
                         jp.add("W" + entry.reading + "W");
                         doc.add(new Field("jp", jp.toString(), Field.Store.NO, Field.Index.ANALYZED));
-                        writer.addDocument(doc);
+                        // searched by the current clients; the "jp" field is kept for older clients
+                        if (entry.kanji != null) {
+                            doc.add(new Field(DictTypeEnum.EDICT_JP_BIGRAM_FIELD, entry.kanji, Field.Store.NO, Field.Index.ANALYZED_NO_NORMS));
+                        }
+                        doc.add(new Field(DictTypeEnum.EDICT_JP_BIGRAM_FIELD, entry.reading, Field.Store.NO, Field.Index.ANALYZED_NO_NORMS));
+                        // allows batch lookup of exact kanji/reading matches, see LuceneSearch.lookupExact()
+                        if (entry.kanji != null) {
+                            doc.add(new Field(DictTypeEnum.EDICT_HEADWORD_FIELD, entry.kanji.toLowerCase(), Field.Store.NO, Field.Index.NOT_ANALYZED_NO_NORMS));
+                        }
+                        doc.add(new Field(DictTypeEnum.EDICT_HEADWORD_FIELD, entry.reading.toLowerCase(), Field.Store.NO, Field.Index.NOT_ANALYZED_NO_NORMS));
+                        // allows to look up an inflected verb with a single term, see LuceneSearch.lookupInflected()
+                        for (final String inflected : VerbInflection.inflect(entry).keySet()) {
+                            doc.add(new Field(DictTypeEnum.EDICT_INFLECTED_FIELD, inflected, Field.Store.NO, Field.Index.NOT_ANALYZED_NO_NORMS));
+                        }
+                        // allows exact English lookup without fetching and filtering all documents containing the word
+                        for (final String gloss : DictTypeEnum.getEdictGlosses(entry.english)) {
+                            doc.add(new Field(DictTypeEnum.EDICT_GLOSS_FIELD, gloss, Field.Store.NO, Field.Index.NOT_ANALYZED_NO_NORMS));
+                        }
+                        return new EdictDocument(doc, entry);
                     } catch (Exception ex) {
                         System.out.println("Failed to parse edict line " + line + ", skipping: " + ex);
                         ex.printStackTrace();
+                        return null;
+                    }
+                }
+
+                public void write(EdictDocument parsed, IndexWriter writer) throws IOException {
+                    if (parsed != null) {
+                        retain(parsed);
+                        addDocument(parsed.doc, writer);
                     }
                 }
 
-                public void onFinish(final IndexWriter writer) {
-                    // do nothing
+                @Override
+                public boolean supportsIncrementalUpdate() {
+                    return true;
+                }
+
+                @Override
+                protected void retain(EdictDocument parsed) {
+                    if (parsed != null) {
+                        headwords.add(parsed.entry.kanji);
+                        headwords.add(parsed.entry.reading);
+                    }
+                }
+
+                @Override
+                protected void finish(final IndexWriter writer) throws IOException {
+                    // the trie is stored alongside the index files and zipped together with them
+                    final File trie = new File(((FSDirectory) writer.getDirectory()).getFile(), HeadwordTrie.FILE_NAME);
+                    headwords.write(trie);
+                    System.out.println("Written a headword trie of " + trie.length() + " bytes");
                 }
             };
         }
@@ -120,20 +173,19 @@ public enum FileTypeEnum {
         }
 
         public IDictParser newParser(final Config cfg) {
-            return new IDictParser() {
+            return new ParallelDictParser<KanjidicDocument>() {
 
                 private final char[] commonality = new char[1000];
                 private int lowestKanjiCodePoint = Integer.MAX_VALUE;
                 private int highestKanjiCodePoint = 0;
 
-                public void addLine(String line, IndexWriter writer) throws IOException {
+                public KanjidicDocument parse(List<String> record) {
+                    final String line = record.get(0);
                     final Document doc = new Document();
                     final String kanji = getKanji(line);
-                    final int kanjiCodePoint = kanji.codePointAt(0);
-                    lowestKanjiCodePoint = Math.min(kanjiCodePoint, lowestKanjiCodePoint);
-                    highestKanjiCodePoint = Math.max(kanjiCodePoint, highestKanjiCodePoint);
                     // the kanji itself
                     doc.add(new Field("kanji", kanji, Field.Store.YES, Field.Index.NOT_ANALYZED));
+                    doc.add(IndexManifest.newIdField(record));
                     // may contain several stroke numbers, separated by spaces. First one is the correct stroke number,
                     // following numbers are common mistakes.
                     doc.add(new Field("strokes", getFields(line, 'S', false), Field.Store.YES, Field.Index.ANALYZED));
@@ -142,12 +194,7 @@ public enum FileTypeEnum {
                     // the skip number in the form of x-x-x
                     doc.add(new Field("skip", getFields(line, 'P', true), Field.Store.YES, Field.Index.NOT_ANALYZED));
                     final String unparsedRank = getFields(line, 'F', true);
-                    if (unparsedRank.trim().length() > 0) {
-                        final int rank = Integer.valueOf(getFields(line, 'F', true));
-                        if (rank <= commonality.length) {
-                            commonality[rank - 1] = kanji.charAt(0);
-                        }
-                    }
+                    final int rank = unparsedRank.trim().length() > 0 ? Integer.parseInt(unparsedRank.trim()) : 0;
                     final ListBuilder reading = new ListBuilder(", ");
                     final ListBuilder namesReading = new ListBuilder(", ");
                     boolean readingInNames = false;
@@ -184,10 +231,31 @@ public enum FileTypeEnum {
                     doc.add(new Field("english", CompressionTools.compressString(english.toString()), Field.Store.YES));
                     doc.add(new Field("reading", CompressionTools.compressString(reading.toString()), Field.Store.YES));
                     doc.add(new Field("namereading", CompressionTools.compressString(namesReading.toString()), Field.Store.YES));
-                    writer.addDocument(doc);
+                    return new KanjidicDocument(doc, kanji, rank);
                 }
 
-                public void onFinish(final IndexWriter writer) throws IOException {
+                public void write(KanjidicDocument parsed, IndexWriter writer) throws IOException {
+                    retain(parsed);
+                    addDocument(parsed.doc, writer);
+                }
+
+                @Override
+                public boolean supportsIncrementalUpdate() {
+                    return true;
+                }
+
+                @Override
+                protected void retain(KanjidicDocument parsed) {
+                    final int kanjiCodePoint = parsed.kanji.codePointAt(0);
+                    lowestKanjiCodePoint = Math.min(kanjiCodePoint, lowestKanjiCodePoint);
+                    highestKanjiCodePoint = Math.max(kanjiCodePoint, highestKanjiCodePoint);
+                    if (parsed.rank > 0 && parsed.rank <= commonality.length) {
+                        commonality[parsed.rank - 1] = parsed.kanji.charAt(0);
+                    }
+                }
+
+                @Override
+                protected void finish(final IndexWriter writer) throws IOException {
                     // check if there are no missing characters
                     for (int i = 0; i < commonality.length; i++) {
                         if (commonality[i] == 0) {
@@ -301,6 +369,39 @@ public enum FileTypeEnum {
         }
     };
 
+    /**
+     * A parsed EDICT entry, see {@link ParallelDictParser}.
+     */
+    private static final class EdictDocument {
+
+        public final Document doc;
+        public final EdictEntry entry;
+
+        public EdictDocument(Document doc, EdictEntry entry) {
+            this.doc = doc;
+            this.entry = entry;
+        }
+    }
+
+    /**
+     * A parsed KANJIDIC entry, see {@link ParallelDictParser}.
+     */
+    private static final class KanjidicDocument {
+
+        public final Document doc;
+        public final String kanji;
+        /**
+         * The commonality rank, 0 if the kanji is not ranked.
+         */
+        public final int rank;
+
+        public KanjidicDocument(Document doc, String kanji, int rank) {
+            this.doc = doc;
+            this.kanji = kanji;
+            this.rank = rank;
+        }
+    }
+
     /**
      * Produces new parser for this dictionary type.
      * @return a new instance of the parser, never null.
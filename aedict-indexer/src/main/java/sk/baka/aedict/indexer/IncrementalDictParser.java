@@ -0,0 +1,113 @@
+/**
+Aedict - an EDICT browser for Android
+Copyright (C) 2009 Martin Vysny
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package sk.baka.aedict.indexer;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.IndexWriter;
+
+/**
+ * Wraps a parser which {@link ParallelDictParser#supportsIncrementalUpdate() supports incremental update} and computes
+ * the record hashes for the {@link IndexManifest}. Optionally writes only the records with given hashes, the other records
+ * are {@link ParallelDictParser#retain(Object) retained}.
+ * @param <T> the type of the record parsed by the wrapped parser.
+ * @author Martin Vysny
+ */
+final class IncrementalDictParser<T> extends ParallelDictParser<IncrementalDictParser.Record<T>> {
+
+    /**
+     * A parsed record along with its hash.
+     * @param <T> the type of the record parsed by the wrapped parser.
+     */
+    static final class Record<T> {
+
+        public final long hash;
+        public final T parsed;
+
+        public Record(long hash, T parsed) {
+            this.hash = hash;
+            this.parsed = parsed;
+        }
+    }
+    private final ParallelDictParser<T> parser;
+    private final long[] added;
+    private final IndexManifest.LongList hashes = new IndexManifest.LongList();
+    private int writtenCount = 0;
+
+    /**
+     * Creates the parser.
+     * @param parser the wrapped parser.
+     * @param added sorted hashes of records to write, see {@link IndexManifest#diff(long[])}. If null then all records
+     * are written.
+     */
+    public IncrementalDictParser(final ParallelDictParser<T> parser, final long[] added) {
+        if (!parser.supportsIncrementalUpdate()) {
+            throw new IllegalArgumentException("Parameter parser: " + parser + " does not support incremental update");
+        }
+        this.parser = parser;
+        this.added = added;
+    }
+
+    @Override
+    public boolean continuesRecord(String line) {
+        return parser.continuesRecord(line);
+    }
+
+    public Record<T> parse(List<String> record) throws IOException {
+        return new Record<T>(IndexManifest.hash(record), parser.parse(record));
+    }
+
+    public void write(Record<T> record, IndexWriter writer) throws IOException {
+        hashes.add(record.hash);
+        if (added == null || Arrays.binarySearch(added, record.hash) >= 0) {
+            parser.write(record.parsed, writer);
+            writtenCount++;
+        } else {
+            parser.retain(record.parsed);
+        }
+    }
+
+    @Override
+    void collectDocuments(final List<Document> documents) {
+        super.collectDocuments(documents);
+        parser.collectDocuments(documents);
+    }
+
+    @Override
+    protected void finish(IndexWriter writer) throws IOException {
+        parser.finish(writer);
+    }
+
+    /**
+     * Returns hashes of all records, in the order of the records.
+     * @return the record hashes.
+     */
+    public long[] getHashes() {
+        return hashes.toArray();
+    }
+
+    /**
+     * Returns the number of records passed to {@link ParallelDictParser#write(Object, IndexWriter)}.
+     * @return the number of written records.
+     */
+    public int getWrittenCount() {
+        return writtenCount;
+    }
+}
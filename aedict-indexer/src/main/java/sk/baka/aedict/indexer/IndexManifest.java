@@ -0,0 +1,268 @@
+/**
+Aedict - an EDICT browser for Android
+Copyright (C) 2009 Martin Vysny
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package sk.baka.aedict.indexer;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.lucene.document.Field;
+import sk.baka.aedict.util.IOExceptionWithCause;
+
+/**
+ * Describes the contents of an existing Lucene index, allowing the index to be updated incrementally: holds hashes of all
+ * records (see {@link ParallelDictParser}) of the dictionary file the index was built from, together with the
+ * {@link sk.baka.aedict.util.IndexPatch#fingerprint(java.io.File) fingerprint} of the index directory.
+ * <p/>
+ * Each document carries the hash of its record in the {@link #ID_FIELD} field. An incremental update compares the record
+ * hashes of the new dictionary file with the manifest: documents of removed records are deleted by the ID and only the new
+ * records are indexed. Identical records share the ID; when the number of identical records changes, all of them are
+ * deleted and indexed again.
+ * @author Martin Vysny
+ */
+public final class IndexManifest {
+
+    /**
+     * Indexed, not stored field containing the record hash as a hexadecimal string.
+     */
+    public static final String ID_FIELD = "recordid";
+    private static final int MAGIC = 0x41494D46;
+    private static final int VERSION = 1;
+    /**
+     * The dictionary type of the index.
+     */
+    public final FileTypeEnum fileType;
+    /**
+     * The fingerprint of the index directory at the time the manifest was written.
+     */
+    public final String fingerprint;
+    /**
+     * Sorted hashes of all records of the dictionary file. Identical records are present multiple times.
+     */
+    private final long[] hashes;
+
+    /**
+     * Creates new manifest.
+     * @param fileType the dictionary type of the index, not null.
+     * @param fingerprint the fingerprint of the index directory, not null.
+     * @param hashes the record hashes, in any order. The array is sorted in place.
+     */
+    public IndexManifest(final FileTypeEnum fileType, final String fingerprint, final long[] hashes) {
+        this.fileType = fileType;
+        this.fingerprint = fingerprint;
+        this.hashes = hashes;
+        Arrays.sort(hashes);
+    }
+
+    /**
+     * Returns the number of records.
+     * @return the number of records of the dictionary file.
+     */
+    public int size() {
+        return hashes.length;
+    }
+
+    /**
+     * Computes a hash of given record. The hash is stable across JVM runs (64-bit FNV-1a of the lines, separated by a
+     * newline).
+     * @param record the record lines, not null.
+     * @return the hash.
+     */
+    public static long hash(final List<String> record) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < record.size(); i++) {
+            if (i > 0) {
+                hash = (hash ^ '\n') * 0x100000001b3L;
+            }
+            final String line = record.get(i);
+            for (int j = 0; j < line.length(); j++) {
+                hash = (hash ^ line.charAt(j)) * 0x100000001b3L;
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Converts the hash to the value of the {@link #ID_FIELD}.
+     * @param hash the hash
+     * @return hexadecimal string.
+     */
+    public static String toId(final long hash) {
+        return Long.toHexString(hash);
+    }
+
+    /**
+     * Creates the {@link #ID_FIELD} field for given record.
+     * @param record the record lines, not null.
+     * @return the field to add to the document created from the record.
+     */
+    public static Field newIdField(final List<String> record) {
+        return new Field(ID_FIELD, toId(hash(record)), Field.Store.NO, Field.Index.NOT_ANALYZED_NO_NORMS);
+    }
+
+    /**
+     * Reads the dictionary file and computes hashes of all records.
+     * @param dictionary the dictionary file, not closed.
+     * @param parser splits the file into records, see {@link ParallelDictParser#continuesRecord(String)}.
+     * @return the hashes, in the order of the records.
+     * @throws IOException on i/o error.
+     */
+    public static long[] hashRecords(final BufferedReader dictionary, final ParallelDictParser<?> parser) throws IOException {
+        final LongList result = new LongList();
+        final List<String> record = new ArrayList<String>();
+        for (String line = dictionary.readLine(); line != null; line = dictionary.readLine()) {
+            if (Main.isIgnored(line)) {
+                continue;
+            }
+            if (!record.isEmpty() && !parser.continuesRecord(line)) {
+                result.add(hash(record));
+                record.clear();
+            }
+            record.add(line);
+        }
+        if (!record.isEmpty()) {
+            result.add(hash(record));
+        }
+        return result.toArray();
+    }
+
+    /**
+     * Compares the records of this (old) manifest with the records of a new dictionary file.
+     * @param newHashes the sorted record hashes of the new dictionary file.
+     * @return a two-item array: sorted hashes of records which have to be deleted from the index and sorted hashes of
+     * records which have to be indexed. Each hash is present at most once.
+     */
+    public long[][] diff(final long[] newHashes) {
+        final LongList deleted = new LongList();
+        final LongList added = new LongList();
+        int i = 0;
+        int j = 0;
+        while (i < hashes.length || j < newHashes.length) {
+            final long hash = j >= newHashes.length || (i < hashes.length && hashes[i] < newHashes[j]) ? hashes[i] : newHashes[j];
+            int oldCount = 0;
+            for (; i < hashes.length && hashes[i] == hash; i++) {
+                oldCount++;
+            }
+            int newCount = 0;
+            for (; j < newHashes.length && newHashes[j] == hash; j++) {
+                newCount++;
+            }
+            if (oldCount != newCount) {
+                if (oldCount > 0) {
+                    deleted.add(hash);
+                }
+                if (newCount > 0) {
+                    added.add(hash);
+                }
+            }
+        }
+        return new long[][]{deleted.toArray(), added.toArray()};
+    }
+
+    /**
+     * Writes the manifest to given file.
+     * @param file the file, overwritten if it exists.
+     * @throws IOException on i/o error.
+     */
+    public void write(final File file) throws IOException {
+        final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+        try {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeUTF(fileType.name());
+            out.writeUTF(fingerprint);
+            out.writeInt(hashes.length);
+            for (final long hash : hashes) {
+                out.writeLong(hash);
+            }
+        } finally {
+            out.close();
+        }
+    }
+
+    /**
+     * Reads the manifest from given file.
+     * @param file the manifest file.
+     * @return the manifest, null if the file does not exist.
+     * @throws IOException on i/o error or if the file is not a valid manifest.
+     */
+    public static IndexManifest read(final File file) throws IOException {
+        if (!file.exists()) {
+            return null;
+        }
+        final DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+        try {
+            if (in.readInt() != MAGIC) {
+                throw new IOException(file + " is not an index manifest");
+            }
+            final int version = in.readInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported index manifest version " + version);
+            }
+            final FileTypeEnum fileType;
+            try {
+                fileType = FileTypeEnum.valueOf(in.readUTF());
+            } catch (IllegalArgumentException ex) {
+                throw new IOExceptionWithCause(file + " is not an index manifest", ex);
+            }
+            final String fingerprint = in.readUTF();
+            final long[] hashes = new long[in.readInt()];
+            for (int i = 0; i < hashes.length; i++) {
+                hashes[i] = in.readLong();
+            }
+            return new IndexManifest(fileType, fingerprint, hashes);
+        } catch (EOFException ex) {
+            throw new IOExceptionWithCause(file + " is truncated", ex);
+        } finally {
+            in.close();
+        }
+    }
+
+    /**
+     * A growable list of primitive longs.
+     */
+    static final class LongList {
+
+        private long[] items = new long[1024];
+        private int size = 0;
+
+        public void add(final long value) {
+            if (size == items.length) {
+                final long[] newItems = new long[items.length * 3 / 2];
+                System.arraycopy(items, 0, newItems, 0, size);
+                items = newItems;
+            }
+            items[size++] = value;
+        }
+
+        public long[] toArray() {
+            final long[] result = new long[size];
+            System.arraycopy(items, 0, result, 0, size);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,214 @@
+/**
+Aedict - an EDICT browser for Android
+Copyright (C) 2009 Martin Vysny
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package sk.baka.aedict.indexer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.IndexWriter;
+import sk.baka.aedict.util.IOExceptionWithCause;
+
+/**
+ * Indexes a dictionary file with multiple threads. The work is split into four stages, connected by bounded queues:
+ * <ul><li>a reader thread reads the lines and groups them into batches of records;</li>
+ * <li>worker threads {@link ParallelDictParser#parse(List) parse} the batches;</li>
+ * <li>the calling thread {@link ParallelDictParser#write(Object, IndexWriter) writes} the parsed records, in the order of the
+ * dictionary file. Only the parser state is updated, the documents are collected;</li>
+ * <li>worker threads add the collected documents to the shared {@link IndexWriter}, concurrently. The Lucene analysis is
+ * performed here. The document order is thus not defined.</li></ul>
+ * @param <T> the type of the parsed record.
+ * @author Martin Vysny
+ */
+public final class IndexPipeline<T> {
+
+    /**
+     * The number of records parsed by a single task.
+     */
+    static final int BATCH_SIZE = 256;
+    private final BufferedReader in;
+    private final ParallelDictParser<T> parser;
+    private final int threads;
+    /**
+     * The parsed batches, in the order of the dictionary file. Bounds the number of batches in memory.
+     */
+    private final BlockingQueue<Future<List<T>>> batches;
+
+    /**
+     * Marks the end of the {@link #batches} queue.
+     */
+    private final Future<List<T>> end = new FutureTask<List<T>>(new Callable<List<T>>() {
+
+        public List<T> call() {
+            return null;
+        }
+    });
+    private volatile Throwable readerFailure = null;
+
+    /**
+     * Creates the pipeline.
+     * @param in the dictionary file, must not be read by anyone else.
+     * @param parser parses the records.
+     * @param threads the number of worker threads, at least 1.
+     */
+    public IndexPipeline(final BufferedReader in, final ParallelDictParser<T> parser, final int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Parameter threads: invalid value " + threads + ": must be 1 or greater");
+        }
+        this.in = in;
+        this.parser = parser;
+        this.threads = threads;
+        batches = new ArrayBlockingQueue<Future<List<T>>>(threads * 2);
+    }
+
+    /**
+     * Parses all lines of the dictionary file and writes them. Does not invoke {@link IDictParser#onFinish(IndexWriter)}.
+     * @param writer the Lucene document writer, passed to the parser. The documents are added by multiple threads.
+     * @throws IOException on i/o error
+     */
+    public void run(final IndexWriter writer) throws IOException {
+        final ExecutorService workers = Executors.newFixedThreadPool(threads);
+        final Thread reader = new Thread(new Runnable() {
+
+            public void run() {
+                read(workers);
+            }
+        }, "dictionary-reader");
+        reader.start();
+        // the batches of documents being added to the index, bounds the number of documents in memory
+        final List<Future<?>> indexed = new LinkedList<Future<?>>();
+        try {
+            for (Future<List<T>> batch = batches.take(); batch != end; batch = batches.take()) {
+                final List<Document> documents = new ArrayList<Document>();
+                parser.collectDocuments(documents);
+                try {
+                    for (final T parsed : batch.get()) {
+                        parser.write(parsed, writer);
+                    }
+                } finally {
+                    parser.collectDocuments(null);
+                }
+                if (indexed.size() >= threads * 2) {
+                    indexed.remove(0).get();
+                }
+                indexed.add(workers.submit(new Callable<Object>() {
+
+                    public Object call() throws Exception {
+                        for (final Document doc : documents) {
+                            writer.addDocument(doc);
+                        }
+                        return null;
+                    }
+                }));
+            }
+            while (!indexed.isEmpty()) {
+                indexed.remove(0).get();
+            }
+            if (readerFailure != null) {
+                throw rethrow(readerFailure);
+            }
+        } catch (InterruptedException ex) {
+            throw new InterruptedIOException();
+        } catch (ExecutionException ex) {
+            throw rethrow(ex.getCause());
+        } finally {
+            reader.interrupt();
+            workers.shutdownNow();
+            // do not return before the workers stop using the writer
+            try {
+                workers.awaitTermination(1, TimeUnit.MINUTES);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static IOException rethrow(final Throwable t) {
+        if (t instanceof IOException) {
+            return (IOException) t;
+        }
+        if (t instanceof RuntimeException) {
+            throw (RuntimeException) t;
+        }
+        if (t instanceof Error) {
+            throw (Error) t;
+        }
+        return new IOExceptionWithCause(t.getMessage(), t);
+    }
+
+    private void read(final ExecutorService workers) {
+        try {
+            List<List<String>> batch = new ArrayList<List<String>>(BATCH_SIZE);
+            List<String> record = null;
+            for (String line = in.readLine(); line != null; line = in.readLine()) {
+                if (Main.isIgnored(line)) {
+                    continue;
+                }
+                if (record != null && parser.continuesRecord(line)) {
+                    record.add(line);
+                    continue;
+                }
+                if (batch.size() == BATCH_SIZE) {
+                    submit(workers, batch);
+                    batch = new ArrayList<List<String>>(BATCH_SIZE);
+                }
+                record = new ArrayList<String>(2);
+                record.add(line);
+                batch.add(record);
+            }
+            if (!batch.isEmpty()) {
+                submit(workers, batch);
+            }
+        } catch (InterruptedException ex) {
+            // the writer has failed, just finish
+            return;
+        } catch (Throwable t) {
+            readerFailure = t;
+        }
+        try {
+            batches.put(end);
+        } catch (InterruptedException ex) {
+            // the writer has failed, just finish
+        }
+    }
+
+    private void submit(final ExecutorService workers, final List<List<String>> batch) throws InterruptedException {
+        batches.put(workers.submit(new Callable<List<T>>() {
+
+            public List<T> call() throws Exception {
+                final List<T> result = new ArrayList<T>(batch.size());
+                for (final List<String> record : batch) {
+                    result.add(parser.parse(record));
+                }
+                return result;
+            }
+        }));
+    }
+}
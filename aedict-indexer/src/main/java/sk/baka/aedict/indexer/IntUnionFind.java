@@ -0,0 +1,116 @@
+/**
+Aedict - an EDICT browser for Android
+Copyright (C) 2009 Martin Vysny
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package sk.baka.aedict.indexer;
+
+/**
+ * A disjoint-set forest over non-negative int IDs, backed by primitive arrays indexed by the ID. Uses union by rank and path
+ * halving, therefore both {@link #union(int, int)} and {@link #find(int)} run in nearly constant amortized time and are not
+ * recursive. Memory footprint is 5 bytes per ID, up to the highest ID seen.
+ * <p/>
+ * Not thread safe.
+ * @author Martin Vysny
+ */
+public final class IntUnionFind {
+
+    private int[] parent;
+    private byte[] rank;
+
+    /**
+     * Creates new empty forest.
+     * @param expectedMaxId the expected highest ID, used as an initial capacity. The forest grows automatically.
+     */
+    public IntUnionFind(final int expectedMaxId) {
+        parent = new int[Math.max(expectedMaxId + 1, 16)];
+        rank = new byte[parent.length];
+        for (int i = 0; i < parent.length; i++) {
+            parent[i] = i;
+        }
+    }
+
+    private void ensureCapacity(final int id) {
+        if (id < 0) {
+            throw new IllegalArgumentException("Parameter id: invalid value " + id + ": must not be negative");
+        }
+        if (id < parent.length) {
+            return;
+        }
+        final int newLength = (int) Math.min(Integer.MAX_VALUE, Math.max((long) id + 1, parent.length * 3L / 2));
+        final int[] newParent = new int[newLength];
+        System.arraycopy(parent, 0, newParent, 0, parent.length);
+        for (int i = parent.length; i < newLength; i++) {
+            newParent[i] = i;
+        }
+        final byte[] newRank = new byte[newLength];
+        System.arraycopy(rank, 0, newRank, 0, rank.length);
+        parent = newParent;
+        rank = newRank;
+    }
+
+    /**
+     * Returns the number of IDs the forest currently holds. All IDs lower than this number are valid.
+     * @return the capacity.
+     */
+    public int size() {
+        return parent.length;
+    }
+
+    /**
+     * Finds the representative ID of the set containing given ID.
+     * @param id the ID, not negative.
+     * @return the representative, equal for all IDs in the same set. An ID which was never united is its own representative.
+     */
+    public int find(final int id) {
+        if (id >= parent.length) {
+            if (id < 0) {
+                throw new IllegalArgumentException("Parameter id: invalid value " + id + ": must not be negative");
+            }
+            return id;
+        }
+        int i = id;
+        while (parent[i] != i) {
+            // path halving
+            parent[i] = parent[parent[i]];
+            i = parent[i];
+        }
+        return i;
+    }
+
+    /**
+     * Merges the sets containing given IDs.
+     * @param id1 first ID, not negative.
+     * @param id2 second ID, not negative.
+     */
+    public void union(final int id1, final int id2) {
+        ensureCapacity(id1);
+        ensureCapacity(id2);
+        int root1 = find(id1);
+        int root2 = find(id2);
+        if (root1 == root2) {
+            return;
+        }
+        if (rank[root1] < rank[root2]) {
+            final int r = root1;
+            root1 = root2;
+            root2 = r;
+        }
+        parent[root2] = root1;
+        if (rank[root1] == rank[root2]) {
+            rank[root1]++;
+        }
+    }
+}
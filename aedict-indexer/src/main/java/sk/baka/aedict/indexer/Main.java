@@ -28,7 +28,10 @@ import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
 import java.util.Scanner;
+import java.util.TreeMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.zip.GZIPInputStream;
@@ -48,12 +51,15 @@ import org.apache.commons.cli.Option;
 import org.apache.commons.cli.ParseException;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
-import org.apache.lucene.analysis.standard.StandardAnalyzer;
 import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.Term;
 import org.apache.commons.cli.Options;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.store.FSDirectory;
-import sk.baka.aedict.dict.LuceneSearch;
+import sk.baka.aedict.dict.JapaneseAnalyzer;
+import sk.baka.aedict.dict.SearcherPool;
+import sk.baka.aedict.util.IndexPatch;
+import sk.baka.aedict.util.ResumableDownload;
 import sk.baka.autils.MiscUtils;
 
 /**
@@ -65,6 +71,10 @@ public class Main {
 
     private static final String BASE_DIR = "target";
     static final String LUCENE_INDEX = BASE_DIR + "/index";
+    /**
+     * Describes the contents of the {@link #LUCENE_INDEX}, see {@link IndexManifest}.
+     */
+    static final String MANIFEST = BASE_DIR + "/index.manifest";
 
     /**
      * Performs EDICT download and indexing tasks.
@@ -118,10 +128,19 @@ public class Main {
             System.out.println("Uploading version");
             final String targetFName = REMOTE_DIR + "/" + config.getTargetFileName();
             exec(ssh, "echo `date +%Y%m%d` >" + REMOTE_DIR + "/" + config.getTargetFileName() + ".version");
-            exec(ssh, "rm -f " + targetFName);
+            exec(ssh, "rm -f " + targetFName + " " + targetFName + ResumableDownload.CHECKSUM_SUFFIX);
+            if (rebuilt) {
+                // the existing patches do not lead to the rebuilt index, the clients must download the whole index
+                exec(ssh, "rm -f " + IndexPatch.getFileName(targetFName, "*"));
+            }
             System.out.println("Uploading");
             final SCPFileTransfer ft = ssh.newSCPFileTransfer();
             ft.upload(config.getTargetFileName(), targetFName);
+            ft.upload(config.getTargetFileName() + ResumableDownload.CHECKSUM_SUFFIX, targetFName + ResumableDownload.CHECKSUM_SUFFIX);
+            if (patchFileName != null) {
+                System.out.println("Uploading the patch");
+                ft.upload(patchFileName, REMOTE_DIR + "/" + patchFileName);
+            }
         } finally {
             ssh.disconnect();
         }
@@ -138,6 +157,14 @@ public class Main {
         public boolean upload;
         public String password;
         public String name;
+        /**
+         * The number of threads parsing the dictionary file, see {@link IndexPipeline}.
+         */
+        public int threads = 1;
+        /**
+         * If true then the existing index is updated, see {@link IndexManifest}.
+         */
+        public boolean incremental;
         public String getTargetFileName() {
             return fileType.getTargetFileName(name);
         }
@@ -181,6 +208,10 @@ public class Main {
         opts.addOption(null, "upload", false, "Uploads the dictionary file to www.baka.sk");
         opts.addOption("p", "password", true, "Upload SSH password");
         opts.addOption("n", "name", true, "(Optional) A custom dictionary name");
+        opt = new Option(null, "threads", true, "(Optional) the number of threads parsing the dictionary file, defaults to 1. The index is the same regardless of the number of threads.");
+        opt.setArgName("threads");
+        opts.addOption(opt);
+        opts.addOption("i", "incremental", false, "(Optional) update the existing index with the changes made to the dictionary file since the last run and produce a patch file besides the index zip. Falls back to a full rebuild if the existing index cannot be updated.");
         return opts;
     }
 
@@ -224,6 +255,17 @@ public class Main {
         config.upload = cl.hasOption("upload");
         config.password = cl.getOptionValue('p');
         config.name = cl.getOptionValue('n');
+        config.incremental = cl.hasOption('i');
+        if (cl.hasOption("threads")) {
+            try {
+                config.threads = Integer.parseInt(cl.getOptionValue("threads"));
+            } catch (NumberFormatException ex) {
+                throw new ParseException("Invalid number of threads: " + cl.getOptionValue("threads"));
+            }
+            if (config.threads < 1) {
+                throw new ParseException("Invalid number of threads: " + config.threads);
+            }
+        }
     }
 
     private static void printHelp() {
@@ -249,6 +291,9 @@ public class Main {
         }
         final String aedictDir = config.fileType.getAndroidSdcardRelativeLoc(config.name);
         System.out.println("Finished - the index file '" + config.getTargetFileName() + "' was created.");
+        if (patchFileName != null) {
+            System.out.println("The patch file '" + patchFileName + "' was created.");
+        }
         System.out.println("To use the indexed file with Aedict, you'll have to:");
         System.out.println("1. Connect your phone as a mass storage device to your computer");
         System.out.println("2. Browse the SDCard contents and delete the aedict/ directory if it is present");
@@ -257,20 +302,46 @@ public class Main {
         System.out.println("See http://code.google.com/p/aedict/wiki/CustomEdictFile for details");
     }
 
+    /**
+     * The file name of the patch created by the incremental update, null if no patch was created.
+     */
+    private String patchFileName = null;
+    /**
+     * True if the index was built from scratch.
+     */
+    private boolean rebuilt = false;
+
+    @SuppressWarnings("unchecked")
     private void indexWithLucene() throws IOException {
+        final IDictParser parser = config.fileType.newParser(config);
+        final ParallelDictParser<Object> incrementalParser = parser instanceof ParallelDictParser && ((ParallelDictParser<Object>) parser).supportsIncrementalUpdate() ? (ParallelDictParser<Object>) parser : null;
+        if (config.incremental) {
+            if (incrementalParser == null) {
+                System.out.println(config.fileType + " index cannot be updated incrementally, rebuilding the whole index");
+            } else {
+                final IndexManifest manifest = readManifest();
+                if (manifest != null) {
+                    updateLucene(incrementalParser, manifest);
+                    return;
+                }
+            }
+        }
         System.out.println("Deleting old Lucene index");
+        rebuilt = true;
+        SearcherPool.invalidate(new File(LUCENE_INDEX));
         FileUtils.deleteDirectory(new File(LUCENE_INDEX));
+        new File(MANIFEST).delete();
         System.out.println("Indexing with Lucene");
+        final IncrementalDictParser<Object> manifestParser = incrementalParser == null ? null : new IncrementalDictParser<Object>(incrementalParser, null);
         final BufferedReader dictionary = config.newReader();
         try {
             final Directory directory = FSDirectory.open(new File(LUCENE_INDEX));
             try {
                 final IndexWriter luceneWriter = new IndexWriter(directory,
-                        new StandardAnalyzer(LuceneSearch.LUCENE_VERSION), true,
+                        JapaneseAnalyzer.newIndexAnalyzer(), true,
                         IndexWriter.MaxFieldLength.UNLIMITED);
                 try {
-                    final IDictParser parser = config.fileType.newParser(config);
-                    indexWithLucene(dictionary, luceneWriter, parser);
+                    indexWithLucene(dictionary, luceneWriter, manifestParser == null ? parser : manifestParser, config.threads);
                     System.out.println("Optimizing Lucene index");
                     luceneWriter.optimize();
                 } finally {
@@ -282,8 +353,156 @@ public class Main {
         } finally {
             IOUtils.closeQuietly(dictionary);
         }
+        if (manifestParser != null) {
+            new IndexManifest(config.fileType, IndexPatch.fingerprint(new File(LUCENE_INDEX)), manifestParser.getHashes()).write(new File(MANIFEST));
+        }
         System.out.println("Finished Lucene indexing");
     }
+
+    /**
+     * Reads the manifest of the existing index.
+     * @return the manifest, null if the existing index cannot be updated incrementally.
+     */
+    private IndexManifest readManifest() {
+        final IndexManifest manifest;
+        try {
+            manifest = IndexManifest.read(new File(MANIFEST));
+        } catch (IOException ex) {
+            System.out.println("WARNING: failed to read the index manifest, rebuilding the whole index: " + ex);
+            return null;
+        }
+        if (manifest == null) {
+            System.out.println("No index manifest found, rebuilding the whole index");
+            return null;
+        }
+        if (manifest.fileType != config.fileType) {
+            System.out.println("The existing index was built from " + manifest.fileType + ", rebuilding the whole index");
+            return null;
+        }
+        if (!manifest.fingerprint.equals(IndexPatch.fingerprint(new File(LUCENE_INDEX)))) {
+            System.out.println("The existing index was modified since the manifest was written, rebuilding the whole index");
+            return null;
+        }
+        return manifest;
+    }
+
+    /**
+     * Updates the existing index incrementally and creates the patch file. The index is not optimized, to keep the
+     * unchanged segments (and the patch small): the patched index thus has multiple segments and deletions, which
+     * {@link sk.baka.aedict.dict.LuceneSearch} handles fine. Only the full rebuild produces a single-segment index.
+     * @param parser the parser
+     * @param manifest the manifest of the existing index.
+     */
+    private void updateLucene(final ParallelDictParser<Object> parser, final IndexManifest manifest) throws IOException {
+        if (config.urlSource != null) {
+            // the dictionary file is read twice, download it just once
+            final File local = new File(BASE_DIR, "dictionary.tmp");
+            System.out.println("Downloading " + config.urlSource);
+            FileUtils.copyURLToFile(config.urlSource, local);
+            config.localSource = local;
+            config.urlSource = null;
+        }
+        System.out.println("Comparing the dictionary file with the index manifest");
+        BufferedReader dictionary = config.newReader();
+        final long[] hashes;
+        try {
+            hashes = IndexManifest.hashRecords(dictionary, parser);
+        } finally {
+            IOUtils.closeQuietly(dictionary);
+        }
+        Arrays.sort(hashes);
+        final long[][] diff = manifest.diff(hashes);
+        System.out.println("Deleting " + diff[0].length + " and adding " + diff[1].length + " distinct records");
+        if (diff[0].length == 0 && diff[1].length == 0) {
+            System.out.println("The index is up-to-date");
+            return;
+        }
+        final File indexDir = new File(LUCENE_INDEX);
+        final Map<String, Long> checksums = getChecksums(indexDir);
+        SearcherPool.invalidate(indexDir);
+        final IncrementalDictParser<Object> incrementalParser = new IncrementalDictParser<Object>(parser, diff[1]);
+        dictionary = config.newReader();
+        try {
+            final Directory directory = FSDirectory.open(indexDir);
+            try {
+                final IndexWriter luceneWriter = new IndexWriter(directory,
+                        JapaneseAnalyzer.newIndexAnalyzer(), false,
+                        IndexWriter.MaxFieldLength.UNLIMITED);
+                try {
+                    final Term[] deleted = new Term[diff[0].length];
+                    for (int i = 0; i < deleted.length; i++) {
+                        deleted[i] = new Term(IndexManifest.ID_FIELD, IndexManifest.toId(diff[0][i]));
+                    }
+                    luceneWriter.deleteDocuments(deleted);
+                    indexWithLucene(dictionary, luceneWriter, incrementalParser, config.threads);
+                } finally {
+                    luceneWriter.close();
+                }
+            } finally {
+                closeQuietly(directory);
+            }
+        } finally {
+            IOUtils.closeQuietly(dictionary);
+        }
+        System.out.println("Indexed " + incrementalParser.getWrittenCount() + " records");
+        final IndexManifest updated = new IndexManifest(config.fileType, IndexPatch.fingerprint(indexDir), hashes);
+        updated.write(new File(MANIFEST));
+        createPatch(indexDir, checksums, manifest.fingerprint, updated.fingerprint);
+        System.out.println("Finished Lucene indexing");
+    }
+
+    /**
+     * Computes CRC32 of all files in given directory.
+     * @param dir the directory
+     * @return maps file name to its checksum.
+     */
+    private static Map<String, Long> getChecksums(final File dir) throws IOException {
+        final Map<String, Long> result = new TreeMap<String, Long>();
+        for (final File file : dir.listFiles()) {
+            if (file.isFile()) {
+                result.put(file.getName(), FileUtils.checksumCRC32(file));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Creates the {@link IndexPatch patch file}, containing all files which were added or modified since the checksums were
+     * computed.
+     * @param indexDir the index directory
+     * @param checksums the checksums of the files before the update.
+     * @param baseFingerprint the fingerprint of the index before the update.
+     * @param targetFingerprint the fingerprint of the updated index.
+     */
+    private void createPatch(final File indexDir, final Map<String, Long> checksums, final String baseFingerprint, final String targetFingerprint) throws IOException {
+        final File patch = new File(IndexPatch.getFileName(config.getTargetFileName(), baseFingerprint));
+        System.out.println("Creating the patch file " + patch);
+        final Map<String, Long> newChecksums = getChecksums(indexDir);
+        final StringBuilder descriptor = new StringBuilder();
+        descriptor.append("base ").append(baseFingerprint).append('\n');
+        descriptor.append("target ").append(targetFingerprint).append('\n');
+        for (final String name : checksums.keySet()) {
+            if (!newChecksums.containsKey(name)) {
+                descriptor.append("delete ").append(name).append('\n');
+            }
+        }
+        final ZipOutputStream out = new ZipOutputStream(new FileOutputStream(patch));
+        try {
+            out.setLevel(9);
+            for (final Map.Entry<String, Long> e : newChecksums.entrySet()) {
+                if (!e.getValue().equals(checksums.get(e.getKey()))) {
+                    addToZip(out, new File(indexDir, e.getKey()));
+                }
+            }
+            out.putNextEntry(new ZipEntry(IndexPatch.DESCRIPTOR));
+            out.write(descriptor.toString().getBytes("UTF-8"));
+            out.closeEntry();
+        } finally {
+            IOUtils.closeQuietly(out);
+        }
+        patchFileName = patch.getName();
+        System.out.println("Written a patch of " + patch.length() + " bytes");
+    }
     private static final Logger log = Logger.getLogger(Main.class.getName());
 
     private static void closeQuietly(final Directory d) {
@@ -294,18 +513,28 @@ public class Main {
         }
     }
 
+    /**
+     * Checks if given dictionary line is a comment or a blank line.
+     * @param line the line
+     * @return true if the line should be skipped.
+     */
+    static boolean isIgnored(final String line) {
+        return line.startsWith("#") || line.trim().length() == 0;
+    }
+
+    @SuppressWarnings("unchecked")
     private static void indexWithLucene(BufferedReader edict,
-            IndexWriter luceneWriter, final IDictParser parser) throws IOException {
-        for (String line = edict.readLine(); line != null; line = edict.readLine()) {
-            if (line.startsWith("#")) {
-                // skip comments
-                continue;
-            }
-            if (line.trim().length() == 0) {
-                // skip blank lines
-                continue;
+            IndexWriter luceneWriter, final IDictParser parser, final int threads) throws IOException {
+        if (threads > 1 && parser instanceof ParallelDictParser) {
+            System.out.println("Parsing with " + threads + " threads");
+            new IndexPipeline<Object>(edict, (ParallelDictParser<Object>) parser, threads).run(luceneWriter);
+        } else {
+            for (String line = edict.readLine(); line != null; line = edict.readLine()) {
+                if (isIgnored(line)) {
+                    continue;
+                }
+                parser.addLine(line, luceneWriter);
             }
-            parser.addLine(line, luceneWriter);
         }
         parser.onFinish(luceneWriter);
         luceneWriter.commit();
@@ -323,20 +552,35 @@ public class Main {
             out.setLevel(9);
             final File[] luceneIndexFiles = new File(LUCENE_INDEX).listFiles();
             for (final File indexFile : luceneIndexFiles) {
-                final ZipEntry entry = new ZipEntry(indexFile.getName());
-                entry.setSize(indexFile.length());
-                out.putNextEntry(entry);
-                final InputStream in = new FileInputStream(indexFile);
-                try {
-                    IOUtils.copy(in, out);
-                } finally {
-                    IOUtils.closeQuietly(in);
-                }
-                out.closeEntry();
+                addToZip(out, indexFile);
             }
         } finally {
             IOUtils.closeQuietly(out);
         }
+        writeChecksum(zip);
         System.out.println("Finished index zipping");
     }
+
+    /**
+     * Writes the MD5 checksum of given file, in the md5sum format. The client verifies the downloaded file against the
+     * checksum, see {@link ResumableDownload}.
+     * @param file the file
+     * @throws IOException on i/o error.
+     */
+    static void writeChecksum(final File file) throws IOException {
+        FileUtils.writeStringToFile(new File(file.getPath() + ResumableDownload.CHECKSUM_SUFFIX), ResumableDownload.md5(file) + "  " + file.getName() + "\n", "UTF-8");
+    }
+
+    private static void addToZip(final ZipOutputStream out, final File file) throws IOException {
+        final ZipEntry entry = new ZipEntry(file.getName());
+        entry.setSize(file.length());
+        out.putNextEntry(entry);
+        final InputStream in = new FileInputStream(file);
+        try {
+            IOUtils.copy(in, out);
+        } finally {
+            IOUtils.closeQuietly(in);
+        }
+        out.closeEntry();
+    }
 }
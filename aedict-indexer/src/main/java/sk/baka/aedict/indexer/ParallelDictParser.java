@@ -0,0 +1,150 @@
+/**
+Aedict - an EDICT browser for Android
+Copyright (C) 2009 Martin Vysny
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package sk.baka.aedict.indexer;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.IndexWriter;
+
+/**
+ * A dictionary parser which allows the dictionary to be parsed by multiple threads, see {@link IndexPipeline}. The parsing is
+ * split into two phases:
+ * <ul><li>{@link #parse(List)} converts a record (one or more consecutive lines) to an intermediate object. Invoked concurrently
+ * by multiple threads, must not modify the parser state.</li>
+ * <li>{@link #write(Object, IndexWriter)} updates the parser state and stores the object to the index, using
+ * {@link #addDocument(Document, IndexWriter)}. Invoked by a single thread, in the order of the records in the dictionary
+ * file. The parser state is therefore the same regardless of the number of threads. The {@link IndexPipeline} adds the
+ * documents to the index on the worker threads: the document order may differ.</li></ul>
+ * When used as a plain {@link IDictParser} the records are parsed and written immediately, on the calling thread.
+ * @param <T> the type of the parsed record.
+ * @author Martin Vysny
+ */
+public abstract class ParallelDictParser<T> implements IDictParser {
+
+    /**
+     * Checks if given line continues the record started by the previous line. All lines of a record are passed to a single
+     * {@link #parse(List)} invocation. By default each line is a record of its own.
+     * @param line the dictionary line
+     * @return true if the line belongs to the previous record, false if it starts a new record.
+     */
+    public boolean continuesRecord(final String line) {
+        return false;
+    }
+
+    /**
+     * Parses a record. Thread safe.
+     * @param record the lines of the record, not empty.
+     * @return the parsed record, may be null.
+     * @throws IOException on i/o error
+     */
+    public abstract T parse(final List<String> record) throws IOException;
+
+    /**
+     * Writes a parsed record to the index. Always invoked by a single thread, in the order of the records. The documents must
+     * be added by {@link #addDocument(Document, IndexWriter)}.
+     * @param parsed the object produced by {@link #parse(List)}.
+     * @param writer the Lucene document writer.
+     * @throws IOException on i/o error
+     */
+    public abstract void write(final T parsed, final IndexWriter writer) throws IOException;
+
+    /**
+     * Checks if the index produced by this parser may be updated incrementally, see {@link IndexManifest}. Such parser
+     * must produce at most one document per record, the document must carry the {@link IndexManifest#newIdField(List) ID
+     * field} and the parser state must be maintained by {@link #retain(Object)}. By default incremental update is not
+     * supported.
+     * @return true if the index may be updated incrementally.
+     */
+    public boolean supportsIncrementalUpdate() {
+        return false;
+    }
+
+    /**
+     * Invoked instead of {@link #write(Object, IndexWriter)} for records which are already present in the index, when the
+     * index is updated incrementally. Should update the parser state the same way {@link #write(Object, IndexWriter)} does,
+     * without adding the document to the index. Does nothing by default.
+     * @param parsed the object produced by {@link #parse(List)}.
+     * @throws IOException on i/o error
+     */
+    protected void retain(final T parsed) throws IOException {
+        // do nothing by default
+    }
+
+    /**
+     * Invoked after all records are written.
+     * @param writer the Lucene document writer.
+     * @throws IOException on i/o error
+     */
+    protected void finish(final IndexWriter writer) throws IOException {
+        // do nothing by default
+    }
+    /**
+     * Collects the documents passed to {@link #addDocument(Document, IndexWriter)} while the {@link IndexPipeline} runs, null
+     * otherwise. Accessed by the writing thread only.
+     */
+    private List<Document> documents = null;
+
+    /**
+     * Adds a document to the index. The {@link IndexPipeline} only collects the document, it is added to the index later by a
+     * worker thread.
+     * @param doc the document
+     * @param writer the Lucene document writer.
+     * @throws IOException on i/o error
+     */
+    protected final void addDocument(final Document doc, final IndexWriter writer) throws IOException {
+        if (documents != null) {
+            documents.add(doc);
+        } else {
+            writer.addDocument(doc);
+        }
+    }
+
+    /**
+     * Makes {@link #addDocument(Document, IndexWriter)} collect the documents instead of adding them to the index.
+     * @param documents collects the documents, null to add the documents to the index again.
+     */
+    void collectDocuments(final List<Document> documents) {
+        this.documents = documents;
+    }
+
+    /**
+     * The lines of the record being read by {@link #addLine(String, IndexWriter)}.
+     */
+    private final List<String> record = new ArrayList<String>();
+
+    public final void addLine(String line, IndexWriter writer) throws IOException {
+        if (!record.isEmpty() && !continuesRecord(line)) {
+            flush(writer);
+        }
+        record.add(line);
+    }
+
+    private void flush(final IndexWriter writer) throws IOException {
+        if (!record.isEmpty()) {
+            write(parse(record), writer);
+            record.clear();
+        }
+    }
+
+    public final void onFinish(IndexWriter writer) throws IOException {
+        flush(writer);
+        finish(writer);
+    }
+}
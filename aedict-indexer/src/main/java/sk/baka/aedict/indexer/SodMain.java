@@ -17,28 +17,24 @@ along with this program.  If not, see <http://www.gnu.org/licenses/>.
  */
 package sk.baka.aedict.indexer;
 
-import java.io.DataOutputStream;
+import java.io.BufferedOutputStream;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.FilenameFilter;
 import java.io.IOException;
-import java.io.InputStream;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.io.OutputStream;
 import java.util.zip.GZIPOutputStream;
+import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
+import sk.baka.aedict.util.SodFile;
 
 /**
  * Indexes the SOD images. Expects a directory with unpacked SOD archive contents - essentially a bunch of png files named
- * [KANJI].png. This directory is packed to a huge file, packed with gzip, with the following contents:
- * <h4>The header:</h4>
- * 4 byte int - number of kanji entries; for each entry: 2-byte UTF-16 kanji character, 4-byte png offset in the file.
- * The entries are ordered by the "offset" value, ascending.
- *<h4>The contents:</h4>
- * Basically just a streams of PNG images, one after another.
+ * [KANJI].png. This directory is packed into a {@link SodFile} container, twice:
+ * <ul><li>target/sod2.dat - the current random-access format, with checksums. Not compressed, the device uses the downloaded file directly.
+ * The MD5 checksum of the whole file is written to target/sod2.dat.md5.</li>
+ * <li>target/sod.dat.gz - the version 1 format packed with gzip, for older clients.</li></ul>
+ * The kanjis are sorted by the code point in both files.
  * @author Martin Vysny
  */
 public class SodMain {
@@ -58,15 +54,16 @@ public class SodMain {
             throw new IOException(sodUtf8Location + " does not exist");
         }
     }
-    private final Map<Character, File> pngLengths = new HashMap<Character, File>();
+    private final SodFile.Writer writer = new SodFile.Writer();
+    private int pngCount = 0;
 
     private void run() throws IOException {
-        computePngLengths();
-        createPackedFile();
+        readPngs();
+        createPackedFiles();
         System.out.println("Done");
     }
 
-    private void computePngLengths() {
+    private void readPngs() throws IOException {
         // list all png files
         final File[] pngs = sodUtf8Location.listFiles(new FilenameFilter() {
 
@@ -79,32 +76,23 @@ public class SodMain {
             if (kanji.length() != 1) {
                 throw new RuntimeException("Found a png file " + png + " with an invalid name (the name must be [KANJI].png");
             }
-            pngLengths.put(kanji.charAt(0), png);
+            writer.add(kanji.charAt(0), FileUtils.readFileToByteArray(png));
+            pngCount++;
         }
     }
 
-    private void createPackedFile() throws IOException {
-        System.out.println("Packaging " + pngLengths.size() + " pngs");
-        final DataOutputStream out = new DataOutputStream(new GZIPOutputStream(new FileOutputStream("target/sod.dat.gz")));
+    private void createPackedFiles() throws IOException {
+        System.out.println("Packaging " + pngCount + " pngs");
+        OutputStream out = new BufferedOutputStream(new FileOutputStream("target/sod2.dat"));
         try {
-            // write index table
-            int offset = pngLengths.size() * 6 + 4;
-            out.writeInt(pngLengths.size());
-            final List<Character> kanjis = new ArrayList<Character>(pngLengths.keySet());
-            for (final Character kanji : kanjis) {
-                out.writeChar(kanji);
-                out.writeInt(offset);
-                offset += (int) pngLengths.get(kanji).length();
-            }
-            // write png contents
-            for (final Character kanji : kanjis) {
-                final InputStream in = new FileInputStream(pngLengths.get(kanji));
-                try {
-                    IOUtils.copy(in, out);
-                } finally {
-                    IOUtils.closeQuietly(in);
-                }
-            }
+            writer.write(out, true);
+        } finally {
+            IOUtils.closeQuietly(out);
+        }
+        Main.writeChecksum(new File("target/sod2.dat"));
+        out = new GZIPOutputStream(new FileOutputStream("target/sod.dat.gz"));
+        try {
+            writer.writeVersion1(out);
         } finally {
             IOUtils.closeQuietly(out);
         }
@@ -18,22 +18,30 @@ along with this program.  If not, see <http://www.gnu.org/licenses/>.
 package sk.baka.aedict.indexer;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.StringTokenizer;
+import java.util.TreeMap;
 import java.util.zip.GZIPInputStream;
+import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOUtils;
 import org.apache.lucene.document.CompressionTools;
 import org.apache.lucene.document.Document;
 import org.apache.lucene.document.Field;
 import org.apache.lucene.index.IndexWriter;
+import sk.baka.aedict.dict.DictTypeEnum;
 import sk.baka.aedict.kanji.KanjiUtils;
 import sk.baka.autils.MiscUtils;
 
@@ -41,7 +49,7 @@ import sk.baka.autils.MiscUtils;
  * Parses Tanaka dictionary.
  * @author Martin Vysny
  */
-public class TanakaParser implements IDictParser {
+public class TanakaParser extends ParallelDictParser<Document> {
 
     private final Edict edict;
 
@@ -57,11 +65,34 @@ public class TanakaParser implements IDictParser {
         }
         return false;
     }
-    private String lastLine = null;
-    private Document doc;
 
+    /**
+     * A read-only kanji word to hiragana reading lookup, used to construct the kana reading of example sentences. Does not
+     * contain katakana nor pure hiragana entries.
+     * <p/>
+     * Parsing edict.gz is slow and a map of all entries takes a lot of heap, therefore the entries are sorted and stored in
+     * a cache file next to edict.gz, named {@link #CACHE_SUFFIX edict.gz.readings}. The cache file is memory-mapped and
+     * searched using binary search; it is rebuilt automatically when the length or the last modification time of
+     * edict.gz changes.
+     * <p/>
+     * The file format: magic number, format version, length and last modification time of the edict.gz file, the entry
+     * count N, the lengths of the longest kanji word and of the longest kana word, then 2N+1 ints denoting the char
+     * offsets of the words and readings (the i-th word spans offsets 2i..2i+1, its reading spans offsets 2i+1..2i+2),
+     * the chars themselves and finally the chars of the longest kanji word and of the longest kana word. The entries are
+     * sorted by the word, using {@link String#compareTo(String)}.
+     * <p/>
+     * The instance is thread-safe.
+     */
     public static class Edict {
 
+        /**
+         * The cache file is named edict.gz + this suffix.
+         */
+        public static final String CACHE_SUFFIX = ".readings";
+        private static final int MAGIC = 0x45524431;
+        private static final int VERSION = 1;
+        private static final int HEADER_SIZE = 36;
+
         public static Edict loadFromDefaultLocation(String expectedDirectory) {
             String location = System.getProperty("edict.gz");
             if (location == null && expectedDirectory != null) {
@@ -70,28 +101,71 @@ public class TanakaParser implements IDictParser {
             if (location == null) {
                 location = ".";
             }
-            // quickly parse the EDICT dictionary, we are going to need it when constructing the kana reading of the example sentence.
+            // we are going to need EDICT when constructing the kana reading of the example sentence.
             try {
-                return new Edict(new File(location + "/edict.gz"));
+                return load(new File(location + "/edict.gz"));
             } catch (Exception ex) {
                 throw new RuntimeException("The parser requires edict.gz to be available at " + new File(location).getAbsolutePath(), ex);
             }
         }
+
         /**
-         * Maps entry word (kanji+hiragana) to its hiragana reading. Does not contain katakana nor pure hiragana entries as it
-         * is only used to get the kana transcription of Tanaka entries.
+         * Loads the readings of given EDICT file. The cache file is used if it is up-to-date, otherwise edict.gz is parsed
+         * and the cache file is (re)created.
+         * @param edictGz the edict.gz file, must exist.
+         * @return the lookup, never null.
+         * @throws IOException on I/O error.
          */
-        public final Map<String, String> edict = new HashMap<String, String>();
-        private int maxKanjiWordLength = 0;
-        private String longestKanjiWord;
-        private int maxKanaWordLength = 0;
-        private String longestKanaWord;
+        public static Edict load(File edictGz) throws IOException {
+            if (!edictGz.exists()) {
+                throw new IOException(edictGz + " does not exist");
+            }
+            final File cache = new File(edictGz.getPath() + CACHE_SUFFIX);
+            if (cache.exists()) {
+                try {
+                    final Edict result = new Edict(map(cache));
+                    if (result.sourceLength == edictGz.length() && result.sourceLastModified == edictGz.lastModified()) {
+                        return result;
+                    }
+                } catch (IOException ex) {
+                    System.out.println("WARNING: " + cache + " is corrupted, rebuilding: " + ex);
+                }
+            }
+            final byte[] contents = build(edictGz);
+            // write to a temporary file first so that a concurrent indexer never maps a half-written cache
+            final File tmp = new File(cache.getPath() + ".tmp");
+            try {
+                FileUtils.writeByteArrayToFile(tmp, contents);
+                cache.delete();
+                if (!tmp.renameTo(cache)) {
+                    throw new IOException("Failed to rename " + tmp + " to " + cache);
+                }
+            } catch (IOException ex) {
+                tmp.delete();
+                System.out.println("WARNING: failed to write the EDICT reading cache " + cache + ", the cache is kept in memory: " + ex);
+            }
+            return new Edict(ByteBuffer.wrap(contents));
+        }
+
+        private static ByteBuffer map(File file) throws IOException {
+            final FileInputStream in = new FileInputStream(file);
+            try {
+                final FileChannel channel = in.getChannel();
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            } finally {
+                in.close();
+            }
+        }
+
         /**
-         * Check if the {@link #edict} entry is common or not. Incommon entries may get overwritten.
+         * Parses given edict.gz file and produces the contents of the cache file.
          */
-        private final Map<String, Boolean> entryIsCommon = new HashMap<String, Boolean>();
-
-        public Edict(File edictGz) throws IOException {
+        private static byte[] build(File edictGz) throws IOException {
+            final Map<String, String> edict = new TreeMap<String, String>();
+            // incommon entries may get overwritten
+            final Set<String> commonEntries = new HashSet<String>();
+            String longestKanjiWord = "";
+            String longestKanaWord = "";
             final BufferedReader in = new BufferedReader(new InputStreamReader(new GZIPInputStream(new FileInputStream(edictGz)), "EUC_JP"));
             try {
                 for (String line = in.readLine(); line != null; line = in.readLine()) {
@@ -101,31 +175,144 @@ public class TanakaParser implements IDictParser {
                     }
                     final String[] tokens = line.split("\\[|\\]|\\/");
                     final String kanji = tokens[0].trim();
-                    final boolean containsKanji = containsKanji(kanji);
-                    if (containsKanji) {
-                        if (kanji.length() > maxKanjiWordLength) {
-                            maxKanjiWordLength = kanji.length();
-                            longestKanjiWord = kanji;
-                        }
-                    } else {
-                        if (kanji.length() > maxKanaWordLength) {
-                            maxKanaWordLength = kanji.length();
+                    if (!containsKanji(kanji)) {
+                        if (kanji.length() > longestKanaWord.length()) {
                             longestKanaWord = kanji;
                         }
-                    }
-                    if (!containsKanji) {
                         continue;
                     }
+                    if (kanji.length() > longestKanjiWord.length()) {
+                        longestKanjiWord = kanji;
+                    }
                     final String reading = tokens[1].trim();
-                    final String previous = edict.get(kanji);
-                    if ((previous == null) || (!entryIsCommon.get(kanji))) {
+                    if (!edict.containsKey(kanji) || !commonEntries.contains(kanji)) {
                         edict.put(kanji, reading);
-                        entryIsCommon.put(kanji, line.endsWith("(P)"));
+                        if (line.endsWith("(P)")) {
+                            commonEntries.add(kanji);
+                        } else {
+                            commonEntries.remove(kanji);
+                        }
                     }
                 }
             } finally {
                 IOUtils.closeQuietly(in);
             }
+            final ByteArrayOutputStream bout = new ByteArrayOutputStream();
+            final DataOutputStream out = new DataOutputStream(bout);
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(edictGz.length());
+            out.writeLong(edictGz.lastModified());
+            out.writeInt(edict.size());
+            out.writeInt(longestKanjiWord.length());
+            out.writeInt(longestKanaWord.length());
+            int offset = 0;
+            out.writeInt(offset);
+            for (final Map.Entry<String, String> e : edict.entrySet()) {
+                offset += e.getKey().length();
+                out.writeInt(offset);
+                offset += e.getValue().length();
+                out.writeInt(offset);
+            }
+            for (final Map.Entry<String, String> e : edict.entrySet()) {
+                out.writeChars(e.getKey());
+                out.writeChars(e.getValue());
+            }
+            out.writeChars(longestKanjiWord);
+            out.writeChars(longestKanaWord);
+            out.close();
+            return bout.toByteArray();
+        }
+        private final ByteBuffer buffer;
+        private final long sourceLength;
+        private final long sourceLastModified;
+        private final String longestKanjiWord;
+        private final String longestKanaWord;
+        private final int size;
+        private final int charsOffset;
+
+        private Edict(final ByteBuffer buffer) throws IOException {
+            this.buffer = buffer;
+            if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+                throw new IOException("Not an EDICT reading cache");
+            }
+            if (buffer.getInt(4) != VERSION) {
+                throw new IOException("Unsupported EDICT reading cache version " + buffer.getInt(4));
+            }
+            sourceLength = buffer.getLong(8);
+            sourceLastModified = buffer.getLong(16);
+            size = buffer.getInt(24);
+            final int longestKanjiWordLength = buffer.getInt(28);
+            final int longestKanaWordLength = buffer.getInt(32);
+            charsOffset = HEADER_SIZE + (size * 2 + 1) * 4;
+            if (size < 0 || buffer.capacity() < charsOffset) {
+                throw new IOException("The EDICT reading cache is truncated");
+            }
+            final int longestWordsOffset = charsOffset + offset(size * 2) * 2;
+            if (buffer.capacity() != longestWordsOffset + (longestKanjiWordLength + longestKanaWordLength) * 2) {
+                throw new IOException("The EDICT reading cache is truncated");
+            }
+            longestKanjiWord = getString(longestWordsOffset, longestKanjiWordLength);
+            longestKanaWord = getString(longestWordsOffset + longestKanjiWordLength * 2, longestKanaWordLength);
+        }
+
+        private int offset(final int index) {
+            return buffer.getInt(HEADER_SIZE + index * 4);
+        }
+
+        private String getString(final int byteOffset, final int length) {
+            final char[] chars = new char[length];
+            for (int i = 0; i < length; i++) {
+                chars[i] = buffer.getChar(byteOffset + i * 2);
+            }
+            return new String(chars);
+        }
+
+        /**
+         * Compares given word with the i-th word in the cache.
+         */
+        private int compare(final String word, final int index) {
+            final int start = offset(index * 2);
+            final int length = offset(index * 2 + 1) - start;
+            final int min = Math.min(word.length(), length);
+            for (int i = 0; i < min; i++) {
+                final char c = buffer.getChar(charsOffset + (start + i) * 2);
+                if (word.charAt(i) != c) {
+                    return word.charAt(i) - c;
+                }
+            }
+            return word.length() - length;
+        }
+
+        /**
+         * Returns the hiragana reading of given word.
+         * @param word the word containing kanji characters, not null.
+         * @return the reading, null if there is no such word in EDICT.
+         */
+        public String get(final String word) {
+            int lo = 0;
+            int hi = size - 1;
+            while (lo <= hi) {
+                final int mid = (lo + hi) >>> 1;
+                final int cmp = compare(word, mid);
+                if (cmp > 0) {
+                    lo = mid + 1;
+                } else if (cmp < 0) {
+                    hi = mid - 1;
+                } else {
+                    final int start = offset(mid * 2 + 1);
+                    return getString(charsOffset + start * 2, offset(mid * 2 + 2) - start);
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Returns the number of words in the lookup.
+         * @return the number of words containing kanji characters.
+         */
+        public int size() {
+            return size;
         }
 
         public String getLongestKanaWord() {
@@ -224,28 +411,62 @@ public class TanakaParser implements IDictParser {
         }
     }
 
-    public void addLine(String line, IndexWriter writer) throws IOException {
-        if (line.startsWith("A: ")) {
-            doc = new Document();
-            lastLine = line.substring(3);
-            lastLine = lastLine.substring(0, lastLine.indexOf('\t'));
-            final ArrayList<Object> parsed = Collections.list(new StringTokenizer(line.substring(3), "\t#"));
-            final String japanese = (String) parsed.get(0);
-            final String english = (String) parsed.get(1);
-            doc.add(new Field("japanese", japanese, Field.Store.YES, Field.Index.ANALYZED));
-            doc.add(new Field("english", english, Field.Store.YES, Field.Index.ANALYZED));
-            return;
-        }
-        if (!line.startsWith("B: ")) {
+    /**
+     * The B-line belongs to the preceding A-line.
+     */
+    @Override
+    public boolean continuesRecord(String line) {
+        return line.startsWith("B: ");
+    }
+
+    /**
+     * Parses the A-line and the B-line of an example sentence.
+     * @return the document, null if the A-line has no B-line.
+     */
+    public Document parse(List<String> record) {
+        final String line = record.get(0);
+        if (!line.startsWith("A: ")) {
             throw new IllegalArgumentException("The TanakaCorpus file has unexpected format: line " + line);
         }
-        final BLineParser parser = new BLineParser(edict, lastLine, line.substring(3));
+        if (record.size() == 1) {
+            // no B-line: the sentence is skipped
+            return null;
+        }
+        final Document doc = new Document();
+        String aLine = line.substring(3);
+        aLine = aLine.substring(0, aLine.indexOf('\t'));
+        final ArrayList<Object> parsed = Collections.list(new StringTokenizer(line.substring(3), "\t#"));
+        final String japanese = (String) parsed.get(0);
+        final String english = (String) parsed.get(1);
+        doc.add(new Field("japanese", japanese, Field.Store.YES, Field.Index.ANALYZED));
+        doc.add(new Field(DictTypeEnum.SENTENCE_JP_BIGRAM_FIELD, japanese, Field.Store.NO, Field.Index.ANALYZED));
+        doc.add(new Field("english", english, Field.Store.YES, Field.Index.ANALYZED));
+        doc.add(IndexManifest.newIdField(record));
+        if (record.size() != 2) {
+            throw new IllegalArgumentException("The TanakaCorpus file has unexpected format: expected a single B-line after line " + line + ", got " + record.subList(1, record.size()));
+        }
+        final BLineParser parser = new BLineParser(edict, aLine, record.get(1).substring(3));
         doc.add(new Field("jp-deinflected", parser.dictionaryFormWordList, Field.Store.YES, Field.Index.ANALYZED));
         doc.add(new Field("kana", CompressionTools.compressString(parser.kana), Field.Store.YES));
-        writer.addDocument(doc);
+        return doc;
+    }
+
+    public void write(Document doc, IndexWriter writer) throws IOException {
+        if (doc != null) {
+            addDocument(doc, writer);
+        }
+    }
+
+    /**
+     * The example sentences are independent of each other, the parser has no state.
+     */
+    @Override
+    public boolean supportsIncrementalUpdate() {
+        return true;
     }
 
-    public void onFinish(IndexWriter writer) {
+    @Override
+    protected void finish(IndexWriter writer) {
         System.out.println("EDICT Statistics: longest word containing kanji: " + edict.getLongestKanjiWord().length() + ": " + edict.getLongestKanjiWord());
         System.out.println("Longest word composed purely of kana characters: " + edict.getLongestKanaWord().length() + ": " + edict.getLongestKanaWord());
     }
@@ -339,13 +560,13 @@ public class TanakaParser implements IDictParser {
             }
             // no luck. We have to search Edict for the dictionary form of the word
             if (wordInSentence != null) {
-                result = edict.edict.get(wordInSentence);
+                result = edict.get(wordInSentence);
                 if (result != null) {
                     return result;
                 }
             }
             // ow, tough. We need to try to somehow match it with the deinflected form.
-            String hiragana = containsKanji(dictionaryForm) ? edict.edict.get(dictionaryForm) : dictionaryForm;
+            String hiragana = containsKanji(dictionaryForm) ? edict.get(dictionaryForm) : dictionaryForm;
             if (hiragana == null) {
                 throw new RuntimeException(dictionaryForm + " is not in EDICT. Nothing to do.");
             }
@@ -30,6 +30,7 @@ import org.apache.lucene.document.Document;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.queryParser.QueryParser;
 import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.Searcher;
 import org.apache.lucene.search.TopDocs;
@@ -68,7 +69,11 @@ public abstract class AbstractLuceneSearchTest {
     }
 
     protected final List<String> search(final String fieldName, final String query) throws IOException, org.apache.lucene.queryParser.ParseException, DataFormatException {
-        final TopDocs docs = searcher.search(parser.parse(query), null, 10000);
+        return search(fieldName, parser.parse(query));
+    }
+
+    protected final List<String> search(final String fieldName, final Query query) throws IOException, DataFormatException {
+        final TopDocs docs = searcher.search(query, null, 10000);
         final List<String> result = new ArrayList<String>();
         for (final ScoreDoc sd : docs.scoreDocs) {
             final Document doc = searcher.doc(sd.doc);
@@ -0,0 +1,92 @@
+/**
+Aedict - an EDICT browser for Android
+Copyright (C) 2009 Martin Vysny
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package sk.baka.aedict.indexer;
+
+import java.io.File;
+import java.util.Arrays;
+import org.apache.commons.io.FileUtils;
+import org.junit.Before;
+import org.junit.Test;
+import sk.baka.aedict.indexer.TanakaParser.Edict;
+import static org.junit.Assert.*;
+
+/**
+ * Tests the {@link Edict} reading lookup and its cache file.
+ * @author Martin Vysny
+ */
+public class EdictReadingsTest {
+
+    private File edictGz;
+    private File cache;
+
+    @Before
+    public void copyEdict() throws Exception {
+        final File dir = new File("target/edict-readings");
+        FileUtils.deleteDirectory(dir);
+        edictGz = new File(dir, "edict.gz");
+        FileUtils.copyURLToFile(Utils.getResource("edict.gz"), edictGz);
+        cache = new File(dir, "edict.gz" + Edict.CACHE_SUFFIX);
+    }
+
+    private static void assertReadings(final Edict edict) {
+        assertEquals("はは", edict.get("母"));
+        // the common entry wins
+        assertEquals("にほん", edict.get("日本"));
+        assertEquals("たべる", edict.get("食べる"));
+        // kana-only words are not present
+        assertNull(edict.get("たべる"));
+        assertNull(edict.get("母母母"));
+        assertNull(edict.get(""));
+        assertTrue(TanakaParser.containsKanji(edict.getLongestKanjiWord()));
+        assertFalse(TanakaParser.containsKanji(edict.getLongestKanaWord()));
+    }
+
+    @Test
+    public void cacheIsCreatedAndReused() throws Exception {
+        assertFalse(cache.exists());
+        final Edict edict = Edict.load(edictGz);
+        assertReadings(edict);
+        assertTrue(cache.exists());
+        final long lastModified = cache.lastModified();
+        final Edict cached = Edict.load(edictGz);
+        assertReadings(cached);
+        assertEquals(edict.size(), cached.size());
+        assertEquals(lastModified, cache.lastModified());
+    }
+
+    @Test
+    public void cacheIsRebuiltWhenEdictChanges() throws Exception {
+        Edict.load(edictGz);
+        final byte[] contents = FileUtils.readFileToByteArray(cache);
+        assertTrue(edictGz.setLastModified(edictGz.lastModified() - 100000));
+        assertReadings(Edict.load(edictGz));
+        // the cache now records the new modification time
+        assertFalse(Arrays.equals(contents, FileUtils.readFileToByteArray(cache)));
+    }
+
+    @Test
+    public void corruptedCacheIsRebuilt() throws Exception {
+        Edict.load(edictGz);
+        final byte[] contents = FileUtils.readFileToByteArray(cache);
+        final byte[] truncated = new byte[contents.length / 2];
+        System.arraycopy(contents, 0, truncated, 0, truncated.length);
+        FileUtils.writeByteArrayToFile(cache, truncated);
+        assertReadings(Edict.load(edictGz));
+        assertEquals(contents.length, cache.length());
+    }
+}
@@ -0,0 +1,226 @@
+/**
+Aedict - an EDICT browser for Android
+Copyright (C) 2009 Martin Vysny
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package sk.baka.aedict.indexer;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.store.FSDirectory;
+import org.junit.After;
+import org.junit.Test;
+import sk.baka.aedict.dict.DictEntry;
+import sk.baka.aedict.dict.DictTypeEnum;
+import sk.baka.aedict.dict.HeadwordTrie;
+import sk.baka.aedict.dict.LuceneSearch;
+import sk.baka.aedict.dict.MatcherEnum;
+import sk.baka.aedict.dict.SearchQuery;
+import sk.baka.aedict.util.IndexPatch;
+import sk.baka.aedict.util.ResumableDownload;
+import static org.junit.Assert.*;
+
+/**
+ * Tests the incremental index update, see {@link IndexManifest}.
+ * @author Martin Vysny
+ */
+public class IncrementalIndexTest {
+
+    private static final File DIR = new File("target/incremental");
+    private static final String NEW_ENTRY = "新試験語 [しんしけんご] /(n) an entry added by the incremental update/";
+
+    @After
+    public void deleteZips() {
+        new File(FileTypeEnum.Edict.getTargetFileName(null)).delete();
+        new File(FileTypeEnum.Edict.getTargetFileName(null) + ResumableDownload.CHECKSUM_SUFFIX).delete();
+        for (final File patch : new File(".").listFiles()) {
+            if (patch.getName().endsWith(".patch")) {
+                patch.delete();
+            }
+        }
+    }
+
+    private static List<String> readEdict(final int lineCount) throws Exception {
+        final BufferedReader in = new BufferedReader(new InputStreamReader(new GZIPInputStream(Utils.getResource("edict.gz").openStream()), "EUC_JP"));
+        try {
+            // skip the header
+            in.readLine();
+            final List<String> result = new ArrayList<String>();
+            for (int i = 0; i < lineCount; i++) {
+                result.add(in.readLine());
+            }
+            return result;
+        } finally {
+            IOUtils.closeQuietly(in);
+        }
+    }
+
+    private static File write(final String name, final List<String> lines) throws Exception {
+        final File file = new File(DIR, name);
+        final StringBuilder sb = new StringBuilder();
+        for (final String line : lines) {
+            sb.append(line).append('\n');
+        }
+        FileUtils.writeStringToFile(file, sb.toString(), "EUC_JP");
+        return file;
+    }
+
+    private static void index(final File file) throws Exception {
+        new Main(new String[]{"-f", file.getPath(), "-i"}).run();
+    }
+
+    private static List<String> getContents() throws Exception {
+        final IndexReader reader = IndexReader.open(FSDirectory.open(new File(Main.LUCENE_INDEX)), true);
+        try {
+            final List<String> result = new ArrayList<String>();
+            for (int i = 0; i < reader.maxDoc(); i++) {
+                if (!reader.isDeleted(i)) {
+                    result.add(reader.document(i).get("contents"));
+                }
+            }
+            Collections.sort(result);
+            return result;
+        } finally {
+            reader.close();
+        }
+    }
+
+    @Test
+    public void incrementalUpdateEqualsFullRebuild() throws Exception {
+        FileUtils.deleteDirectory(DIR);
+        new File(Main.MANIFEST).delete();
+        final List<String> lines = readEdict(3000);
+        // no manifest yet: the index is built from scratch
+        index(write("old.txt", lines));
+        assertTrue(new File(Main.MANIFEST).exists());
+        final File zip = new File(FileTypeEnum.Edict.getTargetFileName(null));
+        assertEquals(ResumableDownload.md5(zip) + "  " + zip.getName(), FileUtils.readFileToString(new File(zip.getPath() + ResumableDownload.CHECKSUM_SUFFIX), "UTF-8").trim());
+        assertEquals(lines.size(), IndexManifest.read(new File(Main.MANIFEST)).size());
+        final File base = new File(DIR, "base");
+        FileUtils.copyDirectory(new File(Main.LUCENE_INDEX), base);
+        final String baseFingerprint = IndexPatch.fingerprint(base);
+        // remove, modify, duplicate and add some entries
+        lines.subList(10, 20).clear();
+        lines.set(100, lines.get(100) + "modified/");
+        lines.add(lines.get(50));
+        lines.add(NEW_ENTRY);
+        index(write("new.txt", lines));
+        final List<String> expected = new ArrayList<String>(lines);
+        Collections.sort(expected);
+        assertEquals(expected, getContents());
+        final HeadwordTrie trie = HeadwordTrie.forDictionary(Main.LUCENE_INDEX);
+        assertTrue(trie.contains("新試験語"));
+        assertTrue(trie.contains("しんしけんご"));
+        assertEquals(lines.size(), IndexManifest.read(new File(Main.MANIFEST)).size());
+        // the patch transforms the old index into the new one
+        final File patch = new File(IndexPatch.getFileName(FileTypeEnum.Edict.getTargetFileName(null), baseFingerprint));
+        assertTrue(patch.exists());
+        final String descriptor = applyPatch(patch, base);
+        assertTrue(descriptor, descriptor.startsWith("base " + baseFingerprint + "\ntarget " + IndexPatch.fingerprint(new File(Main.LUCENE_INDEX)) + "\n"));
+        assertEquals(IndexPatch.fingerprint(new File(Main.LUCENE_INDEX)), IndexPatch.fingerprint(base));
+        for (final File file : base.listFiles()) {
+            assertTrue(file.getName(), FileUtils.contentEquals(file, new File(Main.LUCENE_INDEX, file.getName())));
+        }
+        // the updated index is not optimized: the device searches the unchanged segments and the new one
+        final IndexReader reader = IndexReader.open(FSDirectory.open(base), true);
+        try {
+            assertTrue(reader.getSequentialSubReaders().length > 1);
+            assertTrue(reader.hasDeletions());
+        } finally {
+            reader.close();
+        }
+        final LuceneSearch search = new LuceneSearch(DictTypeEnum.Edict, base.getPath(), false);
+        try {
+            final List<DictEntry> added = search.search(SearchQuery.searchJpEdict("新試験語", MatcherEnum.Exact), 10);
+            assertEquals(1, added.size());
+            assertEquals("しんしけんご", added.get(0).reading);
+            final String modified = lines.get(100).substring(0, lines.get(100).indexOf(' '));
+            final Map<String, List<DictEntry>> found = search.lookupExact(Arrays.asList("新試験語", modified), 10);
+            assertEquals(added, found.get("新試験語"));
+            boolean isModified = false;
+            for (final DictEntry entry : found.get(modified)) {
+                isModified |= entry.english.endsWith("modified");
+            }
+            assertTrue(found.get(modified).toString(), isModified);
+        } finally {
+            search.close();
+        }
+        // nothing changed: no update, no patch
+        new File(IndexPatch.getFileName(FileTypeEnum.Edict.getTargetFileName(null), IndexPatch.fingerprint(base))).delete();
+        index(new File(DIR, "new.txt"));
+        assertEquals(IndexPatch.fingerprint(base), IndexPatch.fingerprint(new File(Main.LUCENE_INDEX)));
+        assertFalse(new File(IndexPatch.getFileName(FileTypeEnum.Edict.getTargetFileName(null), IndexPatch.fingerprint(base))).exists());
+    }
+
+    @Test
+    public void modifiedIndexIsRebuilt() throws Exception {
+        FileUtils.deleteDirectory(DIR);
+        new File(Main.MANIFEST).delete();
+        final List<String> lines = readEdict(500);
+        final File file = write("old.txt", lines);
+        index(file);
+        FileUtils.writeStringToFile(new File(Main.LUCENE_INDEX, "garbage"), "garbage");
+        index(file);
+        assertFalse(new File(Main.LUCENE_INDEX, "garbage").exists());
+        final List<String> expected = new ArrayList<String>(lines);
+        Collections.sort(expected);
+        assertEquals(expected, getContents());
+    }
+
+    /**
+     * Applies the patch to given directory.
+     * @return the patch descriptor.
+     */
+    private static String applyPatch(final File patch, final File dir) throws Exception {
+        final ZipInputStream in = new ZipInputStream(FileUtils.openInputStream(patch));
+        try {
+            String descriptor = null;
+            for (ZipEntry entry = in.getNextEntry(); entry != null; entry = in.getNextEntry()) {
+                if (entry.getName().equals(IndexPatch.DESCRIPTOR)) {
+                    descriptor = IOUtils.toString(in, "UTF-8");
+                    continue;
+                }
+                final FileOutputStream out = new FileOutputStream(new File(dir, entry.getName()));
+                try {
+                    IOUtils.copy(in, out);
+                } finally {
+                    out.close();
+                }
+            }
+            assertNotNull(descriptor);
+            for (final String line : descriptor.split("\n")) {
+                if (line.startsWith("delete ")) {
+                    assertTrue(new File(dir, line.substring(7)).delete());
+                }
+            }
+            return descriptor;
+        } finally {
+            in.close();
+        }
+    }
+}
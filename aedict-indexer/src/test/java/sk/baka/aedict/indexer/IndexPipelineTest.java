@@ -0,0 +1,153 @@
+/**
+Aedict - an EDICT browser for Android
+Copyright (C) 2009 Martin Vysny
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package sk.baka.aedict.indexer;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.apache.commons.io.FileUtils;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.store.FSDirectory;
+import org.junit.Test;
+import sk.baka.aedict.dict.HeadwordTrie;
+import static org.junit.Assert.*;
+
+/**
+ * Tests the {@link IndexPipeline} class.
+ * @author Martin Vysny
+ */
+public class IndexPipelineTest {
+
+    /**
+     * Groups the "+" lines with the preceding line, fails on the "fail" line.
+     */
+    private static class RecordParser extends ParallelDictParser<String> {
+
+        public final List<String> written = new ArrayList<String>();
+
+        @Override
+        public boolean continuesRecord(String line) {
+            return line.startsWith("+");
+        }
+
+        public String parse(List<String> record) throws IOException {
+            if (record.get(0).equals("fail")) {
+                throw new IOException("Failed to parse");
+            }
+            final StringBuilder sb = new StringBuilder();
+            for (final String line : record) {
+                sb.append(line);
+            }
+            return sb.toString();
+        }
+
+        public void write(String parsed, IndexWriter writer) {
+            written.add(parsed);
+        }
+    }
+
+    private static BufferedReader lines(final List<String> lines) {
+        final StringBuilder sb = new StringBuilder();
+        for (final String line : lines) {
+            sb.append(line).append('\n');
+        }
+        return new BufferedReader(new StringReader(sb.toString()));
+    }
+
+    @Test
+    public void recordsAreWrittenInOrder() throws IOException {
+        final List<String> lines = new ArrayList<String>();
+        final List<String> expected = new ArrayList<String>();
+        for (int i = 0; i < IndexPipeline.BATCH_SIZE * 5 + 3; i++) {
+            lines.add("r" + i);
+            if (i % 3 == 0) {
+                lines.add("+a");
+                lines.add("+b");
+                expected.add("r" + i + "+a+b");
+            } else {
+                expected.add("r" + i);
+            }
+            if (i % 7 == 0) {
+                // ignored lines
+                lines.add("# comment");
+                lines.add("  ");
+            }
+        }
+        for (final int threads : new int[]{1, 2, 5}) {
+            final RecordParser parser = new RecordParser();
+            new IndexPipeline<String>(lines(lines), parser, threads).run(null);
+            assertEquals(expected, parser.written);
+        }
+        // the sequential processing produces the same result
+        final RecordParser parser = new RecordParser();
+        for (final String line : lines) {
+            if (!Main.isIgnored(line)) {
+                parser.addLine(line, null);
+            }
+        }
+        parser.onFinish(null);
+        assertEquals(expected, parser.written);
+    }
+
+    @Test
+    public void parseFailureIsPropagated() {
+        final List<String> lines = new ArrayList<String>();
+        for (int i = 0; i < IndexPipeline.BATCH_SIZE * 10; i++) {
+            lines.add(i == IndexPipeline.BATCH_SIZE * 3 ? "fail" : "r" + i);
+        }
+        try {
+            new IndexPipeline<String>(lines(lines), new RecordParser(), 3).run(null);
+            fail("Expected IOException");
+        } catch (IOException ex) {
+            assertEquals("Failed to parse", ex.getMessage());
+        }
+    }
+
+    private static List<String> readIndex() throws IOException {
+        final List<String> result = new ArrayList<String>();
+        final IndexReader reader = IndexReader.open(FSDirectory.open(new File(Main.LUCENE_INDEX)), true);
+        try {
+            for (int i = 0; i < reader.maxDoc(); i++) {
+                result.add(reader.document(i).get("contents"));
+            }
+        } finally {
+            reader.close();
+        }
+        Collections.sort(result);
+        return result;
+    }
+
+    /**
+     * The documents are added by multiple threads: the document order differs, the documents and the parser state do not.
+     */
+    @Test
+    public void parallelIndexIsSameAsSequential() throws Exception {
+        Utils.index(null, "edict.gz", FileTypeEnum.Edict);
+        final List<String> sequential = readIndex();
+        final byte[] sequentialTrie = FileUtils.readFileToByteArray(new File(Main.LUCENE_INDEX, HeadwordTrie.FILE_NAME));
+        Utils.index(null, "edict.gz", FileTypeEnum.Edict, "--threads", "4");
+        assertEquals(sequential, readIndex());
+        assertTrue(Arrays.equals(sequentialTrie, FileUtils.readFileToByteArray(new File(Main.LUCENE_INDEX, HeadwordTrie.FILE_NAME))));
+    }
+}
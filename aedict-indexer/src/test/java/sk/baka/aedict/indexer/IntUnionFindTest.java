@@ -0,0 +1,62 @@
+/**
+Aedict - an EDICT browser for Android
+Copyright (C) 2009 Martin Vysny
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package sk.baka.aedict.indexer;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * Tests the {@link IntUnionFind} class.
+ * @author Martin Vysny
+ */
+public class IntUnionFindTest {
+
+    @Test
+    public void unitedIdsShareRepresentative() {
+        final IntUnionFind f = new IntUnionFind(4);
+        f.union(1, 2);
+        f.union(5, 100);
+        f.union(2, 100);
+        f.union(3, 4);
+        assertEquals(f.find(1), f.find(5));
+        assertEquals(f.find(2), f.find(100));
+        assertEquals(f.find(3), f.find(4));
+        assertFalse(f.find(1) == f.find(3));
+        // never united IDs are their own representatives, even beyond the capacity
+        assertEquals(6, f.find(6));
+        assertEquals(100000, f.find(100000));
+    }
+
+    @Test
+    public void longChainDoesNotOverflowStack() {
+        final int count = 2000000;
+        final IntUnionFind f = new IntUnionFind(0);
+        for (int i = 1; i < count; i++) {
+            f.union(i - 1, i);
+        }
+        final int root = f.find(0);
+        for (int i = 0; i < count; i += 997) {
+            assertEquals(root, f.find(i));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeIdsAreRejected() {
+        new IntUnionFind(10).union(1, -1);
+    }
+}
@@ -18,8 +18,13 @@ along with this program.  If not, see <http://www.gnu.org/licenses/>.
 package sk.baka.aedict.indexer;
 
 import java.util.List;
+import java.util.Map;
 import org.junit.BeforeClass;
 import org.junit.Test;
+import sk.baka.aedict.dict.DictEntry;
+import sk.baka.aedict.dict.DictTypeEnum;
+import sk.baka.aedict.dict.LuceneSearch;
+import sk.baka.aedict.dict.SearchQuery;
 import static org.junit.Assert.*;
 
 /**
@@ -48,6 +53,25 @@ public class KanjidicTest extends AbstractLuceneSearchTest {
         assertEquals("1-7-7", s.get(0));
     }
 
+    @Test
+    public void kanjisByStrokes() throws Exception {
+        final LuceneSearch search = new LuceneSearch(DictTypeEnum.Kanjidic, Main.LUCENE_INDEX, false);
+        try {
+            final Map<Integer, String> kanjis = search.getKanjisByStrokes();
+            // 読 has 14 strokes
+            assertTrue(kanjis.get(14).indexOf('読') >= 0);
+            assertFalse(kanjis.get(13).indexOf('読') >= 0);
+            // compare with the stroke search
+            for (final int strokes : new int[]{5, 13, 14, 15, 20}) {
+                final List<DictEntry> expected = search.search(SearchQuery.kanjiSearch('読', strokes, 0), 1);
+                final String actual = kanjis.get(strokes);
+                assertEquals(!expected.isEmpty(), actual != null && actual.indexOf('読') >= 0);
+            }
+        } finally {
+            search.close();
+        }
+    }
+
     /**
      * Tests issue 124: missing kanji for:
      * 慕 4A69 U6155 B140 C61 G8 S14 F2100 J1 N4040 V1948 H2353 DK1521 L633 K1895 DO1382 MN11088X MP4.1153 E1788 IN1431 DF1313 DJ1668 DG835 DM640 DM                                     P2-3-11 I3k11.12 Q4433.3 DR1940 Ymu4 Wmo ボ した.う {pining} {yearn for} {love dearly} {adore} 
@@ -18,10 +18,25 @@ along with this program.  If not, see <http://www.gnu.org/licenses/>.
 package sk.baka.aedict.indexer;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import org.apache.commons.cli.ParseException;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
 import org.junit.BeforeClass;
 import org.junit.Test;
+import sk.baka.aedict.dict.DictEntry;
+import sk.baka.aedict.dict.DictTypeEnum;
+import sk.baka.aedict.dict.HeadwordTrie;
+import sk.baka.aedict.dict.LuceneSearch;
+import sk.baka.aedict.dict.LuceneSearch.InflectedEntry;
+import sk.baka.aedict.dict.MatcherEnum;
+import sk.baka.aedict.dict.SearchQuery;
+import sk.baka.aedict.kanji.VerbInflection.Form;
 import static org.junit.Assert.*;
 
 /**
@@ -67,6 +82,113 @@ public class MainTest extends AbstractLuceneSearchTest {
         assertEquals(2444, result.size());
     }
 
+    /**
+     * The exact English search must find the same entries as the old approach: search for all entries containing the word, then filter them.
+     */
+    @Test
+    public void exactEnglishSearch() throws Exception {
+        final SearchQuery q = SearchQuery.searchEnEdict("mother", true);
+        final List<String> expected = new ArrayList<String>();
+        for (final String line : search(null, "mother")) {
+            final Document doc = new Document();
+            doc.add(new Field("contents", line, Field.Store.YES, Field.Index.ANALYZED));
+            final DictEntry entry = DictTypeEnum.Edict.tryGetEntry(doc, q);
+            if (entry != null) {
+                expected.add(entry.toString());
+            }
+        }
+        final List<String> actual = new ArrayList<String>();
+        for (final DictEntry entry : LuceneSearch.singleSearch(q, Main.LUCENE_INDEX, false)) {
+            actual.add(entry.toString());
+        }
+        Collections.sort(expected);
+        Collections.sort(actual);
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, actual);
+    }
+
+    /**
+     * The search in the bigram field must find all entries found by the search in the old "jp" field. It may find more:
+     * the old field glues the boundary marker with full-width letters.
+     */
+    @Test
+    public void bigramSearchEqualsUnigramSearch() throws Exception {
+        final LuceneSearch search = new LuceneSearch(DictTypeEnum.Edict, Main.LUCENE_INDEX, false);
+        try {
+            for (final String word : Arrays.asList("母", "ぬ", "はは", "今日", "きょう", "ょうび", "ヴ", "コーヒー", "Ｔシャツ", "シャツ", "お母さん")) {
+                for (final MatcherEnum matcher : MatcherEnum.values()) {
+                    final SearchQuery q = SearchQuery.searchJpEdict(word, matcher);
+                    final List<String> expected = new ArrayList<String>();
+                    for (final String line : search(null, DictTypeEnum.Edict.buildLuceneQuery(q)[0])) {
+                        final Document doc = new Document();
+                        doc.add(new Field("contents", line, Field.Store.YES, Field.Index.ANALYZED));
+                        final DictEntry entry = DictTypeEnum.Edict.tryGetEntry(doc, q);
+                        if (entry != null) {
+                            expected.add(entry.toString());
+                        }
+                    }
+                    final List<String> actual = new ArrayList<String>();
+                    for (final DictEntry entry : search.search(q, 10000)) {
+                        actual.add(entry.toString());
+                    }
+                    assertTrue(word + " " + matcher + ": " + actual + " does not contain " + expected, actual.containsAll(expected));
+                    if (!word.equals("Ｔシャツ")) {
+                        assertEquals(word + " " + matcher, expected.size(), actual.size());
+                    }
+                }
+            }
+        } finally {
+            search.close();
+        }
+    }
+
+    @Test
+    public void lookupExact() throws Exception {
+        final LuceneSearch search = new LuceneSearch(DictTypeEnum.Edict, Main.LUCENE_INDEX, true);
+        try {
+            final List<String> words = Arrays.asList("母", "はは", "今日", "きょう", "ははは");
+            final Map<String, List<DictEntry>> result = search.lookupExact(words, 1);
+            for (final String word : words) {
+                final List<DictEntry> expected = search.search(SearchQuery.searchJpEdict(word, MatcherEnum.Exact), 1);
+                assertEquals(word, expected.isEmpty() ? null : expected, result.get(word));
+            }
+        } finally {
+            search.close();
+        }
+    }
+
+    @Test
+    public void lookupInflected() throws Exception {
+        final LuceneSearch search = new LuceneSearch(DictTypeEnum.Edict, Main.LUCENE_INDEX, true);
+        try {
+            List<InflectedEntry> result = search.lookupInflected("食べなかった", 10);
+            assertEquals(1, result.size());
+            assertEquals("食べる", result.get(0).entry.kanji);
+            assertEquals(EnumSet.of(Form.NEGATIVE_PAST), result.get(0).forms);
+            result = search.lookupInflected("かきませんでした", 10);
+            boolean found = false;
+            for (final InflectedEntry e : result) {
+                assertEquals(EnumSet.of(Form.POLITE_PAST_NEGATIVE), e.forms);
+                found |= "書く".equals(e.entry.kanji);
+            }
+            assertTrue(found);
+            assertTrue(search.lookupInflected("ははは", 10).isEmpty());
+        } finally {
+            search.close();
+        }
+    }
+
+    @Test
+    public void headwordTrie() throws Exception {
+        final HeadwordTrie trie = HeadwordTrie.forDictionary(Main.LUCENE_INDEX);
+        assertNotNull(trie);
+        for (final String word : Arrays.asList("母", "はは", "今日", "きょう")) {
+            assertTrue(word, trie.contains(word));
+        }
+        assertFalse(trie.contains("ははは"));
+        assertEquals(2, trie.longestPrefix("今日ぬ", 0));
+    }
+
     @Override
     protected String getDefaultFieldName() {
         return "contents";
@@ -0,0 +1,81 @@
+/**
+ *     Aedict - an EDICT browser for Android
+Copyright (C) 2009 Martin Vysny
+
+This program is free software: you can redistribute it and/or modify
+it under the terms of the GNU General Public License as published by
+the Free Software Foundation, either version 3 of the License, or
+(at your option) any later version.
+
+This program is distributed in the hope that it will be useful,
+but WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+GNU General Public License for more details.
+
+You should have received a copy of the GNU General Public License
+along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package sk.baka.aedict.indexer;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import org.apache.commons.io.IOUtils;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.store.RAMDirectory;
+import org.junit.Test;
+import sk.baka.aedict.dict.JapaneseAnalyzer;
+import static org.junit.Assert.*;
+
+/**
+ * Tests the {@link TatoebaParser} on the files in the tatoeba/ test resource directory.
+ * @author Martin Vysny
+ */
+public class TatoebaParserTest {
+
+    @Test
+    public void mergeJoin() throws Exception {
+        final File dir = new File(Utils.getResource("tatoeba/links.csv").toURI()).getParentFile();
+        final Main.Config cfg = new Main.Config();
+        cfg.encoding = Charset.forName("UTF-8");
+        final TatoebaParser parser = new TatoebaParser(cfg, dir);
+        final RAMDirectory directory = new RAMDirectory();
+        final IndexWriter writer = new IndexWriter(directory, JapaneseAnalyzer.newIndexAnalyzer(), true, IndexWriter.MaxFieldLength.UNLIMITED);
+        try {
+            final BufferedReader in = new BufferedReader(new InputStreamReader(new FileInputStream(new File(dir, "sentences.csv")), "UTF-8"));
+            try {
+                for (String line = in.readLine(); line != null; line = in.readLine()) {
+                    parser.addLine(line, writer);
+                    if (line.startsWith("4\t")) {
+                        // the input is sorted: the first document is written as soon as its last translation (#3) is written
+                        assertEquals(1, writer.maxDoc());
+                    }
+                }
+            } finally {
+                IOUtils.closeQuietly(in);
+            }
+            parser.onFinish(writer);
+        } finally {
+            writer.close();
+        }
+        // #10 is linked with #9, which is missing from sentences.csv; #8 is linked with #7, which has no B-line
+        assertEquals(2, parser.getDroppedTranslations());
+        final IndexReader reader = IndexReader.open(directory, true);
+        try {
+            assertEquals(2, reader.numDocs());
+            assertEquals("猫が好きです。", reader.document(0).get("japanese"));
+            final String translations = reader.document(0).get("translations");
+            assertTrue(translations, translations.contains("eng: I like cats."));
+            // linked transitively, through #2
+            assertTrue(translations, translations.contains("deu: Ich mag Katzen."));
+            // the linked sentence #5 is missing from sentences.csv
+            assertEquals("犬です。", reader.document(1).get("japanese"));
+            assertEquals("eng: It is a dog.", reader.document(1).get("translations"));
+        } finally {
+            reader.close();
+        }
+    }
+}
@@ -23,6 +23,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import org.apache.commons.io.FileUtils;
+import sk.baka.aedict.util.ResumableDownload;
 import static org.junit.Assert.*;
 
 /**
@@ -39,15 +40,17 @@ public class Utils {
         return edictGz;
     }
 
-    public static void index(final String sw, final String res, final FileTypeEnum fileType) throws Exception {
+    public static void index(final String sw, final String res, final FileTypeEnum fileType, final String... additionalArgs) throws Exception {
         final URL dictGz = Utils.getResource(res);
         final List<String> params = new ArrayList<String>(Arrays.asList("-u", dictGz.toString(), "-g"));
         if (sw != null) {
             params.add(sw);
         }
+        params.addAll(Arrays.asList(additionalArgs));
         new Main(params.toArray(new String[0])).run();
         // check that the target file exists
         assertTrue(new File(fileType.getTargetFileName(null)).exists());
+        assertTrue(new File(fileType.getTargetFileName(null) + ResumableDownload.CHECKSUM_SUFFIX).delete());
         final File targetFile = new File("target/" + fileType.getTargetFileName(null));
         targetFile.delete();
         FileUtils.moveFile(new File(fileType.getTargetFileName(null)), targetFile);